@@ -0,0 +1,141 @@
+package com.mjc.school.benchmark;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The application running in its own JVM, so that start-up is measured cold and the process can
+ * be inspected from outside. Output goes to a temporary log that is shown when start-up fails.
+ */
+final class ApplicationProcess implements AutoCloseable {
+
+	private static final Duration POLL_INTERVAL = Duration.ofMillis(10);
+	private static final Path PROC = Path.of("/proc");
+
+	private final Process process;
+	private final int port;
+	private final Path log;
+	private final long startNanos;
+	private final HttpClient client = HttpClient.newHttpClient();
+
+	private ApplicationProcess(final Process process, final int port, final Path log, final long startNanos) {
+		this.process = process;
+		this.port = port;
+		this.log = log;
+		this.startNanos = startNanos;
+	}
+
+	/**
+	 * Runs {@code launcher} followed by the application arguments, with {@code environment} added
+	 * to the inherited one.
+	 */
+	static ApplicationProcess start(
+		final List<String> launcher,
+		final Map<String, String> environment,
+		final List<String> args
+	) throws IOException {
+		final int port = freePort();
+		final Path log = Files.createTempFile("news-app", ".log");
+		final List<String> command = new ArrayList<>(launcher);
+		command.add("--server.port=" + port);
+		command.addAll(args);
+		final ProcessBuilder builder = new ProcessBuilder(command)
+			.redirectErrorStream(true)
+			.redirectOutput(log.toFile());
+		builder.environment().putAll(environment);
+		final long startNanos = System.nanoTime();
+		return new ApplicationProcess(builder.start(), port, log, startNanos);
+	}
+
+	/**
+	 * Launcher that runs {@code mainClass} on the class path of this JVM.
+	 */
+	static List<String> classPathLauncher(final String mainClass) {
+		return List.of(ProcessHandle.current().info().command().orElse("java"),
+			"-cp", System.getProperty("java.class.path"), mainClass);
+	}
+
+	URI uri(final String path) {
+		return root("/api/v1" + path);
+	}
+
+	URI root(final String path) {
+		return URI.create("http://localhost:" + port + path);
+	}
+
+	/**
+	 * Polls GET /news until it answers 200 and returns the milliseconds since the process was started.
+	 */
+	long awaitFirstResponse(final Duration timeout) throws IOException, InterruptedException {
+		final HttpRequest request = HttpRequest.newBuilder(uri("/news?limit=10")).GET().build();
+		final long deadline = System.nanoTime() + timeout.toNanos();
+		while (System.nanoTime() < deadline) {
+			if (!process.isAlive()) {
+				throw new IllegalStateException("Application exited with " + process.exitValue() + ":\n"
+					+ Files.readString(log));
+			}
+			try {
+				if (client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+					return (System.nanoTime() - startNanos) / 1_000_000;
+				}
+			} catch (final ConnectException e) {
+				// Not listening yet
+			}
+			Thread.sleep(POLL_INTERVAL.toMillis());
+		}
+		throw new IllegalStateException("No response within " + timeout + ":\n" + Files.readString(log));
+	}
+
+	HttpResponse<String> send(final HttpRequest request) throws IOException, InterruptedException {
+		return client.send(request, HttpResponse.BodyHandlers.ofString());
+	}
+
+	/**
+	 * Resident set size in kB as reported by {@code /proc}, or -1 where that is not available.
+	 */
+	long residentSetKb() throws IOException {
+		final Path status = PROC.resolve(Long.toString(process.pid())).resolve("status");
+		if (!Files.isReadable(status)) {
+			return -1;
+		}
+		return Files.readAllLines(status).stream()
+			.filter(line -> line.startsWith("VmRSS:"))
+			.mapToLong(line -> Long.parseLong(line.replaceAll("\\D", "")))
+			.findFirst()
+			.orElse(-1);
+	}
+
+	String log() throws IOException {
+		return Files.readString(log);
+	}
+
+	/**
+	 * Asks the application to shut down, as a container runtime would, and waits for the JVM to exit.
+	 */
+	@Override
+	public void close() throws IOException, InterruptedException {
+		process.destroy();
+		if (!process.waitFor(30, TimeUnit.SECONDS)) {
+			process.destroyForcibly().waitFor();
+		}
+		Files.deleteIfExists(log);
+	}
+
+	private static int freePort() throws IOException {
+		try (ServerSocket socket = new ServerSocket(0)) {
+			return socket.getLocalPort();
+		}
+	}
+}
@@ -0,0 +1,99 @@
+package com.mjc.school.benchmark;
+
+import com.mjc.school.Main;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+final class ApplicationUnderTest implements AutoCloseable {
+
+	private static final Pattern ID_PATTERN = Pattern.compile("\"id\":(\\d+)");
+	private static final String[] COMMON_ARGS = {
+		"--server.port=0",
+		"--spring.main.banner-mode=off",
+		"--logging.level.root=WARN",
+		"--news.jpa.show-sql=false"
+	};
+
+	private final ConfigurableApplicationContext context;
+	private final HttpClient client = HttpClient.newBuilder()
+		.connectTimeout(Duration.ofSeconds(10))
+		.build();
+
+	private ApplicationUnderTest(final ConfigurableApplicationContext context) {
+		this.context = context;
+	}
+
+	static ApplicationUnderTest start(final String... args) {
+		final List<String> allArgs = new ArrayList<>(List.of(COMMON_ARGS));
+		allArgs.addAll(List.of(args));
+		return new ApplicationUnderTest(SpringApplication.run(Main.class, allArgs.toArray(new String[0])));
+	}
+
+	int port() {
+		return ((WebServerApplicationContext) context).getWebServer().getPort();
+	}
+
+	URI uri(final String path) {
+		return URI.create("http://localhost:" + port() + "/api/v1" + path);
+	}
+
+	/**
+	 * Creates one author with the given number of news, names are prefixed with the run id
+	 * so that several runs can share the same in-memory database.
+	 */
+	long seed(final String runId, final int newsCount) throws IOException, InterruptedException {
+		final long authorId = post("/authors", "{\"name\":\"" + runId + "\"}");
+		for (int i = 0; i < newsCount; i++) {
+			post("/news", "{\"title\":\"" + runId + "-" + i + "\",\"content\":\"Benchmark content " + i
+				+ "\",\"authorId\":" + authorId + "}");
+		}
+		return authorId;
+	}
+
+	long post(final String path, final String json) throws IOException, InterruptedException {
+		final HttpResponse<String> response = client.send(HttpRequest.newBuilder(uri(path))
+				.header("Content-Type", "application/json")
+				.POST(HttpRequest.BodyPublishers.ofString(json))
+				.build(),
+			HttpResponse.BodyHandlers.ofString());
+		if (response.statusCode() != 201) {
+			throw new IllegalStateException("POST " + path + " failed: " + response.statusCode() + " " + response.body());
+		}
+		final Matcher matcher = ID_PATTERN.matcher(response.body());
+		if (!matcher.find()) {
+			throw new IllegalStateException("No id in response: " + response.body());
+		}
+		return Long.parseLong(matcher.group(1));
+	}
+
+	/**
+	 * Number of objects with an id in the response to {@code GET path}.
+	 */
+	int count(final String path) throws IOException, InterruptedException {
+		final HttpResponse<String> response = client.send(HttpRequest.newBuilder(uri(path)).GET().build(),
+			HttpResponse.BodyHandlers.ofString());
+		final Matcher matcher = ID_PATTERN.matcher(response.body());
+		int count = 0;
+		while (matcher.find()) {
+			count++;
+		}
+		return count;
+	}
+
+	@Override
+	public void close() {
+		context.close();
+	}
+}
@@ -0,0 +1,155 @@
+package com.mjc.school.benchmark;
+
+import java.io.IOException;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Records the AppCDS archive of an installed distribution: starts bin/module-main with
+ * -XX:ArchiveClassesAtExit, calls every endpoint of the API, including the asynchronous variants
+ * and the error responses, and shuts the application down so the JVM writes every class it
+ * loaded to lib/module-main.jsa. bin/module-main-cds starts the application with that archive.
+ * The archive is only valid for the jars it was recorded with, so it is recorded again whenever
+ * the distribution is installed.
+ * Usage: CdsTraining &lt;installation directory&gt;
+ */
+public final class CdsTraining {
+
+	private static final String ARCHIVE = "lib/module-main.jsa";
+	private static final Pattern ID_PATTERN = Pattern.compile("\"id\":(\\d+)");
+	private static final Duration TIMEOUT = Duration.ofSeconds(120);
+	private static final String[] VARIANTS = {"", "/async"};
+
+	private final ApplicationProcess app;
+
+	private CdsTraining(final ApplicationProcess app) {
+		this.app = app;
+	}
+
+	public static void main(final String[] args) throws Exception {
+		final Path installation = Path.of(args[0]).toAbsolutePath();
+		final Path archive = installation.resolve(ARCHIVE);
+		Files.deleteIfExists(archive);
+		final long startupMillis;
+		try (ApplicationProcess app = ApplicationProcess.start(
+			List.of(installation.resolve("bin/module-main").toString()),
+			Map.of("JAVA_OPTS", "-XX:ArchiveClassesAtExit=" + archive),
+			List.of("--spring.main.banner-mode=off", "--logging.level.root=WARN", "--news.jpa.show-sql=false")
+		)) {
+			startupMillis = app.awaitFirstResponse(TIMEOUT);
+			final CdsTraining training = new CdsTraining(app);
+			for (final String variant : VARIANTS) {
+				training.exercise(variant);
+			}
+		}
+		if (!Files.exists(archive)) {
+			throw new IllegalStateException("The JVM did not write " + archive);
+		}
+		System.out.printf("Training run started in %d ms, wrote %s (%d MB)%n",
+			startupMillis, archive, Files.size(archive) / (1024 * 1024));
+	}
+
+	/**
+	 * Creates, reads, searches, updates and deletes one object of every kind under {@code prefix}.
+	 */
+	private void exercise(final String prefix) throws IOException, InterruptedException {
+		final String run = prefix.isEmpty() ? "sync" : "async";
+		final long authorId = create(prefix + "/authors", "{\"name\":\"cds-" + run + "\"}");
+		final long tagId = create(prefix + "/tags", "{\"name\":\"cds-" + run + "\"}");
+		final long newsId = create(prefix + "/news", "{\"title\":\"CDS training " + run + "\","
+			+ "\"content\":\"Training content\",\"authorId\":" + authorId + ",\"tags\":[" + tagId + "]}");
+		final long commentId = create(prefix + "/comments", "{\"content\":\"Training comment\",\"newsId\":"
+			+ newsId + "}");
+
+		for (final String resource : List.of("/authors", "/tags", "/news", "/comments")) {
+			get(prefix + resource + "?limit=10&offset=0");
+		}
+		get(prefix + "/authors/" + authorId);
+		get(prefix + "/tags/" + tagId);
+		get(prefix + "/news/" + newsId);
+		get(prefix + "/comments/" + commentId);
+		get(prefix + "/news/" + newsId + "/author");
+		get(prefix + "/news/" + newsId + "/tags");
+		get(prefix + "/news/" + newsId + "/comments");
+		get(prefix + "/news/" + newsId + "/comments?after=0");
+		get(prefix + "/news/" + newsId + "/detail");
+		get(prefix + "/news/search?author_name=cds-" + run + "&tag_ids=" + tagId + "&title=CDS");
+		if (prefix.isEmpty()) {
+			get("/authors?fields=id&fields=name");
+			get("/tags/" + tagId + "?fields=name");
+			get("/news?fields=title&orderBy=createDate::desc");
+			get("/comments/" + commentId + "?fields=content");
+			get("/stats");
+		}
+
+		update(prefix + "/authors/" + authorId, "{\"id\":" + authorId + ",\"name\":\"cds-" + run + "-2\"}");
+		update(prefix + "/tags/" + tagId, "{\"id\":" + tagId + ",\"name\":\"cds-" + run + "-2\"}");
+		update(prefix + "/news/" + newsId, "{\"id\":" + newsId + ",\"title\":\"CDS training " + run + " 2\","
+			+ "\"content\":\"Updated content\",\"authorId\":" + authorId + ",\"tags\":[" + tagId + "]}");
+		update(prefix + "/comments/" + commentId, "{\"id\":" + commentId + ",\"content\":\"Updated comment\","
+			+ "\"newsId\":" + newsId + "}");
+
+		// Error responses load the exception handler and validation paths
+		get(prefix + "/news/" + Long.MAX_VALUE / 2);
+		send(HttpRequest.newBuilder(app.uri(prefix + "/authors")).POST(json("{\"name\":\"x\"}"))
+			.header("Content-Type", "application/json").build());
+		// An unsupported API version is answered with 503 by design
+		app.send(HttpRequest.newBuilder(app.root("/api/v0" + prefix + "/news")).GET().build());
+
+		delete(prefix + "/comments/" + commentId);
+		delete(prefix + "/tags/" + tagId);
+		delete(prefix + "/news/" + newsId);
+		delete(prefix + "/authors/" + authorId);
+	}
+
+	private long create(final String path, final String body) throws IOException, InterruptedException {
+		final HttpResponse<String> response = send(HttpRequest.newBuilder(app.uri(path))
+			.header("Content-Type", "application/json")
+			.POST(json(body))
+			.build());
+		final Matcher matcher = ID_PATTERN.matcher(response.body());
+		if (!matcher.find()) {
+			throw new IllegalStateException("POST " + path + " returned no id: " + response.body());
+		}
+		return Long.parseLong(matcher.group(1));
+	}
+
+	private void get(final String path) throws IOException, InterruptedException {
+		send(HttpRequest.newBuilder(app.uri(path)).GET().build());
+	}
+
+	private void update(final String path, final String body) throws IOException, InterruptedException {
+		send(HttpRequest.newBuilder(app.uri(path))
+			.header("Content-Type", "application/json")
+			.method("PATCH", json(body))
+			.build());
+	}
+
+	private void delete(final String path) throws IOException, InterruptedException {
+		send(HttpRequest.newBuilder(app.uri(path)).DELETE().build());
+	}
+
+	/**
+	 * Any answer below 500 is fine for training; a server error means part of the application
+	 * was not exercised.
+	 */
+	private HttpResponse<String> send(final HttpRequest request) throws IOException, InterruptedException {
+		final HttpResponse<String> response = app.send(request);
+		if (response.statusCode() >= 500) {
+			throw new IllegalStateException(request.method() + " " + request.uri() + " failed: "
+				+ response.statusCode() + " " + response.body() + "\n" + app.log());
+		}
+		return response;
+	}
+
+	private static HttpRequest.BodyPublisher json(final String body) {
+		return HttpRequest.BodyPublishers.ofString(body);
+	}
+}
@@ -0,0 +1,80 @@
+package com.mjc.school.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Compressed size and compression time of the JSON news and comment lists for every deflate level
+ * the compression filter accepts, to choose {@code news.compression.level}. Smile at the default
+ * level is added for comparison with the binary format.
+ * Tunables: -Dbenchmark.items (1000), -Dbenchmark.iterations (500).
+ */
+public final class CompressionBenchmark {
+
+	private static final int ITEMS = Integer.getInteger("benchmark.items", 1000);
+	private static final int ITERATIONS = Integer.getInteger("benchmark.iterations", 500);
+	private static final int DEFAULT_LEVEL = 3;
+
+	private CompressionBenchmark() {
+		// Empty. Hides default public constructor
+	}
+
+	public static void main(final String[] args) throws Exception {
+		final ObjectMapper json = Jackson2ObjectMapperBuilder.json().build();
+		final ObjectMapper smile = Jackson2ObjectMapperBuilder.smile().build();
+		final StringBuilder report = new StringBuilder();
+		report.append(payload("news", json.writeValueAsBytes(PayloadFormatBenchmark.news()),
+			smile.writeValueAsBytes(PayloadFormatBenchmark.news())));
+		report.append(payload("comments", json.writeValueAsBytes(PayloadFormatBenchmark.comments()),
+			smile.writeValueAsBytes(PayloadFormatBenchmark.comments())));
+		System.out.println();
+		System.out.println(ITEMS + " items per list, " + ITERATIONS + " iterations per measurement");
+		System.out.print(report);
+	}
+
+	private static String payload(final String name, final byte[] json, final byte[] smile) throws IOException {
+		final StringBuilder report = new StringBuilder();
+		report.append(String.format("%-9s json         %9d bytes%n", name, json.length));
+		for (int level = 1; level <= 9; level++) {
+			report.append(line(name, "json gzip-" + level, json, level));
+		}
+		report.append(String.format("%-9s smile        %9d bytes%n", name, smile.length));
+		report.append(line(name, "smile gzip-" + DEFAULT_LEVEL, smile, DEFAULT_LEVEL));
+		return report.toString();
+	}
+
+	private static String line(final String name, final String variant, final byte[] body, final int level)
+			throws IOException {
+		// Warm-up before measuring
+		measure(body, level);
+		final long startNanos = System.nanoTime();
+		final int size = measure(body, level);
+		final double micros = (System.nanoTime() - startNanos) / 1000.0 / ITERATIONS;
+		return String.format("%-9s %-12s %9d bytes  %5.1f%%  compress %8.1f us/op  %6.0f MB/s%n",
+			name, variant, size, 100.0 * size / body.length, micros, body.length / micros);
+	}
+
+	private static int measure(final byte[] body, final int level) throws IOException {
+		int size = 0;
+		for (int iteration = 0; iteration < ITERATIONS; iteration++) {
+			size = gzip(body, level).length;
+		}
+		return size;
+	}
+
+	private static byte[] gzip(final byte[] body, final int level) throws IOException {
+		final ByteArrayOutputStream out = new ByteArrayOutputStream(body.length / 4);
+		final GZIPOutputStream gzip = new GZIPOutputStream(out, 8192) {
+			{
+				def.setLevel(level);
+			}
+		};
+		gzip.write(body);
+		gzip.close();
+		return out.toByteArray();
+	}
+}
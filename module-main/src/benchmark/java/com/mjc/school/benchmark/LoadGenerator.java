@@ -0,0 +1,72 @@
+package com.mjc.school.benchmark;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.function.Supplier;
+
+/**
+ * Closed-loop load: every client thread sends the next request as soon as the previous one
+ * has been answered, so the number of clients is the number of requests in flight.
+ */
+final class LoadGenerator {
+
+	private final HttpClient client = HttpClient.newBuilder()
+		.version(HttpClient.Version.HTTP_1_1)
+		.connectTimeout(Duration.ofSeconds(10))
+		.build();
+
+	LoadResult run(final URI uri, final int clients, final Duration duration) throws InterruptedException {
+		final HttpRequest request = HttpRequest.newBuilder(uri)
+			.timeout(Duration.ofSeconds(30))
+			.GET()
+			.build();
+		return run(() -> request, 200, clients, duration);
+	}
+
+	/**
+	 * Sends a fresh request from {@code requests} each time; a response counts as successful when
+	 * it has {@code expectedStatus}.
+	 */
+	LoadResult run(
+		final Supplier<HttpRequest> requests,
+		final int expectedStatus,
+		final int clients,
+		final Duration duration
+	) throws InterruptedException {
+		final LoadResult result = new LoadResult();
+		final long deadline = System.nanoTime() + duration.toNanos();
+		final CountDownLatch done = new CountDownLatch(clients);
+		final List<Thread> threads = new ArrayList<>(clients);
+		for (int i = 0; i < clients; i++) {
+			final Thread thread = new Thread(() -> {
+				try {
+					while (System.nanoTime() < deadline) {
+						final long start = System.nanoTime();
+						boolean success;
+						try {
+							final HttpResponse<Void> response =
+								client.send(requests.get(), HttpResponse.BodyHandlers.discarding());
+							success = response.statusCode() == expectedStatus;
+						} catch (final Exception e) {
+							success = false;
+						}
+						result.record(System.nanoTime() - start, success);
+					}
+				} finally {
+					done.countDown();
+				}
+			}, "load-client-" + i);
+			thread.setDaemon(true);
+			threads.add(thread);
+		}
+		threads.forEach(Thread::start);
+		done.await();
+		return result;
+	}
+}
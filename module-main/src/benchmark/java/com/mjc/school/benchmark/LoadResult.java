@@ -0,0 +1,61 @@
+package com.mjc.school.benchmark;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Request counters and a millisecond latency histogram shared by all load generating clients.
+ */
+final class LoadResult {
+
+	private static final int MAX_TRACKED_MILLIS = 10_000;
+
+	private final LongAdder completed = new LongAdder();
+	private final LongAdder failed = new LongAdder();
+	private final AtomicLongArray histogram = new AtomicLongArray(MAX_TRACKED_MILLIS + 1);
+
+	void record(final long latencyNanos, final boolean success) {
+		if (success) {
+			completed.increment();
+		} else {
+			failed.increment();
+		}
+		final int millis = (int) Math.min(MAX_TRACKED_MILLIS, latencyNanos / 1_000_000);
+		histogram.incrementAndGet(millis);
+	}
+
+	long completed() {
+		return completed.sum();
+	}
+
+	long failed() {
+		return failed.sum();
+	}
+
+	long percentileMillis(final double percentile) {
+		long total = 0;
+		for (int i = 0; i < histogram.length(); i++) {
+			total += histogram.get(i);
+		}
+		final long threshold = (long) Math.ceil(total * percentile);
+		long seen = 0;
+		for (int i = 0; i < histogram.length(); i++) {
+			seen += histogram.get(i);
+			if (seen >= threshold && seen > 0) {
+				return i;
+			}
+		}
+		return 0;
+	}
+
+	String format(final String name, final Duration duration) {
+		return String.format("%-10s %10.1f req/s %8d ok %8d failed   p50 %5d ms   p99 %5d ms",
+			name,
+			completed() / (duration.toMillis() / 1000.0),
+			completed(),
+			failed(),
+			percentileMillis(0.50),
+			percentileMillis(0.99));
+	}
+}
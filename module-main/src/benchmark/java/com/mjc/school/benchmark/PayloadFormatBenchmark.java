@@ -0,0 +1,123 @@
+package com.mjc.school.benchmark;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mjc.school.controller.serialization.SerializedJsonCache;
+import com.mjc.school.service.dto.CommentResponseDto;
+import com.mjc.school.service.dto.NewsResponseDto;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Compares the response formats the API negotiates: payload size of a news list and a comment
+ * list, the time to write them and the time a client needs to read them back into the records.
+ * The mappers are built like the application's message converters. "json cached" writes through
+ * the serialized JSON cache once it is warm; it reads like plain JSON and is left out there.
+ * Tunables: -Dbenchmark.items (1000), -Dbenchmark.iterations (2000).
+ */
+public final class PayloadFormatBenchmark {
+
+	private static final int ITEMS = Integer.getInteger("benchmark.items", 1000);
+	private static final int ITERATIONS = Integer.getInteger("benchmark.iterations", 2000);
+	private static final LocalDateTime DATE = LocalDateTime.of(2024, 5, 1, 12, 30, 15, 123_456_789);
+
+	private PayloadFormatBenchmark() {
+		// Empty. Hides default public constructor
+	}
+
+	public static void main(final String[] args) throws Exception {
+		final List<Format> formats = List.of(
+			new Format("json", Jackson2ObjectMapperBuilder.json().build(), true),
+			new Format("json cached", Jackson2ObjectMapperBuilder.json()
+				.modulesToInstall(new SerializedJsonCache(Integer.MAX_VALUE).module()).build(), false),
+			new Format("smile", Jackson2ObjectMapperBuilder.smile().build(), true),
+			new Format("cbor", Jackson2ObjectMapperBuilder.cbor().build(), true)
+		);
+		final StringBuilder report = new StringBuilder();
+		report.append(payload("news", news(), NewsResponseDto.class, formats));
+		report.append(payload("comments", comments(), CommentResponseDto.class, formats));
+		System.out.println();
+		System.out.println(ITEMS + " items per list, " + ITERATIONS + " iterations per measurement");
+		System.out.print(report);
+	}
+
+	private static String payload(
+		final String name,
+		final List<?> items,
+		final Class<?> type,
+		final List<Format> formats
+	) throws Exception {
+		final StringBuilder report = new StringBuilder();
+		for (final Format format : formats) {
+			final ObjectMapper mapper = format.mapper();
+			final JavaType listType = mapper.getTypeFactory().constructCollectionType(List.class, type);
+			final byte[] bytes = mapper.writeValueAsBytes(items);
+			if (!items.equals(mapper.readValue(bytes, listType))) {
+				throw new IllegalStateException(format.name() + " does not read back what it wrote");
+			}
+			// Warm-up of both directions before measuring
+			measureWrite(mapper, items);
+			measureRead(mapper, bytes, listType);
+			final double write = measureWrite(mapper, items);
+			final String read = format.measureRead()
+				? String.format("%8.1f", measureRead(mapper, bytes, listType))
+				: "       -";
+			report.append(String.format("%-9s %-12s %9d bytes  write %8.1f us/op  read %s us/op%n",
+				name, format.name(), bytes.length, write, read));
+		}
+		return report.toString();
+	}
+
+	private static double measureWrite(final ObjectMapper mapper, final List<?> items) throws Exception {
+		long sink = 0;
+		final long startNanos = System.nanoTime();
+		for (int iteration = 0; iteration < ITERATIONS; iteration++) {
+			sink += mapper.writeValueAsBytes(items).length;
+		}
+		return elapsedMicros(startNanos, sink);
+	}
+
+	private static double measureRead(final ObjectMapper mapper, final byte[] bytes, final JavaType listType)
+			throws Exception {
+		long sink = 0;
+		final long startNanos = System.nanoTime();
+		for (int iteration = 0; iteration < ITERATIONS; iteration++) {
+			sink += mapper.<List<?>>readValue(bytes, listType).size();
+		}
+		return elapsedMicros(startNanos, sink);
+	}
+
+	private static double elapsedMicros(final long startNanos, final long sink) {
+		final double micros = (System.nanoTime() - startNanos) / 1000.0 / ITERATIONS;
+		if (sink == 0) {
+			throw new IllegalStateException("Nothing was measured");
+		}
+		return micros;
+	}
+
+	static List<NewsResponseDto> news() {
+		final List<NewsResponseDto> news = new ArrayList<>(ITEMS);
+		for (long id = 1; id <= ITEMS; id++) {
+			news.add(new NewsResponseDto(id, "News title number " + id,
+				"News content of item " + id + " that is long enough to resemble a short article teaser.",
+				DATE, DATE.plusSeconds(id), id % 50 + 1, List.of(id % 7 + 1, id % 11 + 1), id % 13));
+		}
+		return news;
+	}
+
+	static List<CommentResponseDto> comments() {
+		final List<CommentResponseDto> comments = new ArrayList<>(ITEMS);
+		for (long id = 1; id <= ITEMS; id++) {
+			comments.add(new CommentResponseDto(id, "Comment number " + id + " on the news item",
+				id % 100 + 1, DATE, DATE.plusSeconds(id)));
+		}
+		return comments;
+	}
+
+	private record Format(String name, ObjectMapper mapper, boolean measureRead) {
+		// Empty
+	}
+}
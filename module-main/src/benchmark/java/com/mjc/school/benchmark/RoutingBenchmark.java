@@ -0,0 +1,140 @@
+package com.mjc.school.benchmark;
+
+import com.mjc.school.controller.versioning.ApiVersionCondition;
+import com.mjc.school.controller.versioning.ApiVersionRequestMappingHandlerMapping;
+import org.springframework.boot.logging.LogLevel;
+import org.springframework.boot.logging.LoggingSystem;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockServletContext;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.context.support.StaticWebApplicationContext;
+import org.springframework.web.servlet.mvc.method.RequestMappingInfo;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Measures the cost of resolving a handler with ApiVersionRequestMappingHandlerMapping, with and
+ * without the precomputed dispatch table, as the number of API versions grows. Every version
+ * registers the CRUD routes of the same resources and later versions replace the read handler
+ * only, so most requests fall back to an earlier version's handler. The requests cycle through
+ * every route and version; their attributes are cleared before each lookup so that nothing
+ * computed for one lookup is reused by the next.
+ * Tunables: -Dbenchmark.resources (25), -Dbenchmark.versions (1,5,20),
+ * -Dbenchmark.iterations (200000).
+ */
+public final class RoutingBenchmark {
+
+	private static final int RESOURCES = Integer.getInteger("benchmark.resources", 25);
+	private static final String VERSIONS = System.getProperty("benchmark.versions", "1,5,20");
+	private static final int ITERATIONS = Integer.getInteger("benchmark.iterations", 200_000);
+
+	private RoutingBenchmark() {
+		// Empty. Hides default public constructor
+	}
+
+	public static void main(final String[] args) throws Exception {
+		// Without Spring Boot's logging set-up every lookup would be logged at debug level
+		LoggingSystem.get(RoutingBenchmark.class.getClassLoader()).setLogLevel(LoggingSystem.ROOT_LOGGER_NAME, LogLevel.WARN);
+		final StringBuilder report = new StringBuilder();
+		for (final String value : VERSIONS.split(",")) {
+			final int versions = Integer.parseInt(value.trim());
+			final ApiVersionRequestMappingHandlerMapping regular = mapping(versions, false);
+			final ApiVersionRequestMappingHandlerMapping tabled = mapping(versions, true);
+			final List<MockHttpServletRequest> requests = requests(versions);
+			// Both mappings warm up before either is measured
+			measure(regular, requests);
+			measure(tabled, requests);
+			report.append(String.format("%3d versions %5d mappings  regular %8.0f ns/op  dispatch table %8.0f ns/op%n",
+				versions, regular.getHandlerMethods().size(), measure(regular, requests), measure(tabled, requests)));
+		}
+		System.out.println();
+		System.out.println(RESOURCES + " resources, " + ITERATIONS + " lookups per measurement");
+		System.out.print(report);
+	}
+
+	private static ApiVersionRequestMappingHandlerMapping mapping(final int versions, final boolean dispatchTable)
+			throws NoSuchMethodException {
+		final StaticWebApplicationContext context = new StaticWebApplicationContext();
+		context.setServletContext(new MockServletContext());
+		context.refresh();
+		final ApiVersionRequestMappingHandlerMapping mapping = new ApiVersionRequestMappingHandlerMapping();
+		mapping.setDispatchTableEnabled(dispatchTable);
+		mapping.setApplicationContext(context);
+		mapping.afterPropertiesSet();
+
+		final Handler handler = new Handler();
+		final Method method = Handler.class.getMethod("handle");
+		for (int resource = 0; resource < RESOURCES; resource++) {
+			final String collection = "/api/{apiVersion}/resource" + resource;
+			final String item = collection + "/{id:\\d+}";
+			register(mapping, handler, method, collection, RequestMethod.GET, 1);
+			register(mapping, handler, method, collection, RequestMethod.POST, 1);
+			register(mapping, handler, method, item, RequestMethod.PATCH, 1);
+			register(mapping, handler, method, item, RequestMethod.DELETE, 1);
+			register(mapping, handler, method, item + "/children", RequestMethod.GET, 1);
+			for (int version = 1; version <= versions; version++) {
+				register(mapping, handler, method, item, RequestMethod.GET, version);
+			}
+		}
+		return mapping;
+	}
+
+	private static void register(
+		final ApiVersionRequestMappingHandlerMapping mapping,
+		final Handler handler,
+		final Method method,
+		final String path,
+		final RequestMethod requestMethod,
+		final int since
+	) {
+		mapping.registerMapping(RequestMappingInfo.paths(path)
+			.methods(requestMethod)
+			.customCondition(new ApiVersionCondition(since))
+			.options(mapping.getBuilderConfiguration())
+			.build(), handler, method);
+	}
+
+	private static List<MockHttpServletRequest> requests(final int versions) {
+		final List<MockHttpServletRequest> requests = new ArrayList<>();
+		for (int version = 1; version <= versions; version++) {
+			for (int resource = 0; resource < RESOURCES; resource++) {
+				final String collection = "/api/v" + version + "/resource" + resource;
+				requests.add(new MockHttpServletRequest("GET", collection));
+				requests.add(new MockHttpServletRequest("GET", collection + "/" + resource));
+				requests.add(new MockHttpServletRequest("PATCH", collection + "/" + resource));
+				requests.add(new MockHttpServletRequest("GET", collection + "/" + resource + "/children"));
+			}
+		}
+		return requests;
+	}
+
+	/**
+	 * Average nanoseconds per getHandler call.
+	 */
+	private static double measure(
+		final ApiVersionRequestMappingHandlerMapping mapping,
+		final List<MockHttpServletRequest> requests
+	) throws Exception {
+		final long startNanos = System.nanoTime();
+		for (int iteration = 0; iteration < ITERATIONS; iteration++) {
+			final MockHttpServletRequest request = requests.get(iteration % requests.size());
+			request.clearAttributes();
+			if (mapping.getHandler(request) == null) {
+				throw new IllegalStateException("No handler for " + request.getMethod() + " " + request.getRequestURI());
+			}
+		}
+		return (double) (System.nanoTime() - startNanos) / ITERATIONS;
+	}
+
+	/**
+	 * Target of every synthetic mapping; routing never calls it.
+	 */
+	public static final class Handler {
+
+		public void handle() {
+			// Empty
+		}
+	}
+}
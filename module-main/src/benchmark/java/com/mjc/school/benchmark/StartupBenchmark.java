@@ -0,0 +1,109 @@
+package com.mjc.school.benchmark;
+
+import com.mjc.school.Main;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Measures time-to-first-request and resident memory: each round starts the application in a
+ * fresh JVM and polls GET /news until it answers 200, so class loading, context refresh and the
+ * first request's lazy initialization are all counted; RSS is read right after that response.
+ * The default configuration is compared with the fast-start profile, and the run fails when the
+ * fast-start median exceeds the budget. With -Dbenchmark.install-dir pointing at an installed
+ * distribution every variant is launched from it, and the same two are repeated through
+ * bin/module-main-cds with the AppCDS archive.
+ * Tunables: -Dbenchmark.rounds (5), -Dbenchmark.startup-budget-ms (10000),
+ * -Dbenchmark.startup-timeout-seconds (120), -Dbenchmark.install-dir (unset).
+ */
+public final class StartupBenchmark {
+
+	private static final int ROUNDS = Integer.getInteger("benchmark.rounds", 5);
+	private static final long BUDGET_MS = Long.getLong("benchmark.startup-budget-ms", 10000);
+	private static final Duration TIMEOUT = Duration.ofSeconds(Long.getLong("benchmark.startup-timeout-seconds", 120));
+	private static final String INSTALL_DIR = System.getProperty("benchmark.install-dir");
+	private static final String FAST_START = "--spring.profiles.active=fast-start";
+	private static final List<String> COMMON_ARGS = List.of(
+		"--spring.main.banner-mode=off",
+		"--logging.level.root=WARN",
+		"--news.jpa.show-sql=false"
+	);
+
+	private StartupBenchmark() {
+		// Empty. Hides default public constructor
+	}
+
+	public static void main(final String[] args) throws Exception {
+		final List<Variant> variants = variants();
+		final StringBuilder report = new StringBuilder();
+		Summary fast = null;
+		for (final Variant variant : variants) {
+			final Summary summary = measure(variant);
+			report.append(summary.format());
+			if (variant.args().contains(FAST_START) && fast == null) {
+				fast = summary;
+			}
+		}
+		System.out.println();
+		System.out.println("Time to first GET /news in a fresh JVM and RSS after it, " + ROUNDS
+			+ " rounds, budget " + BUDGET_MS + " ms");
+		System.out.print(report);
+		if (fast != null && fast.medianMillis() > BUDGET_MS) {
+			System.out.println("fast-start median " + fast.medianMillis() + " ms exceeds the budget of " + BUDGET_MS + " ms");
+			System.exit(1);
+		}
+	}
+
+	private static List<Variant> variants() {
+		if (INSTALL_DIR == null) {
+			final List<String> launcher = ApplicationProcess.classPathLauncher(Main.class.getName());
+			return List.of(
+				new Variant("default", launcher, List.of()),
+				new Variant("fast-start", launcher, List.of(FAST_START))
+			);
+		}
+		final Path bin = Path.of(INSTALL_DIR, "bin");
+		final List<String> plain = List.of(bin.resolve("module-main").toString());
+		final List<String> cds = List.of(bin.resolve("module-main-cds").toString());
+		return List.of(
+			new Variant("default", plain, List.of()),
+			new Variant("fast-start", plain, List.of(FAST_START)),
+			new Variant("cds", cds, List.of()),
+			new Variant("cds fast-start", cds, List.of(FAST_START))
+		);
+	}
+
+	private static Summary measure(final Variant variant) throws Exception {
+		final List<Long> millis = new ArrayList<>();
+		final List<Long> residentKb = new ArrayList<>();
+		final List<String> args = new ArrayList<>(COMMON_ARGS);
+		args.addAll(variant.args());
+		for (int round = 0; round < ROUNDS; round++) {
+			try (ApplicationProcess app = ApplicationProcess.start(variant.launcher(), Map.of(), args)) {
+				millis.add(app.awaitFirstResponse(TIMEOUT));
+				residentKb.add(app.residentSetKb());
+			}
+		}
+		return new Summary(variant.name(), millis.stream().sorted().toList(), residentKb.stream().sorted().toList());
+	}
+
+	private record Variant(String name, List<String> launcher, List<String> args) {
+		// Empty
+	}
+
+	private record Summary(String name, List<Long> sortedMillis, List<Long> sortedResidentKb) {
+
+		long medianMillis() {
+			return sortedMillis.get(sortedMillis.size() / 2);
+		}
+
+		String format() {
+			return String.format("%-15s min %6d ms  median %6d ms  max %6d ms  median RSS %5d MB%n",
+				name, sortedMillis.get(0), medianMillis(), sortedMillis.get(sortedMillis.size() - 1),
+				sortedResidentKb.get(sortedResidentKb.size() / 2) / 1024);
+		}
+	}
+}
@@ -0,0 +1,86 @@
+package com.mjc.school.benchmark;
+
+import java.net.http.HttpRequest;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Compares news.datasource.mode=memory with mode=file: start-up on an empty database, restart
+ * after the run (the file database keeps its rows, the in-memory one starts empty as it would in
+ * a new process), and closed-loop throughput of POST /comments and GET /news. Both modes run in
+ * one JVM, memory first, so its first start-up also pays for class loading; compare the restarts.
+ * Tunables: -Dbenchmark.clients (50), -Dbenchmark.news (1000), -Dbenchmark.warmup-seconds (5),
+ * -Dbenchmark.seconds (15).
+ */
+public final class StorageBenchmark {
+
+	private static final int CLIENTS = Integer.getInteger("benchmark.clients", 50);
+	private static final int NEWS = Integer.getInteger("benchmark.news", 1000);
+	private static final Duration WARMUP = Duration.ofSeconds(Long.getLong("benchmark.warmup-seconds", 5));
+	private static final Duration MEASUREMENT = Duration.ofSeconds(Long.getLong("benchmark.seconds", 15));
+	private static final AtomicLong RUNS = new AtomicLong();
+
+	private StorageBenchmark() {
+		// Empty. Hides default public constructor
+	}
+
+	public static void main(final String[] args) throws Exception {
+		final Path directory = Files.createTempDirectory("news-storage-benchmark");
+		final StringBuilder report = new StringBuilder();
+		report.append(measure("memory", directory));
+		report.append(measure("file", directory));
+		System.out.println();
+		System.out.println(CLIENTS + " concurrent clients, " + NEWS + " news, " + MEASUREMENT.toSeconds() + " s per load");
+		System.out.print(report);
+	}
+
+	private static String measure(final String mode, final Path directory) throws Exception {
+		final String name = "bench-" + mode;
+		final StringBuilder report = new StringBuilder();
+		final long startNanos = System.nanoTime();
+		try (ApplicationUnderTest app = ApplicationUnderTest.start(storageArgs(mode, directory, name))) {
+			report.append(String.format("%-6s start      %6d ms%n", mode, millisSince(startNanos)));
+			final long authorId = app.seed("st-" + mode, NEWS);
+			final long newsId = app.post("/news", "{\"title\":\"st-" + mode + "-commented\","
+				+ "\"content\":\"Commented news\",\"authorId\":" + authorId + "}");
+			final LoadGenerator generator = new LoadGenerator();
+			generator.run(() -> comment(app, newsId), 201, CLIENTS, WARMUP);
+			report.append(generator.run(() -> comment(app, newsId), 201, CLIENTS, MEASUREMENT)
+				.format(mode + " POST /comments", MEASUREMENT)).append('\n');
+			generator.run(app.uri("/news?limit=10"), CLIENTS, WARMUP);
+			report.append(generator.run(app.uri("/news?limit=10"), CLIENTS, MEASUREMENT)
+				.format(mode + " GET /news", MEASUREMENT)).append('\n');
+		}
+		final String restartName = "memory".equals(mode) ? name + "-restarted" : name;
+		final long restartNanos = System.nanoTime();
+		try (ApplicationUnderTest app = ApplicationUnderTest.start(storageArgs(mode, directory, restartName))) {
+			report.append(String.format("%-6s restart    %6d ms, %d news kept%n",
+				mode, millisSince(restartNanos), app.count("/news?limit=" + Integer.MAX_VALUE)));
+		}
+		return report.toString();
+	}
+
+	private static HttpRequest comment(final ApplicationUnderTest app, final long newsId) {
+		return HttpRequest.newBuilder(app.uri("/comments"))
+			.timeout(Duration.ofSeconds(30))
+			.header("Content-Type", "application/json")
+			.POST(HttpRequest.BodyPublishers.ofString("{\"content\":\"Benchmark comment " + RUNS.incrementAndGet()
+				+ "\",\"newsId\":" + newsId + "}"))
+			.build();
+	}
+
+	private static String[] storageArgs(final String mode, final Path directory, final String name) {
+		return List.of(
+			"--news.datasource.mode=" + mode,
+			"--news.datasource.directory=" + directory,
+			"--news.datasource.name=" + name
+		).toArray(new String[0]);
+	}
+
+	private static long millisSince(final long startNanos) {
+		return (System.nanoTime() - startNanos) / 1_000_000;
+	}
+}
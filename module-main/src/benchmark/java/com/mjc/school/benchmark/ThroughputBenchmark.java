@@ -0,0 +1,46 @@
+package com.mjc.school.benchmark;
+
+import com.mjc.school.controller.config.VirtualThreads;
+
+import java.time.Duration;
+
+/**
+ * Starts the application once with Tomcat's platform thread pool and once with
+ * news.threads.virtual=true, and drives GET /news with the same number of concurrent clients.
+ * Tunables: -Dbenchmark.clients (1000), -Dbenchmark.warmup-seconds (10), -Dbenchmark.seconds (30).
+ */
+public final class ThroughputBenchmark {
+
+	private static final int CLIENTS = Integer.getInteger("benchmark.clients", 1000);
+	private static final Duration WARMUP = Duration.ofSeconds(Long.getLong("benchmark.warmup-seconds", 10));
+	private static final Duration MEASUREMENT = Duration.ofSeconds(Long.getLong("benchmark.seconds", 30));
+
+	private ThroughputBenchmark() {
+		// Empty. Hides default public constructor
+	}
+
+	public static void main(final String[] args) throws Exception {
+		final StringBuilder report = new StringBuilder();
+		report.append(measure("platform", false));
+		if (VirtualThreads.isSupported()) {
+			report.append(measure("virtual", true));
+		} else {
+			report.append("virtual    skipped: runtime ").append(Runtime.version())
+				.append(" has no virtual threads\n");
+		}
+		System.out.println();
+		System.out.println("GET /api/v1/news?limit=10 with " + CLIENTS + " concurrent clients, "
+			+ MEASUREMENT.toSeconds() + " s");
+		System.out.print(report);
+	}
+
+	private static String measure(final String mode, final boolean virtual) throws Exception {
+		try (ApplicationUnderTest app = ApplicationUnderTest.start("--news.threads.virtual=" + virtual)) {
+			app.seed("tp-" + mode, 50);
+			final LoadGenerator generator = new LoadGenerator();
+			generator.run(app.uri("/news?limit=10"), CLIENTS, WARMUP);
+			final LoadResult result = generator.run(app.uri("/news?limit=10"), CLIENTS, MEASUREMENT);
+			return result.format(mode, MEASUREMENT) + "\n";
+		}
+	}
+}
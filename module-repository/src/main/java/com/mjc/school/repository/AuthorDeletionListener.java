@@ -0,0 +1,11 @@
+package com.mjc.school.repository;
+
+/**
+ * Receives the progress of a bulk author deletion, one call per deleted batch of news.
+ */
+public interface AuthorDeletionListener {
+
+	void onStart(Long authorId, int newsTotal);
+
+	void onBatchDeleted(Long authorId, int newsDeleted, int commentsDeleted, int tagLinksDeleted);
+}
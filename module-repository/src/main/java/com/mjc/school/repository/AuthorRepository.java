@@ -7,4 +7,16 @@ import java.util.Optional;
 public interface AuthorRepository extends BaseRepository<Author, Long> {
 
 	Optional<Author> readAuthorByNewsId(Long newsId);
+
+	/**
+	 * Creates the author unless one with the same name exists, checked by the insert itself;
+	 * empty when the name is taken.
+	 */
+	Optional<Author> createIfAbsent(Author author);
+
+	/**
+	 * Deletes the author together with its news, their comments and tag links using set-based
+	 * statements over batches of at most {@code batchSize} news, without loading the news graph.
+	 */
+	boolean deleteWithNews(Long authorId, int batchSize, AuthorDeletionListener listener);
 }
\ No newline at end of file
@@ -3,6 +3,7 @@ package com.mjc.school.repository;
 import com.mjc.school.repository.model.BaseEntity;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public interface BaseRepository<T extends BaseEntity<K>, K> {
@@ -13,6 +14,14 @@ public interface BaseRepository<T extends BaseEntity<K>, K> {
 
     Optional<T> readById(K id);
 
+    /**
+     * Reads only the selected attributes. The selection maps an output key to an attribute path
+     * such as {@code title} or {@code author.id}; a collection attribute yields the list of ids.
+     */
+    List<Map<String, Object>> readAll(int limit, int offset, String orderBy, Map<String, String> selection);
+
+    Optional<Map<String, Object>> readById(K id, Map<String, String> selection);
+
     T create(T entity);
 
     T update(T entity);
@@ -2,9 +2,26 @@ package com.mjc.school.repository;
 
 import com.mjc.school.repository.model.Comment;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface CommentRepository extends BaseRepository<Comment, Long> {
 
-	List<Comment> readCommentsByNewsId(Long newsId);
+	List<Comment> readCommentsByNewsId(Long newsId, int limit, int offset);
+
+	/**
+	 * Keyset page: the comments of the news with an id greater than {@code afterId}, in id order.
+	 */
+	List<Comment> readCommentsByNewsIdAfter(Long newsId, Long afterId, int limit);
+
+	/**
+	 * Takes {@code count} values from the comment id sequence in one round trip.
+	 */
+	List<Long> allocateIds(int count);
+
+	/**
+	 * Inserts comments that already carry their id, news id and dates with one JDBC batch.
+	 * Auditing is not applied.
+	 */
+	void createAll(Collection<Comment> comments);
 }
\ No newline at end of file
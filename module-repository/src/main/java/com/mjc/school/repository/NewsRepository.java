@@ -4,8 +4,30 @@ import com.mjc.school.repository.model.News;
 import com.mjc.school.repository.query.NewsSearchQueryParams;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 public interface NewsRepository extends BaseRepository<News, Long> {
 
 	List<News> readByParams(NewsSearchQueryParams newsSearchQueryParams);
+
+	Optional<News> readNewsWithAuthorAndTags(Long newsId);
+
+	/**
+	 * Creates the news and its tag links unless a news with the same title exists, checked by the
+	 * insert itself; empty when the title is taken.
+	 */
+	Optional<News> createIfAbsent(News news);
+
+	/**
+	 * Reads every news with its author and tags fetched in one query, ordered by id.
+	 */
+	List<News> readAllWithAuthorAndTags();
+
+	boolean adjustCommentCount(Long newsId, long delta);
+
+	/**
+	 * Applies several comment count deltas, keyed by news id, with one JDBC batch.
+	 */
+	void adjustCommentCounts(Map<Long, Long> deltas);
 }
\ No newline at end of file
@@ -0,0 +1,23 @@
+package com.mjc.school.repository;
+
+import com.mjc.school.repository.model.OutboxMessage;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface OutboxRepository extends BaseRepository<OutboxMessage, Long> {
+
+	/**
+	 * Reads the oldest messages that have been attempted fewer than {@code maxAttempts} times,
+	 * in the order they were written.
+	 */
+	List<OutboxMessage> readBatch(int limit, int maxAttempts);
+
+	int deleteByIds(Collection<Long> ids);
+
+	int incrementAttempts(Collection<Long> ids);
+
+	long countPending(int maxAttempts);
+
+	long countParked(int maxAttempts);
+}
@@ -3,8 +3,15 @@ package com.mjc.school.repository;
 import com.mjc.school.repository.model.Tag;
 
 import java.util.List;
+import java.util.Optional;
 
 public interface TagRepository extends BaseRepository<Tag, Long> {
 
 	List<Tag> readTagsByNewsId(Long newsId);
+
+	/**
+	 * Creates the tag unless one with the same name exists, checked by the insert itself;
+	 * empty when the name is taken.
+	 */
+	Optional<Tag> createIfAbsent(Tag tag);
 }
\ No newline at end of file
@@ -1,15 +1,27 @@
 package com.mjc.school.repository.config;
 
+import com.mjc.school.repository.model.Author;
+import com.mjc.school.repository.model.Comment;
+import com.mjc.school.repository.model.News;
+import com.mjc.school.repository.model.OutboxMessage;
+import com.mjc.school.repository.model.Tag;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.flywaydb.core.Flyway;
 import org.hibernate.jpa.HibernatePersistenceProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.DependsOn;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
-import org.springframework.jdbc.datasource.DriverManagerDataSource;
 import org.springframework.orm.jpa.JpaTransactionManager;
 import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
 import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.EnableTransactionManagement;
 
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
 import java.util.Properties;
 
 @Configuration
@@ -17,44 +29,129 @@ import java.util.Properties;
 @EnableJpaAuditing
 public class RepositoryConfig {
 
-	private static final String[] ENTITY_PACKAGES = {"com.mjc.school.repository.model"};
+	/**
+	 * Every mapped entity, listed instead of scanning the model package for {@code @Entity} classes
+	 * on startup.
+	 */
+	public static final List<Class<?>> ENTITY_CLASSES =
+		List.of(Author.class, Comment.class, News.class, OutboxMessage.class, Tag.class);
+	private static final String MIGRATIONS_LOCATION = "classpath:db/migration";
 
+	@Value("${news.datasource.pool-size:10}")
+	private int poolSize;
+	@Value("${news.datasource.connection-timeout-ms:30000}")
+	private long connectionTimeout;
+	@Value("${news.jpa.show-sql:true}")
+	private boolean showSql;
+	@Value("${news.jpa.ddl-auto:none}")
+	private String ddlAuto;
+	@Value("${news.datasource.mode:memory}")
+	private String mode;
+	@Value("${news.datasource.name:newsdb}")
+	private String databaseName;
+	@Value("${news.datasource.directory:./data}")
+	private String directory;
+	@Value("${news.datasource.h2.cache-size-kb:65536}")
+	private int cacheSizeKb;
+	@Value("${news.datasource.h2.page-size:8192}")
+	private int pageSize;
+	@Value("${news.datasource.h2.write-delay-ms:200}")
+	private int writeDelayMs;
+	@Value("${news.datasource.h2.retention-time-ms:5000}")
+	private int retentionTimeMs;
+
+	/**
+	 * Connections are handed out by a bounded Hikari pool rather than opened per request.
+	 * Hikari parks waiting callers instead of blocking inside monitors of its own; a virtual
+	 * thread can still be pinned by a monitor its caller holds, see the web module's
+	 * VirtualThreadConfig.
+	 */
 	@Bean
-	public DriverManagerDataSource dataSource() {
-		DriverManagerDataSource dataSource = new DriverManagerDataSource();
-		dataSource.setUsername("sa");
-		dataSource.setPassword("password");
-		dataSource.setDriverClassName("org.h2.Driver");
-		dataSource.setUrl("jdbc:h2:mem:newsdb;DB_CLOSE_DELAY=-1");
-		return dataSource;
+	public HikariDataSource dataSource() {
+		final HikariConfig config = new HikariConfig();
+		config.setPoolName("news-pool");
+		config.setUsername("sa");
+		config.setPassword("password");
+		config.setDriverClassName("org.h2.Driver");
+		config.setJdbcUrl(jdbcUrl());
+		config.setMaximumPoolSize(poolSize);
+		config.setMinimumIdle(poolSize);
+		config.setConnectionTimeout(connectionTimeout);
+		return new HikariDataSource(config);
+	}
+
+	/**
+	 * The schema is created and changed only by the versioned scripts in {@code db/migration},
+	 * applied before Hibernate starts; Hibernate itself does not read or alter it.
+	 */
+	@Bean(initMethod = "migrate")
+	public Flyway flyway() {
+		return Flyway.configure()
+			.dataSource(dataSource())
+			.locations(MIGRATIONS_LOCATION)
+			.load();
 	}
 
 	@Bean
+	@DependsOn("flyway")
 	public LocalContainerEntityManagerFactoryBean entityManagerFactory() {
 		LocalContainerEntityManagerFactoryBean entityManagerFactory =
 			new LocalContainerEntityManagerFactoryBean();
 
 		entityManagerFactory.setDataSource(dataSource());
 		entityManagerFactory.setPersistenceProviderClass(HibernatePersistenceProvider.class);
-		entityManagerFactory.setPackagesToScan(ENTITY_PACKAGES);
+		// An empty package list builds the default persistence unit without scanning
+		entityManagerFactory.setPackagesToScan();
+		entityManagerFactory.setPersistenceUnitPostProcessors(persistenceUnit ->
+			ENTITY_CLASSES.forEach(entity -> persistenceUnit.addManagedClassName(entity.getName())));
 		entityManagerFactory.setJpaProperties(addProperties());
 
 		return entityManagerFactory;
 	}
 
+	/**
+	 * A method that fails inside a caller's transaction leaves the outcome to the caller instead
+	 * of marking the whole transaction rollback-only, so a caller running several independent
+	 * writes in one transaction can drop a rejected one and commit the rest. A failed statement
+	 * still marks it: Hibernate does so itself when it reports a {@code PersistenceException}.
+	 */
 	@Bean
 	public PlatformTransactionManager transactionManager() {
 		JpaTransactionManager transactionManager = new JpaTransactionManager();
 		transactionManager.setEntityManagerFactory(entityManagerFactory().getObject());
+		transactionManager.setGlobalRollbackOnParticipationFailure(false);
 		return transactionManager;
 	}
 
 	private Properties addProperties() {
 		Properties properties = new Properties();
-		properties.setProperty("hibernate.connection.pool_size", "3");
-		properties.setProperty("hibernate.show_sql", "true");
+		properties.setProperty("hibernate.show_sql", String.valueOf(showSql));
 		properties.setProperty("hibernate.dialect", "org.hibernate.dialect.H2Dialect");
-		properties.setProperty("hibernate.hbm2ddl.auto", "update");
+		properties.setProperty("hibernate.hbm2ddl.auto", ddlAuto);
+		properties.setProperty("hibernate.connection.handling_mode",
+			"DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION");
 		return properties;
 	}
-}
\ No newline at end of file
+
+	/**
+	 * {@code memory} keeps the database for the life of the process. {@code file} stores it in
+	 * {@code news.datasource.directory} with a larger page cache and pages, a short MVStore
+	 * retention time so updated pages are reused sooner, and commits flushed to disk every
+	 * {@code news.datasource.h2.write-delay-ms}; a crash can lose the commits of that last
+	 * interval. The database is closed with the pool rather than by H2's shutdown hook, so
+	 * components that flush on shutdown can still write.
+	 */
+	private String jdbcUrl() {
+		return switch (mode.toLowerCase(Locale.ROOT)) {
+			case "memory" -> "jdbc:h2:mem:" + databaseName + ";DB_CLOSE_DELAY=-1";
+			case "file" -> "jdbc:h2:file:" + Path.of(directory, databaseName).toAbsolutePath()
+				+ ";CACHE_SIZE=" + cacheSizeKb
+				+ ";PAGE_SIZE=" + pageSize
+				+ ";WRITE_DELAY=" + writeDelayMs
+				+ ";RETENTION_TIME=" + retentionTimeMs
+				+ ";DB_CLOSE_ON_EXIT=FALSE";
+			default -> throw new IllegalArgumentException(
+				"Unknown datasource mode '" + mode + "', allowed modes: [memory, file]");
+		};
+	}
+}
@@ -4,6 +4,7 @@ import com.mjc.school.repository.BaseRepository;
 import com.mjc.school.repository.exception.EntityConstraintViolationRepositoryException;
 import com.mjc.school.repository.model.BaseEntity;
 import org.hibernate.exception.ConstraintViolationException;
+import org.hibernate.query.NativeQuery;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.support.DefaultTransactionDefinition;
@@ -11,13 +12,23 @@ import org.springframework.transaction.support.DefaultTransactionDefinition;
 import javax.persistence.EntityManager;
 import javax.persistence.PersistenceContext;
 import javax.persistence.PersistenceException;
+import javax.persistence.Tuple;
 import javax.persistence.TypedQuery;
 import javax.persistence.criteria.CriteriaBuilder;
 import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Path;
 import javax.persistence.criteria.Root;
+import javax.persistence.criteria.Selection;
+import javax.persistence.metamodel.EntityType;
 import java.lang.reflect.ParameterizedType;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
 
 @SuppressWarnings("unchecked")
 public abstract class AbstractRepository<T extends BaseEntity<K>, K> implements BaseRepository<T, K> {
@@ -26,6 +37,9 @@ public abstract class AbstractRepository<T extends BaseEntity<K>, K> implements
 	protected EntityManager entityManager;
 	@Autowired
 	protected PlatformTransactionManager transactionManager;
+	private static final String ID_ATTRIBUTE = "id";
+	private static final String ID_ALIAS = "__id";
+
 	private final Class<T> entityClass;
 
 	protected AbstractRepository() {
@@ -36,7 +50,7 @@ public abstract class AbstractRepository<T extends BaseEntity<K>, K> implements
 	@Override
 	public List<T> readAll() {
 		final TypedQuery<T> query = entityManager.createQuery("SELECT e FROM "
-			+ entityClass.getSimpleName() + " e", entityClass);
+			+ entityClass.getSimpleName() + " e ORDER BY e.id", entityClass);
 		return query.getResultList();
 	}
 
@@ -69,6 +83,43 @@ public abstract class AbstractRepository<T extends BaseEntity<K>, K> implements
 		return Optional.empty();
 	}
 
+	@Override
+	public List<Map<String, Object>> readAll(
+		final int limit,
+		final int offset,
+		final String orderBy,
+		final Map<String, String> selection
+	) {
+		final String[] ordering = orderBy.split("::");
+		final CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+		final CriteriaQuery<Tuple> query = criteriaBuilder.createTupleQuery();
+		final Root<T> entity = query.from(entityClass);
+		query.multiselect(singularSelections(entity, selection));
+		if ("desc".equalsIgnoreCase(ordering[1])) {
+			query.orderBy(criteriaBuilder.desc(entity.get(ordering[0])));
+		} else {
+			query.orderBy(criteriaBuilder.asc(entity.get(ordering[0])));
+		}
+		final List<Tuple> tuples = entityManager.createQuery(query)
+			.setFirstResult(offset)
+			.setMaxResults(limit)
+			.getResultList();
+		return toRows(tuples, selection);
+	}
+
+	@Override
+	public Optional<Map<String, Object>> readById(final K id, final Map<String, String> selection) {
+		if (id != null) {
+			final CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+			final CriteriaQuery<Tuple> query = criteriaBuilder.createTupleQuery();
+			final Root<T> entity = query.from(entityClass);
+			query.multiselect(singularSelections(entity, selection))
+				.where(criteriaBuilder.equal(entity.get(ID_ATTRIBUTE), id));
+			return toRows(entityManager.createQuery(query).getResultList(), selection).stream().findFirst();
+		}
+		return Optional.empty();
+	}
+
 	@Override
 	public T create(final T entity) {
 		if (entity != null) {
@@ -93,6 +144,51 @@ public abstract class AbstractRepository<T extends BaseEntity<K>, K> implements
 		return null;
 	}
 
+	/**
+	 * Creates the entity unless a row with the same unique key exists. {@code insert} writes the
+	 * row with one statement that checks the key and inserts together, see
+	 * {@link #insertIfAbsent}, and returns the generated id, so a duplicate is an ordinary empty
+	 * result. Only a concurrent insert of the same key, committed between the check and the
+	 * insert, still violates the constraint; it is reported like a duplicate in {@link #create}.
+	 */
+	protected Optional<T> createIfAbsent(final T entity, final Function<T, Optional<K>> insert) {
+		if (entity == null) {
+			return Optional.empty();
+		}
+		final var transactionDefinition = new DefaultTransactionDefinition();
+		final var transactionStatus = transactionManager.getTransaction(transactionDefinition);
+		try {
+			final Optional<T> created = insert(entity, insert);
+			transactionManager.commit(transactionStatus);
+			return created;
+		} catch (final PersistenceException ex) {
+			transactionManager.rollback(transactionStatus);
+			throw translate(ex);
+		} catch (final Exception e) {
+			transactionManager.rollback(transactionStatus);
+			throw e;
+		}
+	}
+
+	/**
+	 * Runs a native {@code SELECT <id> FROM FINAL TABLE (INSERT ... SELECT ... WHERE NOT EXISTS ...)}
+	 * and returns the id of the inserted row, or an empty result when the {@code NOT EXISTS}
+	 * condition found the key and nothing was inserted. {@code table} is the query space the
+	 * statement writes to, so Hibernate flushes and invalidates only what depends on it.
+	 */
+	protected Optional<Long> insertIfAbsent(
+		final String sql,
+		final String table,
+		final Map<String, Object> parameters
+	) {
+		final NativeQuery<Object> query = entityManager.createNativeQuery(sql)
+			.unwrap(NativeQuery.class)
+			.addSynchronizedQuerySpace(table);
+		parameters.forEach(query::setParameter);
+		final List<Object> ids = query.getResultList();
+		return ids.isEmpty() ? Optional.empty() : Optional.of(((Number) ids.get(0)).longValue());
+	}
+
 	@Override
 	public T update(final T entity) {
 		if (entity != null && existById(entity.getId())) {
@@ -134,4 +230,94 @@ public abstract class AbstractRepository<T extends BaseEntity<K>, K> implements
 	public boolean existById(final K id) {
 		return id != null && entityManager.find(entityClass, id) != null;
 	}
+
+	private Optional<T> insert(final T entity, final Function<T, Optional<K>> insert) {
+		final Optional<K> id = insert.apply(entity);
+		id.ifPresent(entity::setId);
+		return id.map(generated -> entity);
+	}
+
+	private static RuntimeException translate(final PersistenceException ex) {
+		if (ex.getCause() != null && ConstraintViolationException.class.equals(ex.getCause().getClass())) {
+			return new EntityConstraintViolationRepositoryException(ex.getMessage());
+		}
+		return ex;
+	}
+
+	private List<Selection<?>> singularSelections(final Root<T> entity, final Map<String, String> selection) {
+		final List<Selection<?>> selections = new ArrayList<>();
+		if (!selection.containsValue(ID_ATTRIBUTE)) {
+			selections.add(entity.get(ID_ATTRIBUTE).alias(ID_ALIAS));
+		}
+		selection.forEach((alias, attribute) -> {
+			if (!isCollection(attribute)) {
+				selections.add(path(entity, attribute).alias(alias));
+			}
+		});
+		return selections;
+	}
+
+	private List<Map<String, Object>> toRows(final List<Tuple> tuples, final Map<String, String> selection) {
+		final String idAlias = idAlias(selection);
+		final List<Object> ids = new ArrayList<>(tuples.size());
+		tuples.forEach(tuple -> ids.add(tuple.get(idAlias)));
+		final Map<String, Map<Object, List<Object>>> collections = new HashMap<>();
+		selection.forEach((alias, attribute) -> {
+			if (isCollection(attribute)) {
+				collections.put(alias, readCollectionIds(attribute, ids));
+			}
+		});
+		final List<Map<String, Object>> rows = new ArrayList<>(tuples.size());
+		for (final Tuple tuple : tuples) {
+			final Object id = tuple.get(idAlias);
+			final Map<String, Object> row = new LinkedHashMap<>();
+			selection.forEach((alias, attribute) -> row.put(alias, isCollection(attribute)
+				? collections.get(alias).getOrDefault(id, Collections.emptyList())
+				: tuple.get(alias)));
+			rows.add(row);
+		}
+		return rows;
+	}
+
+	/**
+	 * Loads the element ids of one collection attribute for all rows of a page with a single query.
+	 */
+	private Map<Object, List<Object>> readCollectionIds(final String attribute, final List<Object> ids) {
+		final Map<Object, List<Object>> result = new HashMap<>();
+		if (!ids.isEmpty()) {
+			final String query = "SELECT e.id, c.id FROM " + entityClass.getSimpleName() + " e JOIN e."
+				+ attribute + " c WHERE e.id IN :ids ORDER BY c.id";
+			entityManager.createQuery(query, Object[].class)
+				.setParameter("ids", ids)
+				.getResultList()
+				.forEach(pair -> result.computeIfAbsent(pair[0], key -> new ArrayList<>()).add(pair[1]));
+		}
+		return result;
+	}
+
+	/**
+	 * The id is always selected to attach collection ids; Hibernate reuses the same path instance
+	 * for {@code id}, so a requested id field is read back under its own alias.
+	 */
+	private static String idAlias(final Map<String, String> selection) {
+		for (final Map.Entry<String, String> entry : selection.entrySet()) {
+			if (ID_ATTRIBUTE.equals(entry.getValue())) {
+				return entry.getKey();
+			}
+		}
+		return ID_ALIAS;
+	}
+
+	private boolean isCollection(final String attribute) {
+		final EntityType<T> type = entityManager.getMetamodel().entity(entityClass);
+		return attribute.indexOf('.') < 0 && type.getAttribute(attribute).isCollection();
+	}
+
+	private static Path<Object> path(final Root<?> entity, final String attribute) {
+		Path<Object> path = null;
+		for (final String part : attribute.split("\\.")) {
+			path = path == null ? entity.get(part) : path.get(part);
+		}
+		return path;
+	}
 }
\ No newline at end of file
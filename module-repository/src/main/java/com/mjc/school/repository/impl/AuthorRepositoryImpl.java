@@ -1,14 +1,25 @@
 package com.mjc.school.repository.impl;
 
+import com.mjc.school.repository.AuthorDeletionListener;
 import com.mjc.school.repository.AuthorRepository;
 import com.mjc.school.repository.model.Author;
+import org.hibernate.query.NativeQuery;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.DefaultTransactionDefinition;
 
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Repository
 public class AuthorRepositoryImpl extends AbstractRepository<Author, Long> implements AuthorRepository {
 
+	private static final String INSERT_IF_ABSENT = "SELECT author_id FROM FINAL TABLE (INSERT INTO Author "
+		+ "(author_name, author_create_date, author_last_update_date) "
+		+ "SELECT CAST(:name AS VARCHAR(255)), CAST(:now AS TIMESTAMP), CAST(:now AS TIMESTAMP) "
+		+ "WHERE NOT EXISTS (SELECT 1 FROM Author WHERE author_name = :name))";
+
 	@Override
 	public Optional<Author> readAuthorByNewsId(final Long newsId) {
 		if (newsId != null) {
@@ -21,4 +32,59 @@ public class AuthorRepositoryImpl extends AbstractRepository<Author, Long> imple
 		}
 		return Optional.empty();
 	}
-}
\ No newline at end of file
+
+	/**
+	 * The native insert bypasses the auditing listener, so the dates are set here as it would.
+	 */
+	@Override
+	public Optional<Author> createIfAbsent(final Author author) {
+		return createIfAbsent(author, entity -> {
+			final LocalDateTime now = LocalDateTime.now();
+			entity.setCreateDate(now);
+			entity.setLastUpdateDate(now);
+			return insertIfAbsent(INSERT_IF_ABSENT, "Author", Map.of("name", entity.getName(), "now", now));
+		});
+	}
+
+	@Override
+	public boolean deleteWithNews(final Long authorId, final int batchSize, final AuthorDeletionListener listener) {
+		final var transactionDefinition = new DefaultTransactionDefinition();
+		final var transactionStatus = transactionManager.getTransaction(transactionDefinition);
+		final Optional<Author> author = readById(authorId);
+		if (author.isPresent()) {
+			try {
+				entityManager.detach(author.get());
+				final List<Long> newsIds = entityManager.createQuery(
+						"SELECT n.id FROM News AS n WHERE n.author.id = :authorId ORDER BY n.id", Long.class)
+					.setParameter("authorId", authorId)
+					.getResultList();
+				listener.onStart(authorId, newsIds.size());
+				for (int from = 0; from < newsIds.size(); from += batchSize) {
+					final List<Long> batch = newsIds.subList(from, Math.min(from + batchSize, newsIds.size()));
+					final int comments = entityManager.createQuery("DELETE FROM Comment AS c WHERE c.news.id IN :ids")
+						.setParameter("ids", batch)
+						.executeUpdate();
+					final int tagLinks = entityManager.createNativeQuery("DELETE FROM News_tags WHERE news_id IN (:ids)")
+						.unwrap(NativeQuery.class)
+						.addSynchronizedQuerySpace("News_tags")
+						.setParameterList("ids", batch)
+						.executeUpdate();
+					final int news = entityManager.createQuery("DELETE FROM News AS n WHERE n.id IN :ids")
+						.setParameter("ids", batch)
+						.executeUpdate();
+					listener.onBatchDeleted(authorId, news, comments, tagLinks);
+				}
+				final int deleted = entityManager.createQuery("DELETE FROM Author AS a WHERE a.id = :authorId")
+					.setParameter("authorId", authorId)
+					.executeUpdate();
+				transactionManager.commit(transactionStatus);
+				return deleted == 1;
+			} catch (final Exception e) {
+				transactionManager.rollback(transactionStatus);
+				throw e;
+			}
+		}
+		transactionManager.rollback(transactionStatus);
+		return false;
+	}
+}
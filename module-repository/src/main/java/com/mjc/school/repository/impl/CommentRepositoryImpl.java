@@ -2,18 +2,75 @@ package com.mjc.school.repository.impl;
 
 import com.mjc.school.repository.CommentRepository;
 import com.mjc.school.repository.model.Comment;
+import org.hibernate.Session;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.DefaultTransactionDefinition;
 
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.util.Collection;
 import java.util.List;
 
-@SuppressWarnings("unchecked")
 @Repository
 public class CommentRepositoryImpl extends AbstractRepository<Comment, Long> implements CommentRepository {
 
 	@Override
-	public List<Comment> readCommentsByNewsId(final Long newsId) {
-		final var query = entityManager.createQuery("SELECT c FROM Comment AS c WHERE c.news.id = :newsId");
-		query.setParameter("newsId", newsId);
-		return query.getResultList();
+	public List<Comment> readCommentsByNewsId(final Long newsId, final int limit, final int offset) {
+		return entityManager.createQuery("SELECT c FROM Comment AS c WHERE c.news.id = :newsId ORDER BY c.id",
+				Comment.class)
+			.setParameter("newsId", newsId)
+			.setFirstResult(offset)
+			.setMaxResults(limit)
+			.getResultList();
 	}
-}
\ No newline at end of file
+
+	@Override
+	public List<Comment> readCommentsByNewsIdAfter(final Long newsId, final Long afterId, final int limit) {
+		return entityManager.createQuery("SELECT c FROM Comment AS c WHERE c.news.id = :newsId AND c.id > :afterId "
+				+ "ORDER BY c.id", Comment.class)
+			.setParameter("newsId", newsId)
+			.setParameter("afterId", afterId)
+			.setMaxResults(limit)
+			.getResultList();
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public List<Long> allocateIds(final int count) {
+		final List<Number> ids = entityManager.createNativeQuery(
+				"SELECT NEXT VALUE FOR comment_id_seq FROM SYSTEM_RANGE(1, :count)")
+			.setParameter("count", count)
+			.getResultList();
+		return ids.stream().map(Number::longValue).toList();
+	}
+
+	@Override
+	public void createAll(final Collection<Comment> comments) {
+		if (comments.isEmpty()) {
+			return;
+		}
+		final var transactionDefinition = new DefaultTransactionDefinition();
+		final var transactionStatus = transactionManager.getTransaction(transactionDefinition);
+		try {
+			entityManager.unwrap(Session.class).doWork(connection -> {
+				try (PreparedStatement statement = connection.prepareStatement("INSERT INTO Comment "
+					+ "(commentId, comment_content, news_id, comment_create_date, comment_last_update_date) "
+					+ "VALUES (?, ?, ?, ?, ?)")) {
+					for (final Comment comment : comments) {
+						statement.setLong(1, comment.getId());
+						statement.setString(2, comment.getContent());
+						statement.setLong(3, comment.getNews().getId());
+						statement.setTimestamp(4, Timestamp.valueOf(comment.getCreateDate()));
+						statement.setTimestamp(5, Timestamp.valueOf(comment.getLastUpdateDate()));
+						statement.addBatch();
+					}
+					statement.executeBatch();
+				}
+			});
+			transactionManager.commit(transactionStatus);
+		} catch (final Exception e) {
+			transactionManager.rollback(transactionStatus);
+			throw e;
+		}
+	}
+}
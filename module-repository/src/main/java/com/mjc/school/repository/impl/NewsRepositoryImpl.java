@@ -5,19 +5,33 @@ import com.mjc.school.repository.model.Author;
 import com.mjc.school.repository.model.News;
 import com.mjc.school.repository.model.Tag;
 import com.mjc.school.repository.query.NewsSearchQueryParams;
+import org.hibernate.Session;
+import org.hibernate.query.NativeQuery;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.DefaultTransactionDefinition;
 
 import javax.persistence.criteria.CriteriaBuilder;
 import javax.persistence.criteria.CriteriaQuery;
 import javax.persistence.criteria.Join;
 import javax.persistence.criteria.Predicate;
 import javax.persistence.criteria.Root;
+import java.sql.PreparedStatement;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 @Repository
 public class NewsRepositoryImpl extends AbstractRepository<News, Long> implements NewsRepository {
 
+	private static final String INSERT_IF_ABSENT = "SELECT news_id FROM FINAL TABLE (INSERT INTO News "
+		+ "(news_title, news_content, news_create_date, news_last_update_date, author_id) "
+		+ "SELECT CAST(:title AS VARCHAR(255)), CAST(:content AS VARCHAR(255)), CAST(:now AS TIMESTAMP), "
+		+ "CAST(:now AS TIMESTAMP), CAST(:authorId AS BIGINT) "
+		+ "WHERE NOT EXISTS (SELECT 1 FROM News WHERE news_title = :title))";
+
 	@Override
 	public List<News> readByParams(final NewsSearchQueryParams searchParams) {
 		CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
@@ -53,4 +67,98 @@ public class NewsRepositoryImpl extends AbstractRepository<News, Long> implement
 
 		return entityManager.createQuery(query).getResultList();
 	}
-}
\ No newline at end of file
+
+	@Override
+	public Optional<News> readNewsWithAuthorAndTags(final Long newsId) {
+		if (newsId != null) {
+			final String query = "SELECT DISTINCT n FROM News AS n JOIN FETCH n.author " +
+				"LEFT JOIN FETCH n.tags WHERE n.id = :newsId";
+			return entityManager.createQuery(query, News.class)
+				.setParameter("newsId", newsId)
+				.getResultList()
+				.stream()
+				.findFirst();
+		}
+		return Optional.empty();
+	}
+
+	/**
+	 * Inserts the news row with one statement that checks the title, then links all its tags with
+	 * one set-based insert. The dates are set here, as the auditing listener would on persist.
+	 */
+	@Override
+	public Optional<News> createIfAbsent(final News news) {
+		return createIfAbsent(news, entity -> {
+			final LocalDateTime now = LocalDateTime.now();
+			entity.setCreateDate(now);
+			entity.setLastUpdateDate(now);
+			final Map<String, Object> parameters = new HashMap<>();
+			parameters.put("title", entity.getTitle());
+			parameters.put("content", entity.getContent());
+			parameters.put("now", now);
+			parameters.put("authorId", entity.getAuthor() == null ? null : entity.getAuthor().getId());
+			final Optional<Long> id = insertIfAbsent(INSERT_IF_ABSENT, "News", parameters);
+			if (id.isPresent() && entity.getTags() != null && !entity.getTags().isEmpty()) {
+				entityManager.createNativeQuery("INSERT INTO News_tags (news_id, tag_id) "
+						+ "SELECT :newsId, tag_id FROM Tag WHERE tag_id IN (:tagIds)")
+					.unwrap(NativeQuery.class)
+					.addSynchronizedQuerySpace("News_tags")
+					.setParameter("newsId", id.get())
+					.setParameterList("tagIds", entity.getTags().stream().map(Tag::getId).toList())
+					.executeUpdate();
+			}
+			return id;
+		});
+	}
+
+	@Override
+	public List<News> readAllWithAuthorAndTags() {
+		return entityManager.createQuery("SELECT DISTINCT n FROM News AS n JOIN FETCH n.author "
+				+ "LEFT JOIN FETCH n.tags ORDER BY n.id", News.class)
+			.getResultList();
+	}
+
+	@Override
+	public boolean adjustCommentCount(final Long newsId, final long delta) {
+		final var transactionDefinition = new DefaultTransactionDefinition();
+		final var transactionStatus = transactionManager.getTransaction(transactionDefinition);
+		try {
+			final int updated = entityManager.createQuery("UPDATE News AS n "
+					+ "SET n.commentCount = n.commentCount + :delta WHERE n.id = :newsId")
+				.setParameter("delta", delta)
+				.setParameter("newsId", newsId)
+				.executeUpdate();
+			transactionManager.commit(transactionStatus);
+			return updated == 1;
+		} catch (final Exception e) {
+			transactionManager.rollback(transactionStatus);
+			throw e;
+		}
+	}
+
+	@Override
+	public void adjustCommentCounts(final Map<Long, Long> deltas) {
+		if (deltas.isEmpty()) {
+			return;
+		}
+		final var transactionDefinition = new DefaultTransactionDefinition();
+		final var transactionStatus = transactionManager.getTransaction(transactionDefinition);
+		try {
+			entityManager.unwrap(Session.class).doWork(connection -> {
+				try (PreparedStatement statement = connection.prepareStatement("UPDATE News "
+					+ "SET news_comment_count = news_comment_count + ? WHERE news_id = ?")) {
+					for (final Map.Entry<Long, Long> delta : deltas.entrySet()) {
+						statement.setLong(1, delta.getValue());
+						statement.setLong(2, delta.getKey());
+						statement.addBatch();
+					}
+					statement.executeBatch();
+				}
+			});
+			transactionManager.commit(transactionStatus);
+		} catch (final Exception e) {
+			transactionManager.rollback(transactionStatus);
+			throw e;
+		}
+	}
+}
@@ -0,0 +1,66 @@
+package com.mjc.school.repository.impl;
+
+import com.mjc.school.repository.OutboxRepository;
+import com.mjc.school.repository.model.OutboxMessage;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.DefaultTransactionDefinition;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public class OutboxRepositoryImpl extends AbstractRepository<OutboxMessage, Long> implements OutboxRepository {
+
+	@Override
+	public List<OutboxMessage> readBatch(final int limit, final int maxAttempts) {
+		return entityManager.createQuery("SELECT o FROM OutboxMessage AS o "
+				+ "WHERE o.attempts < :maxAttempts ORDER BY o.id", OutboxMessage.class)
+			.setParameter("maxAttempts", maxAttempts)
+			.setMaxResults(limit)
+			.getResultList();
+	}
+
+	@Override
+	public int deleteByIds(final Collection<Long> ids) {
+		return executeUpdate("DELETE FROM OutboxMessage AS o WHERE o.id IN :ids", ids);
+	}
+
+	@Override
+	public int incrementAttempts(final Collection<Long> ids) {
+		return executeUpdate("UPDATE OutboxMessage AS o SET o.attempts = o.attempts + 1 WHERE o.id IN :ids", ids);
+	}
+
+	@Override
+	public long countPending(final int maxAttempts) {
+		return entityManager.createQuery("SELECT COUNT(o) FROM OutboxMessage AS o "
+				+ "WHERE o.attempts < :maxAttempts", Long.class)
+			.setParameter("maxAttempts", maxAttempts)
+			.getSingleResult();
+	}
+
+	@Override
+	public long countParked(final int maxAttempts) {
+		return entityManager.createQuery("SELECT COUNT(o) FROM OutboxMessage AS o "
+				+ "WHERE o.attempts >= :maxAttempts", Long.class)
+			.setParameter("maxAttempts", maxAttempts)
+			.getSingleResult();
+	}
+
+	private int executeUpdate(final String query, final Collection<Long> ids) {
+		if (ids.isEmpty()) {
+			return 0;
+		}
+		final var transactionDefinition = new DefaultTransactionDefinition();
+		final var transactionStatus = transactionManager.getTransaction(transactionDefinition);
+		try {
+			final int updated = entityManager.createQuery(query)
+				.setParameter("ids", ids)
+				.executeUpdate();
+			transactionManager.commit(transactionStatus);
+			return updated;
+		} catch (final Exception e) {
+			transactionManager.rollback(transactionStatus);
+			throw e;
+		}
+	}
+}
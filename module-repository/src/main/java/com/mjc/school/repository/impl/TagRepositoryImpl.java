@@ -2,15 +2,22 @@ package com.mjc.school.repository.impl;
 
 import com.mjc.school.repository.TagRepository;
 import com.mjc.school.repository.model.Tag;
+import org.hibernate.query.NativeQuery;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.DefaultTransactionDefinition;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 @Repository
 @SuppressWarnings("unchecked")
 public class TagRepositoryImpl extends AbstractRepository<Tag, Long> implements TagRepository {
 
+	private static final String INSERT_IF_ABSENT = "SELECT tag_id FROM FINAL TABLE (INSERT INTO Tag (tag_name) "
+		+ "SELECT CAST(:name AS VARCHAR(255)) WHERE NOT EXISTS (SELECT 1 FROM Tag WHERE tag_name = :name))";
+
 	@Override
 	public List<Tag> readTagsByNewsId(final Long newsId) {
 		if (newsId != null) {
@@ -21,4 +28,40 @@ public class TagRepositoryImpl extends AbstractRepository<Tag, Long> implements
 		}
 		return Collections.emptyList();
 	}
-}
\ No newline at end of file
+
+	@Override
+	public Optional<Tag> createIfAbsent(final Tag tag) {
+		return createIfAbsent(tag, entity ->
+			insertIfAbsent(INSERT_IF_ABSENT, "Tag", Map.of("name", entity.getName())));
+	}
+
+	/**
+	 * Unlinks the tag from all news with one set-based delete on the join table and removes the
+	 * tag in the same transaction. The native delete is bound to the News_tags query space, so
+	 * Hibernate evicts only the cached news tag collections instead of every cache region.
+	 */
+	@Override
+	public boolean deleteById(final Long id) {
+		final var transactionDefinition = new DefaultTransactionDefinition();
+		final var transactionStatus = transactionManager.getTransaction(transactionDefinition);
+		final Optional<Tag> tag = readById(id);
+		if (tag.isPresent()) {
+			try {
+				entityManager.createNativeQuery("DELETE FROM News_tags WHERE tag_id = :tagId")
+					.unwrap(NativeQuery.class)
+					.addSynchronizedQuerySpace("News_tags")
+					.setParameter("tagId", id)
+					.executeUpdate();
+				entityManager.remove(tag.get());
+				entityManager.flush();
+				transactionManager.commit(transactionStatus);
+				return true;
+			} catch (final Exception e) {
+				transactionManager.rollback(transactionStatus);
+				throw e;
+			}
+		}
+		transactionManager.rollback(transactionStatus);
+		return false;
+	}
+}
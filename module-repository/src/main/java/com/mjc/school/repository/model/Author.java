@@ -35,7 +35,7 @@ public class Author implements BaseEntity<Long> {
 	@LastModifiedDate
 	@Column(name = "author_last_update_date", nullable = false)
 	private LocalDateTime lastUpdateDate;
-	@OneToMany(fetch = FetchType.EAGER, mappedBy = "author", cascade = CascadeType.REMOVE)
+	@OneToMany(fetch = FetchType.LAZY, mappedBy = "author", cascade = CascadeType.REMOVE)
 	private List<News> news;
 
 	public Author() {
@@ -102,7 +102,6 @@ public class Author implements BaseEntity<Long> {
 			", name='" + name + '\'' +
 			", createDate=" + createDate +
 			", lastUpdateDate=" + lastUpdateDate +
-			", news=" + news +
 			'}';
 	}
 
@@ -10,19 +10,26 @@ import javax.persistence.EntityListeners;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Index;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
+import javax.persistence.SequenceGenerator;
 import javax.persistence.Table;
 import java.time.LocalDateTime;
 import java.util.Objects;
 
 @Entity
-@Table(name = "Comment")
+@Table(name = "Comment", indexes = @Index(name = "idx_comment_news_id", columnList = "news_id, commentId"))
 @EntityListeners(AuditingEntityListener.class)
 public class Comment implements BaseEntity<Long> {
 
+	/**
+	 * Taken from a sequence rather than an identity column so that comment ingestion can hand out
+	 * ids before the rows are written; see {@code CommentRepository.allocateIds}.
+	 */
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "comment_id_seq")
+	@SequenceGenerator(name = "comment_id_seq", sequenceName = "comment_id_seq", allocationSize = 1)
 	@Column(name = "commentId")
 	private Long id;
 	@Column(name = "comment_content", nullable = false)
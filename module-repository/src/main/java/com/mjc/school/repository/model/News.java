@@ -52,6 +52,13 @@ public class News implements BaseEntity<Long> {
 	private List<Tag> tags = new ArrayList<>();
 	@OneToMany(mappedBy = "news", cascade = CascadeType.REMOVE)
 	private List<Comment> comments = new ArrayList<>();
+	/**
+	 * Maintained by {@code NewsRepository.adjustCommentCount} with an atomic update, never
+	 * written from the entity state, so a stale news instance can not overwrite it.
+	 */
+	@Column(name = "news_comment_count", insertable = false, updatable = false,
+		columnDefinition = "BIGINT DEFAULT 0 NOT NULL")
+	private long commentCount;
 
 	public News() {
 		// Empty. Used by JPA
@@ -143,6 +150,14 @@ public class News implements BaseEntity<Long> {
 		this.comments = comments;
 	}
 
+	public long getCommentCount() {
+		return commentCount;
+	}
+
+	public void setCommentCount(final long commentCount) {
+		this.commentCount = commentCount;
+	}
+
 	@Override
 	public String toString() {
 		return "News{id=" + id +
@@ -152,7 +167,7 @@ public class News implements BaseEntity<Long> {
 			", lastUpdateDate=" + lastUpdateDate +
 			", author=" + author.toString() +
 			", tags=" + tags.toString() +
-			", comments=" + comments.toString() +
+			", commentCount=" + commentCount +
 			'}';
 	}
 
@@ -0,0 +1,117 @@
+package com.mjc.school.repository.model;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Lob;
+import javax.persistence.Table;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * A domain event stored in the same transaction as the change that raised it, waiting to be
+ * delivered to in-process subscribers.
+ */
+@Entity
+@Table(name = "Outbox")
+public class OutboxMessage implements BaseEntity<Long> {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@Column(name = "outbox_id")
+	private Long id;
+	@Column(name = "outbox_aggregate_type", nullable = false)
+	private String aggregateType;
+	@Column(name = "outbox_aggregate_id", nullable = false)
+	private Long aggregateId;
+	@Column(name = "outbox_event_type", nullable = false)
+	private String eventType;
+	@Lob
+	@Column(name = "outbox_payload", nullable = false)
+	private String payload;
+	@Column(name = "outbox_created_at", nullable = false)
+	private LocalDateTime createdAt;
+	@Column(name = "outbox_attempts", nullable = false)
+	private int attempts;
+
+	public OutboxMessage() {
+		// Empty. Used by JPA
+	}
+
+	public OutboxMessage(
+		final String aggregateType,
+		final Long aggregateId,
+		final String eventType,
+		final String payload,
+		final LocalDateTime createdAt
+	) {
+		this.aggregateType = aggregateType;
+		this.aggregateId = aggregateId;
+		this.eventType = eventType;
+		this.payload = payload;
+		this.createdAt = createdAt;
+	}
+
+	@Override
+	public Long getId() {
+		return id;
+	}
+
+	@Override
+	public void setId(final Long id) {
+		this.id = id;
+	}
+
+	public String getAggregateType() {
+		return aggregateType;
+	}
+
+	public Long getAggregateId() {
+		return aggregateId;
+	}
+
+	public String getEventType() {
+		return eventType;
+	}
+
+	public String getPayload() {
+		return payload;
+	}
+
+	public LocalDateTime getCreatedAt() {
+		return createdAt;
+	}
+
+	public int getAttempts() {
+		return attempts;
+	}
+
+	@Override
+	public String toString() {
+		return "OutboxMessage{id=" + id +
+			", aggregateType='" + aggregateType + '\'' +
+			", aggregateId=" + aggregateId +
+			", eventType='" + eventType + '\'' +
+			", attempts=" + attempts +
+			'}';
+	}
+
+	@Override
+	public boolean equals(final Object o) {
+		if (this == o) {
+			return true;
+		}
+		if (o == null || getClass() != o.getClass()) {
+			return false;
+		}
+		final OutboxMessage message = (OutboxMessage) o;
+		return Objects.equals(id, message.id);
+	}
+
+	@Override
+	public int hashCode() {
+		return 31;
+	}
+}
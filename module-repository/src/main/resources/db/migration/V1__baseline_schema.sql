@@ -0,0 +1,57 @@
+-- Schema as previously generated by hibernate.hbm2ddl.auto=update
+
+CREATE TABLE author (
+    author_id               BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    author_name             VARCHAR(255) NOT NULL,
+    author_create_date      TIMESTAMP    NOT NULL,
+    author_last_update_date TIMESTAMP    NOT NULL,
+    CONSTRAINT uk_author_name UNIQUE (author_name)
+);
+
+CREATE TABLE tag (
+    tag_id   BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    tag_name VARCHAR(255),
+    CONSTRAINT uk_tag_name UNIQUE (tag_name)
+);
+
+CREATE TABLE news (
+    news_id               BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    news_title            VARCHAR(255) NOT NULL,
+    news_content          VARCHAR(255) NOT NULL,
+    news_create_date      TIMESTAMP    NOT NULL,
+    news_last_update_date TIMESTAMP    NOT NULL,
+    news_comment_count    BIGINT       DEFAULT 0 NOT NULL,
+    author_id             BIGINT,
+    CONSTRAINT uk_news_title UNIQUE (news_title),
+    CONSTRAINT fk_news_author FOREIGN KEY (author_id) REFERENCES author (author_id)
+);
+
+CREATE TABLE news_tags (
+    news_id BIGINT NOT NULL,
+    tag_id  BIGINT NOT NULL,
+    CONSTRAINT fk_news_tags_news FOREIGN KEY (news_id) REFERENCES news (news_id),
+    CONSTRAINT fk_news_tags_tag FOREIGN KEY (tag_id) REFERENCES tag (tag_id)
+);
+
+CREATE SEQUENCE comment_id_seq START WITH 1;
+
+CREATE TABLE comment (
+    commentId                BIGINT       NOT NULL PRIMARY KEY,
+    comment_content          VARCHAR(255) NOT NULL,
+    comment_create_date      TIMESTAMP    NOT NULL,
+    comment_last_update_date TIMESTAMP    NOT NULL,
+    news_id                  BIGINT,
+    CONSTRAINT fk_comment_news FOREIGN KEY (news_id) REFERENCES news (news_id)
+);
+
+CREATE INDEX idx_comment_news_id ON comment (news_id, commentId);
+
+CREATE TABLE outbox (
+    outbox_id             BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    outbox_aggregate_type VARCHAR(255) NOT NULL,
+    outbox_aggregate_id   BIGINT       NOT NULL,
+    outbox_event_type     VARCHAR(255) NOT NULL,
+    outbox_payload        CLOB         NOT NULL,
+    outbox_created_at     TIMESTAMP    NOT NULL,
+    outbox_attempts       INTEGER      NOT NULL
+);
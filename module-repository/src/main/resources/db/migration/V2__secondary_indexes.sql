@@ -0,0 +1,19 @@
+-- Secondary indexes for foreign keys, listing sorts and the outbox poll. Comment lookups by news
+-- are already covered by idx_comment_news_id (news_id, commentId) from V1.
+-- H2 only walks an index in its declared direction, so the date indexes are descending to serve
+-- the newest-first listings; an ascending date sort still has to sort the page itself.
+
+CREATE INDEX idx_news_author_create_date ON news (author_id, news_create_date DESC);
+CREATE INDEX idx_news_create_date ON news (news_create_date DESC);
+CREATE INDEX idx_news_last_update_date ON news (news_last_update_date DESC);
+
+CREATE INDEX idx_news_tags_tag_news ON news_tags (tag_id, news_id);
+CREATE INDEX idx_news_tags_news_tag ON news_tags (news_id, tag_id);
+
+CREATE INDEX idx_author_create_date ON author (author_create_date DESC);
+CREATE INDEX idx_author_last_update_date ON author (author_last_update_date DESC);
+
+CREATE INDEX idx_comment_create_date ON comment (comment_create_date DESC);
+CREATE INDEX idx_comment_last_update_date ON comment (comment_last_update_date DESC);
+
+CREATE INDEX idx_outbox_attempts ON outbox (outbox_attempts, outbox_id);
@@ -0,0 +1,27 @@
+package com.mjc.school.repository.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.type.filter.AnnotationTypeFilter;
+
+import javax.persistence.Entity;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class EntityIndexTest {
+
+	@Test
+	void entityClasses_shouldMatchScannedModelPackage_whenEntityIsAddedOrRemoved() {
+		final ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false);
+		scanner.addIncludeFilter(new AnnotationTypeFilter(Entity.class));
+
+		final Set<String> scanned = scanner.findCandidateComponents("com.mjc.school.repository").stream()
+			.map(BeanDefinition::getBeanClassName)
+			.collect(Collectors.toSet());
+
+		assertEquals(scanned, RepositoryConfig.ENTITY_CLASSES.stream().map(Class::getName).collect(Collectors.toSet()));
+	}
+}
@@ -0,0 +1,38 @@
+package com.mjc.school.repository.config;
+
+import com.mjc.school.repository.RepositoryTestConfig;
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.MigrationInfo;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Starts Hibernate with schema validation against a database built only from the migrations,
+ * so a mapping change without a matching migration fails here.
+ */
+@ExtendWith(SpringExtension.class)
+@ContextConfiguration(classes = {RepositoryTestConfig.class})
+@TestPropertySource(properties = {
+	"news.datasource.name=migrationdb",
+	"news.jpa.ddl-auto=validate"
+})
+class SchemaMigrationTest {
+
+	@Autowired
+	private Flyway flyway;
+
+	@Test
+	void migrate_shouldLeaveNothingPending_whenContextStarts() {
+		final MigrationInfo current = flyway.info().current();
+
+		assertEquals("2", current.getVersion().getVersion());
+		assertEquals(0, flyway.info().pending().length);
+		assertEquals(0, flyway.migrate().migrationsExecuted);
+	}
+}
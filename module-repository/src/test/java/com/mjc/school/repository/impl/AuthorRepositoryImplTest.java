@@ -1,8 +1,15 @@
 package com.mjc.school.repository.impl;
 
+import com.mjc.school.repository.AuthorDeletionListener;
 import com.mjc.school.repository.AuthorRepository;
+import com.mjc.school.repository.CommentRepository;
+import com.mjc.school.repository.NewsRepository;
 import com.mjc.school.repository.RepositoryTestConfig;
+import com.mjc.school.repository.TagRepository;
 import com.mjc.school.repository.model.Author;
+import com.mjc.school.repository.model.Comment;
+import com.mjc.school.repository.model.News;
+import com.mjc.school.repository.model.Tag;
 import com.mjc.school.repository.util.Util;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -12,6 +19,7 @@ import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.jdbc.Sql;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -29,6 +37,12 @@ class AuthorRepositoryImplTest {
 
 	@Autowired
 	private AuthorRepository repository;
+	@Autowired
+	private NewsRepository newsRepository;
+	@Autowired
+	private CommentRepository commentRepository;
+	@Autowired
+	private TagRepository tagRepository;
 
 	@Nested
 	@Sql(executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD,
@@ -120,6 +134,38 @@ class AuthorRepositoryImplTest {
 		}
 	}
 
+	@Nested
+	@Sql(executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD,
+		scripts = {"classpath:truncate_db.sql"})
+	class TestCreateIfAbsent {
+
+		@Test
+		void createIfAbsent_shouldSaveEntityWithDates_whenNameIsFree() {
+			final Author author = new Author(null, Util.createTestAuthor(null).getName(), null, null);
+
+			final Optional<Author> result = repository.createIfAbsent(author);
+
+			assertTrue(result.isPresent());
+			final Author saved = repository.readById(result.get().getId()).orElseThrow();
+			assertEquals(author.getName(), saved.getName());
+			assertNotNull(saved.getCreateDate());
+			assertNotNull(saved.getLastUpdateDate());
+		}
+
+		@Test
+		void createIfAbsent_shouldReturnEmptyAndKeepStorage_whenNameIsTaken() {
+			final Author existing = repository.create(Util.createTestAuthor(null));
+
+			final Optional<Author> result = repository.createIfAbsent(Util.createTestAuthor(null));
+			final Optional<Author> duplicate = repository.createIfAbsent(
+				new Author(null, existing.getName(), null, null));
+
+			assertTrue(result.isPresent());
+			assertEquals(Optional.empty(), duplicate);
+			assertEquals(2, repository.readAll().size());
+		}
+	}
+
 	@Nested
 	@Sql(executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD,
 		scripts = {"classpath:truncate_db.sql"})
@@ -255,4 +301,70 @@ class AuthorRepositoryImplTest {
 			assertTrue(repository.existById(2L));
 		}
 	}
-}
\ No newline at end of file
+
+	@Nested
+	@Sql(executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD,
+		scripts = {"classpath:truncate_db.sql"})
+	class TestDeleteWithNews {
+
+		@Test
+		void deleteWithNews_shouldReturnFalse_whenThereIsNoEntityWithGivenId() {
+			final List<int[]> batches = new ArrayList<>();
+
+			assertFalse(repository.deleteWithNews(99L, 2, recordingListener(batches)));
+			assertTrue(batches.isEmpty());
+		}
+
+		@Test
+		void deleteWithNews_shouldDeleteNewsCommentsAndTagLinksInBatches_whenAuthorHasNews() {
+			final Author deleted = repository.create(Util.createTestAuthor(null));
+			final Author kept = repository.create(Util.createTestAuthor(null));
+			final Tag tag = tagRepository.create(Util.createTestTag(null));
+			for (int i = 0; i < 3; i++) {
+				createNewsWithComment(deleted, tag);
+			}
+			final News keptNews = createNewsWithComment(kept, tag);
+			final List<int[]> batches = new ArrayList<>();
+
+			assertTrue(repository.deleteWithNews(deleted.getId(), 2, recordingListener(batches)));
+
+			assertFalse(repository.existById(deleted.getId()));
+			assertTrue(repository.existById(kept.getId()));
+			assertEquals(List.of(keptNews.getId()), newsRepository.readAll().stream().map(News::getId).toList());
+			assertEquals(1, commentRepository.readAll().size());
+			assertEquals(1, newsRepository.readNewsWithAuthorAndTags(keptNews.getId()).orElseThrow().getTags().size());
+			assertEquals(2, batches.size());
+			assertEquals(3, batches.stream().mapToInt(batch -> batch[0]).sum());
+			assertEquals(3, batches.stream().mapToInt(batch -> batch[1]).sum());
+			assertEquals(3, batches.stream().mapToInt(batch -> batch[2]).sum());
+		}
+
+		private News createNewsWithComment(final Author author, final Tag tag) {
+			final News news = Util.createTestNews(null);
+			news.setAuthor(author);
+			news.setTags(new ArrayList<>(List.of(tag)));
+			newsRepository.create(news);
+			commentRepository.create(new Comment(null, "Comment", news, null, null));
+			return news;
+		}
+
+		private AuthorDeletionListener recordingListener(final List<int[]> batches) {
+			return new AuthorDeletionListener() {
+				@Override
+				public void onStart(final Long authorId, final int newsTotal) {
+					assertEquals(3, newsTotal);
+				}
+
+				@Override
+				public void onBatchDeleted(
+					final Long authorId,
+					final int newsDeleted,
+					final int commentsDeleted,
+					final int tagLinksDeleted
+				) {
+					batches.add(new int[]{newsDeleted, commentsDeleted, tagLinksDeleted});
+				}
+			};
+		}
+	}
+}
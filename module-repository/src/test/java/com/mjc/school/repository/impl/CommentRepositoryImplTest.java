@@ -0,0 +1,139 @@
+package com.mjc.school.repository.impl;
+
+import com.mjc.school.repository.AuthorRepository;
+import com.mjc.school.repository.CommentRepository;
+import com.mjc.school.repository.NewsRepository;
+import com.mjc.school.repository.RepositoryTestConfig;
+import com.mjc.school.repository.model.Author;
+import com.mjc.school.repository.model.Comment;
+import com.mjc.school.repository.model.News;
+import com.mjc.school.repository.util.Util;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@ExtendWith(SpringExtension.class)
+@ContextConfiguration(classes = {RepositoryTestConfig.class})
+@Sql(executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD,
+	scripts = {"classpath:truncate_db.sql"})
+class CommentRepositoryImplTest {
+
+	@Autowired
+	private CommentRepository repository;
+	@Autowired
+	private NewsRepository newsRepository;
+	@Autowired
+	private AuthorRepository authorRepository;
+	private News news;
+	private News otherNews;
+
+	@BeforeEach
+	void setUp() {
+		final Author author = authorRepository.create(Util.createTestAuthor(null));
+		news = Util.createTestNews(null);
+		news.setAuthor(author);
+		newsRepository.create(news);
+		otherNews = Util.createTestNews(null);
+		otherNews.setAuthor(author);
+		newsRepository.create(otherNews);
+		for (int i = 0; i < 5; i++) {
+			repository.create(new Comment(null, "Comment " + i, news, null, null));
+			repository.create(new Comment(null, "Other comment " + i, otherNews, null, null));
+		}
+	}
+
+	@Nested
+	class TestReadCommentsByNewsId {
+
+		@Test
+		void readCommentsByNewsId_shouldReturnRequestedPageOfNewsComments_whenLimitAndOffsetSupplied() {
+			final List<Comment> result = repository.readCommentsByNewsId(news.getId(), 2, 1);
+
+			assertEquals(List.of("Comment 1", "Comment 2"), result.stream().map(Comment::getContent).toList());
+		}
+	}
+
+	@Nested
+	class TestReadCommentsByNewsIdAfter {
+
+		@Test
+		void readCommentsByNewsIdAfter_shouldWalkAllNewsComments_whenCursorIsFollowed() {
+			final List<Comment> first = repository.readCommentsByNewsIdAfter(news.getId(), 0L, 3);
+			final Long cursor = first.get(first.size() - 1).getId();
+			final List<Comment> second = repository.readCommentsByNewsIdAfter(news.getId(), cursor, 3);
+
+			assertEquals(3, first.size());
+			assertEquals(2, second.size());
+			assertTrue(second.stream().allMatch(comment -> comment.getId() > cursor));
+			assertEquals("Comment 4", second.get(1).getContent());
+		}
+	}
+
+	@Nested
+	class TestAdjustCommentCount {
+
+		@Test
+		void adjustCommentCount_shouldChangeStoredCount_whenNewsExists() {
+			assertTrue(newsRepository.adjustCommentCount(news.getId(), 5));
+			assertTrue(newsRepository.adjustCommentCount(news.getId(), -1));
+
+			assertEquals(4L, newsRepository.readById(news.getId()).orElseThrow().getCommentCount());
+			assertEquals(0L, newsRepository.readById(otherNews.getId()).orElseThrow().getCommentCount());
+		}
+
+		@Test
+		void adjustCommentCount_shouldReturnFalse_whenNewsDoesNotExist() {
+			assertFalse(newsRepository.adjustCommentCount(99L, 1));
+		}
+
+		@Test
+		void adjustCommentCounts_shouldApplyEveryDelta_whenSeveralNewsAreGiven() {
+			newsRepository.adjustCommentCounts(Map.of(news.getId(), 3L, otherNews.getId(), 2L));
+
+			assertEquals(3L, newsRepository.readById(news.getId()).orElseThrow().getCommentCount());
+			assertEquals(2L, newsRepository.readById(otherNews.getId()).orElseThrow().getCommentCount());
+		}
+	}
+
+	@Nested
+	class TestCreateAll {
+
+		@Test
+		void allocateIds_shouldReturnDistinctIdsAfterExistingComments_whenCalledTwice() {
+			final List<Long> first = repository.allocateIds(3);
+			final List<Long> second = repository.allocateIds(2);
+
+			assertEquals(List.of(11L, 12L, 13L), first);
+			assertEquals(List.of(14L, 15L), second);
+		}
+
+		@Test
+		void createAll_shouldInsertCommentsWithAllocatedIds_whenBatchIsSupplied() {
+			final List<Long> ids = repository.allocateIds(2);
+			final LocalDateTime now = LocalDateTime.now();
+
+			repository.createAll(List.of(
+				new Comment(ids.get(0), "Batched 0", news, now, now),
+				new Comment(ids.get(1), "Batched 1", otherNews, now, now)
+			));
+			final Comment created = repository.create(new Comment(null, "After batch", news, null, null));
+
+			assertEquals("Batched 0", repository.readById(ids.get(0)).orElseThrow().getContent());
+			assertEquals(otherNews.getId(), repository.readById(ids.get(1)).orElseThrow().getNews().getId());
+			assertTrue(created.getId() > ids.get(1));
+		}
+	}
+}
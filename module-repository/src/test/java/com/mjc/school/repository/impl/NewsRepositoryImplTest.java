@@ -1,8 +1,12 @@
 package com.mjc.school.repository.impl;
 
+import com.mjc.school.repository.AuthorRepository;
 import com.mjc.school.repository.NewsRepository;
 import com.mjc.school.repository.RepositoryTestConfig;
+import com.mjc.school.repository.TagRepository;
+import com.mjc.school.repository.model.Author;
 import com.mjc.school.repository.model.News;
+import com.mjc.school.repository.model.Tag;
 import com.mjc.school.repository.util.Util;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -15,8 +19,12 @@ import org.springframework.test.context.junit.jupiter.SpringExtension;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -30,6 +38,10 @@ class NewsRepositoryImplTest {
 
 	@Autowired
 	private NewsRepository repository;
+	@Autowired
+	private AuthorRepository authorRepository;
+	@Autowired
+	private TagRepository tagRepository;
 
 	@Nested
 	@Sql(executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD,
@@ -87,6 +99,109 @@ class NewsRepositoryImplTest {
 		}
 	}
 
+	@Nested
+	@Sql(executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD,
+		scripts = {"classpath:truncate_db.sql"})
+	class TestReadNewsWithAuthorAndTags {
+
+		@Test
+		void readNewsWithAuthorAndTags_shouldReturnEmptyOptional_whenThereIsNoEntityWithGivenId() {
+			assertEquals(Optional.empty(), repository.readNewsWithAuthorAndTags(1L));
+		}
+
+		@Test
+		void readNewsWithAuthorAndTags_shouldReturnInitializedAssociations_whenEntityWithGivenIdExists() {
+			final Author author = authorRepository.create(Util.createTestAuthor(null));
+			final Tag first = tagRepository.create(Util.createTestTag(null));
+			final Tag second = tagRepository.create(Util.createTestTag(null));
+			final News news = Util.createTestNews(null);
+			news.setAuthor(author);
+			news.setTags(new ArrayList<>(Arrays.asList(first, second)));
+			repository.create(news);
+
+			final Optional<News> result = repository.readNewsWithAuthorAndTags(1L);
+
+			assertTrue(result.isPresent());
+			assertEquals(author.getName(), result.get().getAuthor().getName());
+			assertEquals(2, result.get().getTags().size());
+		}
+
+		@Test
+		void readAllWithAuthorAndTags_shouldReturnEachNewsOnceWithAssociations_whenNewsHaveSeveralTags() {
+			final Author author = authorRepository.create(Util.createTestAuthor(null));
+			final Tag first = tagRepository.create(Util.createTestTag(null));
+			final Tag second = tagRepository.create(Util.createTestTag(null));
+			final News tagged = Util.createTestNews(null);
+			tagged.setAuthor(author);
+			tagged.setTags(new ArrayList<>(Arrays.asList(first, second)));
+			repository.create(tagged);
+			final News untagged = Util.createTestNews(null);
+			untagged.setAuthor(author);
+			repository.create(untagged);
+
+			final List<News> result = repository.readAllWithAuthorAndTags();
+
+			assertEquals(List.of(tagged.getId(), untagged.getId()), result.stream().map(News::getId).toList());
+			assertEquals(author.getName(), result.get(1).getAuthor().getName());
+			assertEquals(2, result.get(0).getTags().size());
+			assertTrue(result.get(1).getTags().isEmpty());
+		}
+	}
+
+	@Nested
+	@Sql(executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD,
+		scripts = {"classpath:truncate_db.sql"})
+	class TestReadSelection {
+
+		@Test
+		void readAll_shouldReturnOnlySelectedAttributes_whenSelectionIsSupplied() {
+			final Author author = authorRepository.create(Util.createTestAuthor(null));
+			final Tag tag = tagRepository.create(Util.createTestTag(null));
+			final News first = Util.createTestNews(null);
+			first.setAuthor(author);
+			first.setTags(new ArrayList<>(List.of(tag)));
+			repository.create(first);
+			final News second = Util.createTestNews(null);
+			second.setAuthor(author);
+			repository.create(second);
+			final Map<String, String> selection = new LinkedHashMap<>();
+			selection.put("id", "id");
+			selection.put("title", "title");
+			selection.put("authorId", "author.id");
+			selection.put("tags", "tags");
+
+			final List<Map<String, Object>> result = repository.readAll(10, 0, "id::asc", selection);
+
+			assertEquals(2, result.size());
+			assertEquals(List.of("id", "title", "authorId", "tags"), new ArrayList<>(result.get(0).keySet()));
+			assertEquals(first.getTitle(), result.get(0).get("title"));
+			assertEquals(author.getId(), result.get(0).get("authorId"));
+			assertEquals(List.of(tag.getId()), result.get(0).get("tags"));
+			assertEquals(Collections.emptyList(), result.get(1).get("tags"));
+		}
+
+		@Test
+		void readById_shouldReturnEmptyOptional_whenThereIsNoEntityWithGivenId() {
+			assertEquals(Optional.empty(), repository.readById(1L, Map.of("title", "title")));
+		}
+
+		@Test
+		void readById_shouldReturnOnlySelectedAttributes_whenEntityWithGivenIdExists() {
+			final News news = Util.createTestNews(null);
+			repository.create(news);
+			final Map<String, String> selection = new LinkedHashMap<>();
+			selection.put("title", "title");
+			selection.put("comments", "comments");
+
+			final Optional<Map<String, Object>> result = repository.readById(1L, selection);
+
+			assertTrue(result.isPresent());
+			assertEquals(news.getTitle(), result.get().get("title"));
+			assertEquals(Collections.emptyList(), result.get().get("comments"));
+			assertEquals(2, result.get().size());
+		}
+	}
+
 	@Nested
 	@Sql(executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD,
 		scripts = {"classpath:truncate_db.sql"})
@@ -124,6 +239,43 @@ class NewsRepositoryImplTest {
 		}
 	}
 
+	@Nested
+	@Sql(executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD,
+		scripts = {"classpath:truncate_db.sql"})
+	class TestCreateIfAbsent {
+
+		@Test
+		void createIfAbsent_shouldSaveEntityWithAuthorAndTags_whenTitleIsFree() {
+			final Author author = authorRepository.create(Util.createTestAuthor(null));
+			final Tag first = tagRepository.create(Util.createTestTag(null));
+			final Tag second = tagRepository.create(Util.createTestTag(null));
+			final News news = Util.createTestNews(null);
+			news.setAuthor(author);
+			news.setTags(new ArrayList<>(List.of(first, second)));
+
+			final Optional<News> result = repository.createIfAbsent(news);
+
+			assertTrue(result.isPresent());
+			final News saved = repository.readNewsWithAuthorAndTags(result.get().getId()).orElseThrow();
+			assertEquals(news.getTitle(), saved.getTitle());
+			assertEquals(author.getId(), saved.getAuthor().getId());
+			assertEquals(Set.of(first.getId(), second.getId()),
+				saved.getTags().stream().map(Tag::getId).collect(Collectors.toSet()));
+		}
+
+		@Test
+		void createIfAbsent_shouldReturnEmptyAndKeepStorage_whenTitleIsTaken() {
+			final News existing = repository.create(Util.createTestNews(null));
+			final News duplicate = Util.createTestNews(null);
+			duplicate.setTitle(existing.getTitle());
+
+			final Optional<News> result = repository.createIfAbsent(duplicate);
+
+			assertEquals(Optional.empty(), result);
+			assertEquals(1, repository.readAll().size());
+		}
+	}
+
 	@Nested
 	@Sql(executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD,
 		scripts = {"classpath:truncate_db.sql"})
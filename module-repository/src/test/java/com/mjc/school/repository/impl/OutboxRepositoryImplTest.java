@@ -0,0 +1,68 @@
+package com.mjc.school.repository.impl;
+
+import com.mjc.school.repository.OutboxRepository;
+import com.mjc.school.repository.RepositoryTestConfig;
+import com.mjc.school.repository.model.OutboxMessage;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@ExtendWith(SpringExtension.class)
+@ContextConfiguration(classes = {RepositoryTestConfig.class})
+@Sql(executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD,
+	scripts = {"classpath:truncate_db.sql"})
+class OutboxRepositoryImplTest {
+
+	@Autowired
+	private OutboxRepository repository;
+
+	private OutboxMessage append(final long aggregateId) {
+		return repository.create(new OutboxMessage("news", aggregateId, "NewsDeletedEvent",
+			"{\"newsId\":" + aggregateId + "}", LocalDateTime.now()));
+	}
+
+	private List<Long> ids(final List<OutboxMessage> messages) {
+		return messages.stream().map(OutboxMessage::getId).toList();
+	}
+
+	@Test
+	void readBatch_shouldReturnOldestMessagesInWriteOrder_whenMoreThanLimitArePending() {
+		final OutboxMessage first = append(3L);
+		final OutboxMessage second = append(1L);
+		append(2L);
+
+		assertEquals(List.of(first.getId(), second.getId()), ids(repository.readBatch(2, 5)));
+	}
+
+	@Test
+	void incrementAttempts_shouldParkMessages_whenMaxAttemptsIsReached() {
+		final OutboxMessage failing = append(1L);
+		final OutboxMessage healthy = append(2L);
+
+		assertEquals(1, repository.incrementAttempts(List.of(failing.getId())));
+		assertEquals(1, repository.incrementAttempts(List.of(failing.getId())));
+
+		assertEquals(List.of(healthy.getId()), ids(repository.readBatch(10, 2)));
+		assertEquals(1, repository.countPending(2));
+		assertEquals(1, repository.countParked(2));
+	}
+
+	@Test
+	void deleteByIds_shouldRemoveOnlyGivenMessages_whenIdsAreSupplied() {
+		final OutboxMessage delivered = append(1L);
+		final OutboxMessage pending = append(2L);
+
+		assertEquals(1, repository.deleteByIds(List.of(delivered.getId())));
+		assertEquals(0, repository.deleteByIds(List.of()));
+
+		assertEquals(List.of(pending.getId()), ids(repository.readBatch(10, 5)));
+	}
+}
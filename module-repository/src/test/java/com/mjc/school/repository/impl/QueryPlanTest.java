@@ -0,0 +1,201 @@
+package com.mjc.school.repository.impl;
+
+import com.mjc.school.repository.AuthorDeletionListener;
+import com.mjc.school.repository.AuthorRepository;
+import com.mjc.school.repository.CommentRepository;
+import com.mjc.school.repository.NewsRepository;
+import com.mjc.school.repository.OutboxRepository;
+import com.mjc.school.repository.RepositoryTestConfig;
+import com.mjc.school.repository.TagRepository;
+import com.mjc.school.repository.model.Author;
+import com.mjc.school.repository.model.Comment;
+import com.mjc.school.repository.model.News;
+import com.mjc.school.repository.model.Tag;
+import com.mjc.school.repository.query.NewsSearchQueryParams;
+import com.mjc.school.repository.util.Util;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs repository queries against the migrated schema, then asks H2 to EXPLAIN every statement it
+ * executed and fails if any of them scans a whole table. Searches by title or content use
+ * {@code LIKE '%...%'}, which no index can serve; they are answered by the news read model.
+ */
+@ExtendWith(SpringExtension.class)
+@ContextConfiguration(classes = {RepositoryTestConfig.class})
+@TestPropertySource(properties = "news.datasource.name=queryplandb")
+@Sql(executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD,
+	scripts = {"classpath:truncate_db.sql"})
+class QueryPlanTest {
+
+	private static final String TABLE_SCAN = ".tableScan";
+
+	@Autowired
+	private DataSource dataSource;
+	@Autowired
+	private AuthorRepository authorRepository;
+	@Autowired
+	private NewsRepository newsRepository;
+	@Autowired
+	private TagRepository tagRepository;
+	@Autowired
+	private CommentRepository commentRepository;
+	@Autowired
+	private OutboxRepository outboxRepository;
+	private Author author;
+	private Tag tag;
+	private News news;
+
+	@BeforeEach
+	void setUp() throws SQLException {
+		author = authorRepository.create(Util.createTestAuthor(null));
+		tag = tagRepository.create(Util.createTestTag(null));
+		news = Util.createTestNews(null);
+		news.setAuthor(author);
+		news.setTags(new ArrayList<>(List.of(tag)));
+		newsRepository.create(news);
+		commentRepository.create(new Comment(null, "Comment", news, null, null));
+		execute("SET QUERY_STATISTICS FALSE");
+		execute("SET QUERY_STATISTICS_MAX_ENTRIES 1000");
+		execute("SET QUERY_STATISTICS TRUE");
+	}
+
+	@Test
+	void readAll_shouldUseIndexes_whenPagedByIdOrNewestFirst() throws SQLException {
+		newsRepository.readAll(10, 0, "id::asc");
+		newsRepository.readAll(10, 0, "createDate::desc");
+		newsRepository.readAll(10, 0, "lastUpdateDate::desc");
+		authorRepository.readAll(10, 0, "id::asc");
+		authorRepository.readAll(10, 0, "createDate::desc");
+		commentRepository.readAll(10, 0, "lastUpdateDate::desc");
+		tagRepository.readAll(10, 0, "id::asc");
+
+		assertUsesIndexes();
+	}
+
+	@Test
+	void lookupsByNews_shouldUseIndexes_whenNewsIdIsGiven() throws SQLException {
+		newsRepository.readById(news.getId());
+		newsRepository.readNewsWithAuthorAndTags(news.getId());
+		authorRepository.readAuthorByNewsId(news.getId());
+		tagRepository.readTagsByNewsId(news.getId());
+		commentRepository.readCommentsByNewsId(news.getId(), 10, 0);
+		commentRepository.readCommentsByNewsIdAfter(news.getId(), 0L, 10);
+
+		assertUsesIndexes();
+	}
+
+	@Test
+	void readByParams_shouldUseIndexes_whenSearchingByTagsAndAuthor() throws SQLException {
+		newsRepository.readByParams(new NewsSearchQueryParams(
+			List.of(tag.getName()), List.of(tag.getId()), author.getName(), null, null));
+
+		assertUsesIndexes();
+	}
+
+	@Test
+	void outbox_shouldUseIndexes_whenPollingAndCounting() throws SQLException {
+		outboxRepository.readBatch(10, 5);
+		outboxRepository.countPending(5);
+		outboxRepository.countParked(5);
+
+		assertUsesIndexes();
+	}
+
+	@Test
+	void deletes_shouldUseIndexes_whenRemovingTagAndAuthorWithNews() throws SQLException {
+		tagRepository.deleteById(tag.getId());
+		authorRepository.deleteWithNews(author.getId(), 10, new AuthorDeletionListener() {
+			@Override
+			public void onStart(final Long authorId, final int newsTotal) {
+				// Empty
+			}
+
+			@Override
+			public void onBatchDeleted(
+				final Long authorId,
+				final int newsDeleted,
+				final int commentsDeleted,
+				final int tagLinksDeleted
+			) {
+				// Empty
+			}
+		});
+
+		assertUsesIndexes();
+	}
+
+	private void assertUsesIndexes() throws SQLException {
+		final List<String> statements = executedStatements();
+		assertFalse(statements.isEmpty());
+		try (Connection connection = dataSource.getConnection()) {
+			for (final String sql : statements) {
+				final String plan = explain(connection, sql);
+				assertFalse(plan.contains(TABLE_SCAN), () -> "Full table scan in plan:\n" + plan);
+			}
+		}
+	}
+
+	private List<String> executedStatements() throws SQLException {
+		final List<String> statements = new ArrayList<>();
+		try (Connection connection = dataSource.getConnection();
+			 Statement statement = connection.createStatement();
+			 ResultSet resultSet = statement.executeQuery(
+				 "SELECT SQL_STATEMENT FROM INFORMATION_SCHEMA.QUERY_STATISTICS")) {
+			while (resultSet.next()) {
+				final String sql = resultSet.getString(1);
+				if (isExplainable(sql)) {
+					statements.add(sql);
+				}
+			}
+		}
+		return statements;
+	}
+
+	private static boolean isExplainable(final String sql) {
+		final String head = sql.stripLeading().toUpperCase();
+		return (head.startsWith("SELECT") || head.startsWith("UPDATE") || head.startsWith("DELETE"))
+			&& !head.contains("INFORMATION_SCHEMA");
+	}
+
+	/**
+	 * Parameters are bound to 1, which only matters for plans that depend on a constant.
+	 */
+	private static String explain(final Connection connection, final String sql) throws SQLException {
+		try (PreparedStatement statement = connection.prepareStatement("EXPLAIN " + sql)) {
+			final int parameters = statement.getParameterMetaData().getParameterCount();
+			for (int index = 1; index <= parameters; index++) {
+				statement.setObject(index, 1L);
+			}
+			try (ResultSet resultSet = statement.executeQuery()) {
+				assertTrue(resultSet.next());
+				return resultSet.getString(1);
+			}
+		}
+	}
+
+	private void execute(final String sql) throws SQLException {
+		try (Connection connection = dataSource.getConnection();
+			 Statement statement = connection.createStatement()) {
+			statement.execute(sql);
+		}
+	}
+}
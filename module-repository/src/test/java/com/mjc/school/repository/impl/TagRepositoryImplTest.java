@@ -1,7 +1,11 @@
 package com.mjc.school.repository.impl;
 
+import com.mjc.school.repository.AuthorRepository;
+import com.mjc.school.repository.NewsRepository;
 import com.mjc.school.repository.RepositoryTestConfig;
 import com.mjc.school.repository.TagRepository;
+import com.mjc.school.repository.model.Author;
+import com.mjc.school.repository.model.News;
 import com.mjc.school.repository.model.Tag;
 import com.mjc.school.repository.util.Util;
 import org.junit.jupiter.api.Nested;
@@ -12,6 +16,7 @@ import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.jdbc.Sql;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -29,6 +34,10 @@ class TagRepositoryImplTest {
 
 	@Autowired
 	private TagRepository repository;
+	@Autowired
+	private NewsRepository newsRepository;
+	@Autowired
+	private AuthorRepository authorRepository;
 
 	@Nested
 	@Sql(executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD,
@@ -120,6 +129,34 @@ class TagRepositoryImplTest {
 		}
 	}
 
+	@Nested
+	@Sql(executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD,
+		scripts = {"classpath:truncate_db.sql"})
+	class TestCreateIfAbsent {
+
+		@Test
+		void createIfAbsent_shouldSaveEntity_whenNameIsFree() {
+			final Tag tag = Util.createTestTag(null);
+
+			final Optional<Tag> result = repository.createIfAbsent(tag);
+
+			assertTrue(result.isPresent());
+			assertEquals(1L, result.get().getId());
+			assertEquals(tag.getName(), repository.readById(1L).orElseThrow().getName());
+		}
+
+		@Test
+		void createIfAbsent_shouldReturnEmptyAndKeepStorage_whenNameIsTaken() {
+			final Tag existing = repository.create(Util.createTestTag(null));
+
+			final Optional<Tag> result = repository.createIfAbsent(new Tag(null, existing.getName()));
+
+			assertEquals(Optional.empty(), result);
+			assertEquals(List.of(existing), repository.readAll());
+			assertTrue(repository.createIfAbsent(Util.createTestTag(null)).isPresent());
+		}
+	}
+
 	@Nested
 	@Sql(executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD,
 		scripts = {"classpath:truncate_db.sql"})
@@ -215,6 +252,25 @@ class TagRepositoryImplTest {
 			assertTrue(repository.deleteById(1L));
 			assertTrue(repository.readAll().isEmpty());
 		}
+
+		@Test
+		void delete_shouldUnlinkTagFromAllNews_whenTagIsAssignedToNews() {
+			final Author author = authorRepository.create(Util.createTestAuthor(null));
+			final Tag deleted = repository.create(Util.createTestTag(null));
+			final Tag kept = repository.create(Util.createTestTag(null));
+			for (int i = 0; i < 2; i++) {
+				final News news = Util.createTestNews(null);
+				news.setAuthor(author);
+				news.setTags(new ArrayList<>(Arrays.asList(deleted, kept)));
+				newsRepository.create(news);
+			}
+
+			assertTrue(repository.deleteById(deleted.getId()));
+			assertFalse(repository.existById(deleted.getId()));
+			final List<News> news = newsRepository.readAll();
+			assertEquals(2, news.size());
+			news.forEach(n -> assertEquals(List.of(kept.getId()), n.getTags().stream().map(Tag::getId).toList()));
+		}
 	}
 
 	@Nested
@@ -1,6 +1,9 @@
 SET REFERENTIAL_INTEGRITY FALSE;
 TRUNCATE TABLE author RESTART IDENTITY;
-TRUNCATE TABLE comment RESTART IDENTITY;
+TRUNCATE TABLE comment;
+ALTER SEQUENCE comment_id_seq RESTART WITH 1;
 TRUNCATE TABLE news RESTART IDENTITY;
+TRUNCATE TABLE news_tags;
+TRUNCATE TABLE outbox RESTART IDENTITY;
 TRUNCATE TABLE tag RESTART IDENTITY;
 SET REFERENTIAL_INTEGRITY TRUE;
\ No newline at end of file
@@ -1,6 +1,7 @@
 package com.mjc.school.service;
 
 import java.util.List;
+import java.util.Map;
 
 public interface BaseService<T, R, K> {
     List<R> readAll();
@@ -9,6 +10,10 @@ public interface BaseService<T, R, K> {
 
     R readById(K id);
 
+    List<Map<String, Object>> readAll(int limit, int offset, String orderBy, List<String> fields);
+
+    Map<String, Object> readById(K id, List<String> fields);
+
     R create(T createRequest);
 
     R update(T updateRequest);
@@ -1,5 +1,6 @@
 package com.mjc.school.service;
 
+import com.mjc.school.service.dto.CommentPageResponseDto;
 import com.mjc.school.service.dto.CommentRequestDto;
 import com.mjc.school.service.dto.CommentResponseDto;
 
@@ -7,5 +8,7 @@ import java.util.List;
 
 public interface CommentService extends BaseService<CommentRequestDto, CommentResponseDto, Long> {
 
-	List<CommentResponseDto> readCommentsByNewsId(final Long newsId);
+	List<CommentResponseDto> readCommentsByNewsId(final Long newsId, final int limit, final int offset);
+
+	CommentPageResponseDto readCommentsByNewsIdAfter(final Long newsId, final Long after, final int limit);
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package com.mjc.school.service;
 
+import com.mjc.school.service.dto.NewsDetailResponseDto;
 import com.mjc.school.service.dto.NewsRequestDto;
 import com.mjc.school.service.dto.NewsResponseDto;
 import com.mjc.school.service.query.NewsQueryParams;
@@ -9,4 +10,6 @@ import java.util.List;
 public interface NewsService extends BaseService<NewsRequestDto, NewsResponseDto, Long> {
 
 	List<NewsResponseDto> readNewsByParams(NewsQueryParams newsQueryParams);
+
+	NewsDetailResponseDto readNewsDetail(Long id, int commentLimit, int commentOffset);
 }
\ No newline at end of file
@@ -0,0 +1,53 @@
+package com.mjc.school.service.aspect;
+
+import com.mjc.school.service.coalescing.SingleFlight;
+import com.mjc.school.service.coalescing.WriteGeneration;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Sends {@code @Coalesced} service calls through {@link SingleFlight}, keyed by method,
+ * arguments and {@link WriteGeneration}. A caller that arrives after a write has committed
+ * therefore starts a call of its own instead of joining one that may have read the data before
+ * the write. The aspect runs before the transaction interceptor, so a coalesced caller opens no
+ * transaction of its own. A call made inside a caller's transaction is not coalesced, as it may
+ * have to see that transaction's uncommitted writes.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class CoalescingAspect {
+
+	private final SingleFlight singleFlight;
+	private final WriteGeneration writeGeneration;
+
+	public CoalescingAspect(final SingleFlight singleFlight, final WriteGeneration writeGeneration) {
+		this.singleFlight = singleFlight;
+		this.writeGeneration = writeGeneration;
+	}
+
+	@Around("@annotation(com.mjc.school.service.coalescing.Coalesced)")
+	public Object coalesce(final ProceedingJoinPoint joinPoint) throws Throwable {
+		if (TransactionSynchronizationManager.isActualTransactionActive()
+				|| !(joinPoint.getSignature() instanceof MethodSignature signature)) {
+			return joinPoint.proceed();
+		}
+		final CallKey key =
+			new CallKey(signature.getMethod(), Arrays.asList(joinPoint.getArgs()), writeGeneration.current());
+		return singleFlight.execute(key, joinPoint::proceed);
+	}
+
+	private record CallKey(Method method, List<Object> args, long writeGeneration) {
+		// Empty
+	}
+}
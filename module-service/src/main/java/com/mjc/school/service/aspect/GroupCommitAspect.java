@@ -0,0 +1,36 @@
+package com.mjc.school.service.aspect;
+
+import com.mjc.school.service.commit.GroupCommitCoordinator;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * Hands {@code @GroupCommit} service calls to the {@link GroupCommitCoordinator}. The aspect runs
+ * after validation and before the transaction interceptor, so the call's {@code @Transactional}
+ * joins the group's transaction on the "group-commit" thread instead of committing by itself, and
+ * an invalid request is rejected before it can fail a group. A call made inside a caller's
+ * transaction, or while group commit is off, proceeds as before.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 2)
+public class GroupCommitAspect {
+
+	private final GroupCommitCoordinator coordinator;
+
+	public GroupCommitAspect(final GroupCommitCoordinator coordinator) {
+		this.coordinator = coordinator;
+	}
+
+	@Around("@annotation(com.mjc.school.service.commit.GroupCommit)")
+	public Object groupCommit(final ProceedingJoinPoint joinPoint) throws Throwable {
+		if (!coordinator.accepts()) {
+			return joinPoint.proceed();
+		}
+		return coordinator.execute(joinPoint::proceed);
+	}
+}
@@ -4,6 +4,7 @@ import com.mjc.school.service.exception.ServiceErrorCode;
 import com.mjc.school.service.exception.ValidationException;
 import com.mjc.school.service.validator.ConstraintViolation;
 import com.mjc.school.service.validator.Validator;
+import com.mjc.school.service.validator.annotation.Max;
 import com.mjc.school.service.validator.annotation.Min;
 import com.mjc.school.service.validator.annotation.NotNull;
 import com.mjc.school.service.validator.annotation.Valid;
@@ -12,6 +13,8 @@ import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.annotation.Before;
 import org.aspectj.lang.annotation.Pointcut;
 import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 
 import java.lang.annotation.Annotation;
@@ -22,6 +25,7 @@ import java.util.stream.Stream;
 
 @Aspect
 @Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
 public class ValidationAspect {
 
 	private final Validator validator;
@@ -39,7 +43,10 @@ public class ValidationAspect {
 	@Pointcut("execution(public * *(.., @com.mjc.school.service.validator.annotation.Min (*), ..))")
 	private void annotatedWithMin() {}
 
-	@Before("annotatedWithValid() || annotatedWithNotNull() || annotatedWithMin()")
+	@Pointcut("execution(public * *(.., @com.mjc.school.service.validator.annotation.Max (*), ..))")
+	private void annotatedWithMax() {}
+
+	@Before("annotatedWithValid() || annotatedWithNotNull() || annotatedWithMin() || annotatedWithMax()")
 	public void validateBeforeInvocation(final JoinPoint joinPoint) throws NoSuchMethodException {
 		if (joinPoint.getSignature() instanceof MethodSignature signature) {
 			var targetMethod = getTargetMethod(joinPoint, signature);
@@ -54,9 +61,10 @@ public class ValidationAspect {
 			}
 
 			if (!violations.isEmpty()) {
-				throw new ValidationException(String.format(
-					ServiceErrorCode.CONSTRAINT_VIOLATION.getMessage(), violations),
-					ServiceErrorCode.CONSTRAINT_VIOLATION.getCode()
+				throw new ValidationException(
+					ServiceErrorCode.CONSTRAINT_VIOLATION.getMessage(),
+					ServiceErrorCode.CONSTRAINT_VIOLATION.getCode(),
+					violations
 				);
 			}
 		}
@@ -70,6 +78,6 @@ public class ValidationAspect {
 
 	private boolean requiresValidation(final Annotation[] annotations) {
 		return Stream.of(annotations)
-			.anyMatch(a -> a instanceof Valid || a instanceof NotNull || a instanceof Min);
+			.anyMatch(a -> a instanceof Valid || a instanceof NotNull || a instanceof Min || a instanceof Max);
 	}
 }
\ No newline at end of file
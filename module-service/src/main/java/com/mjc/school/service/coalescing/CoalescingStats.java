@@ -0,0 +1,9 @@
+package com.mjc.school.service.coalescing;
+
+public record CoalescingStats(
+	int inFlight,
+	long executedCalls,
+	long coalescedCalls
+) {
+	// Empty
+}
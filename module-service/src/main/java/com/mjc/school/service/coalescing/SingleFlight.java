@@ -0,0 +1,61 @@
+package com.mjc.school.service.coalescing;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Runs at most one call per key at a time: a caller that arrives while a call with an equal key
+ * is in flight waits for it and gets its result, or its exception, instead of running the query
+ * again. Nothing is kept once the call has finished. A call in flight may have read its data
+ * before a write committed, so callers that must see that write use a key that differs from the
+ * earlier callers' key; see {@link com.mjc.school.service.aspect.CoalescingAspect}.
+ */
+@Component
+public class SingleFlight {
+
+	private final Map<Object, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+	private final LongAdder executed = new LongAdder();
+	private final LongAdder coalesced = new LongAdder();
+
+	public Object execute(final Object key, final Call call) throws Throwable {
+		final CompletableFuture<Object> flight = new CompletableFuture<>();
+		final CompletableFuture<Object> leader = inFlight.putIfAbsent(key, flight);
+		if (leader != null) {
+			coalesced.increment();
+			return await(leader);
+		}
+		executed.increment();
+		try {
+			final Object result = call.proceed();
+			flight.complete(result);
+			return result;
+		} catch (final Throwable e) {
+			flight.completeExceptionally(e);
+			throw e;
+		} finally {
+			inFlight.remove(key, flight);
+		}
+	}
+
+	public CoalescingStats stats() {
+		return new CoalescingStats(inFlight.size(), executed.sum(), coalesced.sum());
+	}
+
+	private static Object await(final CompletableFuture<Object> leader) throws Throwable {
+		try {
+			return leader.join();
+		} catch (final CompletionException e) {
+			throw e.getCause();
+		}
+	}
+
+	@FunctionalInterface
+	public interface Call {
+		Object proceed() throws Throwable;
+	}
+}
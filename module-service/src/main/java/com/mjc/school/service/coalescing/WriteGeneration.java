@@ -0,0 +1,28 @@
+package com.mjc.school.service.coalescing;
+
+import com.mjc.school.service.event.DomainEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counts committed writes. Every update and delete, and every news and comment created, publishes
+ * a {@link DomainEvent}, and the count moves on once its transaction has committed, before the
+ * write returns to its caller; a read that starts after that sees a new generation. Creating an
+ * author or a tag publishes nothing, as no reader has its id before the create returns.
+ */
+@Component
+public class WriteGeneration {
+
+	private final AtomicLong generation = new AtomicLong();
+
+	public long current() {
+		return generation.get();
+	}
+
+	@TransactionalEventListener(fallbackExecution = true)
+	public void on(final DomainEvent event) {
+		generation.incrementAndGet();
+	}
+}
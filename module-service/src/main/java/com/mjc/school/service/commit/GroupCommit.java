@@ -0,0 +1,18 @@
+package com.mjc.school.service.commit;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a small write whose transaction may be committed together with those of concurrent calls;
+ * see {@link GroupCommitCoordinator}. Only for methods that may be run again after their group
+ * failed, i.e. that build everything they write from their arguments on every call.
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface GroupCommit {
+}
@@ -0,0 +1,309 @@
+package com.mjc.school.service.commit;
+
+import com.mjc.school.service.exception.IngestionOverloadedServiceException;
+import com.mjc.school.service.exception.ServiceException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import static com.mjc.school.service.exception.ServiceErrorCode.GROUP_COMMIT_OVERLOADED;
+
+/**
+ * Commits small write transactions from concurrent callers together. The "group-commit" thread
+ * takes the first waiting unit of work, collects more for up to
+ * {@code news.group-commit.window-micros} or until {@code news.group-commit.max-group-size} units
+ * are waiting, runs them all in one transaction and completes every caller with its own result,
+ * so a group costs one commit instead of one per call. A unit turned down with a
+ * {@link ServiceException}, such as an unknown id or a taken name, fails on its own and the rest
+ * of the group still commits. When the group fails otherwise, or a failed statement left its
+ * transaction rollback-only, each unit is run again in a transaction of its own, so only the
+ * failing caller sees the error; a unit therefore has to build its state afresh on every run, as
+ * a whole service call does, and must not change managed entities before it can be turned down.
+ * <p>
+ * Disabled unless {@code news.group-commit.enabled} is set. A caller whose unit is still queued
+ * after {@code news.group-commit.timeout-ms} is told to retry; once its unit has started, it
+ * waits for the outcome, as the unit may still commit.
+ */
+@Component
+public class GroupCommitCoordinator implements SmartLifecycle {
+
+	private static final long IDLE_POLL_MS = 100;
+
+	private final PlatformTransactionManager transactionManager;
+	private final boolean enabled;
+	private final long windowNanos;
+	private final int maxGroupSize;
+	private final long timeoutMs;
+	private final BlockingQueue<Unit> queue = new LinkedBlockingQueue<>();
+	private final LongAdder transactions = new LongAdder();
+	private final LongAdder commits = new LongAdder();
+	private final LongAdder retriedGroups = new LongAdder();
+	private final LongAdder failed = new LongAdder();
+	private final LongAdder rejected = new LongAdder();
+	private final LongAdder waitNanos = new LongAdder();
+	private final LongAccumulator largestGroup = new LongAccumulator(Math::max, 0);
+	private volatile boolean running;
+	private volatile Thread worker;
+
+	public GroupCommitCoordinator(
+		final PlatformTransactionManager transactionManager,
+		@Value("${news.group-commit.enabled:false}") final boolean enabled,
+		@Value("${news.group-commit.window-micros:500}") final long windowMicros,
+		@Value("${news.group-commit.max-group-size:64}") final int maxGroupSize,
+		@Value("${news.group-commit.timeout-ms:5000}") final long timeoutMs
+	) {
+		this.transactionManager = transactionManager;
+		this.enabled = enabled;
+		this.windowNanos = TimeUnit.MICROSECONDS.toNanos(windowMicros);
+		this.maxGroupSize = maxGroupSize;
+		this.timeoutMs = timeoutMs;
+	}
+
+	/**
+	 * Whether a call from the current thread should be handed over: the coordinator is running and
+	 * the caller has no transaction of its own, so the call would otherwise commit by itself.
+	 */
+	public boolean accepts() {
+		return running && !TransactionSynchronizationManager.isActualTransactionActive();
+	}
+
+	/**
+	 * Runs {@code work} in the next group and waits for the group to commit. {@code work} may be
+	 * run a second time, in a transaction of its own, after its group failed.
+	 *
+	 * @throws IngestionOverloadedServiceException when the coordinator is stopped, or the work
+	 *                                             was not started within the timeout
+	 */
+	public Object execute(final Work work) throws Throwable {
+		if (!running) {
+			throw rejected("was not accepted, group commit is stopped");
+		}
+		final Unit unit = new Unit(work, System.nanoTime(), new CompletableFuture<>());
+		queue.add(unit);
+		if (!running && queue.remove(unit)) {
+			throw rejected("was not accepted, group commit is stopped");
+		}
+		try {
+			return unit.future().get(timeoutMs, TimeUnit.MILLISECONDS);
+		} catch (final ExecutionException e) {
+			throw e.getCause();
+		} catch (final TimeoutException e) {
+			if (queue.remove(unit)) {
+				throw rejected("was not started in time");
+			}
+			return outcome(unit);
+		} catch (final InterruptedException e) {
+			Thread.currentThread().interrupt();
+			if (queue.remove(unit)) {
+				throw rejected("was interrupted");
+			}
+			return outcome(unit);
+		}
+	}
+
+	public GroupCommitStats stats() {
+		final long commitCount = commits.sum();
+		final long transactionCount = transactions.sum();
+		return new GroupCommitStats(
+			enabled,
+			transactionCount,
+			commitCount,
+			retriedGroups.sum(),
+			failed.sum(),
+			rejected.sum(),
+			commitCount == 0 ? 0 : (double) transactionCount / commitCount,
+			largestGroup.get(),
+			transactionCount == 0 ? 0 : waitNanos.sum() / 1_000_000.0 / transactionCount
+		);
+	}
+
+	@Override
+	public void start() {
+		if (!enabled) {
+			return;
+		}
+		running = true;
+		final Thread thread = new Thread(this::run, "group-commit");
+		thread.setDaemon(true);
+		worker = thread;
+		thread.start();
+	}
+
+	/**
+	 * Stops accepting work; work already queued is still committed.
+	 */
+	@Override
+	public void stop() {
+		running = false;
+		final Thread thread = worker;
+		worker = null;
+		if (thread != null) {
+			try {
+				thread.join(timeoutMs);
+			} catch (final InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+
+	@Override
+	public boolean isRunning() {
+		return running;
+	}
+
+	/**
+	 * A higher phase stops earlier: this stops after the web server, so requests still in flight
+	 * get their writes committed.
+	 */
+	@Override
+	public int getPhase() {
+		return Integer.MAX_VALUE / 2 + 1;
+	}
+
+	private void run() {
+		while (running || !queue.isEmpty()) {
+			try {
+				final Unit first = queue.poll(IDLE_POLL_MS, TimeUnit.MILLISECONDS);
+				if (first != null) {
+					commit(collect(first));
+				}
+			} catch (final InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return;
+			}
+		}
+	}
+
+	private List<Unit> collect(final Unit first) throws InterruptedException {
+		final List<Unit> group = new ArrayList<>(maxGroupSize);
+		group.add(first);
+		queue.drainTo(group, maxGroupSize - group.size());
+		final long deadline = System.nanoTime() + windowNanos;
+		long remaining = windowNanos;
+		while (group.size() < maxGroupSize && remaining > 0) {
+			final Unit next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+			if (next == null) {
+				break;
+			}
+			group.add(next);
+			queue.drainTo(group, maxGroupSize - group.size());
+			remaining = deadline - System.nanoTime();
+		}
+		return group;
+	}
+
+	private void commit(final List<Unit> group) {
+		largestGroup.accumulate(group.size());
+		try {
+			runInTransaction(group);
+		} catch (final Throwable e) {
+			if (group.size() == 1) {
+				fail(group.get(0), e);
+				return;
+			}
+			retriedGroups.increment();
+			for (final Unit unit : group) {
+				try {
+					runInTransaction(List.of(unit));
+				} catch (final Throwable single) {
+					fail(unit, single);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Runs the units in one transaction. A unit turned down with a {@link ServiceException} is
+	 * left out while the transaction is still good to commit; any other failure, checked
+	 * exceptions included, rolls the transaction back, so that a unit run again on its own does
+	 * not find its earlier writes.
+	 */
+	private void runInTransaction(final List<Unit> units) throws Throwable {
+		final var transactionStatus = transactionManager.getTransaction(new DefaultTransactionDefinition());
+		final Object[] results = new Object[units.size()];
+		final ServiceException[] rejections = new ServiceException[units.size()];
+		try {
+			for (int i = 0; i < units.size(); i++) {
+				try {
+					results[i] = units.get(i).work().run();
+				} catch (final ServiceException e) {
+					if (transactionStatus.isRollbackOnly()) {
+						throw e;
+					}
+					rejections[i] = e;
+				}
+			}
+			transactionManager.commit(transactionStatus);
+		} catch (final Throwable e) {
+			if (!transactionStatus.isCompleted()) {
+				transactionManager.rollback(transactionStatus);
+			}
+			throw e;
+		}
+		commits.increment();
+		for (int i = 0; i < units.size(); i++) {
+			if (rejections[i] != null) {
+				fail(units.get(i), rejections[i]);
+			} else {
+				record(units.get(i));
+				units.get(i).future().complete(results[i]);
+			}
+		}
+	}
+
+	private void fail(final Unit unit, final Throwable e) {
+		failed.increment();
+		record(unit);
+		unit.future().completeExceptionally(e);
+	}
+
+	private void record(final Unit unit) {
+		transactions.increment();
+		waitNanos.add(System.nanoTime() - unit.enqueuedAt());
+	}
+
+	/**
+	 * Waits, without a timeout, for a unit that has already been taken into a group.
+	 */
+	private static Object outcome(final Unit unit) throws Throwable {
+		try {
+			return unit.future().join();
+		} catch (final CompletionException e) {
+			throw e.getCause();
+		}
+	}
+
+	private IngestionOverloadedServiceException rejected(final String reason) {
+		rejected.increment();
+		return new IngestionOverloadedServiceException(
+			GROUP_COMMIT_OVERLOADED.getMessage(),
+			GROUP_COMMIT_OVERLOADED.getCode(),
+			Math.max(1, TimeUnit.MILLISECONDS.toSeconds(timeoutMs)),
+			reason
+		);
+	}
+
+	@FunctionalInterface
+	public interface Work {
+		Object run() throws Throwable;
+	}
+
+	private record Unit(Work work, long enqueuedAt, CompletableFuture<Object> future) {
+		// Empty
+	}
+}
@@ -0,0 +1,15 @@
+package com.mjc.school.service.commit;
+
+public record GroupCommitStats(
+	boolean enabled,
+	long transactions,
+	long commits,
+	long retriedGroups,
+	long failed,
+	long rejected,
+	double averageGroupSize,
+	long maxGroupSize,
+	double averageWaitMs
+) {
+	// Empty
+}
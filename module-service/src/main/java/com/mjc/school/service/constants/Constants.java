@@ -18,6 +18,7 @@ public final class Constants {
 	public static final int NEWS_CONTENT_LENGTH_MAX = 255;
 	public static final int TAG_NAME_LENGTH_MIN = 3;
 	public static final int TAG_NAME_LENGTH_MAX = 15;
+	public static final int COMMENT_PAGE_LIMIT_MAX = 100;
 
 	private Constants() {
 		// Empty. Hides default public constructor
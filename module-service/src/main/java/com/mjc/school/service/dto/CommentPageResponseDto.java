@@ -0,0 +1,14 @@
+package com.mjc.school.service.dto;
+
+import java.util.List;
+
+/**
+ * A keyset page of comments; {@code nextCursor} is passed as {@code after} to read the next
+ * page and is null on the last page.
+ */
+public record CommentPageResponseDto(
+	List<CommentResponseDto> comments,
+	Long nextCursor
+) {
+	// Empty
+}
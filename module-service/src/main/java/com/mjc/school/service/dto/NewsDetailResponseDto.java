@@ -0,0 +1,18 @@
+package com.mjc.school.service.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public record NewsDetailResponseDto(
+	Long id,
+	String title,
+	String content,
+	LocalDateTime createDate,
+	LocalDateTime lastUpdateDate,
+	AuthorResponseDto author,
+	List<TagResponseDto> tags,
+	long commentCount,
+	List<CommentResponseDto> comments
+) {
+	// Empty
+}
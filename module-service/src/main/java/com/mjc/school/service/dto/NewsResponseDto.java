@@ -11,7 +11,7 @@ public record NewsResponseDto(
 	LocalDateTime lastUpdateDate,
 	Long authorId,
 	List<Long> tags,
-	List<Long> comments
+	long commentCount
 ) {
 	// Empty
 }
\ No newline at end of file
@@ -0,0 +1,19 @@
+package com.mjc.school.service.event;
+
+import static com.mjc.school.service.constants.Constants.AUTHOR_ENTITY_NAME;
+
+/**
+ * Published when an author is deleted together with all of its news.
+ */
+public record AuthorDeletedEvent(Long authorId) implements DomainEvent {
+
+	@Override
+	public String aggregateType() {
+		return AUTHOR_ENTITY_NAME;
+	}
+
+	@Override
+	public Long aggregateId() {
+		return authorId;
+	}
+}
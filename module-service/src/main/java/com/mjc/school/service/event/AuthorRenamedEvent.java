@@ -0,0 +1,16 @@
+package com.mjc.school.service.event;
+
+import static com.mjc.school.service.constants.Constants.AUTHOR_ENTITY_NAME;
+
+public record AuthorRenamedEvent(Long authorId, String name) implements DomainEvent {
+
+	@Override
+	public String aggregateType() {
+		return AUTHOR_ENTITY_NAME;
+	}
+
+	@Override
+	public Long aggregateId() {
+		return authorId;
+	}
+}
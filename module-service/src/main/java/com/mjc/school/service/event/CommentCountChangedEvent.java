@@ -0,0 +1,16 @@
+package com.mjc.school.service.event;
+
+import static com.mjc.school.service.constants.Constants.NEWS_ENTITY_NAME;
+
+public record CommentCountChangedEvent(Long newsId, long delta) implements DomainEvent {
+
+	@Override
+	public String aggregateType() {
+		return NEWS_ENTITY_NAME;
+	}
+
+	@Override
+	public Long aggregateId() {
+		return newsId;
+	}
+}
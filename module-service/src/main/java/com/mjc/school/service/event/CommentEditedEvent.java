@@ -0,0 +1,16 @@
+package com.mjc.school.service.event;
+
+import static com.mjc.school.service.constants.Constants.COMMENT_ENTITY_NAME;
+
+public record CommentEditedEvent(Long commentId, Long newsId) implements DomainEvent {
+
+	@Override
+	public String aggregateType() {
+		return COMMENT_ENTITY_NAME;
+	}
+
+	@Override
+	public Long aggregateId() {
+		return commentId;
+	}
+}
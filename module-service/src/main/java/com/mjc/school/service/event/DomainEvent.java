@@ -0,0 +1,12 @@
+package com.mjc.school.service.event;
+
+/**
+ * A change made by a service write method. Events of the same aggregate are delivered to
+ * outbox subscribers in the order they were written.
+ */
+public interface DomainEvent {
+
+	String aggregateType();
+
+	Long aggregateId();
+}
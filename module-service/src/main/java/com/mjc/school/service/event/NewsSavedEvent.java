@@ -0,0 +1,21 @@
+package com.mjc.school.service.event;
+
+import com.mjc.school.service.readmodel.NewsSummary;
+
+import static com.mjc.school.service.constants.Constants.NEWS_ENTITY_NAME;
+
+/**
+ * Published when news is created or updated, carrying its flattened state as of that write.
+ */
+public record NewsSavedEvent(NewsSummary news) implements DomainEvent {
+
+	@Override
+	public String aggregateType() {
+		return NEWS_ENTITY_NAME;
+	}
+
+	@Override
+	public Long aggregateId() {
+		return news.id();
+	}
+}
@@ -0,0 +1,16 @@
+package com.mjc.school.service.event;
+
+import static com.mjc.school.service.constants.Constants.TAG_ENTITY_NAME;
+
+public record TagRenamedEvent(Long tagId, String name) implements DomainEvent {
+
+	@Override
+	public String aggregateType() {
+		return TAG_ENTITY_NAME;
+	}
+
+	@Override
+	public Long aggregateId() {
+		return tagId;
+	}
+}
@@ -2,7 +2,11 @@ package com.mjc.school.service.exception;
 
 public class EntityConstraintViolationServiceException extends ServiceException {
 
-	public EntityConstraintViolationServiceException(final String message, final String errorCode) {
-		super(message, errorCode);
+	public EntityConstraintViolationServiceException(
+		final String message,
+		final String errorCode,
+		final Object... messageArguments
+	) {
+		super(message, errorCode, messageArguments);
 	}
 }
\ No newline at end of file
@@ -0,0 +1,16 @@
+package com.mjc.school.service.exception;
+
+public final class IngestionOverloadedServiceException extends ServiceException {
+
+	private final long retryAfterSeconds;
+
+	public IngestionOverloadedServiceException(final String message, final String errorCode,
+			final long retryAfterSeconds, final Object... messageArguments) {
+		super(message, errorCode, messageArguments);
+		this.retryAfterSeconds = retryAfterSeconds;
+	}
+
+	public long getRetryAfterSeconds() {
+		return retryAfterSeconds;
+	}
+}
@@ -2,7 +2,11 @@ package com.mjc.school.service.exception;
 
 public enum ServiceErrorCode {
 	CONSTRAINT_VIOLATION(Constants.ERROR_000001, "Validation failed: %s"),
+	INVALID_FIELD_SELECTION(Constants.ERROR_000002, "Unknown field '%s' for %s, allowed fields: %s"),
+	INVALID_SORT_FIELD(Constants.ERROR_000003, "Unknown sort field '%s' for %s, allowed fields: %s"),
 	ENTITY_NOT_FOUND_BY_ID(Constants.ERROR_000101, "Can not find %s by id: %s"),
+	COMMENT_INGESTION_OVERLOADED(Constants.ERROR_000201, "Comment %s, retry the request later"),
+	GROUP_COMMIT_OVERLOADED(Constants.ERROR_000202, "Write %s, retry the request later"),
 	AUTHOR_CONSTRAINT_VIOLATION(Constants.ERROR_001001, "Author has a persistence conflict: " +
 		"name already exists"),
 	TAG_CONSTRAINT_VIOLATION(Constants.ERROR_001002, "Tag has a persistence conflict: " +
@@ -28,7 +32,11 @@ public enum ServiceErrorCode {
 
 	private static class Constants {
 		private static final String ERROR_000001 = "000001";
+		private static final String ERROR_000002 = "000002";
+		private static final String ERROR_000003 = "000003";
 		private static final String ERROR_000101 = "000101";
+		private static final String ERROR_000201 = "000201";
+		private static final String ERROR_000202 = "000202";
 		private static final String ERROR_001001 = "001001";
 		private static final String ERROR_001002 = "001002";
 		private static final String ERROR_001003 = "001003";
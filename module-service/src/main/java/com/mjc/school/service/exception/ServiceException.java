@@ -1,15 +1,38 @@
 package com.mjc.school.service.exception;
 
+/**
+ * Base of the errors the service reports to its clients. They are expected outcomes of bad input,
+ * not faults, so they are created without a stack trace, and a message given with arguments is
+ * only formatted when it is read. Instances carry no per-throw state and may be preallocated.
+ */
 public class ServiceException extends RuntimeException {
 
 	private final String errorCode;
+	private final String messageFormat;
+	private final Object[] messageArguments;
+	private String message;
 
-	public ServiceException(final String message, final String errorCode) {
-		super(message);
+	/**
+	 * @param message the message, or its {@link String#format} pattern when arguments are given
+	 */
+	public ServiceException(final String message, final String errorCode, final Object... messageArguments) {
+		super(null, null, false, false);
 		this.errorCode = errorCode;
+		this.messageFormat = message;
+		this.messageArguments = messageArguments;
 	}
 
 	public String getErrorCode() {
 		return errorCode;
 	}
-}
\ No newline at end of file
+
+	@Override
+	public String getMessage() {
+		String formatted = message;
+		if (formatted == null) {
+			formatted = messageArguments.length == 0 ? messageFormat : String.format(messageFormat, messageArguments);
+			message = formatted;
+		}
+		return formatted;
+	}
+}
@@ -2,7 +2,11 @@ package com.mjc.school.service.exception;
 
 public class ValidationException extends ServiceException {
 
-	public ValidationException(final String message, final String errorCode) {
-		super(message, errorCode);
+	public ValidationException(
+		final String message,
+		final String errorCode,
+		final Object... messageArguments
+	) {
+		super(message, errorCode, messageArguments);
 	}
 }
\ No newline at end of file
@@ -5,18 +5,26 @@ import com.mjc.school.repository.NewsRepository;
 import com.mjc.school.repository.exception.EntityConstraintViolationRepositoryException;
 import com.mjc.school.repository.model.Author;
 import com.mjc.school.service.AuthorService;
+import com.mjc.school.service.coalescing.Coalesced;
+import com.mjc.school.service.commit.GroupCommit;
 import com.mjc.school.service.dto.AuthorRequestDto;
 import com.mjc.school.service.dto.AuthorResponseDto;
+import com.mjc.school.service.event.AuthorDeletedEvent;
+import com.mjc.school.service.event.AuthorRenamedEvent;
 import com.mjc.school.service.exception.EntityConstraintViolationServiceException;
 import com.mjc.school.service.exception.EntityNotFoundException;
 import com.mjc.school.service.mapper.AuthorMapper;
+import com.mjc.school.service.metrics.AuthorDeletionMetrics;
+import com.mjc.school.service.query.FieldSelection;
 import com.mjc.school.service.validator.annotation.Min;
 import com.mjc.school.service.validator.annotation.NotNull;
 import com.mjc.school.service.validator.annotation.Valid;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static com.mjc.school.service.constants.Constants.AUTHOR_ENTITY_NAME;
@@ -28,35 +36,55 @@ import static com.mjc.school.service.exception.ServiceErrorCode.ENTITY_NOT_FOUND
 @Service
 public class AuthorServiceImpl implements AuthorService {
 
+	private static final int DELETE_BATCH_SIZE = 500;
+	private static final EntityConstraintViolationServiceException NAME_TAKEN =
+		new EntityConstraintViolationServiceException(
+			AUTHOR_CONSTRAINT_VIOLATION.getMessage(),
+			AUTHOR_CONSTRAINT_VIOLATION.getCode()
+		);
+	private static final FieldSelection FIELDS = FieldSelection.builder(AUTHOR_ENTITY_NAME)
+		.field("id")
+		.field("name")
+		.field("createDate")
+		.field("lastUpdateDate")
+		.build();
+
 	private final AuthorRepository authorRepository;
 	private final NewsRepository newsRepository;
 	private final AuthorMapper mapper;
+	private final AuthorDeletionMetrics deletionMetrics;
+	private final ApplicationEventPublisher eventPublisher;
 
 	public AuthorServiceImpl(
 		final AuthorRepository authorRepository,
 		final NewsRepository newsRepository,
-		final AuthorMapper mapper
+		final AuthorMapper mapper,
+		final AuthorDeletionMetrics deletionMetrics,
+		final ApplicationEventPublisher eventPublisher
 	) {
 		this.authorRepository = authorRepository;
 		this.newsRepository = newsRepository;
 		this.mapper = mapper;
+		this.deletionMetrics = deletionMetrics;
+		this.eventPublisher = eventPublisher;
 	}
 
 	@Override
+	@GroupCommit
 	@Transactional
 	public AuthorResponseDto create(@NotNull @Valid final AuthorRequestDto request)
 			throws EntityConstraintViolationServiceException {
 		try {
-			return mapper.modelToDto(authorRepository.create(mapper.dtoToModel(request)));
+			return mapper.modelToDto(authorRepository.createIfAbsent(mapper.dtoToModel(request))
+				.orElseThrow(() -> NAME_TAKEN));
 		} catch (final EntityConstraintViolationRepositoryException e) {
-			throw new EntityConstraintViolationServiceException(
-				AUTHOR_CONSTRAINT_VIOLATION.getMessage(),
-				AUTHOR_CONSTRAINT_VIOLATION.getCode()
-			);
+			// A concurrent create of the same name committed between the check and the insert
+			throw NAME_TAKEN;
 		}
 	}
 
 	@Override
+	@Coalesced
 	@Transactional(readOnly = true)
 	public AuthorResponseDto readById(@NotNull @Min(ID_MIN_VALUE) final Long id)
 			throws EntityNotFoundException {
@@ -65,8 +93,9 @@ public class AuthorServiceImpl implements AuthorService {
 			return mapper.modelToDto(author.get());
 		} else {
 			throw new EntityNotFoundException(
-				String.format(ENTITY_NOT_FOUND_BY_ID.getMessage(), AUTHOR_ENTITY_NAME, id),
-				ENTITY_NOT_FOUND_BY_ID.getCode()
+				ENTITY_NOT_FOUND_BY_ID.getMessage(),
+				ENTITY_NOT_FOUND_BY_ID.getCode(),
+				AUTHOR_ENTITY_NAME, id
 			);
 		}
 	}
@@ -80,14 +109,16 @@ public class AuthorServiceImpl implements AuthorService {
 				return mapper.modelToDto(author.get());
 			} else {
 				throw new EntityNotFoundException(
-					String.format(ENTITY_NOT_FOUND_BY_ID.getMessage(), AUTHOR_ENTITY_NAME, newsId),
-					ENTITY_NOT_FOUND_BY_ID.getCode()
+					ENTITY_NOT_FOUND_BY_ID.getMessage(),
+					ENTITY_NOT_FOUND_BY_ID.getCode(),
+					AUTHOR_ENTITY_NAME, newsId
 				);
 			}
 		}
 		throw new EntityNotFoundException(
-			String.format(ENTITY_NOT_FOUND_BY_ID.getMessage(), NEWS_ENTITY_NAME, newsId),
-			ENTITY_NOT_FOUND_BY_ID.getCode()
+			ENTITY_NOT_FOUND_BY_ID.getMessage(),
+			ENTITY_NOT_FOUND_BY_ID.getCode(),
+			NEWS_ENTITY_NAME, newsId
 		);
 	}
 
@@ -104,6 +135,32 @@ public class AuthorServiceImpl implements AuthorService {
 	}
 
 	@Override
+	@Transactional(readOnly = true)
+	public List<Map<String, Object>> readAll(
+		final int limit,
+		final int offset,
+		final String orderBy,
+		@NotNull final List<String> fields
+	) {
+		return authorRepository.readAll(limit, offset, orderBy, FIELDS.resolve(fields));
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public Map<String, Object> readById(
+		@NotNull @Min(ID_MIN_VALUE) final Long id,
+		@NotNull final List<String> fields
+	) throws EntityNotFoundException {
+		return authorRepository.readById(id, FIELDS.resolve(fields))
+			.orElseThrow(() -> new EntityNotFoundException(
+				ENTITY_NOT_FOUND_BY_ID.getMessage(),
+				ENTITY_NOT_FOUND_BY_ID.getCode(),
+				AUTHOR_ENTITY_NAME, id
+			));
+	}
+
+	@Override
+	@GroupCommit
 	@Transactional
 	public AuthorResponseDto update(@NotNull @Valid final AuthorRequestDto request)
 			throws EntityNotFoundException, EntityConstraintViolationServiceException {
@@ -114,18 +171,18 @@ public class AuthorServiceImpl implements AuthorService {
 				try {
 					final Author updated = author.get();
 					updated.setName(request.name());
-					return mapper.modelToDto(authorRepository.update(updated));
+					final Author result = authorRepository.update(updated);
+					eventPublisher.publishEvent(new AuthorRenamedEvent(result.getId(), result.getName()));
+					return mapper.modelToDto(result);
 				} catch (final EntityConstraintViolationRepositoryException e) {
-					throw new EntityConstraintViolationServiceException(
-						AUTHOR_CONSTRAINT_VIOLATION.getMessage(),
-						AUTHOR_CONSTRAINT_VIOLATION.getCode()
-					);
+					throw NAME_TAKEN;
 				}
 			}
 		}
 		throw new EntityNotFoundException(
-			String.format(ENTITY_NOT_FOUND_BY_ID.getMessage(), AUTHOR_ENTITY_NAME, id),
-			ENTITY_NOT_FOUND_BY_ID.getCode()
+			ENTITY_NOT_FOUND_BY_ID.getMessage(),
+			ENTITY_NOT_FOUND_BY_ID.getCode(),
+			AUTHOR_ENTITY_NAME, id
 		);
 	}
 
@@ -133,11 +190,19 @@ public class AuthorServiceImpl implements AuthorService {
 	@Transactional
 	public boolean deleteById(@NotNull @Min(ID_MIN_VALUE) final Long id) throws EntityNotFoundException {
 		if (authorRepository.existById(id)) {
-			return authorRepository.deleteById(id);
+			try (AuthorDeletionMetrics.Tracker tracker = deletionMetrics.track(id)) {
+				final boolean deleted = authorRepository.deleteWithNews(id, DELETE_BATCH_SIZE, tracker);
+				if (deleted) {
+					tracker.deleted();
+					eventPublisher.publishEvent(new AuthorDeletedEvent(id));
+				}
+				return deleted;
+			}
 		}
 		throw new EntityNotFoundException(
-			String.format(ENTITY_NOT_FOUND_BY_ID.getMessage(), AUTHOR_ENTITY_NAME, id),
-			ENTITY_NOT_FOUND_BY_ID.getCode()
+			ENTITY_NOT_FOUND_BY_ID.getMessage(),
+			ENTITY_NOT_FOUND_BY_ID.getCode(),
+			AUTHOR_ENTITY_NAME, id
 		);
 	}
 }
\ No newline at end of file
@@ -3,22 +3,32 @@ package com.mjc.school.service.impl;
 import com.mjc.school.repository.CommentRepository;
 import com.mjc.school.repository.NewsRepository;
 import com.mjc.school.repository.model.Comment;
-import com.mjc.school.repository.model.News;
 import com.mjc.school.service.CommentService;
+import com.mjc.school.service.coalescing.Coalesced;
+import com.mjc.school.service.commit.GroupCommit;
+import com.mjc.school.service.dto.CommentPageResponseDto;
 import com.mjc.school.service.dto.CommentRequestDto;
 import com.mjc.school.service.dto.CommentResponseDto;
+import com.mjc.school.service.event.CommentCountChangedEvent;
+import com.mjc.school.service.event.CommentEditedEvent;
 import com.mjc.school.service.exception.EntityNotFoundException;
+import com.mjc.school.service.ingestion.CommentIngestion;
 import com.mjc.school.service.mapper.CommentMapper;
+import com.mjc.school.service.query.FieldSelection;
+import com.mjc.school.service.validator.annotation.Max;
 import com.mjc.school.service.validator.annotation.Min;
 import com.mjc.school.service.validator.annotation.NotNull;
 import com.mjc.school.service.validator.annotation.Valid;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static com.mjc.school.service.constants.Constants.COMMENT_ENTITY_NAME;
+import static com.mjc.school.service.constants.Constants.COMMENT_PAGE_LIMIT_MAX;
 import static com.mjc.school.service.constants.Constants.ID_MIN_VALUE;
 import static com.mjc.school.service.constants.Constants.NEWS_ENTITY_NAME;
 import static com.mjc.school.service.exception.ServiceErrorCode.ENTITY_NOT_FOUND_BY_ID;
@@ -26,18 +36,32 @@ import static com.mjc.school.service.exception.ServiceErrorCode.ENTITY_NOT_FOUND
 @Service
 public class CommentServiceImpl implements CommentService {
 
+	private static final FieldSelection FIELDS = FieldSelection.builder(COMMENT_ENTITY_NAME)
+		.field("id")
+		.field("content")
+		.field("newsId", "news.id")
+		.field("createDate")
+		.field("lastUpdateDate")
+		.build();
+
 	private final CommentRepository commentRepository;
 	private final NewsRepository newsRepository;
 	private final CommentMapper commentMapper;
+	private final CommentIngestion commentIngestion;
+	private final ApplicationEventPublisher eventPublisher;
 
 	public CommentServiceImpl(
 		final CommentRepository commentRepository,
 		final NewsRepository newsRepository,
-		final CommentMapper commentMapper
+		final CommentMapper commentMapper,
+		final CommentIngestion commentIngestion,
+		final ApplicationEventPublisher eventPublisher
 	) {
 		this.commentRepository = commentRepository;
 		this.newsRepository = newsRepository;
 		this.commentMapper = commentMapper;
+		this.commentIngestion = commentIngestion;
+		this.eventPublisher = eventPublisher;
 	}
 
 	@Override
@@ -54,6 +78,32 @@ public class CommentServiceImpl implements CommentService {
 
 	@Override
 	@Transactional(readOnly = true)
+	public List<Map<String, Object>> readAll(
+		final int limit,
+		final int offset,
+		final String orderBy,
+		@NotNull final List<String> fields
+	) {
+		return commentRepository.readAll(limit, offset, orderBy, FIELDS.resolve(fields));
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public Map<String, Object> readById(
+		@NotNull @Min(ID_MIN_VALUE) final Long id,
+		@NotNull final List<String> fields
+	) throws EntityNotFoundException {
+		return commentRepository.readById(id, FIELDS.resolve(fields))
+			.orElseThrow(() -> new EntityNotFoundException(
+				ENTITY_NOT_FOUND_BY_ID.getMessage(),
+				ENTITY_NOT_FOUND_BY_ID.getCode(),
+				COMMENT_ENTITY_NAME, id
+			));
+	}
+
+	@Override
+	@Coalesced
+	@Transactional(readOnly = true)
 	public CommentResponseDto readById(@NotNull @Min(ID_MIN_VALUE) final Long id)
 			throws EntityNotFoundException {
 		final Optional<Comment> comment = commentRepository.readById(id);
@@ -61,35 +111,66 @@ public class CommentServiceImpl implements CommentService {
 			return commentMapper.modelToDto(comment.get());
 		} else {
 			throw new EntityNotFoundException(
-				String.format(ENTITY_NOT_FOUND_BY_ID.getMessage(), COMMENT_ENTITY_NAME, id),
-				ENTITY_NOT_FOUND_BY_ID.getCode()
+				ENTITY_NOT_FOUND_BY_ID.getMessage(),
+				ENTITY_NOT_FOUND_BY_ID.getCode(),
+				COMMENT_ENTITY_NAME, id
 			);
 		}
 	}
 
 	@Override
 	@Transactional(readOnly = true)
-	public List<CommentResponseDto> readCommentsByNewsId(@NotNull @Min(ID_MIN_VALUE) final Long newsId)
-			throws EntityNotFoundException {
+	public List<CommentResponseDto> readCommentsByNewsId(
+		@NotNull @Min(ID_MIN_VALUE) final Long newsId,
+		@Min(1) @Max(COMMENT_PAGE_LIMIT_MAX) final int limit,
+		@Min(0) final int offset
+	) throws EntityNotFoundException {
 		if (newsRepository.existById(newsId)) {
-			return commentMapper.modelListToDtoList(commentRepository.readCommentsByNewsId(newsId));
+			return commentMapper.modelListToDtoList(commentRepository.readCommentsByNewsId(newsId, limit, offset));
 		}
 		throw new EntityNotFoundException(
-			String.format(ENTITY_NOT_FOUND_BY_ID.getMessage(), NEWS_ENTITY_NAME, newsId),
-			ENTITY_NOT_FOUND_BY_ID.getCode()
+			ENTITY_NOT_FOUND_BY_ID.getMessage(),
+			ENTITY_NOT_FOUND_BY_ID.getCode(),
+			NEWS_ENTITY_NAME, newsId
 		);
 	}
 
 	@Override
-	@Transactional
+	@Transactional(readOnly = true)
+	public CommentPageResponseDto readCommentsByNewsIdAfter(
+		@NotNull @Min(ID_MIN_VALUE) final Long newsId,
+		@NotNull @Min(0) final Long after,
+		@Min(1) @Max(COMMENT_PAGE_LIMIT_MAX) final int limit
+	) throws EntityNotFoundException {
+		if (newsRepository.existById(newsId)) {
+			// One row past the page tells whether there is a next page
+			final List<Comment> comments = commentRepository.readCommentsByNewsIdAfter(newsId, after, limit + 1);
+			if (comments.size() <= limit) {
+				return new CommentPageResponseDto(commentMapper.modelListToDtoList(comments), null);
+			}
+			final List<Comment> page = comments.subList(0, limit);
+			return new CommentPageResponseDto(commentMapper.modelListToDtoList(page), page.get(limit - 1).getId());
+		}
+		throw new EntityNotFoundException(
+			ENTITY_NOT_FOUND_BY_ID.getMessage(),
+			ENTITY_NOT_FOUND_BY_ID.getCode(),
+			NEWS_ENTITY_NAME, newsId
+		);
+	}
+
+	/**
+	 * Not transactional: in the queued write modes the request waits for the ingestion thread's
+	 * commit and must not hold a pooled connection meanwhile.
+	 */
+	@Override
 	public CommentResponseDto create(@NotNull @Valid final CommentRequestDto request)
 			throws EntityNotFoundException {
 		final Comment comment = commentMapper.dtoToModel(request);
-		comment.setNews(getNews(request.newsId()));
-		return commentMapper.modelToDto(commentRepository.create(comment));
+		return commentMapper.modelToDto(commentIngestion.create(comment, request.newsId()));
 	}
 
 	@Override
+	@GroupCommit
 	@Transactional
 	public CommentResponseDto update(@NotNull @Valid final CommentRequestDto request)
 			throws EntityNotFoundException {
@@ -99,12 +180,15 @@ public class CommentServiceImpl implements CommentService {
 			if (comment.isPresent()) {
 				final Comment updatedComment = comment.get();
 				updatedComment.setContent(request.content());
-				return commentMapper.modelToDto(commentRepository.update(updatedComment));
+				final Comment result = commentRepository.update(updatedComment);
+				eventPublisher.publishEvent(new CommentEditedEvent(result.getId(), result.getNews().getId()));
+				return commentMapper.modelToDto(result);
 			}
 		}
 		throw new EntityNotFoundException(
-			String.format(ENTITY_NOT_FOUND_BY_ID.getMessage(), COMMENT_ENTITY_NAME, id),
-			ENTITY_NOT_FOUND_BY_ID.getCode()
+			ENTITY_NOT_FOUND_BY_ID.getMessage(),
+			ENTITY_NOT_FOUND_BY_ID.getCode(),
+			COMMENT_ENTITY_NAME, id
 		);
 	}
 
@@ -113,26 +197,18 @@ public class CommentServiceImpl implements CommentService {
 	public boolean deleteById(@NotNull @Min(ID_MIN_VALUE) final Long id) {
 		final Optional<Comment> comment = commentRepository.readById(id);
 		if (comment.isPresent()) {
-			final News news = comment.get().getNews();
-			news.getComments().removeIf(c -> id.equals(c.getId()));
-			return commentRepository.deleteById(id);
-		}
-		throw new EntityNotFoundException(
-			String.format(ENTITY_NOT_FOUND_BY_ID.getMessage(), COMMENT_ENTITY_NAME, id),
-			ENTITY_NOT_FOUND_BY_ID.getCode()
-		);
-	}
-
-	private News getNews(final Long newsId) throws EntityNotFoundException {
-		if (newsId != null) {
-			final Optional<News> news = newsRepository.readById(newsId);
-			if (news.isPresent()) {
-				return news.get();
+			final boolean deleted = commentRepository.deleteById(id);
+			if (deleted) {
+				final Long newsId = comment.get().getNews().getId();
+				newsRepository.adjustCommentCount(newsId, -1);
+				eventPublisher.publishEvent(new CommentCountChangedEvent(newsId, -1));
 			}
+			return deleted;
 		}
 		throw new EntityNotFoundException(
-			String.format(ENTITY_NOT_FOUND_BY_ID.getMessage(), NEWS_ENTITY_NAME, newsId),
-			ENTITY_NOT_FOUND_BY_ID.getCode()
+			ENTITY_NOT_FOUND_BY_ID.getMessage(),
+			ENTITY_NOT_FOUND_BY_ID.getCode(),
+			COMMENT_ENTITY_NAME, id
 		);
 	}
-}
\ No newline at end of file
+}
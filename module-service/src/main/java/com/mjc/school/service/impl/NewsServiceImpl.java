@@ -1,30 +1,43 @@
 package com.mjc.school.service.impl;
 
 import com.mjc.school.repository.AuthorRepository;
+import com.mjc.school.repository.CommentRepository;
 import com.mjc.school.repository.NewsRepository;
 import com.mjc.school.repository.TagRepository;
 import com.mjc.school.repository.exception.EntityConstraintViolationRepositoryException;
 import com.mjc.school.repository.model.Author;
+import com.mjc.school.repository.model.Comment;
 import com.mjc.school.repository.model.News;
 import com.mjc.school.repository.model.Tag;
 import com.mjc.school.service.NewsService;
+import com.mjc.school.service.coalescing.Coalesced;
+import com.mjc.school.service.commit.GroupCommit;
+import com.mjc.school.service.dto.NewsDetailResponseDto;
 import com.mjc.school.service.dto.NewsRequestDto;
 import com.mjc.school.service.dto.NewsResponseDto;
+import com.mjc.school.service.event.NewsDeletedEvent;
+import com.mjc.school.service.event.NewsSavedEvent;
 import com.mjc.school.service.exception.EntityConstraintViolationServiceException;
 import com.mjc.school.service.exception.EntityNotFoundException;
 import com.mjc.school.service.mapper.NewsMapper;
 import com.mjc.school.service.query.NewsQueryParams;
+import com.mjc.school.service.query.FieldSelection;
+import com.mjc.school.service.readmodel.NewsReadModel;
+import com.mjc.school.service.validator.annotation.Max;
 import com.mjc.school.service.validator.annotation.Min;
 import com.mjc.school.service.validator.annotation.NotNull;
 import com.mjc.school.service.validator.annotation.Valid;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static com.mjc.school.service.constants.Constants.AUTHOR_ENTITY_NAME;
+import static com.mjc.school.service.constants.Constants.COMMENT_PAGE_LIMIT_MAX;
 import static com.mjc.school.service.constants.Constants.ID_MIN_VALUE;
 import static com.mjc.school.service.constants.Constants.NEWS_ENTITY_NAME;
 import static com.mjc.school.service.constants.Constants.TAG_ENTITY_NAME;
@@ -34,24 +47,50 @@ import static com.mjc.school.service.exception.ServiceErrorCode.NEWS_CONSTRAINT_
 @Service
 public class NewsServiceImpl implements NewsService {
 
+	private static final EntityConstraintViolationServiceException TITLE_TAKEN =
+		new EntityConstraintViolationServiceException(
+			NEWS_CONSTRAINT_VIOLATION.getMessage(),
+			NEWS_CONSTRAINT_VIOLATION.getCode()
+		);
+	private static final FieldSelection FIELDS = FieldSelection.builder(NEWS_ENTITY_NAME)
+		.field("id")
+		.field("title")
+		.field("content")
+		.field("createDate")
+		.field("lastUpdateDate")
+		.field("authorId", "author.id")
+		.field("tags")
+		.field("commentCount")
+		.build();
+
 	private final AuthorRepository authorRepository;
 	private final NewsRepository newsRepository;
 	private final TagRepository tagRepository;
+	private final CommentRepository commentRepository;
 	private final NewsMapper mapper;
+	private final NewsReadModel readModel;
+	private final ApplicationEventPublisher eventPublisher;
 
 	public NewsServiceImpl(
 		final AuthorRepository authorRepository,
 		final NewsRepository newsRepository,
 		final TagRepository tagRepository,
-		final NewsMapper mapper
+		final CommentRepository commentRepository,
+		final NewsMapper mapper,
+		final NewsReadModel readModel,
+		final ApplicationEventPublisher eventPublisher
 	) {
 		this.authorRepository = authorRepository;
 		this.newsRepository = newsRepository;
 		this.tagRepository = tagRepository;
+		this.commentRepository = commentRepository;
 		this.mapper = mapper;
+		this.readModel = readModel;
+		this.eventPublisher = eventPublisher;
 	}
 
 	@Override
+	@GroupCommit
 	@Transactional
 	public NewsResponseDto create(@NotNull @Valid final NewsRequestDto request) throws EntityNotFoundException {
 		final News news = mapper.dtoToModel(request);
@@ -63,17 +102,16 @@ public class NewsServiceImpl implements NewsService {
 		news.setComments(new ArrayList<>());
 		final News result;
 		try {
-			result = newsRepository.create(news);
+			result = newsRepository.createIfAbsent(news).orElseThrow(() -> TITLE_TAKEN);
 		} catch (final EntityConstraintViolationRepositoryException e) {
-			throw new EntityConstraintViolationServiceException(
-				NEWS_CONSTRAINT_VIOLATION.getMessage(),
-				NEWS_CONSTRAINT_VIOLATION.getCode()
-			);
+			throw TITLE_TAKEN;
 		}
+		eventPublisher.publishEvent(new NewsSavedEvent(mapper.modelToSummary(result)));
 		return mapper.modelToDto(result);
 	}
 
 	@Override
+	@Coalesced
 	@Transactional(readOnly = true)
 	public NewsResponseDto readById(@NotNull @Min(ID_MIN_VALUE) final Long id) throws EntityNotFoundException {
 		final Optional<News> news = newsRepository.readById(id);
@@ -81,58 +119,104 @@ public class NewsServiceImpl implements NewsService {
 			return mapper.modelToDto(news.get());
 		} else {
 			throw new EntityNotFoundException(
-				String.format(ENTITY_NOT_FOUND_BY_ID.getMessage(), NEWS_ENTITY_NAME, id),
-				ENTITY_NOT_FOUND_BY_ID.getCode()
+				ENTITY_NOT_FOUND_BY_ID.getMessage(),
+				ENTITY_NOT_FOUND_BY_ID.getCode(),
+				NEWS_ENTITY_NAME, id
 			);
 		}
 	}
 
 	@Override
+	@Coalesced
 	@Transactional(readOnly = true)
+	public NewsDetailResponseDto readNewsDetail(
+		@NotNull @Min(ID_MIN_VALUE) final Long id,
+		@Min(1) @Max(COMMENT_PAGE_LIMIT_MAX) final int commentLimit,
+		@Min(0) final int commentOffset
+	) throws EntityNotFoundException {
+		final Optional<News> news = newsRepository.readNewsWithAuthorAndTags(id);
+		if (news.isPresent()) {
+			final List<Comment> comments = commentRepository.readCommentsByNewsId(id, commentLimit, commentOffset);
+			return mapper.modelToDetailDto(news.get(), comments);
+		} else {
+			throw new EntityNotFoundException(
+				ENTITY_NOT_FOUND_BY_ID.getMessage(),
+				ENTITY_NOT_FOUND_BY_ID.getCode(),
+				NEWS_ENTITY_NAME, id
+			);
+		}
+	}
+
+	@Override
 	public List<NewsResponseDto> readNewsByParams(@NotNull final NewsQueryParams newsQueryParams) {
-		return mapper.modelListToDtoList(
-			newsRepository.readByParams(mapper.mapQueryParams(newsQueryParams)));
+		return mapper.summaryListToDtoList(readModel.search(newsQueryParams));
 	}
 
 	@Override
-	@Transactional(readOnly = true)
 	public List<NewsResponseDto> readAll() {
-		return mapper.modelListToDtoList(newsRepository.readAll());
+		return mapper.summaryListToDtoList(readModel.readAll());
 	}
 
 	@Override
-	@Transactional(readOnly = true)
 	public List<NewsResponseDto> readAll(final int limit, final int offset, final String orderBy) {
-		return mapper.modelListToDtoList(newsRepository.readAll(limit, offset, orderBy));
+		return mapper.summaryListToDtoList(readModel.readAll(limit, offset, orderBy));
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public List<Map<String, Object>> readAll(
+		final int limit,
+		final int offset,
+		final String orderBy,
+		@NotNull final List<String> fields
+	) {
+		return newsRepository.readAll(limit, offset, orderBy, FIELDS.resolve(fields));
 	}
 
 	@Override
+	@Transactional(readOnly = true)
+	public Map<String, Object> readById(
+		@NotNull @Min(ID_MIN_VALUE) final Long id,
+		@NotNull final List<String> fields
+	) throws EntityNotFoundException {
+		return newsRepository.readById(id, FIELDS.resolve(fields))
+			.orElseThrow(() -> new EntityNotFoundException(
+				ENTITY_NOT_FOUND_BY_ID.getMessage(),
+				ENTITY_NOT_FOUND_BY_ID.getCode(),
+				NEWS_ENTITY_NAME, id
+			));
+	}
+
+	@Override
+	@GroupCommit
 	@Transactional
 	public NewsResponseDto update(@NotNull @Valid final NewsRequestDto request) throws EntityNotFoundException {
 		final Long id = request.id();
 		if (id != null) {
 			final Optional<News> news = newsRepository.readById(id);
 			if (news.isPresent()) {
+				// Both lookups may fail, so they run before the managed entity is changed
+				final Author author = getAuthor(request.authorId());
+				final List<Tag> tags = getTags(request.tags());
 				final News updated = news.get();
 				updated.setTitle(request.title());
 				updated.setContent(request.content());
-				updated.setAuthor(getAuthor(request.authorId()));
-				updated.setTags(getTags(request.tags()));
+				updated.setAuthor(author);
+				updated.setTags(tags);
 				final News result;
 				try {
 					result = newsRepository.update(updated);
 				} catch (final EntityConstraintViolationRepositoryException e) {
-					throw new EntityConstraintViolationServiceException(
-						NEWS_CONSTRAINT_VIOLATION.getMessage(),
-						NEWS_CONSTRAINT_VIOLATION.getCode()
-					);
+					throw TITLE_TAKEN;
 				}
+				eventPublisher.publishEvent(new NewsSavedEvent(mapper.modelToSummary(result)));
 				return mapper.modelToDto(result);
 			}
 		}
 		throw new EntityNotFoundException(
-			String.format(ENTITY_NOT_FOUND_BY_ID.getMessage(), NEWS_ENTITY_NAME, id),
-			ENTITY_NOT_FOUND_BY_ID.getCode()
+			ENTITY_NOT_FOUND_BY_ID.getMessage(),
+			ENTITY_NOT_FOUND_BY_ID.getCode(),
+			NEWS_ENTITY_NAME, id
 		);
 	}
 
@@ -140,11 +224,16 @@ public class NewsServiceImpl implements NewsService {
 	@Transactional
 	public boolean deleteById(@NotNull @Min(ID_MIN_VALUE) final Long id) throws EntityNotFoundException {
 		if (newsRepository.existById(id)) {
-			return newsRepository.deleteById(id);
+			final boolean deleted = newsRepository.deleteById(id);
+			if (deleted) {
+				eventPublisher.publishEvent(new NewsDeletedEvent(id));
+			}
+			return deleted;
 		}
 		throw new EntityNotFoundException(
-			String.format(ENTITY_NOT_FOUND_BY_ID.getMessage(), NEWS_ENTITY_NAME, id),
-			ENTITY_NOT_FOUND_BY_ID.getCode()
+			ENTITY_NOT_FOUND_BY_ID.getMessage(),
+			ENTITY_NOT_FOUND_BY_ID.getCode(),
+			NEWS_ENTITY_NAME, id
 		);
 	}
 
@@ -156,8 +245,9 @@ public class NewsServiceImpl implements NewsService {
 			}
 		}
 		throw new EntityNotFoundException(
-			String.format(ENTITY_NOT_FOUND_BY_ID.getMessage(), AUTHOR_ENTITY_NAME, authorId),
-			ENTITY_NOT_FOUND_BY_ID.getCode()
+			ENTITY_NOT_FOUND_BY_ID.getMessage(),
+			ENTITY_NOT_FOUND_BY_ID.getCode(),
+			AUTHOR_ENTITY_NAME, authorId
 		);
 	}
 
@@ -177,8 +267,9 @@ public class NewsServiceImpl implements NewsService {
 			}
 		}
 		throw new EntityNotFoundException(
-			String.format(ENTITY_NOT_FOUND_BY_ID.getMessage(), TAG_ENTITY_NAME, tagId),
-			ENTITY_NOT_FOUND_BY_ID.getCode()
+			ENTITY_NOT_FOUND_BY_ID.getMessage(),
+			ENTITY_NOT_FOUND_BY_ID.getCode(),
+			TAG_ENTITY_NAME, tagId
 		);
 	}
 }
\ No newline at end of file
@@ -3,22 +3,27 @@ package com.mjc.school.service.impl;
 import com.mjc.school.repository.NewsRepository;
 import com.mjc.school.repository.TagRepository;
 import com.mjc.school.repository.exception.EntityConstraintViolationRepositoryException;
-import com.mjc.school.repository.model.News;
 import com.mjc.school.repository.model.Tag;
-import com.mjc.school.repository.query.NewsSearchQueryParams;
 import com.mjc.school.service.TagService;
+import com.mjc.school.service.coalescing.Coalesced;
+import com.mjc.school.service.commit.GroupCommit;
 import com.mjc.school.service.dto.TagRequestDto;
 import com.mjc.school.service.dto.TagResponseDto;
+import com.mjc.school.service.event.TagDeletedEvent;
+import com.mjc.school.service.event.TagRenamedEvent;
 import com.mjc.school.service.exception.EntityConstraintViolationServiceException;
 import com.mjc.school.service.exception.EntityNotFoundException;
 import com.mjc.school.service.mapper.TagMapper;
+import com.mjc.school.service.query.FieldSelection;
 import com.mjc.school.service.validator.annotation.Min;
 import com.mjc.school.service.validator.annotation.NotNull;
 import com.mjc.school.service.validator.annotation.Valid;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static com.mjc.school.service.constants.Constants.ID_MIN_VALUE;
@@ -30,18 +35,31 @@ import static com.mjc.school.service.exception.ServiceErrorCode.TAG_CONSTRAINT_V
 @Service
 public class TagServiceImpl implements TagService {
 
+	private static final EntityConstraintViolationServiceException NAME_TAKEN =
+		new EntityConstraintViolationServiceException(
+			TAG_CONSTRAINT_VIOLATION.getMessage(),
+			TAG_CONSTRAINT_VIOLATION.getCode()
+		);
+	private static final FieldSelection FIELDS = FieldSelection.builder(TAG_ENTITY_NAME)
+		.field("id")
+		.field("name")
+		.build();
+
 	private final NewsRepository newsRepository;
 	private final TagRepository tagRepository;
 	private final TagMapper tagMapper;
+	private final ApplicationEventPublisher eventPublisher;
 
 	public TagServiceImpl(
 		final NewsRepository newsRepository,
 		final TagRepository tagRepository,
-		final TagMapper tagMapper
+		final TagMapper tagMapper,
+		final ApplicationEventPublisher eventPublisher
 	) {
 		this.newsRepository = newsRepository;
 		this.tagRepository = tagRepository;
 		this.tagMapper = tagMapper;
+		this.eventPublisher = eventPublisher;
 	}
 
 	@Override
@@ -58,6 +76,32 @@ public class TagServiceImpl implements TagService {
 
 	@Override
 	@Transactional(readOnly = true)
+	public List<Map<String, Object>> readAll(
+		final int limit,
+		final int offset,
+		final String orderBy,
+		@NotNull final List<String> fields
+	) {
+		return tagRepository.readAll(limit, offset, orderBy, FIELDS.resolve(fields));
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public Map<String, Object> readById(
+		@NotNull @Min(ID_MIN_VALUE) final Long id,
+		@NotNull final List<String> fields
+	) throws EntityNotFoundException {
+		return tagRepository.readById(id, FIELDS.resolve(fields))
+			.orElseThrow(() -> new EntityNotFoundException(
+				ENTITY_NOT_FOUND_BY_ID.getMessage(),
+				ENTITY_NOT_FOUND_BY_ID.getCode(),
+				TAG_ENTITY_NAME, id
+			));
+	}
+
+	@Override
+	@Coalesced
+	@Transactional(readOnly = true)
 	public TagResponseDto readById(@NotNull @Min(ID_MIN_VALUE) final Long id)
 			throws EntityNotFoundException {
 		final Optional<Tag> tag = tagRepository.readById(id);
@@ -65,8 +109,9 @@ public class TagServiceImpl implements TagService {
 			return tagMapper.modelToDto(tag.get());
 		} else {
 			throw new EntityNotFoundException(
-				String.format(ENTITY_NOT_FOUND_BY_ID.getMessage(), TAG_ENTITY_NAME, id),
-				ENTITY_NOT_FOUND_BY_ID.getCode()
+				ENTITY_NOT_FOUND_BY_ID.getMessage(),
+				ENTITY_NOT_FOUND_BY_ID.getCode(),
+				TAG_ENTITY_NAME, id
 			);
 		}
 	}
@@ -78,26 +123,27 @@ public class TagServiceImpl implements TagService {
 			return tagMapper.modelListToDtoList(tagRepository.readTagsByNewsId(newsId));
 		}
 		throw new EntityNotFoundException(
-			String.format(ENTITY_NOT_FOUND_BY_ID.getMessage(), NEWS_ENTITY_NAME, newsId),
-			ENTITY_NOT_FOUND_BY_ID.getCode()
+			ENTITY_NOT_FOUND_BY_ID.getMessage(),
+			ENTITY_NOT_FOUND_BY_ID.getCode(),
+			NEWS_ENTITY_NAME, newsId
 		);
 	}
 
 	@Override
+	@GroupCommit
 	@Transactional
 	public TagResponseDto create(@NotNull @Valid final TagRequestDto request)
 			throws EntityConstraintViolationServiceException {
 		try {
-			return tagMapper.modelToDto(tagRepository.create(tagMapper.dtoToModel(request)));
+			return tagMapper.modelToDto(tagRepository.createIfAbsent(tagMapper.dtoToModel(request))
+				.orElseThrow(() -> NAME_TAKEN));
 		} catch (final EntityConstraintViolationRepositoryException e) {
-			throw new EntityConstraintViolationServiceException(
-				TAG_CONSTRAINT_VIOLATION.getMessage(),
-				TAG_CONSTRAINT_VIOLATION.getCode()
-			);
+			throw NAME_TAKEN;
 		}
 	}
 
 	@Override
+	@GroupCommit
 	@Transactional
 	public TagResponseDto update(@NotNull @Valid final TagRequestDto request)
 			throws EntityConstraintViolationServiceException {
@@ -108,16 +154,15 @@ public class TagServiceImpl implements TagService {
 			try {
 				result = tagRepository.update(tag);
 			} catch (final EntityConstraintViolationRepositoryException e) {
-				throw new EntityConstraintViolationServiceException(
-					TAG_CONSTRAINT_VIOLATION.getMessage(),
-					TAG_CONSTRAINT_VIOLATION.getCode()
-				);
+				throw NAME_TAKEN;
 			}
+			eventPublisher.publishEvent(new TagRenamedEvent(result.getId(), result.getName()));
 			return tagMapper.modelToDto(result);
 		} else {
 			throw new EntityNotFoundException(
-				String.format(ENTITY_NOT_FOUND_BY_ID.getMessage(), TAG_ENTITY_NAME, id),
-				ENTITY_NOT_FOUND_BY_ID.getCode()
+				ENTITY_NOT_FOUND_BY_ID.getMessage(),
+				ENTITY_NOT_FOUND_BY_ID.getCode(),
+				TAG_ENTITY_NAME, id
 			);
 		}
 	}
@@ -126,18 +171,16 @@ public class TagServiceImpl implements TagService {
 	@Transactional
 	public boolean deleteById(@NotNull @Min(ID_MIN_VALUE) final Long id) throws EntityNotFoundException {
 		if (tagRepository.existById(id)) {
-			NewsSearchQueryParams params =
-				new NewsSearchQueryParams(null, List.of(id), null, null, null);
-			final List<News> newsWithTag = newsRepository.readByParams(params);
-			for (final News news : newsWithTag) {
-				news.getTags().removeIf(t -> id.equals(t.getId()));
-				newsRepository.update(news);
+			final boolean deleted = tagRepository.deleteById(id);
+			if (deleted) {
+				eventPublisher.publishEvent(new TagDeletedEvent(id));
 			}
-			return tagRepository.deleteById(id);
+			return deleted;
 		} else {
 			throw new EntityNotFoundException(
-				String.format(ENTITY_NOT_FOUND_BY_ID.getMessage(), TAG_ENTITY_NAME, id),
-				ENTITY_NOT_FOUND_BY_ID.getCode()
+				ENTITY_NOT_FOUND_BY_ID.getMessage(),
+				ENTITY_NOT_FOUND_BY_ID.getCode(),
+				TAG_ENTITY_NAME, id
 			);
 		}
 	}
@@ -0,0 +1,364 @@
+package com.mjc.school.service.ingestion;
+
+import com.mjc.school.repository.CommentRepository;
+import com.mjc.school.repository.model.Comment;
+import com.mjc.school.repository.model.News;
+import com.mjc.school.service.exception.EntityNotFoundException;
+import com.mjc.school.service.exception.IngestionOverloadedServiceException;
+import com.mjc.school.service.readmodel.NewsReadModel;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+
+import static com.mjc.school.service.constants.Constants.NEWS_ENTITY_NAME;
+import static com.mjc.school.service.exception.ServiceErrorCode.COMMENT_INGESTION_OVERLOADED;
+import static com.mjc.school.service.exception.ServiceErrorCode.ENTITY_NOT_FOUND_BY_ID;
+
+/**
+ * Entry point for new comments. In {@link CommentWriteMode#DIRECT} mode every comment is its own
+ * transaction. In the queued modes the news is checked against the {@link NewsReadModel} instead
+ * of being loaded, an id is taken from a block reserved in memory, and the comment is put on a
+ * bounded queue; the "comment-ingestion" thread drains the queue and writes each batch with one
+ * JDBC insert batch in one transaction. A full queue is reported as
+ * {@link IngestionOverloadedServiceException} once {@code news.comments.offer-timeout-ms} has passed.
+ */
+@Component
+public class CommentIngestion implements SmartLifecycle {
+
+	private static final long IDLE_POLL_MS = 100;
+
+	private final CommentWriter commentWriter;
+	private final CommentRepository commentRepository;
+	private final NewsReadModel readModel;
+	private final CommentWriteMode mode;
+	private final BlockingQueue<Pending> queue;
+	private final int batchSize;
+	private final long lingerNanos;
+	private final long offerTimeoutMs;
+	private final long commitTimeoutMs;
+	private final int idBlockSize;
+	private final Deque<Long> reservedIds = new ArrayDeque<>();
+	private final LongAdder accepted = new LongAdder();
+	private final LongAdder rejected = new LongAdder();
+	private final LongAdder written = new LongAdder();
+	private final LongAdder failed = new LongAdder();
+	private final LongAdder batches = new LongAdder();
+	private final LongAdder batchedComments = new LongAdder();
+	private final LongAdder flushNanos = new LongAdder();
+	private final LongAdder commitLatencyNanos = new LongAdder();
+	private volatile String lastFailure;
+	private volatile boolean running;
+	private volatile boolean stopped;
+	private volatile Thread worker;
+
+	public CommentIngestion(
+		final CommentWriter commentWriter,
+		final CommentRepository commentRepository,
+		final NewsReadModel readModel,
+		@Value("${news.comments.write-mode:direct}") final String mode,
+		@Value("${news.comments.queue-capacity:10000}") final int queueCapacity,
+		@Value("${news.comments.batch-size:100}") final int batchSize,
+		@Value("${news.comments.linger-ms:2}") final long lingerMs,
+		@Value("${news.comments.offer-timeout-ms:50}") final long offerTimeoutMs,
+		@Value("${news.comments.commit-timeout-ms:5000}") final long commitTimeoutMs,
+		@Value("${news.comments.id-block-size:100}") final int idBlockSize
+	) {
+		this.commentWriter = commentWriter;
+		this.commentRepository = commentRepository;
+		this.readModel = readModel;
+		this.mode = CommentWriteMode.of(mode);
+		this.queue = new ArrayBlockingQueue<>(queueCapacity);
+		this.batchSize = batchSize;
+		this.lingerNanos = TimeUnit.MILLISECONDS.toNanos(lingerMs);
+		this.offerTimeoutMs = offerTimeoutMs;
+		this.commitTimeoutMs = commitTimeoutMs;
+		this.idBlockSize = idBlockSize;
+	}
+
+	/**
+	 * Writes the comment according to the configured mode and returns it with its id and dates.
+	 * In {@link CommentWriteMode#ASYNC} mode the comment may not be committed yet.
+	 */
+	public Comment create(final Comment comment, final Long newsId) throws EntityNotFoundException {
+		if (mode == CommentWriteMode.DIRECT) {
+			return commentWriter.create(comment, newsId);
+		}
+		if (!readModel.exists(newsId)) {
+			throw notFound(newsId);
+		}
+		final LocalDateTime now = LocalDateTime.now();
+		final News news = new News();
+		news.setId(newsId);
+		comment.setId(nextId());
+		comment.setNews(news);
+		comment.setCreateDate(now);
+		comment.setLastUpdateDate(now);
+		final Pending pending = new Pending(comment, System.nanoTime(), new CompletableFuture<>());
+		enqueue(pending);
+		if (mode != CommentWriteMode.ASYNC) {
+			await(pending);
+		}
+		return comment;
+	}
+
+	public CommentWriteMode mode() {
+		return mode;
+	}
+
+	public CommentIngestionStats stats() {
+		final long batchCount = batches.sum();
+		final long writtenCount = written.sum();
+		return new CommentIngestionStats(
+			mode.name(),
+			queue.size(),
+			queue.size() + queue.remainingCapacity(),
+			accepted.sum(),
+			rejected.sum(),
+			writtenCount,
+			failed.sum(),
+			batchCount,
+			batchCount == 0 ? 0 : (double) batchedComments.sum() / batchCount,
+			batchCount == 0 ? 0 : flushNanos.sum() / 1_000_000.0 / batchCount,
+			writtenCount == 0 ? 0 : commitLatencyNanos.sum() / 1_000_000.0 / writtenCount,
+			lastFailure
+		);
+	}
+
+	@Override
+	public void start() {
+		running = true;
+		stopped = false;
+		if (mode == CommentWriteMode.DIRECT) {
+			return;
+		}
+		final Thread thread = new Thread(this::run, "comment-ingestion");
+		thread.setDaemon(true);
+		worker = thread;
+		thread.start();
+	}
+
+	/**
+	 * Stops accepting comments and waits for the queued ones to be written.
+	 */
+	@Override
+	public void stop() {
+		stopped = true;
+		running = false;
+		final Thread thread = worker;
+		worker = null;
+		if (thread != null) {
+			try {
+				thread.join(commitTimeoutMs);
+			} catch (final InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+
+	@Override
+	public boolean isRunning() {
+		return running;
+	}
+
+	/**
+	 * Stops after the web server, so requests still in flight can hand over their comments.
+	 */
+	@Override
+	public int getPhase() {
+		return Integer.MAX_VALUE / 2;
+	}
+
+	/**
+	 * Takes the next batch off the queue and writes it. Called by the ingestion thread; returns the
+	 * number of comments handled.
+	 */
+	int flushOnce() throws InterruptedException {
+		final Pending first = queue.poll(IDLE_POLL_MS, TimeUnit.MILLISECONDS);
+		if (first == null) {
+			return 0;
+		}
+		final List<Pending> batch = new ArrayList<>(batchSize);
+		batch.add(first);
+		queue.drainTo(batch, batchSize - batch.size());
+		if (mode != CommentWriteMode.SYNC) {
+			final long deadline = System.nanoTime() + lingerNanos;
+			long remaining = lingerNanos;
+			while (batch.size() < batchSize && remaining > 0 && running) {
+				final Pending next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+				if (next == null) {
+					break;
+				}
+				batch.add(next);
+				queue.drainTo(batch, batchSize - batch.size());
+				remaining = deadline - System.nanoTime();
+			}
+		}
+		flush(batch);
+		return batch.size();
+	}
+
+	private void run() {
+		while (running || !queue.isEmpty()) {
+			try {
+				flushOnce();
+			} catch (final InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return;
+			} catch (final RuntimeException e) {
+				lastFailure = e.toString();
+			}
+		}
+	}
+
+	private void flush(final List<Pending> batch) {
+		final long start = System.nanoTime();
+		try {
+			commentWriter.createAll(batch.stream().map(Pending::comment).toList());
+			batch.forEach(this::complete);
+		} catch (final RuntimeException e) {
+			// One bad row, e.g. a comment on news deleted after it was queued, must not fail the rest
+			for (final Pending pending : batch) {
+				try {
+					commentWriter.createAll(List.of(pending.comment()));
+					complete(pending);
+				} catch (final RuntimeException single) {
+					failed.increment();
+					lastFailure = pending.comment() + ": " + single;
+					pending.future().completeExceptionally(isConstraintViolation(single)
+						? notFound(pending.comment().getNews().getId())
+						: single);
+				}
+			}
+		}
+		batches.increment();
+		batchedComments.add(batch.size());
+		flushNanos.add(System.nanoTime() - start);
+	}
+
+	private void complete(final Pending pending) {
+		written.increment();
+		commitLatencyNanos.add(System.nanoTime() - pending.enqueuedAt());
+		pending.future().complete(pending.comment());
+	}
+
+	private void enqueue(final Pending pending) {
+		boolean offered = false;
+		if (!stopped) {
+			try {
+				offered = queue.offer(pending, offerTimeoutMs, TimeUnit.MILLISECONDS);
+			} catch (final InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+		if (!offered) {
+			rejected.increment();
+			throw overloaded("queue is full");
+		}
+		accepted.increment();
+	}
+
+	/**
+	 * Waits for the batch holding {@code pending} to be written. A comment still on the queue when
+	 * {@code news.comments.commit-timeout-ms} runs out is taken off it and reported as overload, so
+	 * the client's retry is the only copy; one already taken by the ingestion thread may still be
+	 * written, so its outcome is awaited instead.
+	 */
+	private void await(final Pending pending) {
+		try {
+			pending.future().get(commitTimeoutMs, TimeUnit.MILLISECONDS);
+		} catch (final ExecutionException e) {
+			throw unwrap(e.getCause());
+		} catch (final TimeoutException e) {
+			if (withdraw(pending)) {
+				throw overloaded("write was not started in time");
+			}
+			outcome(pending);
+		} catch (final InterruptedException e) {
+			Thread.currentThread().interrupt();
+			if (withdraw(pending)) {
+				throw overloaded("write was interrupted");
+			}
+			outcome(pending);
+		}
+	}
+
+	private boolean withdraw(final Pending pending) {
+		if (!queue.remove(pending)) {
+			return false;
+		}
+		accepted.decrement();
+		rejected.increment();
+		return true;
+	}
+
+	private static void outcome(final Pending pending) {
+		try {
+			pending.future().join();
+		} catch (final CompletionException e) {
+			throw unwrap(e.getCause());
+		}
+	}
+
+	private static RuntimeException unwrap(final Throwable cause) {
+		if (cause instanceof RuntimeException runtime) {
+			return runtime;
+		}
+		return new IllegalStateException(cause);
+	}
+
+	private synchronized Long nextId() {
+		if (reservedIds.isEmpty()) {
+			reservedIds.addAll(commentRepository.allocateIds(idBlockSize));
+		}
+		return reservedIds.poll();
+	}
+
+	private IngestionOverloadedServiceException overloaded(final String reason) {
+		return new IngestionOverloadedServiceException(
+			COMMENT_INGESTION_OVERLOADED.getMessage(),
+			COMMENT_INGESTION_OVERLOADED.getCode(),
+			Math.max(1, TimeUnit.MILLISECONDS.toSeconds(commitTimeoutMs)),
+			reason
+		);
+	}
+
+	private static EntityNotFoundException notFound(final Long newsId) {
+		return new EntityNotFoundException(
+			ENTITY_NOT_FOUND_BY_ID.getMessage(),
+			ENTITY_NOT_FOUND_BY_ID.getCode(),
+			NEWS_ENTITY_NAME, newsId
+		);
+	}
+
+	/**
+	 * Integrity violations have SQL state class 23; for a comment the only one is the news key.
+	 */
+	private static boolean isConstraintViolation(final Throwable e) {
+		for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+			if (cause instanceof SQLException sql
+					&& sql.getSQLState() != null && sql.getSQLState().startsWith("23")) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private record Pending(Comment comment, long enqueuedAt, CompletableFuture<Comment> future) {
+		// Empty
+	}
+}
@@ -0,0 +1,18 @@
+package com.mjc.school.service.ingestion;
+
+public record CommentIngestionStats(
+	String mode,
+	int queued,
+	int queueCapacity,
+	long accepted,
+	long rejected,
+	long written,
+	long failed,
+	long batches,
+	double averageBatchSize,
+	double averageFlushMs,
+	double averageCommitLatencyMs,
+	String lastFailure
+) {
+	// Empty
+}
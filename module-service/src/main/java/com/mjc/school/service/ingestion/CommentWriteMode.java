@@ -0,0 +1,42 @@
+package com.mjc.school.service.ingestion;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * How {@link CommentIngestion} writes new comments, set by {@code news.comments.write-mode}.
+ */
+public enum CommentWriteMode {
+
+	/**
+	 * One transaction per request on the request thread.
+	 */
+	DIRECT,
+
+	/**
+	 * Queued and written by the ingestion thread in whatever batch is waiting; the request returns
+	 * after its batch commits.
+	 */
+	SYNC,
+
+	/**
+	 * Like {@link #SYNC}, but the ingestion thread lingers up to {@code news.comments.linger-ms} to
+	 * fill a batch, so concurrent requests share one commit.
+	 */
+	GROUP_COMMIT,
+
+	/**
+	 * Queued like {@link #GROUP_COMMIT}; the request returns once the comment is accepted, before
+	 * it is committed.
+	 */
+	ASYNC;
+
+	public static CommentWriteMode of(final String value) {
+		final String normalized = value.trim().toUpperCase(Locale.ROOT).replace('-', '_');
+		return Arrays.stream(values())
+			.filter(mode -> mode.name().equals(normalized))
+			.findFirst()
+			.orElseThrow(() -> new IllegalArgumentException(
+				"Unknown comment write mode '" + value + "', allowed modes: " + Arrays.toString(values())));
+	}
+}
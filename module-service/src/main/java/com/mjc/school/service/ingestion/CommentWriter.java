@@ -0,0 +1,79 @@
+package com.mjc.school.service.ingestion;
+
+import com.mjc.school.repository.CommentRepository;
+import com.mjc.school.repository.NewsRepository;
+import com.mjc.school.repository.model.Comment;
+import com.mjc.school.repository.model.News;
+import com.mjc.school.service.event.CommentCountChangedEvent;
+import com.mjc.school.service.exception.EntityNotFoundException;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static com.mjc.school.service.constants.Constants.NEWS_ENTITY_NAME;
+import static com.mjc.school.service.exception.ServiceErrorCode.ENTITY_NOT_FOUND_BY_ID;
+import static java.util.stream.Collectors.counting;
+import static java.util.stream.Collectors.groupingBy;
+
+/**
+ * Transactional write paths for new comments: one comment per transaction, or a whole batch with
+ * one insert batch and one counter update per news.
+ */
+@Component
+public class CommentWriter {
+
+	private final CommentRepository commentRepository;
+	private final NewsRepository newsRepository;
+	private final ApplicationEventPublisher eventPublisher;
+
+	public CommentWriter(
+		final CommentRepository commentRepository,
+		final NewsRepository newsRepository,
+		final ApplicationEventPublisher eventPublisher
+	) {
+		this.commentRepository = commentRepository;
+		this.newsRepository = newsRepository;
+		this.eventPublisher = eventPublisher;
+	}
+
+	@Transactional
+	public Comment create(final Comment comment, final Long newsId) throws EntityNotFoundException {
+		comment.setNews(getNews(newsId));
+		final Comment result = commentRepository.create(comment);
+		newsRepository.adjustCommentCount(newsId, 1);
+		eventPublisher.publishEvent(new CommentCountChangedEvent(newsId, 1));
+		return result;
+	}
+
+	/**
+	 * Inserts comments that already carry their id, news and dates.
+	 */
+	@Transactional
+	public void createAll(final List<Comment> comments) {
+		commentRepository.createAll(comments);
+		final Map<Long, Long> deltas = comments.stream()
+			.collect(groupingBy(comment -> comment.getNews().getId(), TreeMap::new, counting()));
+		newsRepository.adjustCommentCounts(deltas);
+		deltas.forEach((newsId, delta) ->
+			eventPublisher.publishEvent(new CommentCountChangedEvent(newsId, delta)));
+	}
+
+	private News getNews(final Long newsId) throws EntityNotFoundException {
+		if (newsId != null) {
+			return newsRepository.readById(newsId).orElseThrow(() -> notFound(newsId));
+		}
+		throw notFound(null);
+	}
+
+	private static EntityNotFoundException notFound(final Long newsId) {
+		return new EntityNotFoundException(
+			ENTITY_NOT_FOUND_BY_ID.getMessage(),
+			ENTITY_NOT_FOUND_BY_ID.getCode(),
+			NEWS_ENTITY_NAME, newsId
+		);
+	}
+}
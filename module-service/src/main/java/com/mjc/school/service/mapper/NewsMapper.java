@@ -4,39 +4,67 @@ import com.mjc.school.repository.model.Comment;
 import com.mjc.school.repository.model.News;
 import com.mjc.school.repository.model.Tag;
 import com.mjc.school.repository.query.NewsSearchQueryParams;
+import com.mjc.school.service.dto.NewsDetailResponseDto;
 import com.mjc.school.service.dto.NewsRequestDto;
 import com.mjc.school.service.dto.NewsResponseDto;
 import com.mjc.school.service.query.NewsQueryParams;
+import com.mjc.school.service.readmodel.NewsSummary;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 
 import java.util.List;
 
-@Mapper(componentModel = "spring")
+@Mapper(componentModel = "spring", uses = {AuthorMapper.class, TagMapper.class, CommentMapper.class})
 public interface NewsMapper {
 
 	@Mapping(source = "news.author.id", target = "authorId")
 	@Mapping(source = "news.tags", target = "tags")
-	@Mapping(source = "news.comments", target = "comments")
 	@Mapping(target = "s", ignore = true)
-	@Mapping(target = "ments", ignore = true)
 	NewsResponseDto modelToDto(News news);
 
-	default Long map(Comment comment) {
-		return comment.getId();
-	}
-
 	default Long map(Tag tag) {
 		return tag.getId();
 	}
 
 	List<NewsResponseDto> modelListToDtoList(List<News> news);
 
+	@Mapping(source = "author.id", target = "authorId")
+	@Mapping(source = "author.name", target = "authorName")
+	@Mapping(source = "tags", target = "tagIds")
+	@Mapping(source = "tags", target = "tagNames")
+	@Mapping(target = "ids", ignore = true)
+	@Mapping(target = "names", ignore = true)
+	NewsSummary modelToSummary(News news);
+
+	default String mapName(Tag tag) {
+		return tag.getName();
+	}
+
+	@Mapping(source = "tagIds", target = "tags")
+	@Mapping(target = "s", ignore = true)
+	NewsResponseDto summaryToDto(NewsSummary summary);
+
+	List<NewsResponseDto> summaryListToDtoList(List<NewsSummary> summaries);
+
+	@Mapping(source = "news.id", target = "id")
+	@Mapping(source = "news.title", target = "title")
+	@Mapping(source = "news.content", target = "content")
+	@Mapping(source = "news.createDate", target = "createDate")
+	@Mapping(source = "news.lastUpdateDate", target = "lastUpdateDate")
+	@Mapping(source = "news.author", target = "author")
+	@Mapping(source = "news.tags", target = "tags")
+	@Mapping(source = "news.commentCount", target = "commentCount")
+	@Mapping(source = "comments", target = "comments")
+	@Mapping(target = "s", ignore = true)
+	@Mapping(target = "ments", ignore = true)
+	NewsDetailResponseDto modelToDetailDto(News news, List<Comment> comments);
+
 	@Mapping(target = "createDate", ignore = true)
 	@Mapping(target = "lastUpdateDate", ignore = true)
 	@Mapping(target = "author", ignore = true)
 	@Mapping(target = "tags", ignore = true)
 	@Mapping(target = "comments", ignore = true)
+	@Mapping(target = "commentCount", ignore = true)
 	News dtoToModel(NewsRequestDto request);
 
 	@Mapping(target = "names", ignore = true)
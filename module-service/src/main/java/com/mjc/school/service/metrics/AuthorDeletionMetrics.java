@@ -0,0 +1,123 @@
+package com.mjc.school.service.metrics;
+
+import com.mjc.school.repository.AuthorDeletionListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Totals of bulk author deletions plus the live progress of the deletions that are still
+ * running, so the removal of an author with a very large number of news can be followed. A
+ * deletion only counts towards the totals once its transaction has committed.
+ */
+@Component
+public class AuthorDeletionMetrics {
+
+	private final LongAdder authorsDeleted = new LongAdder();
+	private final LongAdder newsDeleted = new LongAdder();
+	private final LongAdder commentsDeleted = new LongAdder();
+	private final LongAdder tagLinksDeleted = new LongAdder();
+	private final LongAdder finished = new LongAdder();
+	private final LongAdder durationNanos = new LongAdder();
+	private final LongAccumulator maxDurationNanos = new LongAccumulator(Math::max, 0);
+	private final Map<Tracker, Boolean> running = new ConcurrentHashMap<>();
+
+	public Tracker track(final Long authorId) {
+		final Tracker tracker = new Tracker(authorId);
+		running.put(tracker, Boolean.TRUE);
+		return tracker;
+	}
+
+	public AuthorDeletionStats stats() {
+		final List<AuthorDeletionStats.Progress> inProgress = new ArrayList<>();
+		final long now = System.nanoTime();
+		running.keySet().forEach(tracker -> inProgress.add(new AuthorDeletionStats.Progress(
+			tracker.authorId,
+			tracker.newsTotal.get(),
+			tracker.newsDeleted.get(),
+			(now - tracker.startedAt) / 1_000_000.0
+		)));
+		final long count = finished.sum();
+		return new AuthorDeletionStats(
+			authorsDeleted.sum(),
+			newsDeleted.sum(),
+			commentsDeleted.sum(),
+			tagLinksDeleted.sum(),
+			count == 0 ? 0 : durationNanos.sum() / 1_000_000.0 / count,
+			maxDurationNanos.get() / 1_000_000.0,
+			inProgress
+		);
+	}
+
+	public final class Tracker implements AuthorDeletionListener, AutoCloseable {
+
+		private final Long authorId;
+		private final long startedAt = System.nanoTime();
+		private final AtomicLong newsTotal = new AtomicLong();
+		private final AtomicLong newsDeleted = new AtomicLong();
+		private final AtomicLong commentsDeleted = new AtomicLong();
+		private final AtomicLong tagLinksDeleted = new AtomicLong();
+
+		private Tracker(final Long authorId) {
+			this.authorId = authorId;
+		}
+
+		@Override
+		public void onStart(final Long authorId, final int newsTotal) {
+			this.newsTotal.set(newsTotal);
+		}
+
+		@Override
+		public void onBatchDeleted(
+			final Long authorId,
+			final int newsDeleted,
+			final int commentsDeleted,
+			final int tagLinksDeleted
+		) {
+			this.newsDeleted.addAndGet(newsDeleted);
+			this.commentsDeleted.addAndGet(commentsDeleted);
+			this.tagLinksDeleted.addAndGet(tagLinksDeleted);
+		}
+
+		/**
+		 * Adds the deletion to the totals after the surrounding transaction commits, or right away
+		 * outside of one; a rolled back deletion is not counted.
+		 */
+		public void deleted() {
+			if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+				addTotals();
+				return;
+			}
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					addTotals();
+				}
+			});
+		}
+
+		private void addTotals() {
+			authorsDeleted.increment();
+			AuthorDeletionMetrics.this.newsDeleted.add(newsDeleted.get());
+			AuthorDeletionMetrics.this.commentsDeleted.add(commentsDeleted.get());
+			AuthorDeletionMetrics.this.tagLinksDeleted.add(tagLinksDeleted.get());
+		}
+
+		@Override
+		public void close() {
+			final long duration = System.nanoTime() - startedAt;
+			running.remove(this);
+			finished.increment();
+			durationNanos.add(duration);
+			maxDurationNanos.accumulate(duration);
+		}
+	}
+}
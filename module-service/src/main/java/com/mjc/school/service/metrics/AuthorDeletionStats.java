@@ -0,0 +1,18 @@
+package com.mjc.school.service.metrics;
+
+import java.util.List;
+
+public record AuthorDeletionStats(
+	long authorsDeleted,
+	long newsDeleted,
+	long commentsDeleted,
+	long tagLinksDeleted,
+	double averageDurationMs,
+	double maxDurationMs,
+	List<Progress> inProgress
+) {
+
+	public record Progress(Long authorId, long newsTotal, long newsDeleted, double elapsedMs) {
+		// Empty
+	}
+}
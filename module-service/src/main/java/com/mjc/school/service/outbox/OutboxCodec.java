@@ -0,0 +1,56 @@
+package com.mjc.school.service.outbox;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.mjc.school.repository.model.OutboxMessage;
+import com.mjc.school.service.event.DomainEvent;
+import com.mjc.school.service.readmodel.NewsSummary;
+import org.springframework.stereotype.Component;
+
+import java.io.UncheckedIOException;
+
+/**
+ * Stores events as JSON together with their class name. Only {@link DomainEvent} types are ever
+ * instantiated from a stored row. News content is left out: no subscriber reads it, and it would
+ * be most of every row written for saved news, so a decoded {@link NewsSummary} has none.
+ */
+@Component
+public class OutboxCodec {
+
+	private final ObjectMapper objectMapper = JsonMapper.builder()
+		.findAndAddModules()
+		.addMixIn(NewsSummary.class, WithoutContent.class)
+		.build();
+
+	public String encode(final DomainEvent event) {
+		try {
+			return objectMapper.writeValueAsString(event);
+		} catch (final JsonProcessingException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	public DomainEvent decode(final OutboxMessage message) {
+		final Class<?> type;
+		try {
+			type = Class.forName(message.getEventType());
+		} catch (final ClassNotFoundException e) {
+			throw new IllegalStateException("Unknown outbox event type " + message.getEventType(), e);
+		}
+		if (!DomainEvent.class.isAssignableFrom(type)) {
+			throw new IllegalStateException("Outbox event type " + type.getName() + " is not a domain event");
+		}
+		try {
+			return (DomainEvent) objectMapper.readValue(message.getPayload(), type);
+		} catch (final JsonProcessingException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	@JsonIgnoreProperties("content")
+	private interface WithoutContent {
+		// Empty
+	}
+}
@@ -0,0 +1,200 @@
+package com.mjc.school.service.outbox;
+
+import com.mjc.school.repository.OutboxRepository;
+import com.mjc.school.repository.model.OutboxMessage;
+import com.mjc.school.service.event.DomainEvent;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Delivers outbox rows to the {@link OutboxSubscriber}s on one background thread, so subscriber
+ * work never adds to request latency. The thread is woken when a transaction that wrote events
+ * commits, reads up to {@code news.outbox.batch-size} rows in write order and deletes a row only
+ * after every subscriber has handled it. When a row fails, later rows of the same aggregate are
+ * held back until it succeeds, which keeps per-aggregate order; after
+ * {@code news.outbox.max-attempts} failures the row is parked and reported in {@link #stats()}.
+ */
+@Component
+public class OutboxDispatcher implements SmartLifecycle {
+
+	private final OutboxRepository outboxRepository;
+	private final List<OutboxSubscriber> subscribers;
+	private final OutboxCodec codec;
+	private final int batchSize;
+	private final int maxAttempts;
+	private final long retryDelayMs;
+	private final long idlePollMs;
+	private final Semaphore signal = new Semaphore(0);
+	private final LongAdder delivered = new LongAdder();
+	private final LongAdder failedAttempts = new LongAdder();
+	private final LongAdder batches = new LongAdder();
+	private final LongAdder batchedMessages = new LongAdder();
+	private final LongAdder lagNanos = new LongAdder();
+	private final LongAccumulator maxLagNanos = new LongAccumulator(Math::max, 0);
+	private final Map<String, LongAdder> deliveredByType = new ConcurrentHashMap<>();
+	private volatile long lastLagNanos;
+	private volatile String lastFailure;
+	private volatile Thread worker;
+
+	public OutboxDispatcher(
+		final OutboxRepository outboxRepository,
+		final ObjectProvider<OutboxSubscriber> subscribers,
+		final OutboxCodec codec,
+		@Value("${news.outbox.batch-size:100}") final int batchSize,
+		@Value("${news.outbox.max-attempts:10}") final int maxAttempts,
+		@Value("${news.outbox.retry-delay-ms:1000}") final long retryDelayMs,
+		@Value("${news.outbox.idle-poll-ms:30000}") final long idlePollMs
+	) {
+		this.outboxRepository = outboxRepository;
+		this.subscribers = subscribers.orderedStream().toList();
+		this.codec = codec;
+		this.batchSize = batchSize;
+		this.maxAttempts = maxAttempts;
+		this.retryDelayMs = retryDelayMs;
+		this.idlePollMs = idlePollMs;
+	}
+
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onCommitted(final DomainEvent event) {
+		signal.release();
+	}
+
+	/**
+	 * Delivers one batch and returns how it went. Called by the dispatcher thread.
+	 */
+	BatchResult dispatchOnce() {
+		final List<OutboxMessage> batch = outboxRepository.readBatch(batchSize, maxAttempts);
+		if (batch.isEmpty()) {
+			return new BatchResult(0, 0, 0);
+		}
+		final Set<String> blocked = new HashSet<>();
+		final List<Long> deliveredIds = new ArrayList<>();
+		final List<Long> failedIds = new ArrayList<>();
+		for (final OutboxMessage message : batch) {
+			final String aggregate = message.getAggregateType() + ':' + message.getAggregateId();
+			if (blocked.contains(aggregate)) {
+				continue;
+			}
+			try {
+				final DomainEvent event = codec.decode(message);
+				for (final OutboxSubscriber subscriber : subscribers) {
+					subscriber.on(event);
+				}
+				deliveredIds.add(message.getId());
+				recordDelivery(message);
+			} catch (final RuntimeException e) {
+				failedIds.add(message.getId());
+				blocked.add(aggregate);
+				lastFailure = message + ": " + e;
+			}
+		}
+		outboxRepository.deleteByIds(deliveredIds);
+		outboxRepository.incrementAttempts(failedIds);
+		failedAttempts.add(failedIds.size());
+		batches.increment();
+		batchedMessages.add(batch.size());
+		return new BatchResult(batch.size(), deliveredIds.size(), failedIds.size());
+	}
+
+	public OutboxStats stats() {
+		final long deliveredCount = delivered.sum();
+		final long batchCount = batches.sum();
+		final Map<String, Long> byType = new TreeMap<>();
+		deliveredByType.forEach((type, count) -> byType.put(type, count.sum()));
+		return new OutboxStats(
+			outboxRepository.countPending(maxAttempts),
+			outboxRepository.countParked(maxAttempts),
+			deliveredCount,
+			failedAttempts.sum(),
+			batchCount,
+			batchCount == 0 ? 0 : (double) batchedMessages.sum() / batchCount,
+			deliveredCount == 0 ? 0 : lagNanos.sum() / 1_000_000.0 / deliveredCount,
+			maxLagNanos.get() / 1_000_000.0,
+			lastLagNanos / 1_000_000.0,
+			byType,
+			lastFailure
+		);
+	}
+
+	@Override
+	public void start() {
+		final Thread thread = new Thread(this::run, "outbox-dispatcher");
+		thread.setDaemon(true);
+		worker = thread;
+		thread.start();
+	}
+
+	@Override
+	public void stop() {
+		final Thread thread = worker;
+		worker = null;
+		if (thread != null) {
+			thread.interrupt();
+			try {
+				thread.join(TimeUnit.SECONDS.toMillis(5));
+			} catch (final InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+
+	@Override
+	public boolean isRunning() {
+		return worker != null;
+	}
+
+	private void run() {
+		// Rows left over from a previous run are dispatched right away
+		long waitMs = 0;
+		while (worker == Thread.currentThread()) {
+			try {
+				if (waitMs > 0) {
+					signal.tryAcquire(waitMs, TimeUnit.MILLISECONDS);
+				}
+				signal.drainPermits();
+				final BatchResult result = dispatchOnce();
+				if (result.failed() > 0) {
+					waitMs = retryDelayMs;
+				} else {
+					waitMs = result.read() == batchSize ? 0 : idlePollMs;
+				}
+			} catch (final InterruptedException e) {
+				return;
+			} catch (final RuntimeException e) {
+				lastFailure = e.toString();
+				waitMs = retryDelayMs;
+			}
+		}
+	}
+
+	private void recordDelivery(final OutboxMessage message) {
+		final long lag = Duration.between(message.getCreatedAt(), LocalDateTime.now()).toNanos();
+		delivered.increment();
+		lagNanos.add(lag);
+		maxLagNanos.accumulate(lag);
+		lastLagNanos = lag;
+		final String type = message.getEventType().substring(message.getEventType().lastIndexOf('.') + 1);
+		deliveredByType.computeIfAbsent(type, key -> new LongAdder()).increment();
+	}
+
+	record BatchResult(int read, int delivered, int failed) {
+		// Empty
+	}
+}
@@ -0,0 +1,19 @@
+package com.mjc.school.service.outbox;
+
+import java.util.Map;
+
+public record OutboxStats(
+	long pending,
+	long parked,
+	long delivered,
+	long failedAttempts,
+	long batches,
+	double averageBatchSize,
+	double averageLagMs,
+	double maxLagMs,
+	double lastLagMs,
+	Map<String, Long> deliveredByType,
+	String lastFailure
+) {
+	// Empty
+}
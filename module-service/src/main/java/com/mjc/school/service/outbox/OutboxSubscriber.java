@@ -0,0 +1,13 @@
+package com.mjc.school.service.outbox;
+
+import com.mjc.school.service.event.DomainEvent;
+
+/**
+ * Receives domain events from the outbox once the transaction that wrote them has committed.
+ * Delivery is at least once: an event is delivered again to every subscriber when any of them
+ * throws, so handlers have to be idempotent.
+ */
+public interface OutboxSubscriber {
+
+	void on(DomainEvent event);
+}
@@ -0,0 +1,37 @@
+package com.mjc.school.service.outbox;
+
+import com.mjc.school.repository.OutboxRepository;
+import com.mjc.school.repository.model.OutboxMessage;
+import com.mjc.school.service.event.DomainEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * Appends every published domain event to the outbox. The listener runs synchronously on the
+ * publishing thread, so the row joins the transaction of the service method that raised the
+ * event and is committed or rolled back together with the change itself.
+ */
+@Component
+public class OutboxWriter {
+
+	private final OutboxRepository outboxRepository;
+	private final OutboxCodec codec;
+
+	public OutboxWriter(final OutboxRepository outboxRepository, final OutboxCodec codec) {
+		this.outboxRepository = outboxRepository;
+		this.codec = codec;
+	}
+
+	@EventListener
+	public void on(final DomainEvent event) {
+		outboxRepository.create(new OutboxMessage(
+			event.aggregateType(),
+			event.aggregateId(),
+			event.getClass().getName(),
+			codec.encode(event),
+			LocalDateTime.now()
+		));
+	}
+}
@@ -0,0 +1,77 @@
+package com.mjc.school.service.query;
+
+import com.mjc.school.service.exception.ValidationException;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.mjc.school.service.exception.ServiceErrorCode.INVALID_FIELD_SELECTION;
+
+/**
+ * Maps the response fields a client may ask for with {@code fields=} to the entity attributes
+ * that back them, so only the requested columns are selected by the repository.
+ */
+public final class FieldSelection {
+
+	private final String entityName;
+	private final Map<String, String> attributes;
+
+	private FieldSelection(final String entityName, final Map<String, String> attributes) {
+		this.entityName = entityName;
+		this.attributes = Collections.unmodifiableMap(attributes);
+	}
+
+	public static Builder builder(final String entityName) {
+		return new Builder(entityName);
+	}
+
+	/**
+	 * Returns the requested fields with their attribute paths, in response field order.
+	 */
+	public Map<String, String> resolve(final List<String> fields) throws ValidationException {
+		final Map<String, String> requested = new LinkedHashMap<>();
+		for (final String field : fields) {
+			final String name = field.trim();
+			if (!attributes.containsKey(name)) {
+				throw new ValidationException(
+					INVALID_FIELD_SELECTION.getMessage(),
+					INVALID_FIELD_SELECTION.getCode(),
+					name, entityName, attributes.keySet()
+				);
+			}
+			requested.put(name, attributes.get(name));
+		}
+		final Map<String, String> selection = new LinkedHashMap<>();
+		attributes.forEach((name, attribute) -> {
+			if (requested.containsKey(name)) {
+				selection.put(name, attribute);
+			}
+		});
+		return selection;
+	}
+
+	public static final class Builder {
+
+		private final String entityName;
+		private final Map<String, String> attributes = new LinkedHashMap<>();
+
+		private Builder(final String entityName) {
+			this.entityName = entityName;
+		}
+
+		public Builder field(final String name) {
+			return field(name, name);
+		}
+
+		public Builder field(final String name, final String attribute) {
+			attributes.put(name, attribute);
+			return this;
+		}
+
+		public FieldSelection build() {
+			return new FieldSelection(entityName, new LinkedHashMap<>(attributes));
+		}
+	}
+}
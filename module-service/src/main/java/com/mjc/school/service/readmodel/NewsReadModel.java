@@ -0,0 +1,282 @@
+package com.mjc.school.service.readmodel;
+
+import com.mjc.school.repository.NewsRepository;
+import com.mjc.school.service.event.AuthorDeletedEvent;
+import com.mjc.school.service.event.AuthorRenamedEvent;
+import com.mjc.school.service.event.CommentCountChangedEvent;
+import com.mjc.school.service.event.NewsDeletedEvent;
+import com.mjc.school.service.event.NewsSavedEvent;
+import com.mjc.school.service.event.TagDeletedEvent;
+import com.mjc.school.service.event.TagRenamedEvent;
+import com.mjc.school.service.exception.ValidationException;
+import com.mjc.school.service.mapper.NewsMapper;
+import com.mjc.school.service.query.NewsQueryParams;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.function.UnaryOperator;
+import java.util.stream.IntStream;
+
+import static com.mjc.school.service.constants.Constants.NEWS_ENTITY_NAME;
+import static com.mjc.school.service.exception.ServiceErrorCode.INVALID_SORT_FIELD;
+import static java.util.Comparator.comparing;
+import static java.util.Comparator.naturalOrder;
+import static java.util.Comparator.nullsFirst;
+
+/**
+ * Query side of news listings. Rows are flattened {@link NewsSummary} values kept in memory by id;
+ * they are loaded once on startup and afterwards changed only by the domain events the services
+ * publish, applied after the publishing transaction commits. Listings and searches are answered
+ * from here without touching the database.
+ * <p>
+ * Every ordering other than id has a sorted index of row snapshots ordered by that field and id,
+ * so a page is read off the index instead of sorting all rows. Writers are serialized; a reader
+ * takes no lock and skips snapshots whose field no longer matches the current row.
+ */
+@Component
+public class NewsReadModel {
+
+	private static final String ID = "id";
+	private static final Map<String, Comparator<NewsSummary>> ORDERINGS = orderings();
+
+	private final NewsRepository newsRepository;
+	private final NewsMapper mapper;
+	private final ConcurrentNavigableMap<Long, NewsSummary> rows = new ConcurrentSkipListMap<>();
+	private final Map<String, NavigableSet<NewsSummary>> indexes = new LinkedHashMap<>();
+
+	public NewsReadModel(final NewsRepository newsRepository, final NewsMapper mapper) {
+		this.newsRepository = newsRepository;
+		this.mapper = mapper;
+		ORDERINGS.forEach((field, comparator) -> {
+			if (!ID.equals(field)) {
+				indexes.put(field, new ConcurrentSkipListSet<>(comparator.thenComparing(NewsSummary::id)));
+			}
+		});
+	}
+
+	@EventListener(ContextRefreshedEvent.class)
+	public synchronized void rebuild() {
+		final Map<Long, NewsSummary> loaded = new LinkedHashMap<>();
+		newsRepository.readAllWithAuthorAndTags()
+			.forEach(news -> loaded.put(news.getId(), mapper.modelToSummary(news)));
+		List.copyOf(rows.keySet()).forEach(id -> {
+			if (!loaded.containsKey(id)) {
+				update(id, row -> null);
+			}
+		});
+		loaded.forEach((id, row) -> update(id, current -> row));
+	}
+
+	public List<NewsSummary> readAll() {
+		return new ArrayList<>(rows.values());
+	}
+
+	public boolean exists(final Long newsId) {
+		return newsId != null && rows.containsKey(newsId);
+	}
+
+	/**
+	 * Returns a page of rows ordered by {@code field::direction}; ties are ordered by id in the same
+	 * direction.
+	 */
+	public List<NewsSummary> readAll(final int limit, final int offset, final String orderBy)
+			throws ValidationException {
+		final String[] ordering = orderBy.split("::");
+		final String field = ordering[0].trim();
+		final boolean descending = ordering.length > 1 && "desc".equalsIgnoreCase(ordering[1].trim());
+		final Comparator<NewsSummary> comparator = ORDERINGS.get(field);
+		if (comparator == null) {
+			throw new ValidationException(
+				INVALID_SORT_FIELD.getMessage(),
+				INVALID_SORT_FIELD.getCode(),
+				field, NEWS_ENTITY_NAME, ORDERINGS.keySet()
+			);
+		}
+		if (ID.equals(field)) {
+			final Collection<NewsSummary> ordered = descending ? rows.descendingMap().values() : rows.values();
+			return ordered.stream().skip(offset).limit(limit).toList();
+		}
+		final NavigableSet<NewsSummary> index = indexes.get(field);
+		return (descending ? index.descendingSet() : index).stream()
+			.map(snapshot -> current(snapshot, comparator))
+			.filter(Objects::nonNull)
+			.skip(offset)
+			.limit(limit)
+			.toList();
+	}
+
+	/**
+	 * Same matching rules as the repository search: every supplied parameter must hold, and when
+	 * both tag names and tag ids are given a single tag has to satisfy both.
+	 */
+	public List<NewsSummary> search(final NewsQueryParams params) {
+		return rows.values().stream()
+			.filter(row -> params.authorName() == null || params.authorName().equals(row.authorName()))
+			.filter(row -> params.title() == null || contains(row.title(), params.title()))
+			.filter(row -> params.content() == null || contains(row.content(), params.content()))
+			.filter(row -> hasMatchingTag(row, params.tagNames(), params.tagIds()))
+			.toList();
+	}
+
+	@TransactionalEventListener(fallbackExecution = true)
+	public synchronized void on(final NewsSavedEvent event) {
+		final NewsSummary incoming = event.news();
+		update(incoming.id(), current -> {
+			if (current == null) {
+				return incoming;
+			}
+			return isOlder(incoming, current) ? current : withCommentCount(incoming, current.commentCount());
+		});
+	}
+
+	@TransactionalEventListener(fallbackExecution = true)
+	public synchronized void on(final NewsDeletedEvent event) {
+		update(event.newsId(), row -> null);
+	}
+
+	/**
+	 * Renames and tag changes touch no indexed field, so only the rows are replaced.
+	 */
+	@TransactionalEventListener(fallbackExecution = true)
+	public synchronized void on(final AuthorRenamedEvent event) {
+		rows.replaceAll((id, row) -> event.authorId().equals(row.authorId())
+			? withAuthorName(row, event.name())
+			: row);
+	}
+
+	@TransactionalEventListener(fallbackExecution = true)
+	public synchronized void on(final AuthorDeletedEvent event) {
+		rows.values().stream()
+			.filter(row -> event.authorId().equals(row.authorId()))
+			.map(NewsSummary::id)
+			.toList()
+			.forEach(id -> update(id, row -> null));
+	}
+
+	@TransactionalEventListener(fallbackExecution = true)
+	public synchronized void on(final TagRenamedEvent event) {
+		rows.replaceAll((id, row) -> withTagName(row, event.tagId(), event.name()));
+	}
+
+	@TransactionalEventListener(fallbackExecution = true)
+	public synchronized void on(final TagDeletedEvent event) {
+		rows.replaceAll((id, row) -> withoutTag(row, event.tagId()));
+	}
+
+	@TransactionalEventListener(fallbackExecution = true)
+	public synchronized void on(final CommentCountChangedEvent event) {
+		update(event.newsId(),
+			row -> row == null ? null : withCommentCount(row, row.commentCount() + event.delta()));
+	}
+
+	/**
+	 * Replaces the row under {@code id}, or removes it when {@code change} returns {@code null}.
+	 * The new snapshot is indexed before the row is stored and the old one dropped after, so a
+	 * reader finds the row exactly once at every step. Callers hold the monitor.
+	 */
+	private void update(final Long id, final UnaryOperator<NewsSummary> change) {
+		final NewsSummary previous = rows.get(id);
+		final NewsSummary next = change.apply(previous);
+		if (next == previous) {
+			return;
+		}
+		if (next != null) {
+			indexes.values().forEach(index -> index.add(next));
+			rows.put(id, next);
+		} else {
+			rows.remove(id);
+		}
+		if (previous != null) {
+			indexes.values().forEach(index -> {
+				if (next == null || index.comparator().compare(previous, next) != 0) {
+					index.remove(previous);
+				}
+			});
+		}
+	}
+
+	/**
+	 * The row {@code snapshot} was indexed for, or {@code null} once the row has been removed or
+	 * its field has changed; the row is then found under its newer snapshot.
+	 */
+	private NewsSummary current(final NewsSummary snapshot, final Comparator<NewsSummary> comparator) {
+		final NewsSummary row = rows.get(snapshot.id());
+		return row != null && comparator.compare(snapshot, row) == 0 ? row : null;
+	}
+
+	private static NewsSummary withAuthorName(final NewsSummary row, final String name) {
+		return new NewsSummary(row.id(), row.title(), row.content(), row.createDate(), row.lastUpdateDate(),
+			row.authorId(), name, row.tagIds(), row.tagNames(), row.commentCount());
+	}
+
+	private static NewsSummary withTagName(final NewsSummary row, final Long tagId, final String name) {
+		final int index = row.tagIds().indexOf(tagId);
+		if (index < 0) {
+			return row;
+		}
+		final List<String> names = new ArrayList<>(row.tagNames());
+		names.set(index, name);
+		return new NewsSummary(row.id(), row.title(), row.content(), row.createDate(), row.lastUpdateDate(),
+			row.authorId(), row.authorName(), row.tagIds(), names, row.commentCount());
+	}
+
+	private static NewsSummary withoutTag(final NewsSummary row, final Long tagId) {
+		final int index = row.tagIds().indexOf(tagId);
+		if (index < 0) {
+			return row;
+		}
+		final List<Long> ids = new ArrayList<>(row.tagIds());
+		final List<String> names = new ArrayList<>(row.tagNames());
+		ids.remove(index);
+		names.remove(index);
+		return new NewsSummary(row.id(), row.title(), row.content(), row.createDate(), row.lastUpdateDate(),
+			row.authorId(), row.authorName(), ids, names, row.commentCount());
+	}
+
+	private static NewsSummary withCommentCount(final NewsSummary row, final long count) {
+		return new NewsSummary(row.id(), row.title(), row.content(), row.createDate(), row.lastUpdateDate(),
+			row.authorId(), row.authorName(), row.tagIds(), row.tagNames(), count);
+	}
+
+	private static boolean isOlder(final NewsSummary candidate, final NewsSummary current) {
+		return candidate.lastUpdateDate() != null && current.lastUpdateDate() != null
+			&& candidate.lastUpdateDate().isBefore(current.lastUpdateDate());
+	}
+
+	private static boolean contains(final String value, final String part) {
+		return value != null && value.contains(part);
+	}
+
+	private static boolean hasMatchingTag(final NewsSummary row, final List<String> names, final List<Long> ids) {
+		if (names == null && ids == null) {
+			return true;
+		}
+		return IntStream.range(0, row.tagIds().size()).anyMatch(index ->
+			(names == null || names.contains(row.tagNames().get(index)))
+				&& (ids == null || ids.contains(row.tagIds().get(index))));
+	}
+
+	private static Map<String, Comparator<NewsSummary>> orderings() {
+		final Map<String, Comparator<NewsSummary>> orderings = new LinkedHashMap<>();
+		orderings.put(ID, comparing(NewsSummary::id));
+		orderings.put("title", comparing(NewsSummary::title, nullsFirst(naturalOrder())));
+		orderings.put("content", comparing(NewsSummary::content, nullsFirst(naturalOrder())));
+		orderings.put("createDate", comparing(NewsSummary::createDate, nullsFirst(naturalOrder())));
+		orderings.put("lastUpdateDate", comparing(NewsSummary::lastUpdateDate, nullsFirst(naturalOrder())));
+		orderings.put("commentCount", comparing(NewsSummary::commentCount));
+		return orderings;
+	}
+}
@@ -0,0 +1,27 @@
+package com.mjc.school.service.readmodel;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * One row of the news read model: news with its author name, tags and comment count already
+ * resolved, so listings are answered without joining Author, News_tags and Tag.
+ */
+public record NewsSummary(
+	Long id,
+	String title,
+	String content,
+	LocalDateTime createDate,
+	LocalDateTime lastUpdateDate,
+	Long authorId,
+	String authorName,
+	List<Long> tagIds,
+	List<String> tagNames,
+	long commentCount
+) {
+
+	public NewsSummary {
+		tagIds = tagIds == null ? List.of() : List.copyOf(tagIds);
+		tagNames = tagNames == null ? List.of() : List.copyOf(tagNames);
+	}
+}
@@ -3,11 +3,8 @@ package com.mjc.school.service;
 import com.mjc.school.repository.AuthorRepository;
 import com.mjc.school.repository.CommentRepository;
 import com.mjc.school.repository.NewsRepository;
+import com.mjc.school.repository.OutboxRepository;
 import com.mjc.school.repository.TagRepository;
-import com.mjc.school.repository.impl.AuthorRepositoryImpl;
-import com.mjc.school.repository.impl.CommentRepositoryImpl;
-import com.mjc.school.repository.impl.NewsRepositoryImpl;
-import com.mjc.school.repository.impl.TagRepositoryImpl;
 import com.mjc.school.service.mapper.AuthorMapper;
 import com.mjc.school.service.mapper.CommentMapper;
 import com.mjc.school.service.mapper.NewsMapper;
@@ -17,6 +14,7 @@ import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.EnableAspectJAutoProxy;
 import org.springframework.context.annotation.Primary;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import static org.mockito.Mockito.mock;
 
@@ -28,25 +26,31 @@ public class ServiceAopTestConfiguration {
 	@Bean
 	@Primary
 	public AuthorRepository authorRepository() {
-		return mock(AuthorRepositoryImpl.class);
+		return mock(AuthorRepository.class);
 	}
 
 	@Bean
 	@Primary
 	public CommentRepository commentRepository() {
-		return mock(CommentRepositoryImpl.class);
+		return mock(CommentRepository.class);
 	}
 
 	@Bean
 	@Primary
 	public NewsRepository newsRepository() {
-		return mock(NewsRepositoryImpl.class);
+		return mock(NewsRepository.class);
+	}
+
+	@Bean
+	@Primary
+	public OutboxRepository outboxRepository() {
+		return mock(OutboxRepository.class);
 	}
 
 	@Bean
 	@Primary
 	public TagRepository tagRepository() {
-		return mock(TagRepositoryImpl.class);
+		return mock(TagRepository.class);
 	}
 
 	@Bean
@@ -72,4 +76,9 @@ public class ServiceAopTestConfiguration {
 	public TagMapper tagMapper() {
 		return mock(TagMapper.class);
 	}
+
+	@Bean
+	public PlatformTransactionManager transactionManager() {
+		return mock(PlatformTransactionManager.class);
+	}
 }
\ No newline at end of file
@@ -0,0 +1,97 @@
+package com.mjc.school.service.coalescing;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SingleFlightTest {
+
+	private final SingleFlight singleFlight = new SingleFlight();
+	private final AtomicInteger calls = new AtomicInteger();
+
+	@Test
+	void execute_shouldShareInFlightCall_whenKeysAreEqual() throws Exception {
+		final CountDownLatch started = new CountDownLatch(1);
+		final CountDownLatch release = new CountDownLatch(1);
+		final CompletableFuture<Object> leader = CompletableFuture.supplyAsync(() -> execute("key", () -> {
+			started.countDown();
+			release.await(5, TimeUnit.SECONDS);
+			return calls.incrementAndGet();
+		}));
+		started.await(5, TimeUnit.SECONDS);
+		final CompletableFuture<Object> follower = CompletableFuture.supplyAsync(() ->
+			execute("key", calls::incrementAndGet));
+		awaitCoalesced(1);
+		release.countDown();
+
+		assertEquals(1, leader.get(5, TimeUnit.SECONDS));
+		assertEquals(1, follower.get(5, TimeUnit.SECONDS));
+		assertEquals(1, calls.get());
+		assertEquals(0, singleFlight.stats().inFlight());
+	}
+
+	@Test
+	void execute_shouldShareException_whenInFlightCallFails() throws Exception {
+		final IllegalStateException failure = new IllegalStateException("failure");
+		final CountDownLatch started = new CountDownLatch(1);
+		final CountDownLatch release = new CountDownLatch(1);
+		final CompletableFuture<Object> leader = CompletableFuture.supplyAsync(() -> execute("key", () -> {
+			started.countDown();
+			release.await(5, TimeUnit.SECONDS);
+			throw failure;
+		}));
+		started.await(5, TimeUnit.SECONDS);
+		final CompletableFuture<Object> follower = CompletableFuture.supplyAsync(() ->
+			execute("key", calls::incrementAndGet));
+		awaitCoalesced(1);
+		release.countDown();
+
+		assertSame(failure, assertThrows(ExecutionException.class, () -> leader.get(5, TimeUnit.SECONDS)).getCause());
+		assertSame(failure, assertThrows(ExecutionException.class, () -> follower.get(5, TimeUnit.SECONDS)).getCause());
+		assertEquals(0, calls.get());
+	}
+
+	@Test
+	void execute_shouldRunAgain_whenPreviousCallHasFinished() throws Throwable {
+		singleFlight.execute("key", calls::incrementAndGet);
+		singleFlight.execute("key", calls::incrementAndGet);
+
+		assertEquals(2, calls.get());
+		assertEquals(2, singleFlight.stats().executedCalls());
+		assertEquals(0, singleFlight.stats().coalescedCalls());
+	}
+
+	@Test
+	void execute_shouldPropagateCheckedException() {
+		final Exception failure = new Exception("checked");
+
+		assertSame(failure, assertThrows(Exception.class, () -> singleFlight.execute("key", () -> {
+			throw failure;
+		})));
+	}
+
+	private Object execute(final Object key, final SingleFlight.Call call) {
+		try {
+			return singleFlight.execute(key, call);
+		} catch (final RuntimeException e) {
+			throw e;
+		} catch (final Throwable e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private void awaitCoalesced(final long expected) throws InterruptedException {
+		final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+		while (singleFlight.stats().coalescedCalls() < expected && System.nanoTime() < deadline) {
+			Thread.sleep(1);
+		}
+	}
+}
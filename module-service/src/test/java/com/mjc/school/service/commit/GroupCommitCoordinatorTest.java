@@ -0,0 +1,174 @@
+package com.mjc.school.service.commit;
+
+import com.mjc.school.service.exception.EntityNotFoundException;
+import com.mjc.school.service.exception.IngestionOverloadedServiceException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static com.mjc.school.service.exception.ServiceErrorCode.ENTITY_NOT_FOUND_BY_ID;
+import static com.mjc.school.service.exception.ServiceErrorCode.GROUP_COMMIT_OVERLOADED;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class GroupCommitCoordinatorTest {
+
+	private static final int CALLERS = 16;
+
+	private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+	private final ExecutorService callers = Executors.newFixedThreadPool(CALLERS);
+	private GroupCommitCoordinator coordinator;
+
+	private GroupCommitCoordinator coordinator(final long timeoutMs) {
+		when(transactionManager.getTransaction(any())).thenAnswer(invocation -> new SimpleTransactionStatus());
+		doAnswer(invocation -> {
+			invocation.<SimpleTransactionStatus>getArgument(0).setCompleted();
+			return null;
+		}).when(transactionManager).commit(any(TransactionStatus.class));
+		doAnswer(invocation -> {
+			invocation.<SimpleTransactionStatus>getArgument(0).setCompleted();
+			return null;
+		}).when(transactionManager).rollback(any(TransactionStatus.class));
+		coordinator = new GroupCommitCoordinator(transactionManager, true, 50_000, 64, timeoutMs);
+		coordinator.start();
+		return coordinator;
+	}
+
+	@AfterEach
+	void stop() {
+		if (coordinator != null) {
+			coordinator.stop();
+		}
+		callers.shutdown();
+	}
+
+	private CompletableFuture<Object> submit(final GroupCommitCoordinator.Work work) {
+		return CompletableFuture.supplyAsync(() -> {
+			try {
+				return coordinator.execute(work);
+			} catch (final RuntimeException e) {
+				throw e;
+			} catch (final Throwable e) {
+				throw new IllegalStateException(e);
+			}
+		}, callers);
+	}
+
+	@Test
+	void execute_shouldCommitConcurrentCallersTogether_whenEnabled() {
+		coordinator(5000);
+
+		final List<CompletableFuture<Object>> results = IntStream.range(0, CALLERS)
+			.mapToObj(i -> submit(() -> i))
+			.toList();
+
+		IntStream.range(0, CALLERS).forEach(i -> assertEquals(i, results.get(i).join()));
+		final GroupCommitStats stats = coordinator.stats();
+		assertEquals(CALLERS, stats.transactions());
+		assertTrue(stats.commits() < CALLERS);
+	}
+
+	@Test
+	void execute_shouldFailOnlyFailingCaller_whenGroupFails() {
+		coordinator(5000);
+		final IllegalStateException failure = new IllegalStateException("Name is taken");
+
+		final CompletableFuture<Object> first = submit(() -> "first");
+		final CompletableFuture<Object> failing = submit(() -> {
+			throw failure;
+		});
+		final CompletableFuture<Object> last = submit(() -> "last");
+
+		assertEquals("first", first.join());
+		assertEquals("last", last.join());
+		assertEquals(failure, assertThrows(CompletionException.class, failing::join).getCause());
+		verify(transactionManager, atLeastOnce()).rollback(any());
+		assertEquals(1, coordinator.stats().failed());
+	}
+
+	@Test
+	void execute_shouldRejectWork_whenCoordinatorIsStopped() {
+		coordinator(5000).stop();
+
+		final IngestionOverloadedServiceException thrown =
+			assertThrows(IngestionOverloadedServiceException.class, () -> coordinator.execute(() -> "late"));
+
+		assertEquals(GROUP_COMMIT_OVERLOADED.getCode(), thrown.getErrorCode());
+		assertEquals(1, coordinator.stats().rejected());
+	}
+
+	@Test
+	void execute_shouldCommitRestOfGroup_whenUnitIsTurnedDown() {
+		coordinator(5000);
+		final EntityNotFoundException notFound = new EntityNotFoundException(
+			ENTITY_NOT_FOUND_BY_ID.getMessage(), ENTITY_NOT_FOUND_BY_ID.getCode());
+
+		final CompletableFuture<Object> first = submit(() -> "first");
+		final CompletableFuture<Object> turnedDown = submit(() -> {
+			throw notFound;
+		});
+		final CompletableFuture<Object> last = submit(() -> "last");
+
+		assertEquals("first", first.join());
+		assertEquals("last", last.join());
+		assertEquals(notFound, assertThrows(CompletionException.class, turnedDown::join).getCause());
+		verify(transactionManager, never()).rollback(any());
+		final GroupCommitStats stats = coordinator.stats();
+		assertEquals(0, stats.retriedGroups());
+		assertEquals(1, stats.failed());
+		assertEquals(3, stats.transactions());
+	}
+
+	@Test
+	void execute_shouldWaitForOutcome_whenUnitIsRunningAtTimeout() {
+		coordinator(100);
+
+		final CompletableFuture<Object> slow = submit(() -> {
+			Thread.sleep(500);
+			return "committed";
+		});
+
+		assertEquals("committed", slow.join());
+		assertEquals(0, coordinator.stats().rejected());
+	}
+
+	@Test
+	void execute_shouldRejectWork_whenUnitIsStillQueuedAtTimeout() throws Exception {
+		coordinator(100);
+		final CountDownLatch started = new CountDownLatch(1);
+		final CountDownLatch release = new CountDownLatch(1);
+		final CompletableFuture<Object> running = submit(() -> {
+			started.countDown();
+			return release.await(5, TimeUnit.SECONDS);
+		});
+		started.await(5, TimeUnit.SECONDS);
+
+		final CompletableFuture<Object> queued = submit(() -> "late");
+
+		assertInstanceOf(IngestionOverloadedServiceException.class,
+			assertThrows(CompletionException.class, queued::join).getCause());
+		release.countDown();
+		assertEquals(true, running.join());
+		assertEquals(1, coordinator.stats().rejected());
+	}
+}
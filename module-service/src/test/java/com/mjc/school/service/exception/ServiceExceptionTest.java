@@ -0,0 +1,46 @@
+package com.mjc.school.service.exception;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.mjc.school.service.exception.ServiceErrorCode.ENTITY_NOT_FOUND_BY_ID;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class ServiceExceptionTest {
+
+	@Test
+	void constructor_shouldNotCaptureStackTrace_whenExceptionIsCreated() {
+		final EntityNotFoundException e = new EntityNotFoundException(
+			ENTITY_NOT_FOUND_BY_ID.getMessage(),
+			ENTITY_NOT_FOUND_BY_ID.getCode(),
+			"News", 7L
+		);
+		e.addSuppressed(new IllegalStateException());
+
+		assertEquals(0, e.getStackTrace().length);
+		assertEquals(0, e.getSuppressed().length);
+	}
+
+	@Test
+	void getMessage_shouldFormatOnFirstReadAndReuseResult_whenArgumentsAreGiven() {
+		final List<String> violations = new ArrayList<>();
+		final ValidationException e = new ValidationException("Validation failed: %s", "000001", violations);
+		violations.add("name is blank");
+
+		final String message = e.getMessage();
+
+		assertEquals("Validation failed: [name is blank]", message);
+		assertSame(message, e.getMessage());
+	}
+
+	@Test
+	void getMessage_shouldReturnMessageVerbatim_whenNoArgumentsAreGiven() {
+		final ServiceException e = new ServiceException("100% taken", "001001");
+
+		assertEquals("100% taken", e.getMessage());
+		assertEquals("001001", e.getErrorCode());
+	}
+}
@@ -22,6 +22,8 @@ import java.util.Optional;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(SpringExtension.class)
@@ -68,7 +70,7 @@ public class AuthorServiceImplAopTest {
 			when(authorMapper.dtoToModel(request)).thenReturn(mappedAuthor);
 			final LocalDateTime date = LocalDateTime.now();
 			final Author savedAuthor = new Author(authorId, authorName, date, date);
-			when(authorRepository.create(any())).thenReturn(savedAuthor);
+			when(authorRepository.createIfAbsent(any())).thenReturn(Optional.of(savedAuthor));
 			final AuthorResponseDto response = Util.authorToDTO(savedAuthor);
 			when(authorMapper.modelToDto(savedAuthor)).thenReturn(response);
 			assertDoesNotThrow(() -> authorService.create(request));
@@ -192,7 +194,7 @@ public class AuthorServiceImplAopTest {
 		void deleteById_shouldNotThrowValidationException_whenIdIsValid() {
 			final long id = 5L;
 			when(authorRepository.existById(id)).thenReturn(true);
-			when(authorRepository.deleteById(id)).thenReturn(true);
+			when(authorRepository.deleteWithNews(eq(id), anyInt(), any())).thenReturn(true);
 
 			assertDoesNotThrow(() -> authorService.deleteById(id));
 		}
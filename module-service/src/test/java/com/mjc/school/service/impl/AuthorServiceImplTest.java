@@ -1,20 +1,26 @@
 package com.mjc.school.service.impl;
 
+import com.mjc.school.repository.AuthorDeletionListener;
 import com.mjc.school.repository.AuthorRepository;
 import com.mjc.school.repository.exception.EntityConstraintViolationRepositoryException;
 import com.mjc.school.repository.model.Author;
 import com.mjc.school.service.dto.AuthorRequestDto;
 import com.mjc.school.service.dto.AuthorResponseDto;
+import com.mjc.school.service.event.AuthorDeletedEvent;
 import com.mjc.school.service.exception.EntityConstraintViolationServiceException;
 import com.mjc.school.service.exception.EntityNotFoundException;
 import com.mjc.school.service.mapper.AuthorMapper;
+import com.mjc.school.service.metrics.AuthorDeletionMetrics;
+import com.mjc.school.service.metrics.AuthorDeletionStats;
 import com.mjc.school.service.util.Util;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -27,6 +33,8 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
@@ -39,6 +47,10 @@ class AuthorServiceImplTest {
 	private AuthorRepository authorRepository;
 	@Mock
 	private AuthorMapper authorMapper;
+	@Spy
+	private AuthorDeletionMetrics deletionMetrics = new AuthorDeletionMetrics();
+	@Mock
+	private ApplicationEventPublisher eventPublisher;
 	@InjectMocks
 	private AuthorServiceImpl authorService;
 
@@ -49,7 +61,17 @@ class AuthorServiceImplTest {
 		void create_shouldThrowEntityConstraintViolationServiceException_whenNameAlreadyExists() {
 			final String authorName = "Conflicting name";
 			final AuthorRequestDto request = new AuthorRequestDto(null, authorName);
-			when(authorRepository.create(any())).thenThrow(
+			when(authorRepository.createIfAbsent(any())).thenReturn(Optional.empty());
+
+			assertThrows(EntityConstraintViolationServiceException.class,
+				() -> authorService.create(request));
+		}
+
+		@Test
+		void create_shouldThrowEntityConstraintViolationServiceException_whenConcurrentCreateTakesName() {
+			final String authorName = "Conflicting name";
+			final AuthorRequestDto request = new AuthorRequestDto(null, authorName);
+			when(authorRepository.createIfAbsent(any())).thenThrow(
 				new EntityConstraintViolationRepositoryException("Constraint violation"));
 
 			assertThrows(EntityConstraintViolationServiceException.class,
@@ -65,14 +87,14 @@ class AuthorServiceImplTest {
 			when(authorMapper.dtoToModel(request)).thenReturn(mappedAuthor);
 			final LocalDateTime date = LocalDateTime.now();
 			final Author savedAuthor = new Author(authorId, authorName, date, date);
-			when(authorRepository.create(any())).thenReturn(savedAuthor);
+			when(authorRepository.createIfAbsent(any())).thenReturn(Optional.of(savedAuthor));
 			final AuthorResponseDto response = Util.authorToDTO(savedAuthor);
 			when(authorMapper.modelToDto(savedAuthor)).thenReturn(response);
 
 			final AuthorResponseDto result = authorService.create(request);
 
 			verify(authorMapper, times(1)).dtoToModel(request);
-			verify(authorRepository, times(1)).create(mappedAuthor);
+			verify(authorRepository, times(1)).createIfAbsent(mappedAuthor);
 			verify(authorMapper, times(1)).modelToDto(savedAuthor);
 			assertEquals(response, result);
 		}
@@ -203,29 +225,44 @@ class AuthorServiceImplTest {
 
 			assertThrows(EntityNotFoundException.class, () -> authorService.deleteById(id));
 			verify(authorRepository, times(1)).existById(id);
-			verify(authorRepository, times(0)).deleteById(id);
+			verify(authorRepository, times(0)).deleteWithNews(any(), anyInt(), any());
 		}
 
 		@Test
 		void deleteById_shouldReturnTrue_whenRepositoryDeletesEntityById() {
 			final long id = 15L;
 			when(authorRepository.existById(id)).thenReturn(true);
-			when(authorRepository.deleteById(id)).thenReturn(true);
+			when(authorRepository.deleteWithNews(eq(id), anyInt(), any())).thenAnswer(invocation -> {
+				final AuthorDeletionListener listener = invocation.getArgument(2);
+				listener.onStart(id, 3);
+				listener.onBatchDeleted(id, 2, 5, 1);
+				listener.onBatchDeleted(id, 1, 0, 0);
+				return true;
+			});
 
 			assertTrue(authorService.deleteById(id));
 			verify(authorRepository, times(1)).existById(id);
-			verify(authorRepository, times(1)).deleteById(id);
+			verify(authorRepository, times(1)).deleteWithNews(eq(id), anyInt(), any());
+			verify(authorRepository, times(0)).deleteById(id);
+			verify(eventPublisher, times(1)).publishEvent(new AuthorDeletedEvent(id));
+			final AuthorDeletionStats stats = deletionMetrics.stats();
+			assertEquals(1, stats.authorsDeleted());
+			assertEquals(3, stats.newsDeleted());
+			assertEquals(5, stats.commentsDeleted());
+			assertEquals(1, stats.tagLinksDeleted());
+			assertTrue(stats.inProgress().isEmpty());
 		}
 
 		@Test
 		void deleteById_shouldReturnFalse_whenRepositoryDoesNotDeleteEntityById() {
 			final long id = 99L;
 			when(authorRepository.existById(id)).thenReturn(true);
-			when(authorRepository.deleteById(id)).thenReturn(false);
+			when(authorRepository.deleteWithNews(eq(id), anyInt(), any())).thenReturn(false);
 
 			assertFalse(authorService.deleteById(id));
 			verify(authorRepository, times(1)).existById(id);
-			verify(authorRepository, times(1)).deleteById(id);
+			verify(authorRepository, times(1)).deleteWithNews(eq(id), anyInt(), any());
+			assertEquals(0, deletionMetrics.stats().authorsDeleted());
 		}
 	}
 }
\ No newline at end of file
@@ -22,6 +22,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
+import static com.mjc.school.service.constants.Constants.COMMENT_PAGE_LIMIT_MAX;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
@@ -210,4 +211,14 @@ public class CommentServiceImplAopTest {
 			assertDoesNotThrow(() -> commentService.deleteById(id));
 		}
 	}
-}
\ No newline at end of file
+
+	@Nested
+	class TestReadCommentsByNewsIdAfter {
+
+		@Test
+		void readCommentsByNewsIdAfter_shouldThrowValidationException_whenLimitExceedsMaximum() {
+			assertThrows(ValidationException.class,
+				() -> commentService.readCommentsByNewsIdAfter(1L, 0L, COMMENT_PAGE_LIMIT_MAX + 1));
+		}
+	}
+}
@@ -4,9 +4,12 @@ import com.mjc.school.repository.CommentRepository;
 import com.mjc.school.repository.NewsRepository;
 import com.mjc.school.repository.model.Comment;
 import com.mjc.school.repository.model.News;
+import com.mjc.school.service.dto.CommentPageResponseDto;
 import com.mjc.school.service.dto.CommentRequestDto;
 import com.mjc.school.service.dto.CommentResponseDto;
+import com.mjc.school.service.event.CommentCountChangedEvent;
 import com.mjc.school.service.exception.EntityNotFoundException;
+import com.mjc.school.service.ingestion.CommentIngestion;
 import com.mjc.school.service.mapper.CommentMapper;
 import com.mjc.school.service.util.Util;
 import org.junit.jupiter.api.Nested;
@@ -15,6 +18,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -23,9 +27,11 @@ import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
@@ -40,6 +46,10 @@ class CommentServiceImplTest {
 	private CommentRepository commentRepository;
 	@Mock
 	private CommentMapper commentMapper;
+	@Mock
+	private CommentIngestion commentIngestion;
+	@Mock
+	private ApplicationEventPublisher eventPublisher;
 	@InjectMocks
 	private CommentServiceImpl commentService;
 
@@ -55,18 +65,17 @@ class CommentServiceImplTest {
 			final CommentRequestDto request = new CommentRequestDto(null, content, 1L);
 			final Comment mappedComment = Util.dtoToComment(request);
 			when(commentMapper.dtoToModel(request)).thenReturn(mappedComment);
-			when(newsRepository.readById(newsId)).thenReturn(Optional.of(news));
 			final Comment savedComment = new Comment(commentId, content, news, null, null);
-			when(commentRepository.create(any())).thenReturn(savedComment);
+			when(commentIngestion.create(mappedComment, newsId)).thenReturn(savedComment);
 			final CommentResponseDto response = Util.commentToDto(savedComment);
 			when(commentMapper.modelToDto(savedComment)).thenReturn(response);
 
 			final CommentResponseDto result = commentService.create(request);
 
 			verify(commentMapper, times(1)).dtoToModel(request);
-			verify(newsRepository, times(1)).readById(newsId);
-			verify(commentRepository, times(1)).create(mappedComment);
+			verify(commentIngestion, times(1)).create(mappedComment, newsId);
 			verify(commentMapper, times(1)).modelToDto(savedComment);
+			verifyNoInteractions(commentRepository);
 			assertEquals(response, result);
 		}
 	}
@@ -131,6 +140,72 @@ class CommentServiceImplTest {
 		}
 	}
 
+	@Nested
+	class TestReadCommentsByNewsIdAfter {
+
+		@Test
+		void readCommentsByNewsIdAfter_shouldThrowEntityNotFoundException_whenNewsNotFound() {
+			final long newsId = 99L;
+			when(newsRepository.existById(newsId)).thenReturn(false);
+
+			assertThrows(EntityNotFoundException.class, () -> commentService.readCommentsByNewsIdAfter(newsId, 0L, 2));
+			verifyNoInteractions(commentRepository);
+		}
+
+		@Test
+		void readCommentsByNewsIdAfter_shouldReturnLastIdAsCursor_whenMoreCommentsFollow() {
+			final long newsId = 1L;
+			final News news = Util.createTestNews(newsId);
+			final List<Comment> comments = Arrays.asList(
+				new Comment(4L, "Content", news, null, null),
+				new Comment(7L, "Content", news, null, null),
+				new Comment(9L, "Content", news, null, null)
+			);
+			final List<Comment> page = comments.subList(0, 2);
+			when(newsRepository.existById(newsId)).thenReturn(true);
+			when(commentRepository.readCommentsByNewsIdAfter(newsId, 3L, 3)).thenReturn(comments);
+			when(commentMapper.modelListToDtoList(page)).thenReturn(Util.commentListToDtoList(page));
+
+			final CommentPageResponseDto result = commentService.readCommentsByNewsIdAfter(newsId, 3L, 2);
+
+			assertEquals(2, result.comments().size());
+			assertEquals(7L, result.nextCursor());
+		}
+
+		@Test
+		void readCommentsByNewsIdAfter_shouldReturnNullCursor_whenLastPageIsExactlyFull() {
+			final long newsId = 1L;
+			final News news = Util.createTestNews(newsId);
+			final List<Comment> comments = Arrays.asList(
+				new Comment(4L, "Content", news, null, null),
+				new Comment(7L, "Content", news, null, null)
+			);
+			when(newsRepository.existById(newsId)).thenReturn(true);
+			when(commentRepository.readCommentsByNewsIdAfter(newsId, 3L, 3)).thenReturn(comments);
+			when(commentMapper.modelListToDtoList(comments)).thenReturn(Util.commentListToDtoList(comments));
+
+			final CommentPageResponseDto result = commentService.readCommentsByNewsIdAfter(newsId, 3L, 2);
+
+			assertEquals(2, result.comments().size());
+			assertNull(result.nextCursor());
+		}
+
+		@Test
+		void readCommentsByNewsIdAfter_shouldReturnNullCursor_whenPageIsNotFull() {
+			final long newsId = 1L;
+			final News news = Util.createTestNews(newsId);
+			final List<Comment> comments = List.of(new Comment(4L, "Content", news, null, null));
+			when(newsRepository.existById(newsId)).thenReturn(true);
+			when(commentRepository.readCommentsByNewsIdAfter(newsId, 0L, 3)).thenReturn(comments);
+			when(commentMapper.modelListToDtoList(comments)).thenReturn(Util.commentListToDtoList(comments));
+
+			final CommentPageResponseDto result = commentService.readCommentsByNewsIdAfter(newsId, 0L, 2);
+
+			assertEquals(1, result.comments().size());
+			assertNull(result.nextCursor());
+		}
+	}
+
 	@Nested
 	class TestUpdate {
 
@@ -200,6 +275,8 @@ class CommentServiceImplTest {
 			assertTrue(commentService.deleteById(id));
 			verify(commentRepository, times(1)).readById(id);
 			verify(commentRepository, times(1)).deleteById(id);
+			verify(newsRepository, times(1)).adjustCommentCount(newsId, -1);
+			verify(eventPublisher, times(1)).publishEvent(new CommentCountChangedEvent(newsId, -1));
 		}
 
 		@Test
@@ -217,6 +294,7 @@ class CommentServiceImplTest {
 			assertFalse(commentService.deleteById(id));
 			verify(commentRepository, times(1)).readById(id);
 			verify(commentRepository, times(1)).deleteById(id);
+			verify(newsRepository, times(0)).adjustCommentCount(any(), anyLong());
 		}
 	}
 }
\ No newline at end of file
@@ -5,7 +5,10 @@ import com.mjc.school.repository.NewsRepository;
 import com.mjc.school.repository.model.News;
 import com.mjc.school.service.NewsService;
 import com.mjc.school.service.ServiceAopTestConfiguration;
+import com.mjc.school.service.coalescing.SingleFlight;
 import com.mjc.school.service.dto.NewsRequestDto;
+import com.mjc.school.service.dto.NewsResponseDto;
+import com.mjc.school.service.event.CommentCountChangedEvent;
 import com.mjc.school.service.exception.ValidationException;
 import com.mjc.school.service.mapper.NewsMapper;
 import com.mjc.school.service.util.Util;
@@ -13,16 +16,26 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(SpringExtension.class)
@@ -37,6 +50,10 @@ public class NewsServiceImplAopTest {
 	private NewsRepository newsRepository;
 	@Autowired
 	private NewsService newsService;
+	@Autowired
+	private SingleFlight singleFlight;
+	@Autowired
+	private ApplicationEventPublisher eventPublisher;
 
 	@Nested
 	class TestCreate {
@@ -139,8 +156,9 @@ public class NewsServiceImplAopTest {
 				new ArrayList<>(),
 				new ArrayList<>()
 			);
-			when(newsRepository.create(any())).thenReturn(savedNews);
+			when(newsRepository.createIfAbsent(any())).thenReturn(Optional.of(savedNews));
 			when(newsMapper.modelToDto(savedNews)).thenReturn(Util.newsToDTO(savedNews));
+			when(newsMapper.modelToSummary(savedNews)).thenReturn(Util.newsToSummary(savedNews));
 
 			assertDoesNotThrow(() -> newsService.create(request));
 		}
@@ -176,6 +194,79 @@ public class NewsServiceImplAopTest {
 
 			assertDoesNotThrow(() -> newsService.readById(id));
 		}
+
+		@Test
+		void readById_shouldReadRepositoryOnce_whenIdenticalCallsOverlap() throws Exception {
+			final long id = 77L;
+			final News toBeFound = Util.createTestNews(id);
+			final CountDownLatch started = new CountDownLatch(1);
+			final CountDownLatch release = new CountDownLatch(1);
+			when(newsRepository.readById(id)).thenAnswer(invocation -> {
+				started.countDown();
+				release.await(5, TimeUnit.SECONDS);
+				return Optional.of(toBeFound);
+			});
+			when(newsMapper.modelToDto(toBeFound)).thenReturn(Util.newsToDTO(toBeFound));
+			final long coalescedBefore = singleFlight.stats().coalescedCalls();
+			final ExecutorService executor = Executors.newFixedThreadPool(4);
+			try {
+				final List<Future<NewsResponseDto>> results = new ArrayList<>();
+				results.add(executor.submit(() -> newsService.readById(id)));
+				started.await(5, TimeUnit.SECONDS);
+				for (int i = 0; i < 3; i++) {
+					results.add(executor.submit(() -> newsService.readById(id)));
+				}
+				final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+				while (singleFlight.stats().coalescedCalls() - coalescedBefore < 3 && System.nanoTime() < deadline) {
+					Thread.sleep(1);
+				}
+				release.countDown();
+
+				for (final Future<NewsResponseDto> result : results) {
+					assertEquals(id, result.get(5, TimeUnit.SECONDS).id());
+				}
+				assertEquals(3, singleFlight.stats().coalescedCalls() - coalescedBefore);
+				verify(newsRepository, times(1)).readById(id);
+			} finally {
+				executor.shutdownNow();
+			}
+		}
+
+		@Test
+		void readById_shouldReadAgain_whenWriteCommitsWhileCallIsInFlight() throws Exception {
+			final long id = 78L;
+			final News before = Util.createTestNews(id);
+			final News after = Util.createTestNews(id);
+			after.setCommentCount(1);
+			final CountDownLatch started = new CountDownLatch(1);
+			final CountDownLatch release = new CountDownLatch(1);
+			when(newsRepository.readById(id))
+				.thenAnswer(invocation -> {
+					started.countDown();
+					release.await(5, TimeUnit.SECONDS);
+					return Optional.of(before);
+				})
+				.thenReturn(Optional.of(after));
+			when(newsMapper.modelToDto(any(News.class)))
+				.thenAnswer(invocation -> Util.newsToDTO(invocation.getArgument(0)));
+			final long coalescedBefore = singleFlight.stats().coalescedCalls();
+			final ExecutorService executor = Executors.newFixedThreadPool(2);
+			try {
+				final Future<NewsResponseDto> early = executor.submit(() -> newsService.readById(id));
+				started.await(5, TimeUnit.SECONDS);
+				eventPublisher.publishEvent(new CommentCountChangedEvent(id, 1));
+
+				final Future<NewsResponseDto> late = executor.submit(() -> newsService.readById(id));
+
+				assertEquals(1, late.get(5, TimeUnit.SECONDS).commentCount());
+				release.countDown();
+				assertEquals(0, early.get(5, TimeUnit.SECONDS).commentCount());
+				assertEquals(0, singleFlight.stats().coalescedCalls() - coalescedBefore);
+				verify(newsRepository, times(2)).readById(id);
+			} finally {
+				executor.shutdownNow();
+			}
+		}
 	}
 
 	@Nested
@@ -297,6 +388,7 @@ public class NewsServiceImplAopTest {
 			when(newsMapper.dtoToModel(request)).thenReturn(Util.dtoToNews(request));
 			when(newsRepository.update(any())).thenReturn(updated);
 			when(newsMapper.modelToDto(updated)).thenReturn(Util.newsToDTO(updated));
+			when(newsMapper.modelToSummary(updated)).thenReturn(Util.newsToSummary(updated));
 
 			assertDoesNotThrow(() -> newsService.update(request));
 		}
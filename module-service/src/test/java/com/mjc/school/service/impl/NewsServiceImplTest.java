@@ -1,29 +1,41 @@
 package com.mjc.school.service.impl;
 
 import com.mjc.school.repository.AuthorRepository;
+import com.mjc.school.repository.CommentRepository;
 import com.mjc.school.repository.NewsRepository;
 import com.mjc.school.repository.TagRepository;
 import com.mjc.school.repository.exception.EntityConstraintViolationRepositoryException;
 import com.mjc.school.repository.impl.AuthorRepositoryImpl;
+import com.mjc.school.repository.impl.CommentRepositoryImpl;
 import com.mjc.school.repository.impl.NewsRepositoryImpl;
 import com.mjc.school.repository.impl.TagRepositoryImpl;
+import com.mjc.school.repository.model.Comment;
 import com.mjc.school.repository.model.News;
 import com.mjc.school.service.NewsService;
+import com.mjc.school.service.dto.NewsDetailResponseDto;
 import com.mjc.school.service.dto.NewsRequestDto;
 import com.mjc.school.service.dto.NewsResponseDto;
+import com.mjc.school.service.event.NewsDeletedEvent;
+import com.mjc.school.service.event.NewsSavedEvent;
 import com.mjc.school.service.exception.EntityConstraintViolationServiceException;
 import com.mjc.school.service.exception.EntityNotFoundException;
+import com.mjc.school.service.exception.ValidationException;
 import com.mjc.school.service.mapper.NewsMapper;
+import com.mjc.school.service.readmodel.NewsReadModel;
+import com.mjc.school.service.readmodel.NewsSummary;
 import com.mjc.school.service.util.Util;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Optional;
 
@@ -44,9 +56,19 @@ class NewsServiceImplTest {
 	private final AuthorRepository authorRepository = mock(AuthorRepositoryImpl.class);
 	private final NewsRepository newsRepository = mock(NewsRepositoryImpl.class);
 	private final TagRepository tagRepository = mock(TagRepositoryImpl.class);
+	private final CommentRepository commentRepository = mock(CommentRepositoryImpl.class);
 	private final NewsMapper newsMapper = mock(NewsMapper.class);
-	private final NewsService newsService =
-		new NewsServiceImpl(authorRepository, newsRepository, tagRepository, newsMapper);
+	private final NewsReadModel readModel = mock(NewsReadModel.class);
+	private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+	private final NewsService newsService = new NewsServiceImpl(
+		authorRepository,
+		newsRepository,
+		tagRepository,
+		commentRepository,
+		newsMapper,
+		readModel,
+		eventPublisher
+	);
 
 	@Nested
 	class TestCreate {
@@ -104,7 +126,27 @@ class NewsServiceImplTest {
 			when(authorRepository.readById(authorId))
 				.thenReturn(Optional.of(Util.createTestAuthor(authorId)));
 			when(newsMapper.dtoToModel(request)).thenReturn(newsRequest);
-			when(newsRepository.create(any())).thenThrow(
+			when(newsRepository.createIfAbsent(any())).thenReturn(Optional.empty());
+
+			assertThrows(EntityConstraintViolationServiceException.class,
+				() -> newsService.create(request));
+		}
+
+		@Test
+		void create_shouldThrowEntityConstraintViolationServiceException_whenConcurrentCreateTakesTitle() {
+			final long authorId = 1L;
+			final NewsRequestDto request = new NewsRequestDto(
+				null,
+				"Conflicting title",
+				"Some valid content",
+				authorId,
+				new ArrayList<>()
+			);
+			final News newsRequest = Util.dtoToNews(request);
+			when(authorRepository.readById(authorId))
+				.thenReturn(Optional.of(Util.createTestAuthor(authorId)));
+			when(newsMapper.dtoToModel(request)).thenReturn(newsRequest);
+			when(newsRepository.createIfAbsent(any())).thenThrow(
 				new EntityConstraintViolationRepositoryException("Constraint violation"));
 
 			assertThrows(EntityConstraintViolationServiceException.class,
@@ -136,16 +178,19 @@ class NewsServiceImplTest {
 				new ArrayList<>(),
 				new ArrayList<>()
 			);
-			when(newsRepository.create(any())).thenReturn(savedNews);
+			when(newsRepository.createIfAbsent(any())).thenReturn(Optional.of(savedNews));
 			final NewsResponseDto response = Util.newsToDTO(savedNews);
 			when(newsMapper.modelToDto(savedNews)).thenReturn(response);
+			final NewsSummary summary = Util.newsToSummary(savedNews);
+			when(newsMapper.modelToSummary(savedNews)).thenReturn(summary);
 
 			final NewsResponseDto result = newsService.create(request);
 
 			verify(authorRepository, times(1)).readById(authorId);
 			verify(newsMapper, times(1)).dtoToModel(request);
-			verify(newsRepository, times(1)).create(any());
+			verify(newsRepository, times(1)).createIfAbsent(any());
 			verify(newsMapper, times(1)).modelToDto(savedNews);
+			verify(eventPublisher, times(1)).publishEvent(new NewsSavedEvent(summary));
 			assertEquals(response, result);
 		}
 	}
@@ -178,36 +223,115 @@ class NewsServiceImplTest {
 		}
 	}
 
+	@Nested
+	class TestReadNewsDetail {
+
+		@Test
+		void readNewsDetail_shouldThrowEntityNotFoundException_whenThereIsNoEntityWithGivenId() {
+			final long id = 99L;
+			when(newsRepository.readNewsWithAuthorAndTags(id)).thenReturn(Optional.empty());
+
+			assertThrows(EntityNotFoundException.class, () -> newsService.readNewsDetail(id, 10, 0));
+			verifyNoInteractions(commentRepository);
+		}
+
+		@Test
+		void readNewsDetail_shouldReturnAggregate_whenEntityWithGivenIdIsFound() {
+			final long id = 2L;
+			final News toBeFound = Util.createTestNews(id);
+			final List<Comment> comments = new ArrayList<>();
+			final NewsDetailResponseDto response = new NewsDetailResponseDto(
+				id,
+				toBeFound.getTitle(),
+				toBeFound.getContent(),
+				toBeFound.getCreateDate(),
+				toBeFound.getLastUpdateDate(),
+				null,
+				new ArrayList<>(),
+				0,
+				new ArrayList<>()
+			);
+			when(newsRepository.readNewsWithAuthorAndTags(id)).thenReturn(Optional.of(toBeFound));
+			when(commentRepository.readCommentsByNewsId(id, 5, 10)).thenReturn(comments);
+			when(newsMapper.modelToDetailDto(toBeFound, comments)).thenReturn(response);
+
+			final NewsDetailResponseDto result = newsService.readNewsDetail(id, 5, 10);
+
+			assertEquals(response, result);
+			verify(newsRepository, times(1)).readNewsWithAuthorAndTags(id);
+			verify(commentRepository, times(1)).readCommentsByNewsId(id, 5, 10);
+		}
+	}
+
 	@Nested
 	class TestReadAll {
 
 		@Test
-		void readAll_shouldReturnEmptyDTOList_whenRepositoryReturnsEmptyList() {
-			final List<News> news = new ArrayList<>();
-			when(newsRepository.readAll()).thenReturn(news);
-			when(newsMapper.modelListToDtoList(news)).thenReturn(new ArrayList<>());
+		void readAll_shouldReturnEmptyDTOList_whenReadModelIsEmpty() {
+			final List<NewsSummary> summaries = new ArrayList<>();
+			when(readModel.readAll()).thenReturn(summaries);
+			when(newsMapper.summaryListToDtoList(summaries)).thenReturn(new ArrayList<>());
 
 			final List<NewsResponseDto> expected = new ArrayList<>();
 
 			assertEquals(expected, newsService.readAll());
-			verify(newsRepository, times(1)).readAll();
-			verify(newsMapper, times(1)).modelListToDtoList(news);
+			verify(readModel, times(1)).readAll();
+			verify(newsMapper, times(1)).summaryListToDtoList(summaries);
+			verifyNoInteractions(newsRepository);
 		}
 
 		@Test
-		void readAll_shouldReturnTwoDTOs_whenRepositoryReturnsTwoEntities() {
+		void readAll_shouldReturnPageFromReadModel_whenLimitOffsetAndOrderAreSupplied() {
 			final List<News> allNews = Arrays.asList(
 				Util.createTestNews(1L),
 				Util.createTestNews(2L)
 			);
-			when(newsRepository.readAll()).thenReturn(allNews);
+			final List<NewsSummary> summaries = allNews.stream().map(Util::newsToSummary).toList();
+			when(readModel.readAll(2, 0, "title::desc")).thenReturn(summaries);
 			final List<NewsResponseDto> response = Util.newsListToNewsDTOList(allNews);
-			when(newsMapper.modelListToDtoList(allNews)).thenReturn(response);
+			when(newsMapper.summaryListToDtoList(summaries)).thenReturn(response);
 
-			final List<NewsResponseDto> result = newsService.readAll();
+			final List<NewsResponseDto> result = newsService.readAll(2, 0, "title::desc");
 
 			assertEquals(response, result);
-			verify(newsRepository, times(1)).readAll();
+			verify(readModel, times(1)).readAll(2, 0, "title::desc");
+			verifyNoInteractions(newsRepository);
+		}
+	}
+
+	@Nested
+	class TestReadSelectedFields {
+
+		@Test
+		void readAll_shouldThrowValidationException_whenUnknownFieldRequested() {
+			final List<String> fields = List.of("title", "password");
+
+			assertThrows(ValidationException.class, () -> newsService.readAll(10, 0, "id::asc", fields));
+			verifyNoInteractions(newsRepository);
+		}
+
+		@Test
+		void readAll_shouldPassSelectionInResponseFieldOrder_whenKnownFieldsRequested() {
+			final Map<String, String> selection = new LinkedHashMap<>();
+			selection.put("id", "id");
+			selection.put("title", "title");
+			selection.put("authorId", "author.id");
+			final List<Map<String, Object>> rows = List.of(Map.of("id", 1L, "title", "Title", "authorId", 2L));
+			when(newsRepository.readAll(10, 0, "id::asc", selection)).thenReturn(rows);
+
+			final List<Map<String, Object>> result =
+				newsService.readAll(10, 0, "id::asc", List.of("authorId", " title", "id"));
+
+			assertEquals(rows, result);
+			verify(newsRepository, times(1)).readAll(10, 0, "id::asc", selection);
+		}
+
+		@Test
+		void readById_shouldThrowEntityNotFoundException_whenThereIsNoEntityWithGivenId() {
+			final long id = 99L;
+			when(newsRepository.readById(id, Map.of("title", "title"))).thenReturn(Optional.empty());
+
+			assertThrows(EntityNotFoundException.class, () -> newsService.readById(id, List.of("title")));
 		}
 	}
 
@@ -351,6 +475,7 @@ class NewsServiceImplTest {
 			assertTrue(newsService.deleteById(id));
 			verify(newsRepository, times(1)).existById(id);
 			verify(newsRepository, times(1)).deleteById(id);
+			verify(eventPublisher, times(1)).publishEvent(new NewsDeletedEvent(id));
 		}
 
 		@Test
@@ -362,6 +487,7 @@ class NewsServiceImplTest {
 			assertFalse(newsService.deleteById(id));
 			verify(newsRepository, times(1)).existById(id);
 			verify(newsRepository, times(1)).deleteById(id);
+			verifyNoInteractions(eventPublisher);
 		}
 	}
 }
\ No newline at end of file
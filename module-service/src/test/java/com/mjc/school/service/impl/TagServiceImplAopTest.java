@@ -66,7 +66,7 @@ public class TagServiceImplAopTest {
 			final Tag mappedTag = new Tag(null, tagName);
 			when(tagMapper.dtoToModel(request)).thenReturn(mappedTag);
 			final Tag savedTag = new Tag(tagId, tagName);
-			when(tagRepository.create(any())).thenReturn(savedTag);
+			when(tagRepository.createIfAbsent(any())).thenReturn(Optional.of(savedTag));
 			final TagResponseDto response = Util.tagToDTO(savedTag);
 			when(tagMapper.modelToDto(savedTag)).thenReturn(response);
 			assertDoesNotThrow(() -> tagService.create(request));
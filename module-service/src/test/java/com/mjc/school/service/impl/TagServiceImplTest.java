@@ -4,9 +4,9 @@ import com.mjc.school.repository.NewsRepository;
 import com.mjc.school.repository.TagRepository;
 import com.mjc.school.repository.exception.EntityConstraintViolationRepositoryException;
 import com.mjc.school.repository.model.Tag;
-import com.mjc.school.repository.query.NewsSearchQueryParams;
 import com.mjc.school.service.dto.TagRequestDto;
 import com.mjc.school.service.dto.TagResponseDto;
+import com.mjc.school.service.event.TagDeletedEvent;
 import com.mjc.school.service.exception.EntityConstraintViolationServiceException;
 import com.mjc.school.service.exception.EntityNotFoundException;
 import com.mjc.school.service.mapper.TagMapper;
@@ -17,10 +17,10 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 
@@ -43,6 +43,8 @@ class TagServiceImplTest {
 	private TagRepository tagRepository;
 	@Mock
 	private TagMapper tagMapper;
+	@Mock
+	private ApplicationEventPublisher eventPublisher;
 	@InjectMocks
 	private TagServiceImpl tagService;
 
@@ -53,7 +55,18 @@ class TagServiceImplTest {
 		void create_shouldThrowEntityConstraintViolationServiceException_whenNameAlreadyExists() {
 			final String tagName = "Conflicting name";
 			final TagRequestDto request = new TagRequestDto(null, tagName);
-			when(tagRepository.create(any())).thenThrow(
+			when(tagRepository.createIfAbsent(any())).thenReturn(Optional.empty());
+
+			assertThrows(EntityConstraintViolationServiceException.class,
+				() -> tagService.create(request));
+
+		}
+
+		@Test
+		void create_shouldThrowEntityConstraintViolationServiceException_whenConcurrentCreateTakesName() {
+			final String tagName = "Conflicting name";
+			final TagRequestDto request = new TagRequestDto(null, tagName);
+			when(tagRepository.createIfAbsent(any())).thenThrow(
 				new EntityConstraintViolationRepositoryException("Constraint violation"));
 
 			assertThrows(EntityConstraintViolationServiceException.class,
@@ -69,14 +82,14 @@ class TagServiceImplTest {
 			final Tag mappedTag = Util.dtoToTag(request);
 			when(tagMapper.dtoToModel(request)).thenReturn(mappedTag);
 			final Tag savedTag = new Tag(tagId, tagName);
-			when(tagRepository.create(any())).thenReturn(savedTag);
+			when(tagRepository.createIfAbsent(any())).thenReturn(Optional.of(savedTag));
 			final TagResponseDto response = Util.tagToDTO(savedTag);
 			when(tagMapper.modelToDto(savedTag)).thenReturn(response);
 
 			final TagResponseDto result = tagService.create(request);
 
 			verify(tagMapper, times(1)).dtoToModel(request);
-			verify(tagRepository, times(1)).create(mappedTag);
+			verify(tagRepository, times(1)).createIfAbsent(mappedTag);
 			verify(tagMapper, times(1)).modelToDto(savedTag);
 			assertEquals(response, result);
 		}
@@ -208,29 +221,24 @@ class TagServiceImplTest {
 		void deleteById_shouldReturnTrue_whenRepositoryDeletesEntityById() {
 			final long id = 15L;
 			when(tagRepository.existById(id)).thenReturn(true);
-			final NewsSearchQueryParams params =
-				new NewsSearchQueryParams(null, List.of(id), null, null, null);
-			when(newsRepository.readByParams(params)).thenReturn(Collections.emptyList());
 			when(tagRepository.deleteById(id)).thenReturn(true);
 
 			assertTrue(tagService.deleteById(id));
 			verify(tagRepository, times(1)).existById(id);
-			verify(newsRepository, times(1)).readByParams(params);
+			verifyNoInteractions(newsRepository);
 			verify(tagRepository, times(1)).deleteById(id);
+			verify(eventPublisher, times(1)).publishEvent(new TagDeletedEvent(id));
 		}
 
 		@Test
 		void deleteById_shouldReturnFalse_whenRepositoryDoesNotDeleteEntityById() {
 			final long id = 99L;
 			when(tagRepository.existById(id)).thenReturn(true);
-			final NewsSearchQueryParams params =
-				new NewsSearchQueryParams(null, List.of(id), null, null, null);
-			when(newsRepository.readByParams(params)).thenReturn(Collections.emptyList());
 			when(tagRepository.deleteById(id)).thenReturn(false);
 
 			assertFalse(tagService.deleteById(id));
 			verify(tagRepository, times(1)).existById(id);
-			verify(newsRepository, times(1)).readByParams(params);
+			verifyNoInteractions(newsRepository);
 			verify(tagRepository, times(1)).deleteById(id);
 		}
 	}
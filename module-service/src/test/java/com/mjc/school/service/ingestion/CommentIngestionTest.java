@@ -0,0 +1,176 @@
+package com.mjc.school.service.ingestion;
+
+import com.mjc.school.repository.CommentRepository;
+import com.mjc.school.repository.model.Comment;
+import com.mjc.school.service.exception.EntityNotFoundException;
+import com.mjc.school.service.exception.IngestionOverloadedServiceException;
+import com.mjc.school.service.readmodel.NewsReadModel;
+import com.mjc.school.service.util.Util;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CommentIngestionTest {
+
+	private final CommentWriter commentWriter = mock(CommentWriter.class);
+	private final CommentRepository commentRepository = mock(CommentRepository.class);
+	private final NewsReadModel readModel = mock(NewsReadModel.class);
+	private final List<List<Long>> flushedBatches = new CopyOnWriteArrayList<>();
+	private final AtomicLong sequence = new AtomicLong();
+	private CommentIngestion ingestion;
+
+	private CommentIngestion ingestion(final String mode, final int capacity, final long lingerMs) {
+		return ingestion(mode, capacity, lingerMs, 2000);
+	}
+
+	private CommentIngestion ingestion(
+		final String mode, final int capacity, final long lingerMs, final long commitTimeoutMs
+	) {
+		when(commentRepository.allocateIds(anyInt())).thenAnswer(invocation -> LongStream
+			.range(0, invocation.<Integer>getArgument(0))
+			.mapToObj(index -> sequence.incrementAndGet())
+			.toList());
+		when(readModel.exists(1L)).thenReturn(true);
+		ingestion = new CommentIngestion(commentWriter, commentRepository, readModel, mode, capacity, 10,
+			lingerMs, 10, commitTimeoutMs, 4);
+		return ingestion;
+	}
+
+	@AfterEach
+	void stop() {
+		if (ingestion != null) {
+			ingestion.stop();
+		}
+	}
+
+	@Test
+	void create_shouldDelegateToWriter_whenModeIsDirect() {
+		final Comment comment = Util.createTestComment(null);
+		final Comment saved = Util.createTestComment(9L);
+		when(commentWriter.create(comment, 1L)).thenReturn(saved);
+
+		assertEquals(saved, ingestion("direct", 10, 0).create(comment, 1L));
+
+		verify(commentRepository, never()).allocateIds(anyInt());
+	}
+
+	@Test
+	void create_shouldShareOneCommitBetweenConcurrentRequests_whenModeIsGroupCommit() {
+		doAnswer(invocation -> {
+			final List<Comment> batch = invocation.getArgument(0);
+			flushedBatches.add(batch.stream().map(Comment::getId).toList());
+			return null;
+		}).when(commentWriter).createAll(anyList());
+		ingestion("group-commit", 100, 500).start();
+
+		final ExecutorService clients = Executors.newFixedThreadPool(10);
+		final List<CompletableFuture<Comment>> requests = new ArrayList<>();
+		for (int i = 0; i < 10; i++) {
+			requests.add(CompletableFuture.supplyAsync(
+				() -> ingestion.create(Util.createTestComment(null), 1L), clients));
+		}
+		final List<Long> ids = requests.stream().map(CompletableFuture::join).map(Comment::getId).sorted().toList();
+		clients.shutdown();
+
+		assertEquals(LongStream.rangeClosed(1, 10).boxed().toList(), ids);
+		assertEquals(10, flushedBatches.stream().mapToInt(List::size).sum());
+		assertTrue(flushedBatches.size() < 10);
+		assertEquals(10, ingestion.stats().written());
+	}
+
+	@Test
+	void create_shouldFailOnlyTheBadComment_whenBatchHitsForeignKeyViolation() {
+		final SQLException violation = new SQLException("FK violation", "23506");
+		doAnswer(invocation -> {
+			final List<Comment> batch = invocation.getArgument(0);
+			if (batch.stream().anyMatch(comment -> comment.getId() == 2L)) {
+				throw new IllegalStateException("Batch failed", violation);
+			}
+			return null;
+		}).when(commentWriter).createAll(anyList());
+		ingestion("async", 10, 0);
+		final Comment good = ingestion.create(Util.createTestComment(null), 1L);
+		final Comment bad = ingestion.create(Util.createTestComment(null), 1L);
+
+		ingestion.start();
+		ingestion.stop();
+
+		final CommentIngestionStats stats = ingestion.stats();
+		assertEquals(1, stats.written());
+		assertEquals(1, stats.failed());
+		assertNotNull(stats.lastFailure());
+		assertEquals(1L, good.getId());
+		assertEquals(2L, bad.getId());
+	}
+
+	@Test
+	void create_shouldThrowEntityNotFoundException_whenNewsIsNotInReadModel() {
+		ingestion("sync", 10, 0).start();
+
+		assertThrows(EntityNotFoundException.class, () -> ingestion.create(Util.createTestComment(null), 2L));
+	}
+
+	@Test
+	void create_shouldRejectWithRetryAfter_whenQueueIsFull() {
+		ingestion("async", 1, 0);
+		ingestion.create(Util.createTestComment(null), 1L);
+
+		final IngestionOverloadedServiceException e = assertThrows(IngestionOverloadedServiceException.class,
+			() -> ingestion.create(Util.createTestComment(null), 1L));
+
+		assertEquals(2, e.getRetryAfterSeconds());
+		assertEquals(1, ingestion.stats().rejected());
+	}
+
+	@Test
+	void create_shouldWithdrawComment_whenItIsStillQueuedAtTimeout() {
+		ingestion("sync", 10, 0, 50);
+
+		assertThrows(IngestionOverloadedServiceException.class,
+			() -> ingestion.create(Util.createTestComment(null), 1L));
+		ingestion.start();
+		ingestion.stop();
+
+		final CommentIngestionStats stats = ingestion.stats();
+		assertEquals(0, stats.queued());
+		assertEquals(0, stats.accepted());
+		assertEquals(1, stats.rejected());
+		verify(commentWriter, never()).createAll(anyList());
+	}
+
+	@Test
+	void create_shouldWaitForOutcome_whenCommentIsBeingWrittenAtTimeout() {
+		doAnswer(invocation -> {
+			Thread.sleep(500);
+			return null;
+		}).when(commentWriter).createAll(anyList());
+		ingestion("sync", 10, 0, 50).start();
+
+		final Comment comment = ingestion.create(Util.createTestComment(null), 1L);
+
+		assertEquals(1L, comment.getId());
+		assertEquals(1, ingestion.stats().written());
+		assertEquals(0, ingestion.stats().rejected());
+	}
+}
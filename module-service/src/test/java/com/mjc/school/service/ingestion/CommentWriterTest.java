@@ -0,0 +1,80 @@
+package com.mjc.school.service.ingestion;
+
+import com.mjc.school.repository.CommentRepository;
+import com.mjc.school.repository.NewsRepository;
+import com.mjc.school.repository.model.Comment;
+import com.mjc.school.repository.model.News;
+import com.mjc.school.service.event.CommentCountChangedEvent;
+import com.mjc.school.service.exception.EntityNotFoundException;
+import com.mjc.school.service.util.Util;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CommentWriterTest {
+
+	@Mock
+	private CommentRepository commentRepository;
+	@Mock
+	private NewsRepository newsRepository;
+	@Mock
+	private ApplicationEventPublisher eventPublisher;
+	@InjectMocks
+	private CommentWriter commentWriter;
+
+	private static Comment comment(final long id, final long newsId) {
+		final Comment comment = Util.createTestComment(id);
+		comment.setNews(Util.createTestNews(newsId));
+		return comment;
+	}
+
+	@Test
+	void create_shouldSaveCommentAndCountIt_whenNewsExists() {
+		final News news = Util.createTestNews(1L);
+		final Comment comment = Util.createTestComment(null);
+		final Comment saved = comment(5L, 1L);
+		when(newsRepository.readById(1L)).thenReturn(Optional.of(news));
+		when(commentRepository.create(comment)).thenReturn(saved);
+
+		assertEquals(saved, commentWriter.create(comment, 1L));
+
+		assertEquals(news, comment.getNews());
+		verify(newsRepository).adjustCommentCount(1L, 1);
+		verify(eventPublisher).publishEvent(new CommentCountChangedEvent(1L, 1));
+	}
+
+	@Test
+	void create_shouldThrowEntityNotFoundException_whenNewsDoesNotExist() {
+		when(newsRepository.readById(1L)).thenReturn(Optional.empty());
+
+		assertThrows(EntityNotFoundException.class, () -> commentWriter.create(Util.createTestComment(null), 1L));
+
+		verifyNoInteractions(commentRepository);
+	}
+
+	@Test
+	void createAll_shouldInsertBatchAndAdjustEachNewsOnce_whenCommentsShareNews() {
+		final List<Comment> comments = List.of(comment(1L, 2L), comment(2L, 1L), comment(3L, 2L));
+
+		commentWriter.createAll(comments);
+
+		verify(commentRepository).createAll(comments);
+		verify(newsRepository).adjustCommentCounts(Map.of(1L, 1L, 2L, 2L));
+		verify(eventPublisher).publishEvent(new CommentCountChangedEvent(1L, 1));
+		verify(eventPublisher).publishEvent(new CommentCountChangedEvent(2L, 2));
+	}
+}
@@ -0,0 +1,60 @@
+package com.mjc.school.service.metrics;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class AuthorDeletionMetricsTest {
+
+	private final AuthorDeletionMetrics metrics = new AuthorDeletionMetrics();
+
+	@AfterEach
+	void tearDown() {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+	}
+
+	@Test
+	void deleted_shouldAddTotals_whenTransactionCommits() {
+		TransactionSynchronizationManager.initSynchronization();
+		deleteAuthor(1L);
+
+		assertEquals(0, metrics.stats().authorsDeleted());
+		assertEquals(0, metrics.stats().newsDeleted());
+		TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+		final AuthorDeletionStats stats = metrics.stats();
+		assertEquals(1, stats.authorsDeleted());
+		assertEquals(3, stats.newsDeleted());
+		assertEquals(5, stats.commentsDeleted());
+		assertEquals(1, stats.tagLinksDeleted());
+	}
+
+	@Test
+	void deleted_shouldNotAddTotals_whenTransactionRollsBack() {
+		TransactionSynchronizationManager.initSynchronization();
+		deleteAuthor(1L);
+
+		TransactionSynchronizationManager.getSynchronizations()
+			.forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+		final AuthorDeletionStats stats = metrics.stats();
+		assertEquals(0, stats.authorsDeleted());
+		assertEquals(0, stats.newsDeleted());
+		assertEquals(0, stats.commentsDeleted());
+		assertEquals(0, stats.tagLinksDeleted());
+	}
+
+	private void deleteAuthor(final Long authorId) {
+		try (AuthorDeletionMetrics.Tracker tracker = metrics.track(authorId)) {
+			tracker.onStart(authorId, 3);
+			tracker.onBatchDeleted(authorId, 2, 5, 1);
+			tracker.onBatchDeleted(authorId, 1, 0, 0);
+			tracker.deleted();
+		}
+	}
+}
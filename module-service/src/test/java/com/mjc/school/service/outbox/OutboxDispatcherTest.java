@@ -0,0 +1,95 @@
+package com.mjc.school.service.outbox;
+
+import com.mjc.school.repository.OutboxRepository;
+import com.mjc.school.repository.model.OutboxMessage;
+import com.mjc.school.service.event.CommentCountChangedEvent;
+import com.mjc.school.service.event.DomainEvent;
+import com.mjc.school.service.event.NewsSavedEvent;
+import com.mjc.school.service.event.TagDeletedEvent;
+import com.mjc.school.service.readmodel.NewsSummary;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class OutboxDispatcherTest {
+
+	private final OutboxRepository outboxRepository = mock(OutboxRepository.class);
+	private final OutboxCodec codec = new OutboxCodec();
+	private final List<DomainEvent> received = new ArrayList<>();
+
+	@SuppressWarnings("unchecked")
+	private OutboxDispatcher dispatcher(final OutboxSubscriber subscriber) {
+		final ObjectProvider<OutboxSubscriber> subscribers = mock(ObjectProvider.class);
+		when(subscribers.orderedStream()).thenReturn(Stream.of(subscriber));
+		return new OutboxDispatcher(outboxRepository, subscribers, codec, 10, 3, 1000, 30000);
+	}
+
+	private OutboxMessage message(final long id, final DomainEvent event) {
+		final OutboxMessage message = new OutboxMessage(event.aggregateType(), event.aggregateId(),
+			event.getClass().getName(), codec.encode(event), LocalDateTime.now());
+		message.setId(id);
+		return message;
+	}
+
+	private static NewsSummary summary(final String content) {
+		final LocalDateTime date = LocalDateTime.of(2023, 7, 17, 16, 30, 0);
+		return new NewsSummary(1L, "Title", content, date, date, 2L, "Author", List.of(3L), List.of("Tag"), 0);
+	}
+
+	@Test
+	void dispatchOnce_shouldDeliverDecodedEventsInOrderAndDeleteThem_whenSubscribersSucceed() {
+		final NewsSavedEvent saved = new NewsSavedEvent(summary("Content"));
+		final CommentCountChangedEvent counted = new CommentCountChangedEvent(1L, 1);
+		when(outboxRepository.readBatch(anyInt(), anyInt()))
+			.thenReturn(List.of(message(1L, saved), message(2L, counted)));
+
+		final OutboxDispatcher.BatchResult result = dispatcher(received::add).dispatchOnce();
+
+		assertEquals(List.of(new NewsSavedEvent(summary(null)), counted), received);
+		assertEquals(new OutboxDispatcher.BatchResult(2, 2, 0), result);
+		verify(outboxRepository).deleteByIds(List.of(1L, 2L));
+		verify(outboxRepository).incrementAttempts(List.of());
+	}
+
+	@Test
+	void encode_shouldLeaveOutNewsContent() {
+		final String payload = codec.encode(new NewsSavedEvent(summary("Content that no subscriber reads")));
+
+		assertFalse(payload.contains("Content that no subscriber reads"));
+	}
+
+	@Test
+	void dispatchOnce_shouldHoldBackLaterEventsOfFailedAggregate_whenSubscriberThrows() {
+		final CommentCountChangedEvent failing = new CommentCountChangedEvent(1L, 1);
+		final CommentCountChangedEvent heldBack = new CommentCountChangedEvent(1L, -1);
+		final TagDeletedEvent otherAggregate = new TagDeletedEvent(1L);
+		when(outboxRepository.readBatch(anyInt(), anyInt()))
+			.thenReturn(List.of(message(1L, failing), message(2L, heldBack), message(3L, otherAggregate)));
+		final OutboxDispatcher dispatcher = dispatcher(event -> {
+			if (event.equals(failing)) {
+				throw new IllegalStateException("Subscriber is down");
+			}
+			received.add(event);
+		});
+
+		final OutboxDispatcher.BatchResult result = dispatcher.dispatchOnce();
+
+		assertEquals(List.of(otherAggregate), received);
+		assertEquals(new OutboxDispatcher.BatchResult(3, 1, 1), result);
+		verify(outboxRepository).deleteByIds(List.of(3L));
+		verify(outboxRepository).incrementAttempts(List.of(1L));
+		assertEquals(1, dispatcher.stats().failedAttempts());
+		assertEquals(1, dispatcher.stats().deliveredByType().get("TagDeletedEvent"));
+	}
+}
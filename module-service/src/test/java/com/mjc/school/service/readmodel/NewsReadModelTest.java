@@ -0,0 +1,164 @@
+package com.mjc.school.service.readmodel;
+
+import com.mjc.school.repository.NewsRepository;
+import com.mjc.school.repository.model.News;
+import com.mjc.school.service.event.AuthorDeletedEvent;
+import com.mjc.school.service.event.AuthorRenamedEvent;
+import com.mjc.school.service.event.CommentCountChangedEvent;
+import com.mjc.school.service.event.NewsDeletedEvent;
+import com.mjc.school.service.event.NewsSavedEvent;
+import com.mjc.school.service.event.TagDeletedEvent;
+import com.mjc.school.service.event.TagRenamedEvent;
+import com.mjc.school.service.exception.ValidationException;
+import com.mjc.school.service.mapper.NewsMapper;
+import com.mjc.school.service.query.NewsQueryParams;
+import com.mjc.school.service.util.Util;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class NewsReadModelTest {
+
+	private static final LocalDateTime DATE = LocalDateTime.of(2023, 7, 17, 16, 30, 0);
+
+	private final NewsRepository newsRepository = mock(NewsRepository.class);
+	private final NewsMapper mapper = mock(NewsMapper.class);
+	private final NewsReadModel readModel = new NewsReadModel(newsRepository, mapper);
+
+	private static NewsSummary summary(final long id, final String title, final long authorId, final long... tagIds) {
+		final List<Long> ids = Arrays.stream(tagIds).boxed().toList();
+		return new NewsSummary(id, title, "Content " + id, DATE, DATE, authorId, "Author " + authorId,
+			ids, ids.stream().map(tagId -> "Tag " + tagId).toList(), 0);
+	}
+
+	private List<Long> ids(final List<NewsSummary> summaries) {
+		return summaries.stream().map(NewsSummary::id).toList();
+	}
+
+	@Nested
+	class TestRebuild {
+
+		@Test
+		void rebuild_shouldLoadRowsFromRepository_whenContextIsRefreshed() {
+			final News news = Util.createTestNews(3L);
+			final NewsSummary row = summary(3L, "Title", 1L);
+			when(newsRepository.readAllWithAuthorAndTags()).thenReturn(List.of(news));
+			when(mapper.modelToSummary(news)).thenReturn(row);
+			readModel.on(new NewsSavedEvent(summary(7L, "Stale", 1L)));
+
+			readModel.rebuild();
+
+			assertEquals(List.of(row), readModel.readAll());
+		}
+	}
+
+	@Nested
+	class TestReadAll {
+
+		@Test
+		void readAll_shouldPageRowsInRequestedOrder_whenKnownFieldSupplied() {
+			readModel.on(new NewsSavedEvent(summary(1L, "b", 1L)));
+			readModel.on(new NewsSavedEvent(summary(2L, "a", 1L)));
+			readModel.on(new NewsSavedEvent(summary(3L, "c", 1L)));
+
+			assertEquals(List.of(2L, 1L), ids(readModel.readAll(2, 1, "id::desc")));
+			assertEquals(List.of(2L, 1L), ids(readModel.readAll(2, 0, "title::asc")));
+			assertEquals(List.of(3L, 1L, 2L), ids(readModel.readAll(10, 0, "title::desc")));
+		}
+
+		@Test
+		void readAll_shouldPageByCurrentValues_whenIndexedFieldsChange() {
+			readModel.on(new NewsSavedEvent(summary(1L, "b", 1L)));
+			readModel.on(new NewsSavedEvent(summary(2L, "a", 1L)));
+			readModel.on(new NewsSavedEvent(summary(3L, "c", 1L)));
+			readModel.on(new NewsSavedEvent(summary(4L, "d", 2L)));
+
+			readModel.on(new NewsSavedEvent(summary(2L, "e", 1L)));
+			readModel.on(new CommentCountChangedEvent(3L, 2));
+			readModel.on(new CommentCountChangedEvent(1L, 1));
+			readModel.on(new NewsDeletedEvent(4L));
+
+			assertEquals(List.of(1L, 3L, 2L), ids(readModel.readAll(10, 0, "title::asc")));
+			assertEquals(List.of(3L, 1L), ids(readModel.readAll(2, 0, "commentCount::desc")));
+			assertEquals(List.of(3L, 2L, 1L), ids(readModel.readAll(10, 0, "createDate::desc")));
+		}
+
+		@Test
+		void readAll_shouldThrowValidationException_whenUnknownFieldSupplied() {
+			assertThrows(ValidationException.class, () -> readModel.readAll(10, 0, "author::asc"));
+		}
+	}
+
+	@Nested
+	class TestSearch {
+
+		@Test
+		void search_shouldRequireOneTagToMatchBothNameAndId_whenBothAreSupplied() {
+			readModel.on(new NewsSavedEvent(summary(1L, "First", 1L, 10L, 20L)));
+			readModel.on(new NewsSavedEvent(summary(2L, "Second", 2L, 20L)));
+
+			assertEquals(List.of(1L, 2L), ids(readModel.search(
+				new NewsQueryParams(List.of("Tag 20"), null, null, null, null))));
+			assertEquals(List.of(), ids(readModel.search(
+				new NewsQueryParams(List.of("Tag 20"), List.of(10L), null, null, null))));
+			assertEquals(List.of(2L), ids(readModel.search(
+				new NewsQueryParams(null, List.of(20L), "Author 2", "eco", null))));
+		}
+	}
+
+	@Nested
+	class TestEvents {
+
+		@Test
+		void on_shouldKeepCommentCount_whenSavedNewsIsReplaced() {
+			readModel.on(new NewsSavedEvent(summary(1L, "Title", 1L)));
+			readModel.on(new CommentCountChangedEvent(1L, 1));
+			readModel.on(new CommentCountChangedEvent(1L, 1));
+
+			readModel.on(new NewsSavedEvent(summary(1L, "Updated", 1L)));
+
+			final NewsSummary row = readModel.readAll().get(0);
+			assertEquals("Updated", row.title());
+			assertEquals(2, row.commentCount());
+		}
+
+		@Test
+		void on_shouldIgnoreSave_whenItIsOlderThanStoredRow() {
+			final NewsSummary older = summary(1L, "Older", 1L);
+			final NewsSummary newer = new NewsSummary(1L, "Newer", "Content", DATE, DATE.plusMinutes(1), 1L,
+				"Author 1", List.of(), List.of(), 0);
+			readModel.on(new NewsSavedEvent(newer));
+
+			readModel.on(new NewsSavedEvent(older));
+
+			assertEquals("Newer", readModel.readAll().get(0).title());
+		}
+
+		@Test
+		void on_shouldRewriteDenormalisedColumns_whenAuthorsAndTagsChange() {
+			readModel.on(new NewsSavedEvent(summary(1L, "First", 1L, 10L, 20L)));
+			readModel.on(new NewsSavedEvent(summary(2L, "Second", 2L, 20L)));
+			readModel.on(new NewsSavedEvent(summary(3L, "Third", 2L)));
+
+			readModel.on(new AuthorRenamedEvent(1L, "Renamed"));
+			readModel.on(new TagRenamedEvent(10L, "Renamed tag"));
+			readModel.on(new TagDeletedEvent(20L));
+			readModel.on(new AuthorDeletedEvent(2L));
+			readModel.on(new NewsDeletedEvent(99L));
+
+			final List<NewsSummary> rows = readModel.readAll();
+			assertEquals(1, rows.size());
+			assertEquals("Renamed", rows.get(0).authorName());
+			assertEquals(List.of(10L), rows.get(0).tagIds());
+			assertEquals(List.of("Renamed tag"), rows.get(0).tagNames());
+		}
+	}
+}
@@ -12,6 +12,7 @@ import com.mjc.school.service.dto.NewsRequestDto;
 import com.mjc.school.service.dto.NewsResponseDto;
 import com.mjc.school.service.dto.TagRequestDto;
 import com.mjc.school.service.dto.TagResponseDto;
+import com.mjc.school.service.readmodel.NewsSummary;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -87,7 +88,23 @@ public final class Util {
 			news.getLastUpdateDate(),
 			news.getAuthor().getId(),
 			null,
-			null
+			news.getCommentCount()
+		);
+	}
+
+	public static NewsSummary newsToSummary(final News news) {
+		final List<Tag> tags = news.getTags() == null ? List.of() : news.getTags();
+		return new NewsSummary(
+			news.getId(),
+			news.getTitle(),
+			news.getContent(),
+			news.getCreateDate(),
+			news.getLastUpdateDate(),
+			news.getAuthor().getId(),
+			news.getAuthor().getName(),
+			tags.stream().map(Tag::getId).toList(),
+			tags.stream().map(Tag::getName).toList(),
+			news.getCommentCount()
 		);
 	}
 
@@ -0,0 +1,29 @@
+package com.mjc.school.controller;
+
+import com.mjc.school.service.validator.annotation.Min;
+import com.mjc.school.service.validator.annotation.NotNull;
+import org.springframework.http.ResponseEntity;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static com.mjc.school.service.constants.Constants.ID_MIN_VALUE;
+
+/**
+ * Non-blocking twin of {@link BaseController}. Implementations run the matching method of the
+ * synchronous controller on the {@link com.mjc.school.controller.async.BoundedServiceExecutor},
+ * so both serve the same responses and the servlet thread is released while the service works.
+ */
+@SuppressWarnings("unused")
+public interface BaseAsyncController<R, T, K> {
+
+	CompletableFuture<ResponseEntity<List<R>>> readAll(int limit, int offset, String orderBy);
+
+	CompletableFuture<ResponseEntity<R>> readById(K id);
+
+	CompletableFuture<ResponseEntity<R>> create(String idempotencyKey, T createRequest);
+
+	CompletableFuture<ResponseEntity<R>> update(K id, T updateRequest);
+
+	CompletableFuture<ResponseEntity<Void>> deleteById(@NotNull @Min(ID_MIN_VALUE) K id);
+}
@@ -15,7 +15,7 @@ public interface BaseController <R, T, K> {
 
 	ResponseEntity<R> readById(K id);
 
-	ResponseEntity<R> create(T createRequest);
+	ResponseEntity<R> create(String idempotencyKey, T createRequest);
 
 	ResponseEntity<R> update(K id, T updateRequest);
 
@@ -0,0 +1,131 @@
+package com.mjc.school.controller.admission;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Limits the requests in flight with a limit found by additive increase, multiplicative decrease:
+ * a request that completes within the latency target while the limit is at least half used
+ * raises the limit by {@code 1 / limit}, about one per limit's worth of requests; a slower or
+ * failed request cuts it by {@link #BACKOFF_RATIO}. The limit is cut at most once per congestion
+ * event: requests admitted before the last cut were slowed down by the same event, so their
+ * samples are not counted again. When the database slows down, the number of requests waiting on
+ * it shrinks instead of the queue growing. The counters are updated with compare-and-set.
+ */
+public class AdaptiveConcurrencyLimiter {
+
+	static final double BACKOFF_RATIO = 0.9;
+
+	private final int minLimit;
+	private final int maxLimit;
+	private final long latencyTargetNanos;
+	private final LongSupplier nanoTime;
+	private final AtomicInteger inFlight = new AtomicInteger();
+	private final AtomicLong limitBits;
+	private final AtomicLong lastDecreaseAt;
+	private final LongAdder admitted = new LongAdder();
+	private final LongAdder rejected = new LongAdder();
+	private final LongAdder decreases = new LongAdder();
+
+	public AdaptiveConcurrencyLimiter(
+		final int initialLimit,
+		final int minLimit,
+		final int maxLimit,
+		final long latencyTargetMillis
+	) {
+		this(initialLimit, minLimit, maxLimit, latencyTargetMillis, System::nanoTime);
+	}
+
+	AdaptiveConcurrencyLimiter(
+		final int initialLimit,
+		final int minLimit,
+		final int maxLimit,
+		final long latencyTargetMillis,
+		final LongSupplier nanoTime
+	) {
+		this.minLimit = minLimit;
+		this.maxLimit = maxLimit;
+		this.latencyTargetNanos = TimeUnit.MILLISECONDS.toNanos(latencyTargetMillis);
+		this.nanoTime = nanoTime;
+		this.limitBits = new AtomicLong(Double.doubleToLongBits(Math.max(minLimit, Math.min(maxLimit, initialLimit))));
+		this.lastDecreaseAt = new AtomicLong(nanoTime.getAsLong());
+	}
+
+	/**
+	 * Admits a request and returns {@code true}, or returns {@code false} at the current limit.
+	 * An admitted request must be {@link #release released}.
+	 */
+	public boolean tryAcquire() {
+		while (true) {
+			final int current = inFlight.get();
+			if (current >= (int) limit()) {
+				rejected.increment();
+				return false;
+			}
+			if (inFlight.compareAndSet(current, current + 1)) {
+				admitted.increment();
+				return true;
+			}
+		}
+	}
+
+	/**
+	 * Ends an admitted request and adjusts the limit by its latency and outcome. A slow or failed
+	 * request admitted before the last cut leaves the limit as it is.
+	 */
+	public void release(final long latencyNanos, final boolean failed) {
+		final int inFlightBefore = inFlight.getAndDecrement();
+		final boolean backOff = failed || latencyNanos > latencyTargetNanos;
+		if (backOff && !startCongestionEvent(latencyNanos)) {
+			return;
+		}
+		while (true) {
+			final long bits = limitBits.get();
+			final double limit = Double.longBitsToDouble(bits);
+			final double next;
+			if (backOff) {
+				next = Math.max(minLimit, limit * BACKOFF_RATIO);
+			} else if (inFlightBefore * 2 >= limit) {
+				next = Math.min(maxLimit, limit + 1 / limit);
+			} else {
+				return;
+			}
+			if (next == limit || limitBits.compareAndSet(bits, Double.doubleToLongBits(next))) {
+				if (backOff && next < limit) {
+					decreases.increment();
+				}
+				return;
+			}
+		}
+	}
+
+	public ConcurrencyLimiterStats stats() {
+		return new ConcurrencyLimiterStats((int) limit(), inFlight.get(), admitted.sum(), rejected.sum(),
+			decreases.sum());
+	}
+
+	/**
+	 * Claims the cut for the request admitted {@code latencyNanos} ago, or returns {@code false}
+	 * when a cut has been made since it was admitted.
+	 */
+	private boolean startCongestionEvent(final long latencyNanos) {
+		final long now = nanoTime.getAsLong();
+		final long admittedAt = now - latencyNanos;
+		while (true) {
+			final long lastDecrease = lastDecreaseAt.get();
+			if (admittedAt - lastDecrease < 0) {
+				return false;
+			}
+			if (lastDecreaseAt.compareAndSet(lastDecrease, now)) {
+				return true;
+			}
+		}
+	}
+
+	private double limit() {
+		return Double.longBitsToDouble(limitBits.get());
+	}
+}
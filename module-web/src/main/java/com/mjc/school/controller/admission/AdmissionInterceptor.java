@@ -0,0 +1,63 @@
+package com.mjc.school.controller.admission;
+
+import com.mjc.school.controller.exception.ServiceOverloadedException;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+import javax.servlet.DispatcherType;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import static com.mjc.school.controller.exception.WebErrorCode.SERVICE_OVERLOADED;
+
+/**
+ * Admits a request to its handler: first the client's rate limit (429), then the concurrency
+ * limit (503). Both rejections are thrown before the handler runs and answered by the exception
+ * handler. Only the original dispatch is checked; an asynchronous request is released when its
+ * result has been dispatched, since only then is its latency known.
+ */
+public class AdmissionInterceptor implements AsyncHandlerInterceptor {
+
+	private static final String ADMITTED_AT_ATTRIBUTE = AdmissionInterceptor.class.getName() + ".admittedAt";
+	private static final long RETRY_AFTER_SECONDS = 1;
+
+	private final RateLimiter rateLimiter;
+	private final AdaptiveConcurrencyLimiter concurrencyLimiter;
+
+	public AdmissionInterceptor(final RateLimiter rateLimiter, final AdaptiveConcurrencyLimiter concurrencyLimiter) {
+		this.rateLimiter = rateLimiter;
+		this.concurrencyLimiter = concurrencyLimiter;
+	}
+
+	@Override
+	public boolean preHandle(
+		final HttpServletRequest request,
+		final HttpServletResponse response,
+		final Object handler
+	) {
+		if (request.getDispatcherType() != DispatcherType.REQUEST || !(handler instanceof HandlerMethod method)) {
+			return true;
+		}
+		rateLimiter.acquire(request.getRemoteAddr(), method.getMethod());
+		if (!concurrencyLimiter.tryAcquire()) {
+			throw new ServiceOverloadedException(SERVICE_OVERLOADED.getMessage(), SERVICE_OVERLOADED.getCode(),
+				RETRY_AFTER_SECONDS);
+		}
+		request.setAttribute(ADMITTED_AT_ATTRIBUTE, System.nanoTime());
+		return true;
+	}
+
+	@Override
+	public void afterCompletion(
+		final HttpServletRequest request,
+		final HttpServletResponse response,
+		final Object handler,
+		final Exception ex
+	) {
+		if (!(request.getAttribute(ADMITTED_AT_ATTRIBUTE) instanceof Long admittedAt)) {
+			return;
+		}
+		request.removeAttribute(ADMITTED_AT_ATTRIBUTE);
+		concurrencyLimiter.release(System.nanoTime() - admittedAt, ex != null || response.getStatus() >= 500);
+	}
+}
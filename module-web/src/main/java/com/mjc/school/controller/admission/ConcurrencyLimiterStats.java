@@ -0,0 +1,11 @@
+package com.mjc.school.controller.admission;
+
+public record ConcurrencyLimiterStats(
+	int limit,
+	int inFlight,
+	long admittedRequests,
+	long rejectedRequests,
+	long limitDecreases
+) {
+	// Empty
+}
@@ -0,0 +1,20 @@
+package com.mjc.school.controller.admission;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Per-client limit of an expensive handler, in place of the configured endpoint default. The
+ * client-wide limit still applies on top of it.
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RateLimit {
+	double permitsPerSecond();
+
+	int burst();
+}
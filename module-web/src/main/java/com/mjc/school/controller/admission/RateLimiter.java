@@ -0,0 +1,113 @@
+package com.mjc.school.controller.admission;
+
+import com.mjc.school.controller.exception.RateLimitExceededException;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+import static com.mjc.school.controller.exception.WebErrorCode.RATE_LIMIT_EXCEEDED;
+
+/**
+ * Token buckets per client and per client and endpoint. A request takes a token from both or from
+ * neither: when the client bucket turns it away, the endpoint token is given back. The endpoint
+ * bucket is sized by {@link RateLimit} on the handler or by the endpoint default. Buckets live in
+ * concurrent maps and take no lock. Once there are more than {@code maxBuckets}, full buckets are
+ * dropped at most once a second: a full bucket is the same as a new one, so this forgets nothing
+ * a client could notice.
+ */
+public class RateLimiter {
+
+	private static final long CLEANUP_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+	private final TokenBucket.Limit clientLimit;
+	private final TokenBucket.Limit endpointDefaultLimit;
+	private final int maxBuckets;
+	private final LongSupplier nanoTime;
+	private final Map<String, TokenBucket> clientBuckets = new ConcurrentHashMap<>();
+	private final Map<EndpointKey, TokenBucket> endpointBuckets = new ConcurrentHashMap<>();
+	private final Map<Method, TokenBucket.Limit> endpointLimits = new ConcurrentHashMap<>();
+	private final AtomicLong nextCleanup;
+	private final LongAdder admitted = new LongAdder();
+	private final LongAdder rejected = new LongAdder();
+
+	public RateLimiter(
+		final double clientPermitsPerSecond,
+		final int clientBurst,
+		final double endpointPermitsPerSecond,
+		final int endpointBurst,
+		final int maxBuckets
+	) {
+		this(clientPermitsPerSecond, clientBurst, endpointPermitsPerSecond, endpointBurst, maxBuckets,
+			System::nanoTime);
+	}
+
+	RateLimiter(
+		final double clientPermitsPerSecond,
+		final int clientBurst,
+		final double endpointPermitsPerSecond,
+		final int endpointBurst,
+		final int maxBuckets,
+		final LongSupplier nanoTime
+	) {
+		this.clientLimit = TokenBucket.Limit.of(clientPermitsPerSecond, clientBurst);
+		this.endpointDefaultLimit = TokenBucket.Limit.of(endpointPermitsPerSecond, endpointBurst);
+		this.maxBuckets = maxBuckets;
+		this.nanoTime = nanoTime;
+		this.nextCleanup = new AtomicLong(nanoTime.getAsLong());
+	}
+
+	/**
+	 * Takes a token for {@code client} calling {@code endpoint}.
+	 *
+	 * @throws RateLimitExceededException when either bucket is empty
+	 */
+	public void acquire(final String client, final Method endpoint) throws RateLimitExceededException {
+		final long now = nanoTime.getAsLong();
+		final TokenBucket.Limit endpointLimit = endpointLimits.computeIfAbsent(endpoint, this::endpointLimit);
+		final TokenBucket endpointBucket =
+			endpointBuckets.computeIfAbsent(new EndpointKey(client, endpoint), key -> new TokenBucket(now));
+		long wait = endpointBucket.tryAcquire(now, endpointLimit);
+		if (wait == 0) {
+			wait = clientBuckets.computeIfAbsent(client, key -> new TokenBucket(now)).tryAcquire(now, clientLimit);
+			if (wait > 0) {
+				endpointBucket.release(endpointLimit);
+			}
+		}
+		cleanUpIfFull(now);
+		if (wait > 0) {
+			rejected.increment();
+			throw new RateLimitExceededException(RATE_LIMIT_EXCEEDED.getMessage(), RATE_LIMIT_EXCEEDED.getCode(),
+				Math.max(1, TimeUnit.NANOSECONDS.toSeconds(wait + TimeUnit.SECONDS.toNanos(1) - 1)));
+		}
+		admitted.increment();
+	}
+
+	public RateLimiterStats stats() {
+		return new RateLimiterStats(clientBuckets.size(), endpointBuckets.size(), admitted.sum(), rejected.sum());
+	}
+
+	private TokenBucket.Limit endpointLimit(final Method endpoint) {
+		final RateLimit rateLimit = endpoint.getAnnotation(RateLimit.class);
+		return rateLimit == null ? endpointDefaultLimit : TokenBucket.Limit.of(rateLimit.permitsPerSecond(),
+			rateLimit.burst());
+	}
+
+	private void cleanUpIfFull(final long now) {
+		final long next = nextCleanup.get();
+		if (clientBuckets.size() + endpointBuckets.size() <= maxBuckets || now - next < 0
+				|| !nextCleanup.compareAndSet(next, now + CLEANUP_INTERVAL_NANOS)) {
+			return;
+		}
+		clientBuckets.values().removeIf(bucket -> bucket.isFull(now));
+		endpointBuckets.values().removeIf(bucket -> bucket.isFull(now));
+	}
+
+	private record EndpointKey(String client, Method endpoint) {
+		// Empty
+	}
+}
@@ -0,0 +1,10 @@
+package com.mjc.school.controller.admission;
+
+public record RateLimiterStats(
+	int clientBuckets,
+	int endpointBuckets,
+	long admittedRequests,
+	long rejectedRequests
+) {
+	// Empty
+}
@@ -0,0 +1,58 @@
+package com.mjc.school.controller.admission;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Token bucket kept as the single time at which it will be full again (the generic cell rate
+ * algorithm): taking a token moves that time one interval forward, and a token is available
+ * while it lies at most {@code burst - 1} intervals ahead. One compare-and-set per request, so
+ * any number of threads can share a bucket without a lock.
+ */
+final class TokenBucket {
+
+	private final AtomicLong fullAt;
+
+	TokenBucket(final long nowNanos) {
+		this.fullAt = new AtomicLong(nowNanos);
+	}
+
+	/**
+	 * Takes a token and returns 0, or returns the nanoseconds until one becomes available.
+	 */
+	long tryAcquire(final long nowNanos, final Limit limit) {
+		while (true) {
+			final long current = fullAt.get();
+			final long start = current - nowNanos > 0 ? current : nowNanos;
+			final long ahead = start - nowNanos;
+			if (ahead > limit.toleranceNanos()) {
+				return ahead - limit.toleranceNanos();
+			}
+			if (fullAt.compareAndSet(current, start + limit.intervalNanos())) {
+				return 0;
+			}
+		}
+	}
+
+	/**
+	 * Gives back a token taken by {@link #tryAcquire}. A bucket that has filled up in the meantime
+	 * stays full, as the fill time never counts from before now.
+	 */
+	void release(final Limit limit) {
+		fullAt.addAndGet(-limit.intervalNanos());
+	}
+
+	boolean isFull(final long nowNanos) {
+		return fullAt.get() - nowNanos <= 0;
+	}
+
+	record Limit(long intervalNanos, long toleranceNanos) {
+
+		static Limit of(final double permitsPerSecond, final int burst) {
+			if (permitsPerSecond <= 0 || burst < 1) {
+				throw new IllegalArgumentException("A rate limit needs a positive rate and a burst of at least 1");
+			}
+			final long interval = Math.max(1, Math.round(1_000_000_000 / permitsPerSecond));
+			return new Limit(interval, interval * (burst - 1));
+		}
+	}
+}
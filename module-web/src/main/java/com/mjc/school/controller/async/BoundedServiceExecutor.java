@@ -0,0 +1,116 @@
+package com.mjc.school.controller.async;
+
+import com.mjc.school.controller.exception.ServiceOverloadedException;
+import org.springframework.beans.factory.DisposableBean;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import static com.mjc.school.controller.exception.WebErrorCode.SERVICE_OVERLOADED;
+
+/**
+ * Runs service calls of the asynchronous endpoints on a fixed number of threads with a bounded
+ * queue. When the queue is full the call is rejected at once instead of waiting, so a slow
+ * database can hold at most threads + queueCapacity requests and never the container threads.
+ */
+public class BoundedServiceExecutor implements DisposableBean {
+
+	private static final long RETRY_AFTER_SECONDS = 1;
+
+	private final ThreadPoolExecutor executor;
+	private final int queueCapacity;
+	private final LongAdder submitted = new LongAdder();
+	private final LongAdder rejected = new LongAdder();
+	private final LongAdder completed = new LongAdder();
+	private final LongAdder failed = new LongAdder();
+	private final LongAdder queueWaitNanos = new LongAdder();
+	private final LongAdder executionNanos = new LongAdder();
+
+	public BoundedServiceExecutor(final int threads, final int queueCapacity) {
+		this.queueCapacity = queueCapacity;
+		this.executor = new ThreadPoolExecutor(
+			threads,
+			threads,
+			0L,
+			TimeUnit.MILLISECONDS,
+			new ArrayBlockingQueue<>(queueCapacity),
+			new NamedThreadFactory("service-exec-"),
+			new ThreadPoolExecutor.AbortPolicy()
+		);
+	}
+
+	public <T> CompletableFuture<T> supply(final Supplier<T> task) throws ServiceOverloadedException {
+		final CompletableFuture<T> future = new CompletableFuture<>();
+		final long enqueuedAt = System.nanoTime();
+		try {
+			executor.execute(() -> {
+				final long startedAt = System.nanoTime();
+				queueWaitNanos.add(startedAt - enqueuedAt);
+				try {
+					final T result = task.get();
+					executionNanos.add(System.nanoTime() - startedAt);
+					completed.increment();
+					future.complete(result);
+				} catch (final RuntimeException e) {
+					executionNanos.add(System.nanoTime() - startedAt);
+					failed.increment();
+					future.completeExceptionally(e);
+				}
+			});
+		} catch (final RejectedExecutionException e) {
+			rejected.increment();
+			throw new ServiceOverloadedException(
+				SERVICE_OVERLOADED.getMessage(),
+				SERVICE_OVERLOADED.getCode(),
+				RETRY_AFTER_SECONDS
+			);
+		}
+		submitted.increment();
+		return future;
+	}
+
+	public ExecutorStats stats() {
+		final long finished = completed.sum() + failed.sum();
+		return new ExecutorStats(
+			executor.getMaximumPoolSize(),
+			executor.getActiveCount(),
+			queueCapacity,
+			executor.getQueue().size(),
+			submitted.sum(),
+			rejected.sum(),
+			completed.sum(),
+			failed.sum(),
+			finished == 0 ? 0 : queueWaitNanos.sum() / 1_000_000.0 / finished,
+			finished == 0 ? 0 : executionNanos.sum() / 1_000_000.0 / finished
+		);
+	}
+
+	@Override
+	public void destroy() {
+		executor.shutdown();
+	}
+
+	private static final class NamedThreadFactory implements ThreadFactory {
+
+		private final String prefix;
+		private final AtomicInteger counter = new AtomicInteger();
+
+		private NamedThreadFactory(final String prefix) {
+			this.prefix = prefix;
+		}
+
+		@Override
+		public Thread newThread(final Runnable runnable) {
+			final Thread thread = new Thread(runnable, prefix + counter.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		}
+	}
+}
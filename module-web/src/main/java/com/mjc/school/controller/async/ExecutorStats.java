@@ -0,0 +1,16 @@
+package com.mjc.school.controller.async;
+
+public record ExecutorStats(
+	int threads,
+	int activeThreads,
+	int queueCapacity,
+	int queuedTasks,
+	long submittedTasks,
+	long rejectedTasks,
+	long completedTasks,
+	long failedTasks,
+	double averageQueueWaitMillis,
+	double averageExecutionMillis
+) {
+	// Empty
+}
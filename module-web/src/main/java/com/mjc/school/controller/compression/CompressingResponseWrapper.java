@@ -0,0 +1,355 @@
+package com.mjc.school.controller.compression;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+
+import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
+import javax.servlet.http.HttpServletResponse;
+import javax.servlet.http.HttpServletResponseWrapper;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.util.Arrays;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Response whose body is held back until it is known whether it gets compressed: up to
+ * {@code minResponseSize} bytes are buffered, and the first write beyond them decides. A declared
+ * {@code Content-Length} is kept back as well and only passed on for an uncompressed body.
+ * Flushing before that decision keeps the buffer; after it, a flush pushes what has been
+ * compressed so far to the client.
+ */
+final class CompressingResponseWrapper extends HttpServletResponseWrapper {
+
+	private static final int GZIP_BUFFER_SIZE = 8192;
+
+	private final CompressionFilter filter;
+	private final CompressingOutputStream stream = new CompressingOutputStream();
+	private PrintWriter writer;
+	private boolean streamUsed;
+	private long contentLength = -1;
+
+	CompressingResponseWrapper(final HttpServletResponse response, final CompressionFilter filter) {
+		super(response);
+		this.filter = filter;
+	}
+
+	@Override
+	public ServletOutputStream getOutputStream() {
+		if (writer != null) {
+			throw new IllegalStateException("getWriter() has already been called on this response");
+		}
+		streamUsed = true;
+		return stream;
+	}
+
+	@Override
+	public PrintWriter getWriter() throws IOException {
+		if (streamUsed) {
+			throw new IllegalStateException("getOutputStream() has already been called on this response");
+		}
+		if (writer == null) {
+			writer = new PrintWriter(new OutputStreamWriter(stream, getCharacterEncoding()));
+		}
+		return writer;
+	}
+
+	@Override
+	public void setContentLength(final int length) {
+		contentLength = length;
+	}
+
+	@Override
+	public void setContentLengthLong(final long length) {
+		contentLength = length;
+	}
+
+	@Override
+	public void setHeader(final String name, final String value) {
+		if (HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name)) {
+			contentLength = value == null ? -1 : Long.parseLong(value);
+		} else {
+			super.setHeader(name, value);
+		}
+	}
+
+	@Override
+	public void addHeader(final String name, final String value) {
+		if (HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name)) {
+			contentLength = Long.parseLong(value);
+		} else {
+			super.addHeader(name, value);
+		}
+	}
+
+	@Override
+	public void setIntHeader(final String name, final int value) {
+		if (HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name)) {
+			contentLength = value;
+		} else {
+			super.setIntHeader(name, value);
+		}
+	}
+
+	@Override
+	public void addIntHeader(final String name, final int value) {
+		if (HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name)) {
+			contentLength = value;
+		} else {
+			super.addIntHeader(name, value);
+		}
+	}
+
+	@Override
+	public void flushBuffer() throws IOException {
+		if (writer != null) {
+			writer.flush();
+		}
+		stream.flush();
+	}
+
+	@Override
+	public void resetBuffer() {
+		stream.resetBuffer();
+		super.resetBuffer();
+	}
+
+	@Override
+	public void reset() {
+		stream.resetBuffer();
+		contentLength = -1;
+		super.reset();
+	}
+
+	/**
+	 * Writes out what is still buffered and completes the gzip stream; the response stream itself
+	 * is left for the container to close.
+	 */
+	void finish() throws IOException {
+		if (writer != null) {
+			writer.flush();
+		}
+		stream.finish();
+	}
+
+	/**
+	 * Drops what is still buffered and releases the deflater without writing the gzip trailer, for
+	 * a request that failed or was abandoned; the container takes over the response from here.
+	 * Does nothing once the body has been finished.
+	 */
+	void discard() {
+		stream.discard();
+	}
+
+	private boolean shouldCompress() {
+		final int status = getStatus();
+		return status != HttpStatus.NO_CONTENT.value()
+			&& status != HttpStatus.PARTIAL_CONTENT.value()
+			&& status != HttpStatus.NOT_MODIFIED.value()
+			&& getHeader(HttpHeaders.CONTENT_ENCODING) == null
+			&& filter.isCompressible(getContentType());
+	}
+
+	private final class CompressingOutputStream extends ServletOutputStream {
+
+		private byte[] buffer = new byte[0];
+		private int count;
+		private OutputStream target;
+		private ServletOutputStream out;
+		private GzipStream gzip;
+		private long uncompressedBytes;
+		private boolean finished;
+
+		@Override
+		public void write(final int b) throws IOException {
+			write(new byte[] {(byte) b}, 0, 1);
+		}
+
+		@Override
+		public void write(final byte[] bytes, final int offset, final int length) throws IOException {
+			if (finished) {
+				throw new IOException("Response body has already been completed");
+			}
+			if (target == null) {
+				if (count + length <= filter.minResponseSize()) {
+					append(bytes, offset, length);
+					return;
+				}
+				start(shouldCompress());
+			}
+			uncompressedBytes += length;
+			target.write(bytes, offset, length);
+		}
+
+		@Override
+		public void flush() throws IOException {
+			if (target != null) {
+				target.flush();
+			}
+		}
+
+		@Override
+		public boolean isReady() {
+			return gzip != null || out == null || out.isReady();
+		}
+
+		/**
+		 * Non-blocking writes go straight to the response stream, so a body written that way is
+		 * sent uncompressed; one that is already being compressed cannot switch.
+		 */
+		@Override
+		public void setWriteListener(final WriteListener listener) {
+			if (gzip != null) {
+				throw new IllegalStateException("Non-blocking writes cannot be used on a compressed response body");
+			}
+			if (target == null) {
+				try {
+					start(false);
+				} catch (final IOException e) {
+					throw new IllegalStateException("Response stream is not available", e);
+				}
+			}
+			out.setWriteListener(listener);
+		}
+
+		void resetBuffer() {
+			if (target == null) {
+				count = 0;
+			}
+		}
+
+		void finish() throws IOException {
+			if (finished) {
+				return;
+			}
+			finished = true;
+			if (target == null && count == 0) {
+				if (contentLength >= 0) {
+					getResponse().setContentLengthLong(contentLength);
+				}
+				return;
+			}
+			if (target == null) {
+				if (contentLength < 0) {
+					contentLength = count;
+				}
+				start(false);
+			}
+			if (gzip != null) {
+				gzip.end();
+				filter.recordCompressed(uncompressedBytes, gzip.compressedBytes());
+			}
+		}
+
+		void discard() {
+			if (finished) {
+				return;
+			}
+			finished = true;
+			buffer = null;
+			count = 0;
+			if (gzip != null) {
+				gzip.discard();
+			}
+		}
+
+		/**
+		 * Decides on the encoding, writes the headers and the buffered bytes and sends everything
+		 * after them straight on.
+		 */
+		private void start(final boolean compress) throws IOException {
+			out = getResponse().getOutputStream();
+			if (compress) {
+				CompressingResponseWrapper.super.setHeader(HttpHeaders.CONTENT_ENCODING, CompressionFilter.GZIP);
+				gzip = new GzipStream(out, filter.level());
+				target = gzip;
+			} else {
+				if (contentLength >= 0) {
+					getResponse().setContentLengthLong(contentLength);
+				}
+				filter.recordUncompressed();
+				target = out;
+			}
+			uncompressedBytes = count;
+			target.write(buffer, 0, count);
+			buffer = null;
+			count = 0;
+		}
+
+		private void append(final byte[] bytes, final int offset, final int length) {
+			if (count + length > buffer.length) {
+				buffer = Arrays.copyOf(buffer, Math.min(filter.minResponseSize(), Math.max(count + length, buffer.length * 2)));
+			}
+			System.arraycopy(bytes, offset, buffer, count, length);
+			count += length;
+		}
+	}
+
+	/**
+	 * Gzip stream with a chosen deflate level that flushes compressed data on {@link #flush()}, so
+	 * a streamed body reaches the client as it is written, and counts the bytes it emits.
+	 */
+	private static final class GzipStream extends GZIPOutputStream {
+
+		private final CountingOutputStream counter;
+
+		GzipStream(final OutputStream out, final int level) throws IOException {
+			this(new CountingOutputStream(out), level);
+		}
+
+		private GzipStream(final CountingOutputStream counter, final int level) throws IOException {
+			super(counter, GZIP_BUFFER_SIZE, true);
+			this.counter = counter;
+			def.setLevel(level);
+		}
+
+		long compressedBytes() {
+			return counter.count;
+		}
+
+		/**
+		 * Writes the trailer and releases the native deflater without closing the response stream.
+		 */
+		void end() throws IOException {
+			try {
+				finish();
+				out.flush();
+			} finally {
+				def.end();
+			}
+		}
+
+		void discard() {
+			def.end();
+		}
+	}
+
+	private static final class CountingOutputStream extends OutputStream {
+
+		private final OutputStream out;
+		private long count;
+
+		CountingOutputStream(final OutputStream out) {
+			this.out = out;
+		}
+
+		@Override
+		public void write(final int b) throws IOException {
+			out.write(b);
+			count++;
+		}
+
+		@Override
+		public void write(final byte[] bytes, final int offset, final int length) throws IOException {
+			out.write(bytes, offset, length);
+			count += length;
+		}
+
+		@Override
+		public void flush() throws IOException {
+			out.flush();
+		}
+	}
+}
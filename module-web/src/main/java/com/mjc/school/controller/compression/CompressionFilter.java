@@ -0,0 +1,202 @@
+package com.mjc.school.controller.compression;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.WebUtils;
+
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Gzip compression of response bodies for clients that accept it. A body is held back until it
+ * reaches {@code minResponseSize} bytes; a shorter one goes out as it is, with its length, and a
+ * longer one of a compressible media type is compressed with the configured deflate level from
+ * then on, so large lists and streamed bodies are never buffered whole. Asynchronous handlers
+ * finish the body on their async dispatch, which is filtered as well.
+ */
+public class CompressionFilter extends OncePerRequestFilter {
+
+	static final String GZIP = "gzip";
+
+	private final int level;
+	private final int minResponseSize;
+	private final List<MediaType> mediaTypes;
+	private final LongAdder compressedResponses = new LongAdder();
+	private final LongAdder uncompressedResponses = new LongAdder();
+	private final LongAdder bytesIn = new LongAdder();
+	private final LongAdder bytesOut = new LongAdder();
+
+	public CompressionFilter(final int level, final int minResponseSize, final List<MediaType> mediaTypes) {
+		if (level < 1 || level > 9) {
+			throw new IllegalArgumentException("Compression level must be between 1 and 9: " + level);
+		}
+		this.level = level;
+		this.minResponseSize = minResponseSize;
+		this.mediaTypes = List.copyOf(mediaTypes);
+	}
+
+	public CompressionStats stats() {
+		return new CompressionStats(level, minResponseSize, compressedResponses.sum(), uncompressedResponses.sum(),
+			bytesIn.sum(), bytesOut.sum());
+	}
+
+	@Override
+	protected boolean shouldNotFilterAsyncDispatch() {
+		return false;
+	}
+
+	@Override
+	protected void doFilterInternal(
+		final HttpServletRequest request,
+		final HttpServletResponse response,
+		final FilterChain filterChain
+	) throws ServletException, IOException {
+		final CompressingResponseWrapper wrapper =
+			WebUtils.getNativeResponse(response, CompressingResponseWrapper.class);
+		if (wrapper != null) {
+			doFilter(request, response, filterChain, wrapper);
+			return;
+		}
+		if (isAsyncDispatch(request)) {
+			filterChain.doFilter(request, response);
+			return;
+		}
+		response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+		if ("HEAD".equals(request.getMethod()) || !acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING))) {
+			filterChain.doFilter(request, response);
+			return;
+		}
+		final CompressingResponseWrapper compressing = new CompressingResponseWrapper(response, this);
+		doFilter(request, compressing, filterChain, compressing);
+	}
+
+	/**
+	 * Whether an {@code Accept-Encoding} header admits gzip, named or through {@code *}, with a
+	 * quality above zero; an explicit gzip entry takes precedence over {@code *}.
+	 */
+	static boolean acceptsGzip(final String acceptEncoding) {
+		if (acceptEncoding == null) {
+			return false;
+		}
+		double gzip = -1;
+		double any = -1;
+		for (final String coding : acceptEncoding.split(",")) {
+			final String[] parts = coding.split(";");
+			final String name = parts[0].trim();
+			if (name.equalsIgnoreCase(GZIP) || name.equalsIgnoreCase("x-gzip")) {
+				gzip = Math.max(gzip, quality(parts));
+			} else if (name.equals("*")) {
+				any = quality(parts);
+			}
+		}
+		return gzip < 0 ? any > 0 : gzip > 0;
+	}
+
+	int level() {
+		return level;
+	}
+
+	int minResponseSize() {
+		return minResponseSize;
+	}
+
+	boolean isCompressible(final String contentType) {
+		if (contentType == null) {
+			return false;
+		}
+		final MediaType mediaType;
+		try {
+			mediaType = MediaType.parseMediaType(contentType);
+		} catch (final IllegalArgumentException e) {
+			return false;
+		}
+		return mediaTypes.stream().anyMatch(compressible -> compressible.includes(mediaType));
+	}
+
+	void recordCompressed(final long uncompressedBytes, final long compressedBytes) {
+		compressedResponses.increment();
+		bytesIn.add(uncompressedBytes);
+		bytesOut.add(compressedBytes);
+	}
+
+	void recordUncompressed() {
+		uncompressedResponses.increment();
+	}
+
+	/**
+	 * Runs the chain and completes the body once the handler is done; while an asynchronous
+	 * handler runs, that is on its async dispatch, and an async request that ends without one
+	 * releases the body when it completes. A failed chain leaves the response to the container's
+	 * error handling without a gzip trailer.
+	 */
+	private static void doFilter(
+		final HttpServletRequest request,
+		final HttpServletResponse response,
+		final FilterChain filterChain,
+		final CompressingResponseWrapper wrapper
+	) throws ServletException, IOException {
+		boolean completed = false;
+		try {
+			filterChain.doFilter(request, response);
+			completed = true;
+		} finally {
+			if (!completed) {
+				wrapper.discard();
+			}
+		}
+		if (!request.isAsyncStarted()) {
+			wrapper.finish();
+		} else {
+			request.getAsyncContext().addListener(new DiscardOnComplete(wrapper));
+		}
+	}
+
+	private static double quality(final String[] parts) {
+		for (int index = 1; index < parts.length; index++) {
+			final String parameter = parts[index].trim();
+			if (parameter.startsWith("q=")) {
+				try {
+					return Double.parseDouble(parameter.substring(2));
+				} catch (final NumberFormatException e) {
+					return 0;
+				}
+			}
+		}
+		return 1;
+	}
+
+	/**
+	 * Releases the deflater of an async request that completes without a dispatch finishing its
+	 * body, for example when the client goes away; after a finished body it does nothing.
+	 */
+	private record DiscardOnComplete(CompressingResponseWrapper wrapper) implements AsyncListener {
+
+		@Override
+		public void onComplete(final AsyncEvent event) {
+			wrapper.discard();
+		}
+
+		@Override
+		public void onTimeout(final AsyncEvent event) {
+			// Empty. The timeout is handled on the async dispatch that follows
+		}
+
+		@Override
+		public void onError(final AsyncEvent event) {
+			// Empty. The error is handled on the async dispatch that follows
+		}
+
+		@Override
+		public void onStartAsync(final AsyncEvent event) {
+			event.getAsyncContext().addListener(this);
+		}
+	}
+}
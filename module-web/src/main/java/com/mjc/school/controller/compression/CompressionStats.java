@@ -0,0 +1,12 @@
+package com.mjc.school.controller.compression;
+
+public record CompressionStats(
+	int level,
+	int minResponseSize,
+	long compressedResponses,
+	long uncompressedResponses,
+	long bytesIn,
+	long bytesOut
+) {
+	// Empty
+}
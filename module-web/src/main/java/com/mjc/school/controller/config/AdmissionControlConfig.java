@@ -0,0 +1,57 @@
+package com.mjc.school.controller.config;
+
+import com.mjc.school.controller.admission.AdaptiveConcurrencyLimiter;
+import com.mjc.school.controller.admission.AdmissionInterceptor;
+import com.mjc.school.controller.admission.RateLimiter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Rate and concurrency limits in front of every API handler. {@code news.admission.enabled=false}
+ * leaves the interceptor out.
+ */
+@Configuration
+public class AdmissionControlConfig implements WebMvcConfigurer {
+
+	@Value("${news.admission.enabled:true}")
+	private boolean enabled;
+	@Value("${news.rate-limit.client.permits-per-second:200}")
+	private double clientPermitsPerSecond;
+	@Value("${news.rate-limit.client.burst:400}")
+	private int clientBurst;
+	@Value("${news.rate-limit.endpoint.permits-per-second:100}")
+	private double endpointPermitsPerSecond;
+	@Value("${news.rate-limit.endpoint.burst:200}")
+	private int endpointBurst;
+	@Value("${news.rate-limit.max-buckets:100000}")
+	private int maxBuckets;
+	@Value("${news.concurrency-limit.initial:32}")
+	private int initialLimit;
+	@Value("${news.concurrency-limit.min:4}")
+	private int minLimit;
+	@Value("${news.concurrency-limit.max:256}")
+	private int maxLimit;
+	@Value("${news.concurrency-limit.latency-target-ms:500}")
+	private long latencyTargetMillis;
+
+	@Bean
+	public RateLimiter rateLimiter() {
+		return new RateLimiter(clientPermitsPerSecond, clientBurst, endpointPermitsPerSecond, endpointBurst, maxBuckets);
+	}
+
+	@Bean
+	public AdaptiveConcurrencyLimiter concurrencyLimiter() {
+		return new AdaptiveConcurrencyLimiter(initialLimit, minLimit, maxLimit, latencyTargetMillis);
+	}
+
+	@Override
+	public void addInterceptors(final InterceptorRegistry registry) {
+		if (enabled) {
+			registry.addInterceptor(new AdmissionInterceptor(rateLimiter(), concurrencyLimiter()))
+				.addPathPatterns("/api/**");
+		}
+	}
+}
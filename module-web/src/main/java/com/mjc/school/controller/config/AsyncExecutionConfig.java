@@ -0,0 +1,29 @@
+package com.mjc.school.controller.config;
+
+import com.mjc.school.controller.async.BoundedServiceExecutor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+public class AsyncExecutionConfig implements WebMvcConfigurer {
+
+	@Value("${news.async.threads:16}")
+	private int threads;
+	@Value("${news.async.queue-capacity:256}")
+	private int queueCapacity;
+	@Value("${news.async.timeout-ms:10000}")
+	private long timeout;
+
+	@Bean
+	public BoundedServiceExecutor serviceExecutor() {
+		return new BoundedServiceExecutor(threads, queueCapacity);
+	}
+
+	@Override
+	public void configureAsyncSupport(final AsyncSupportConfigurer configurer) {
+		configurer.setDefaultTimeout(timeout);
+	}
+}
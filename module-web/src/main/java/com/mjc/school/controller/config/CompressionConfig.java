@@ -0,0 +1,40 @@
+package com.mjc.school.controller.config;
+
+import com.mjc.school.controller.compression.CompressionFilter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.http.MediaType;
+
+/**
+ * Gzip compression of the API responses. {@code news.compression.level} is the deflate level from
+ * 1, fastest, to 9, smallest; {@code news.compression.enabled=false} leaves the filter out.
+ */
+@Configuration
+public class CompressionConfig {
+
+	@Value("${news.compression.enabled:true}")
+	private boolean enabled;
+	@Value("${news.compression.level:3}")
+	private int level;
+	@Value("${news.compression.min-response-size:2048}")
+	private int minResponseSize;
+	@Value("${news.compression.mime-types:application/json,application/*+json,application/xml,text/*}")
+	private String mimeTypes;
+
+	@Bean
+	public CompressionFilter compressionFilter() {
+		return new CompressionFilter(level, minResponseSize, MediaType.parseMediaTypes(mimeTypes));
+	}
+
+	@Bean
+	public FilterRegistrationBean<CompressionFilter> compressionFilterRegistration() {
+		final FilterRegistrationBean<CompressionFilter> registration = new FilterRegistrationBean<>(compressionFilter());
+		registration.addUrlPatterns("/api/*");
+		registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 100);
+		registration.setEnabled(enabled);
+		return registration;
+	}
+}
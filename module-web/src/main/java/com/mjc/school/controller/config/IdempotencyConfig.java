@@ -0,0 +1,24 @@
+package com.mjc.school.controller.config;
+
+import com.mjc.school.controller.idempotency.IdempotencyStore;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+public class IdempotencyConfig {
+
+	@Value("${news.idempotency.max-entries:10000}")
+	private int maxEntries;
+	@Value("${news.idempotency.ttl-seconds:86400}")
+	private long ttlSeconds;
+	@Value("${news.idempotency.replay-timeout-ms:2000}")
+	private long replayTimeoutMillis;
+
+	@Bean
+	public IdempotencyStore idempotencyStore() {
+		return new IdempotencyStore(maxEntries, Duration.ofSeconds(ttlSeconds), Duration.ofMillis(replayTimeoutMillis));
+	}
+}
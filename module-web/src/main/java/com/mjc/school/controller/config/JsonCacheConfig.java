@@ -0,0 +1,41 @@
+package com.mjc.school.controller.config;
+
+import com.mjc.school.controller.serialization.SerializedJsonCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * Adds the serialized JSON cache to the JSON message converter. {@code news.json-cache.enabled=false}
+ * leaves the converter as it is.
+ */
+@Configuration
+public class JsonCacheConfig implements WebMvcConfigurer {
+
+	@Value("${news.json-cache.enabled:true}")
+	private boolean enabled;
+	@Value("${news.json-cache.max-entries:100000}")
+	private int maxEntries;
+
+	@Bean
+	public SerializedJsonCache serializedJsonCache() {
+		return new SerializedJsonCache(maxEntries);
+	}
+
+	@Override
+	public void extendMessageConverters(final List<HttpMessageConverter<?>> converters) {
+		if (!enabled) {
+			return;
+		}
+		for (final HttpMessageConverter<?> converter : converters) {
+			if (converter instanceof MappingJackson2HttpMessageConverter json) {
+				json.getObjectMapper().registerModule(serializedJsonCache().module());
+			}
+		}
+	}
+}
@@ -0,0 +1,41 @@
+package com.mjc.school.controller.config;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Opt-in mode (news.threads.virtual=true) that makes Tomcat run every request on its own
+ * virtual thread. Controllers call services and repositories synchronously, so the blocking
+ * JDBC work of a request runs on the same virtual thread as the request itself.
+ * <p>
+ * This is not pinning-free JDBC. Tomcat 9 processes a socket inside a {@code synchronized}
+ * block, so a request that parks, waiting for a pooled connection or for anything else, pins
+ * its carrier thread; embedded H2 also runs each statement inside a {@code synchronized} block
+ * and waits for row locks held by other transactions in a monitor. Concurrent database work is
+ * therefore bounded by the carrier threads as well as by the pool, and the mode saves thread
+ * stacks rather than adding database throughput. Run with {@code -Djdk.tracePinnedThreads=short}
+ * to see the frames that pin.
+ * <p>
+ * The executor is shut down with the context, after Tomcat has stopped handing it requests.
+ */
+@Configuration
+@ConditionalOnProperty(name = "news.threads.virtual", havingValue = "true")
+public class VirtualThreadConfig implements DisposableBean {
+
+	private final ExecutorService executor = VirtualThreads.newThreadPerTaskExecutor("http-vt-");
+
+	@Bean
+	public TomcatProtocolHandlerCustomizer<?> virtualThreadProtocolHandlerCustomizer() {
+		return protocolHandler -> protocolHandler.setExecutor(executor);
+	}
+
+	@Override
+	public void destroy() {
+		executor.shutdown();
+	}
+}
@@ -0,0 +1,52 @@
+package com.mjc.school.controller.config;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Looks up the virtual thread API reflectively, so the module still compiles for Java 17
+ * while the virtual thread mode can be switched on when the application runs on Java 21+.
+ */
+public final class VirtualThreads {
+
+	private VirtualThreads() {
+		// Empty. Hides default public constructor
+	}
+
+	public static boolean isSupported() {
+		try {
+			Thread.class.getMethod("ofVirtual");
+			return true;
+		} catch (final NoSuchMethodException e) {
+			return false;
+		}
+	}
+
+	public static ExecutorService newThreadPerTaskExecutor(final String namePrefix) {
+		final ThreadFactory threadFactory = newThreadFactory(namePrefix);
+		try {
+			return (ExecutorService) Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class)
+				.invoke(null, threadFactory);
+		} catch (final ReflectiveOperationException e) {
+			throw new IllegalStateException("Can not create virtual thread executor", e);
+		}
+	}
+
+	public static ThreadFactory newThreadFactory(final String namePrefix) {
+		if (!isSupported()) {
+			throw new IllegalStateException("Virtual threads require Java 21 or later, current runtime is "
+				+ Runtime.version());
+		}
+		try {
+			final Class<?> builderType = Class.forName("java.lang.Thread$Builder");
+			final Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+			final Method name = builderType.getMethod("name", String.class, long.class);
+			final Object namedBuilder = name.invoke(builder, namePrefix, 0L);
+			return (ThreadFactory) builderType.getMethod("factory").invoke(namedBuilder);
+		} catch (final ReflectiveOperationException e) {
+			throw new IllegalStateException("Can not create virtual thread factory", e);
+		}
+	}
+}
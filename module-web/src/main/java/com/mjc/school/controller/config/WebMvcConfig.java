@@ -0,0 +1,32 @@
+package com.mjc.school.controller.config;
+
+import com.mjc.school.controller.versioning.ApiVersionRequestMappingHandlerMapping;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.DelegatingWebMvcConfiguration;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+/**
+ * Spring MVC set-up in place of {@code @EnableWebMvc}, which turns off Boot's MVC
+ * auto-configuration and with it any {@code WebMvcRegistrations}; the handler mapping is replaced
+ * here so that {@code @ApiVersion} routing takes effect. {@code news.api.dispatch-table.enabled=false}
+ * turns the precomputed versioned dispatch table off, leaving plain pattern matching. With the
+ * Jackson CBOR and Smile data formats on the class path the default message converters also write
+ * {@code application/cbor} and {@code application/x-jackson-smile}, chosen by the Accept header;
+ * JSON stays the default.
+ */
+@Configuration
+public class WebMvcConfig extends DelegatingWebMvcConfiguration {
+
+	@Value("${news.api.dispatch-table.enabled:true}")
+	private boolean dispatchTableEnabled;
+
+	@Override
+	protected RequestMappingHandlerMapping createRequestMappingHandlerMapping() {
+		final ApiVersionRequestMappingHandlerMapping handlerMapping =
+			new ApiVersionRequestMappingHandlerMapping();
+		handlerMapping.setRemoveSemicolonContent(false);
+		handlerMapping.setDispatchTableEnabled(dispatchTableEnabled);
+		return handlerMapping;
+	}
+}
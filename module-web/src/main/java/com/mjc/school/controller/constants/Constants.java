@@ -2,10 +2,14 @@ package com.mjc.school.controller.constants;
 
 public class Constants {
 
+	public static final String API_MEDIA_TYPES = "application/json, application/cbor, application/x-jackson-smile";
 	public static final String API_ROOT_PATH = "/api/{apiVersion}";
+	public static final String ASYNC_ROOT_PATH = "/async";
 	public static final String AUTHOR_ROOT_PATH = "/authors";
 	public static final String COMMENT_ROOT_PATH = "/comments";
+	public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
 	public static final String NEWS_ROOT_PATH = "/news";
+	public static final String STATS_ROOT_PATH = "/stats";
 	public static final String TAG_ROOT_PATH = "/tags";
 
 	private Constants() {
@@ -2,7 +2,11 @@ package com.mjc.school.controller.exception;
 
 public class ApiVersionNotSupportedException extends ControllerException {
 
-	public ApiVersionNotSupportedException(final String message, final String errorCode) {
-		super(message, errorCode);
+	public ApiVersionNotSupportedException(
+		final String message,
+		final String errorCode,
+		final Object... messageArguments
+	) {
+		super(message, errorCode, messageArguments);
 	}
 }
\ No newline at end of file
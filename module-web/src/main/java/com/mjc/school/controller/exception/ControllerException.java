@@ -1,15 +1,37 @@
 package com.mjc.school.controller.exception;
 
+/**
+ * Base of the errors the web layer reports to its clients. Like the service exceptions they are
+ * created without a stack trace, and a message given with arguments is only formatted when read.
+ */
 public class ControllerException extends RuntimeException {
 
 	private final String errorCode;
+	private final String messageFormat;
+	private final Object[] messageArguments;
+	private String message;
 
-	public ControllerException(final String message, final String errorCode) {
-		super(message);
+	/**
+	 * @param message the message, or its {@link String#format} pattern when arguments are given
+	 */
+	public ControllerException(final String message, final String errorCode, final Object... messageArguments) {
+		super(null, null, false, false);
 		this.errorCode = errorCode;
+		this.messageFormat = message;
+		this.messageArguments = messageArguments;
 	}
 
 	public String getErrorCode() {
 		return errorCode;
 	}
-}
\ No newline at end of file
+
+	@Override
+	public String getMessage() {
+		String formatted = message;
+		if (formatted == null) {
+			formatted = messageArguments.length == 0 ? messageFormat : String.format(messageFormat, messageArguments);
+			message = formatted;
+		}
+		return formatted;
+	}
+}
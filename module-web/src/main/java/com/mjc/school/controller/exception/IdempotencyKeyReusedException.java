@@ -0,0 +1,8 @@
+package com.mjc.school.controller.exception;
+
+public class IdempotencyKeyReusedException extends ControllerException {
+
+	public IdempotencyKeyReusedException(final String message, final String errorCode) {
+		super(message, errorCode);
+	}
+}
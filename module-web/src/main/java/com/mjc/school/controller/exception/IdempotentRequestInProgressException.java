@@ -0,0 +1,15 @@
+package com.mjc.school.controller.exception;
+
+public class IdempotentRequestInProgressException extends ControllerException {
+
+	private final long retryAfterSeconds;
+
+	public IdempotentRequestInProgressException(final String message, final String errorCode, final long retryAfterSeconds) {
+		super(message, errorCode);
+		this.retryAfterSeconds = retryAfterSeconds;
+	}
+
+	public long getRetryAfterSeconds() {
+		return retryAfterSeconds;
+	}
+}
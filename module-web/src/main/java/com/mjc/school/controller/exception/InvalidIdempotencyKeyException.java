@@ -0,0 +1,8 @@
+package com.mjc.school.controller.exception;
+
+public class InvalidIdempotencyKeyException extends ControllerException {
+
+	public InvalidIdempotencyKeyException(final String message, final String errorCode, final Object... messageArguments) {
+		super(message, errorCode, messageArguments);
+	}
+}
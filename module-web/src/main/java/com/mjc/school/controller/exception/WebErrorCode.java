@@ -4,7 +4,14 @@ public enum WebErrorCode {
 
 	API_VERSION_NOT_SUPPORTED(Constants.ERROR_100001, "This API version is not supported"),
 	IDS_DO_NOT_MATCH(Constants.ERROR_100002, "Id mentioned in URL is not equal " +
-		"to id in the request body");
+		"to id in the request body"),
+	SERVICE_OVERLOADED(Constants.ERROR_100003, "Service is overloaded, retry the request later"),
+	INTERNAL_ERROR(Constants.ERROR_100004, "The request could not be processed because of an internal error"),
+	IDEMPOTENCY_KEY_REUSED(Constants.ERROR_100005, "Idempotency key was already used for a different request"),
+	INVALID_IDEMPOTENCY_KEY(Constants.ERROR_100006, "Idempotency key must be non-blank and at most %s characters long"),
+	RATE_LIMIT_EXCEEDED(Constants.ERROR_100007, "Too many requests, retry the request later"),
+	IDEMPOTENT_REQUEST_IN_PROGRESS(Constants.ERROR_100008, "A request with this idempotency key is still being "
+		+ "processed, retry it later");
 
 	private final String errorCode;
 	private final String errorMessage;
@@ -25,5 +32,11 @@ public enum WebErrorCode {
 	private static class Constants {
 		private static final String ERROR_100001 = "100001";
 		private static final String ERROR_100002 = "100002";
+		private static final String ERROR_100003 = "100003";
+		private static final String ERROR_100004 = "100004";
+		private static final String ERROR_100005 = "100005";
+		private static final String ERROR_100006 = "100006";
+		private static final String ERROR_100007 = "100007";
+		private static final String ERROR_100008 = "100008";
 	}
 }
\ No newline at end of file
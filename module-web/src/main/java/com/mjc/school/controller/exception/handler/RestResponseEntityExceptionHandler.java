@@ -1,9 +1,18 @@
 package com.mjc.school.controller.exception.handler;
 
 import com.mjc.school.controller.exception.ApiVersionNotSupportedException;
+import com.mjc.school.controller.exception.IdempotencyKeyReusedException;
+import com.mjc.school.controller.exception.IdempotentRequestInProgressException;
+import com.mjc.school.controller.exception.InvalidIdempotencyKeyException;
+import com.mjc.school.controller.exception.RateLimitExceededException;
+import com.mjc.school.controller.exception.ServiceOverloadedException;
 import com.mjc.school.service.exception.EntityConstraintViolationServiceException;
 import com.mjc.school.service.exception.EntityNotFoundException;
+import com.mjc.school.service.exception.IngestionOverloadedServiceException;
 import com.mjc.school.service.exception.ValidationException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ControllerAdvice;
@@ -12,10 +21,13 @@ import org.springframework.web.servlet.mvc.method.annotation.ResponseEntityExcep
 
 import static com.mjc.school.controller.exception.WebErrorCode.API_VERSION_NOT_SUPPORTED;
 import static com.mjc.school.controller.exception.WebErrorCode.IDS_DO_NOT_MATCH;
+import static com.mjc.school.controller.exception.WebErrorCode.INTERNAL_ERROR;
 
 @ControllerAdvice
 public class RestResponseEntityExceptionHandler extends ResponseEntityExceptionHandler {
 
+	private static final Logger LOGGER = LoggerFactory.getLogger(RestResponseEntityExceptionHandler.class);
+
 	@ExceptionHandler(value = {ApiVersionNotSupportedException.class})
 	protected ResponseEntity<ErrorResponse> handleApiVersionNotSupportedException(
 		final ApiVersionNotSupportedException e
@@ -28,6 +40,62 @@ public class RestResponseEntityExceptionHandler extends ResponseEntityExceptionH
 		);
 	}
 
+	@ExceptionHandler(value = {ServiceOverloadedException.class})
+	protected ResponseEntity<ErrorResponse> handleServiceOverloadedException(final ServiceOverloadedException e) {
+		return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+			.header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+			.body(new ErrorResponse(e.getMessage(), e.getErrorCode(), e.getMessage()));
+	}
+
+	@ExceptionHandler(value = {RateLimitExceededException.class})
+	protected ResponseEntity<ErrorResponse> handleRateLimitExceededException(final RateLimitExceededException e) {
+		return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+			.header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+			.body(new ErrorResponse(e.getMessage(), e.getErrorCode(), e.getMessage()));
+	}
+
+	@ExceptionHandler(value = {IngestionOverloadedServiceException.class})
+	protected ResponseEntity<ErrorResponse> handleIngestionOverloadedServiceException(
+		final IngestionOverloadedServiceException e
+	) {
+		return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+			.header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+			.body(new ErrorResponse(e.getMessage(), e.getErrorCode(), e.getMessage()));
+	}
+
+	@ExceptionHandler(value = {IdempotencyKeyReusedException.class})
+	protected ResponseEntity<ErrorResponse> handleIdempotencyKeyReusedException(
+		final IdempotencyKeyReusedException e
+	) {
+		return buildErrorResponse(
+			e.getMessage(),
+			e.getErrorCode(),
+			e.getMessage(),
+			HttpStatus.UNPROCESSABLE_ENTITY
+		);
+	}
+
+	@ExceptionHandler(value = {IdempotentRequestInProgressException.class})
+	protected ResponseEntity<ErrorResponse> handleIdempotentRequestInProgressException(
+		final IdempotentRequestInProgressException e
+	) {
+		return ResponseEntity.status(HttpStatus.CONFLICT)
+			.header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+			.body(new ErrorResponse(e.getMessage(), e.getErrorCode(), e.getMessage()));
+	}
+
+	@ExceptionHandler(value = {InvalidIdempotencyKeyException.class})
+	protected ResponseEntity<ErrorResponse> handleInvalidIdempotencyKeyException(
+		final InvalidIdempotencyKeyException e
+	) {
+		return buildErrorResponse(
+			e.getMessage(),
+			e.getErrorCode(),
+			e.getMessage(),
+			HttpStatus.BAD_REQUEST
+		);
+	}
+
 	@ExceptionHandler(value = {IllegalArgumentException.class})
 	protected ResponseEntity<ErrorResponse> handleIllegalArgumentException(final IllegalArgumentException e) {
 		return buildErrorResponse(
@@ -70,12 +138,17 @@ public class RestResponseEntityExceptionHandler extends ResponseEntityExceptionH
 		);
 	}
 
+	/**
+	 * Anything not handled above is a fault, not a client error: it is logged with its stack trace
+	 * and answered without internal details.
+	 */
 	@ExceptionHandler(value = {Exception.class})
-	protected ResponseEntity<ErrorResponse> handleException(final EntityNotFoundException e) {
+	protected ResponseEntity<ErrorResponse> handleException(final Exception e) {
+		LOGGER.error("Unhandled exception", e);
 		return buildErrorResponse(
-			e.getMessage(),
-			e.getErrorCode(),
-			e.getMessage(),
+			INTERNAL_ERROR.getMessage(),
+			INTERNAL_ERROR.getCode(),
+			INTERNAL_ERROR.getMessage(),
 			HttpStatus.INTERNAL_SERVER_ERROR
 		);
 	}
@@ -0,0 +1,13 @@
+package com.mjc.school.controller.idempotency;
+
+public record IdempotencyStats(
+	int entries,
+	int maxEntries,
+	long recordedResponses,
+	long replayedResponses,
+	long rejectedKeyReuses,
+	long evictedBeforeExpiry,
+	long replayTimeouts
+) {
+	// Empty
+}
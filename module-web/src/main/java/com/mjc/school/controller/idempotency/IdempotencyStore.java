@@ -0,0 +1,168 @@
+package com.mjc.school.controller.idempotency;
+
+import com.mjc.school.controller.exception.IdempotencyKeyReusedException;
+import com.mjc.school.controller.exception.IdempotentRequestInProgressException;
+import com.mjc.school.controller.exception.InvalidIdempotencyKeyException;
+import org.springframework.http.ResponseEntity;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+import static com.mjc.school.controller.exception.WebErrorCode.IDEMPOTENCY_KEY_REUSED;
+import static com.mjc.school.controller.exception.WebErrorCode.IDEMPOTENT_REQUEST_IN_PROGRESS;
+import static com.mjc.school.controller.exception.WebErrorCode.INVALID_IDEMPOTENCY_KEY;
+
+/**
+ * Remembers the first response of a create request per {@code Idempotency-Key}, so that a client
+ * retrying after a timeout gets the same result instead of a 409 or a second comment. A retry
+ * that arrives while the first request is still running waits for it, but for at most
+ * {@code replayTimeout}; after that it is answered with a 409 and {@code Retry-After} rather than
+ * holding its thread for as long as the first request takes. The same key with a
+ * different request body is rejected. A failed request is not recorded, so its retry runs again.
+ * <p>
+ * Entries expire {@code ttl} after they were recorded; with a single TTL the insertion order is
+ * the expiry order, so expired entries are dropped from the head of the map. Beyond
+ * {@code maxEntries} the oldest entry is dropped even if it has not expired yet.
+ */
+public class IdempotencyStore {
+
+	public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+	static final int MAX_KEY_LENGTH = 255;
+	private static final long RETRY_AFTER_SECONDS = 1;
+
+	private final int maxEntries;
+	private final long ttlNanos;
+	private final long replayTimeoutNanos;
+	private final LongSupplier nanoTime;
+	private final Map<String, Entry> entries = new LinkedHashMap<>();
+	private final LongAdder recorded = new LongAdder();
+	private final LongAdder replayed = new LongAdder();
+	private final LongAdder rejected = new LongAdder();
+	private final LongAdder evicted = new LongAdder();
+	private final LongAdder inProgress = new LongAdder();
+
+	public IdempotencyStore(final int maxEntries, final Duration ttl, final Duration replayTimeout) {
+		this(maxEntries, ttl, replayTimeout, System::nanoTime);
+	}
+
+	IdempotencyStore(final int maxEntries, final Duration ttl, final Duration replayTimeout, final LongSupplier nanoTime) {
+		this.maxEntries = maxEntries;
+		this.ttlNanos = ttl.toNanos();
+		this.replayTimeoutNanos = replayTimeout.toNanos();
+		this.nanoTime = nanoTime;
+	}
+
+	/**
+	 * Runs {@code create} and records its response under {@code key}, or returns the response
+	 * recorded for an earlier request with the same key and an equal {@code request}. Without a
+	 * key {@code create} simply runs.
+	 */
+	public <T> ResponseEntity<T> execute(
+		final String key,
+		final Object request,
+		final Supplier<ResponseEntity<T>> create
+	) {
+		if (key == null) {
+			return create.get();
+		}
+		if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+			throw new InvalidIdempotencyKeyException(INVALID_IDEMPOTENCY_KEY.getMessage(),
+				INVALID_IDEMPOTENCY_KEY.getCode(), MAX_KEY_LENGTH);
+		}
+		final Entry entry = new Entry(request, new CompletableFuture<>(), nanoTime.getAsLong() + ttlNanos);
+		final Entry existing = recordIfAbsent(key, entry);
+		if (existing != null) {
+			return replay(existing, request);
+		}
+		final ResponseEntity<T> response;
+		try {
+			response = create.get();
+		} catch (final RuntimeException | Error e) {
+			forget(key, entry);
+			entry.response().completeExceptionally(e);
+			throw e;
+		}
+		entry.response().complete(response);
+		recorded.increment();
+		return response;
+	}
+
+	public IdempotencyStats stats() {
+		final int size;
+		synchronized (this) {
+			size = entries.size();
+		}
+		return new IdempotencyStats(size, maxEntries, recorded.sum(), replayed.sum(), rejected.sum(), evicted.sum(),
+			inProgress.sum());
+	}
+
+	private synchronized Entry recordIfAbsent(final String key, final Entry entry) {
+		final long now = nanoTime.getAsLong();
+		final Iterator<Entry> oldest = entries.values().iterator();
+		while (oldest.hasNext() && oldest.next().expiresAt() - now <= 0) {
+			oldest.remove();
+		}
+		final Entry existing = entries.putIfAbsent(key, entry);
+		if (existing == null && entries.size() > maxEntries) {
+			final Iterator<Entry> eldest = entries.values().iterator();
+			eldest.next();
+			eldest.remove();
+			evicted.increment();
+		}
+		return existing;
+	}
+
+	private synchronized void forget(final String key, final Entry entry) {
+		entries.remove(key, entry);
+	}
+
+	@SuppressWarnings("unchecked")
+	private <T> ResponseEntity<T> replay(final Entry entry, final Object request) {
+		if (!entry.request().equals(request)) {
+			rejected.increment();
+			throw new IdempotencyKeyReusedException(IDEMPOTENCY_KEY_REUSED.getMessage(),
+				IDEMPOTENCY_KEY_REUSED.getCode());
+		}
+		final ResponseEntity<T> response;
+		try {
+			response = (ResponseEntity<T>) entry.response().get(replayTimeoutNanos, TimeUnit.NANOSECONDS);
+		} catch (final TimeoutException e) {
+			throw inProgress();
+		} catch (final InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw inProgress();
+		} catch (final ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			if (e.getCause() instanceof Error error) {
+				throw error;
+			}
+			throw new IllegalStateException(e.getCause());
+		}
+		replayed.increment();
+		return ResponseEntity.status(response.getStatusCode())
+			.headers(response.getHeaders())
+			.header(REPLAYED_HEADER, "true")
+			.body(response.getBody());
+	}
+
+	private IdempotentRequestInProgressException inProgress() {
+		inProgress.increment();
+		return new IdempotentRequestInProgressException(IDEMPOTENT_REQUEST_IN_PROGRESS.getMessage(),
+			IDEMPOTENT_REQUEST_IN_PROGRESS.getCode(), RETRY_AFTER_SECONDS);
+	}
+
+	private record Entry(Object request, CompletableFuture<ResponseEntity<?>> response, long expiresAt) {
+		// Empty
+	}
+}
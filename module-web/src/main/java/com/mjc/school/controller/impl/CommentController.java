@@ -1,10 +1,13 @@
 package com.mjc.school.controller.impl;
 
 import com.mjc.school.controller.BaseController;
+import com.mjc.school.controller.idempotency.IdempotencyStore;
 import com.mjc.school.controller.versioning.ApiVersion;
 import com.mjc.school.service.CommentService;
+import com.mjc.school.service.dto.CommentPageResponseDto;
 import com.mjc.school.service.dto.CommentRequestDto;
 import com.mjc.school.service.dto.CommentResponseDto;
+import com.mjc.school.service.validator.annotation.Max;
 import com.mjc.school.service.validator.annotation.Min;
 import com.mjc.school.service.validator.annotation.NotNull;
 import com.mjc.school.service.validator.annotation.Valid;
@@ -21,28 +24,35 @@ import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.util.List;
+import java.util.Map;
 
+import static com.mjc.school.controller.constants.Constants.API_MEDIA_TYPES;
 import static com.mjc.school.controller.constants.Constants.API_ROOT_PATH;
 import static com.mjc.school.controller.constants.Constants.COMMENT_ROOT_PATH;
+import static com.mjc.school.controller.constants.Constants.IDEMPOTENCY_KEY_HEADER;
 import static com.mjc.school.controller.constants.Constants.NEWS_ROOT_PATH;
+import static com.mjc.school.service.constants.Constants.COMMENT_PAGE_LIMIT_MAX;
 import static com.mjc.school.service.constants.Constants.ID_MIN_VALUE;
 
 @RestController
 @ApiVersion(1)
 @RequestMapping(API_ROOT_PATH)
-@Api(produces = "application/json", value = "Operations for creating, updating, retrieving and deleting comments")
+@Api(produces = API_MEDIA_TYPES, value = "Operations for creating, updating, retrieving and deleting comments")
 public class CommentController implements BaseController<CommentResponseDto, CommentRequestDto, Long> {
 
 	private final CommentService commentService;
+	private final IdempotencyStore idempotencyStore;
 
-	public CommentController(final CommentService commentService) {
+	public CommentController(final CommentService commentService, final IdempotencyStore idempotencyStore) {
 		this.commentService = commentService;
+		this.idempotencyStore = idempotencyStore;
 	}
 
 	@Override
@@ -82,7 +92,45 @@ public class CommentController implements BaseController<CommentResponseDto, Com
 		return ResponseEntity.ok(commentService.readById(id));
 	}
 
-	@ApiOperation(value = "Retrieve comments by supplied news id", response = List.class)
+	@ApiOperation(value = "View selected fields of all comments", response = List.class)
+	@ApiResponses(value = {
+		@ApiResponse(code = 200, message = "Successfully retrieved selected fields of all comments"),
+		@ApiResponse(code = 400, message = "Request violates any of existing constraints"),
+		@ApiResponse(code = 401, message = "You are not authorized"),
+		@ApiResponse(code = 403, message = "Accessing the resource you were trying to reach is forbidden"),
+		@ApiResponse(code = 404, message = "The resource you were trying to reach is not found"),
+		@ApiResponse(code = 500, message = "Application failed to process the request"),
+		@ApiResponse(code = 503, message = "Api version you are trying to use is not supported")
+	})
+	@GetMapping(path = COMMENT_ROOT_PATH, params = "fields")
+	public ResponseEntity<List<Map<String, Object>>> readAll(
+		@RequestParam(defaultValue = "10", required = false) @Min(1) final int limit,
+		@RequestParam(defaultValue = "0", required = false) @Min(0) final int offset,
+		@RequestParam(defaultValue = "id::asc", required = false) final String orderBy,
+		@RequestParam final List<String> fields
+	) {
+		return ResponseEntity.ok(commentService.readAll(limit, offset, orderBy, fields));
+	}
+
+	@ApiOperation(value = "Retrieve selected fields of specific comment with the supplied id", response = Map.class)
+	@ApiResponses(value = {
+		@ApiResponse(code = 200, message = "Successfully retrieved selected fields of the comment with the supplied id"),
+		@ApiResponse(code = 400, message = "Request violates any of existing constraints"),
+		@ApiResponse(code = 401, message = "You are not authorized"),
+		@ApiResponse(code = 403, message = "Accessing the resource you were trying to reach is forbidden"),
+		@ApiResponse(code = 404, message = "The resource you were trying to reach is not found"),
+		@ApiResponse(code = 500, message = "Application failed to process the request"),
+		@ApiResponse(code = 503, message = "Api version you are trying to use is not supported")
+	})
+	@GetMapping(path = COMMENT_ROOT_PATH + "/{id:\\d+}", params = "fields")
+	public ResponseEntity<Map<String, Object>> readById(
+		@PathVariable @NotNull @Min(ID_MIN_VALUE) final Long id,
+		@RequestParam final List<String> fields
+	) {
+		return ResponseEntity.ok(commentService.readById(id, fields));
+	}
+
+	@ApiOperation(value = "Retrieve a page of comments by supplied news id", response = List.class)
 	@ApiResponses(value = {
 		@ApiResponse(code = 200, message = "Successfully retrieved comments by supplied news id"),
 		@ApiResponse(code = 400, message = "Request violates any of existing constraints"),
@@ -94,9 +142,31 @@ public class CommentController implements BaseController<CommentResponseDto, Com
 	})
 	@GetMapping(NEWS_ROOT_PATH + "/{newsId:\\d+}/comments")
 	public ResponseEntity<List<CommentResponseDto>> readCommentsByNewsId(
-		@PathVariable("newsId") @NotNull @Min(ID_MIN_VALUE) final Long newsId
+		@PathVariable("newsId") @NotNull @Min(ID_MIN_VALUE) final Long newsId,
+		@RequestParam(defaultValue = "10", required = false) @Min(1) @Max(COMMENT_PAGE_LIMIT_MAX) final int limit,
+		@RequestParam(defaultValue = "0", required = false) @Min(0) final int offset
+	) {
+		return ResponseEntity.ok(commentService.readCommentsByNewsId(newsId, limit, offset));
+	}
+
+	@ApiOperation(value = "Retrieve comments by supplied news id following the supplied cursor",
+		response = CommentPageResponseDto.class)
+	@ApiResponses(value = {
+		@ApiResponse(code = 200, message = "Successfully retrieved comments by supplied news id"),
+		@ApiResponse(code = 400, message = "Request violates any of existing constraints"),
+		@ApiResponse(code = 401, message = "You are not authorized"),
+		@ApiResponse(code = 403, message = "Accessing the resource you were trying to reach is forbidden"),
+		@ApiResponse(code = 404, message = "The resource you were trying to reach is not found"),
+		@ApiResponse(code = 500, message = "Application failed to process the request"),
+		@ApiResponse(code = 503, message = "Api version you are trying to use is not supported")
+	})
+	@GetMapping(path = NEWS_ROOT_PATH + "/{newsId:\\d+}/comments", params = "after")
+	public ResponseEntity<CommentPageResponseDto> readCommentsByNewsIdAfter(
+		@PathVariable("newsId") @NotNull @Min(ID_MIN_VALUE) final Long newsId,
+		@RequestParam @NotNull @Min(0) final Long after,
+		@RequestParam(defaultValue = "10", required = false) @Min(1) @Max(COMMENT_PAGE_LIMIT_MAX) final int limit
 	) {
-		return ResponseEntity.ok(commentService.readCommentsByNewsId(newsId));
+		return ResponseEntity.ok(commentService.readCommentsByNewsIdAfter(newsId, after, limit));
 	}
 
 	@Override
@@ -108,14 +178,17 @@ public class CommentController implements BaseController<CommentResponseDto, Com
 		@ApiResponse(code = 401, message = "You are not authorized"),
 		@ApiResponse(code = 403, message = "Accessing the resource you were trying to reach is forbidden"),
 		@ApiResponse(code = 404, message = "The resource you were trying to reach is not found"),
+		@ApiResponse(code = 422, message = "Idempotency key was already used for a different request"),
 		@ApiResponse(code = 500, message = "Application failed to process the request"),
-		@ApiResponse(code = 503, message = "Api version you are trying to use is not supported")
+		@ApiResponse(code = 503, message = "Api version is not supported or comment ingestion is overloaded")
 	})
 	@ResponseStatus(HttpStatus.CREATED)
 	public ResponseEntity<CommentResponseDto> create(
+		@RequestHeader(name = IDEMPOTENCY_KEY_HEADER, required = false) final String idempotencyKey,
 		@RequestBody @Valid final CommentRequestDto request
 	) {
-		return new ResponseEntity<>(commentService.create(request), HttpStatus.CREATED);
+		return idempotencyStore.execute(idempotencyKey, request,
+			() -> new ResponseEntity<>(commentService.create(request), HttpStatus.CREATED));
 	}
 
 	@Override
@@ -1,11 +1,15 @@
 package com.mjc.school.controller.impl;
 
 import com.mjc.school.controller.BaseController;
+import com.mjc.school.controller.admission.RateLimit;
+import com.mjc.school.controller.idempotency.IdempotencyStore;
 import com.mjc.school.controller.versioning.ApiVersion;
 import com.mjc.school.service.NewsService;
+import com.mjc.school.service.dto.NewsDetailResponseDto;
 import com.mjc.school.service.dto.NewsRequestDto;
 import com.mjc.school.service.dto.NewsResponseDto;
 import com.mjc.school.service.query.NewsQueryParams;
+import com.mjc.school.service.validator.annotation.Max;
 import com.mjc.school.service.validator.annotation.Min;
 import com.mjc.school.service.validator.annotation.NotNull;
 import com.mjc.school.service.validator.annotation.Valid;
@@ -22,27 +26,34 @@ import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.util.List;
+import java.util.Map;
 
+import static com.mjc.school.controller.constants.Constants.API_MEDIA_TYPES;
 import static com.mjc.school.controller.constants.Constants.API_ROOT_PATH;
+import static com.mjc.school.controller.constants.Constants.IDEMPOTENCY_KEY_HEADER;
 import static com.mjc.school.controller.constants.Constants.NEWS_ROOT_PATH;
+import static com.mjc.school.service.constants.Constants.COMMENT_PAGE_LIMIT_MAX;
 import static com.mjc.school.service.constants.Constants.ID_MIN_VALUE;
 
 @RestController
 @ApiVersion(1)
 @RequestMapping(API_ROOT_PATH)
-@Api(produces = "application/json", value = "Operations for creating, updating, retrieving and deleting news")
+@Api(produces = API_MEDIA_TYPES, value = "Operations for creating, updating, retrieving and deleting news")
 public class NewsController implements BaseController<NewsResponseDto, NewsRequestDto, Long> {
 
 	private final NewsService newsService;
+	private final IdempotencyStore idempotencyStore;
 
-	public NewsController(final NewsService newsService) {
+	public NewsController(final NewsService newsService, final IdempotencyStore idempotencyStore) {
 		this.newsService = newsService;
+		this.idempotencyStore = idempotencyStore;
 	}
 
 	@Override
@@ -82,6 +93,63 @@ public class NewsController implements BaseController<NewsResponseDto, NewsReque
 		return ResponseEntity.ok(newsService.readById(id));
 	}
 
+	@ApiOperation(value = "View selected fields of all news", response = List.class)
+	@ApiResponses(value = {
+		@ApiResponse(code = 200, message = "Successfully retrieved selected fields of all news"),
+		@ApiResponse(code = 400, message = "Request violates any of existing constraints"),
+		@ApiResponse(code = 401, message = "You are not authorized"),
+		@ApiResponse(code = 403, message = "Accessing the resource you were trying to reach is forbidden"),
+		@ApiResponse(code = 404, message = "The resource you were trying to reach is not found"),
+		@ApiResponse(code = 500, message = "Application failed to process the request"),
+		@ApiResponse(code = 503, message = "Api version you are trying to use is not supported")
+	})
+	@GetMapping(path = NEWS_ROOT_PATH, params = "fields")
+	public ResponseEntity<List<Map<String, Object>>> readAll(
+		@RequestParam(defaultValue = "10", required = false) @Min(1) final int limit,
+		@RequestParam(defaultValue = "0", required = false) @Min(0) final int offset,
+		@RequestParam(defaultValue = "id::asc", required = false) final String orderBy,
+		@RequestParam final List<String> fields
+	) {
+		return ResponseEntity.ok(newsService.readAll(limit, offset, orderBy, fields));
+	}
+
+	@ApiOperation(value = "Retrieve selected fields of specific news with the supplied id", response = Map.class)
+	@ApiResponses(value = {
+		@ApiResponse(code = 200, message = "Successfully retrieved selected fields of the news with the supplied id"),
+		@ApiResponse(code = 400, message = "Request violates any of existing constraints"),
+		@ApiResponse(code = 401, message = "You are not authorized"),
+		@ApiResponse(code = 403, message = "Accessing the resource you were trying to reach is forbidden"),
+		@ApiResponse(code = 404, message = "The resource you were trying to reach is not found"),
+		@ApiResponse(code = 500, message = "Application failed to process the request"),
+		@ApiResponse(code = 503, message = "Api version you are trying to use is not supported")
+	})
+	@GetMapping(path = NEWS_ROOT_PATH + "/{id:\\d+}", params = "fields")
+	public ResponseEntity<Map<String, Object>> readById(
+		@PathVariable @NotNull @Min(ID_MIN_VALUE) final Long id,
+		@RequestParam final List<String> fields
+	) {
+		return ResponseEntity.ok(newsService.readById(id, fields));
+	}
+
+	@ApiOperation(value = "Retrieve news with its author, tags and a page of its comments", response = NewsDetailResponseDto.class)
+	@ApiResponses(value = {
+		@ApiResponse(code = 200, message = "Successfully retrieved the news details"),
+		@ApiResponse(code = 400, message = "Request violates any of existing constraints"),
+		@ApiResponse(code = 401, message = "You are not authorized"),
+		@ApiResponse(code = 403, message = "Accessing the resource you were trying to reach is forbidden"),
+		@ApiResponse(code = 404, message = "The resource you were trying to reach is not found"),
+		@ApiResponse(code = 500, message = "Application failed to process the request"),
+		@ApiResponse(code = 503, message = "Api version you are trying to use is not supported")
+	})
+	@GetMapping(NEWS_ROOT_PATH + "/{id:\\d+}/detail")
+	public ResponseEntity<NewsDetailResponseDto> readNewsDetail(
+		@PathVariable @NotNull @Min(ID_MIN_VALUE) final Long id,
+		@RequestParam(value = "comment_limit", defaultValue = "10", required = false) @Min(1) @Max(COMMENT_PAGE_LIMIT_MAX) final int commentLimit,
+		@RequestParam(value = "comment_offset", defaultValue = "0", required = false) @Min(0) final int commentOffset
+	) {
+		return ResponseEntity.ok(newsService.readNewsDetail(id, commentLimit, commentOffset));
+	}
+
 	@ApiOperation(value = "Search news by supplied params", response = List.class)
 	@ApiResponses(value = {
 		@ApiResponse(code = 200, message = "Successfully retrieved news"),
@@ -89,9 +157,11 @@ public class NewsController implements BaseController<NewsResponseDto, NewsReque
 		@ApiResponse(code = 401, message = "You are not authorized"),
 		@ApiResponse(code = 403, message = "Accessing the resource you were trying to reach is forbidden"),
 		@ApiResponse(code = 404, message = "The resource you were trying to reach is not found"),
+		@ApiResponse(code = 429, message = "Too many searches from this client, retry later"),
 		@ApiResponse(code = 500, message = "Application failed to process the request"),
 		@ApiResponse(code = 503, message = "Api version you are trying to use is not supported")
 	})
+	@RateLimit(permitsPerSecond = 20, burst = 40)
 	@GetMapping(NEWS_ROOT_PATH + "/search")
 	public ResponseEntity<List<NewsResponseDto>> readNewsByParams(
 		@RequestParam(value = "tag_names", required = false) final List<String> tagNames,
@@ -115,12 +185,17 @@ public class NewsController implements BaseController<NewsResponseDto, NewsReque
 		@ApiResponse(code = 403, message = "Accessing the resource you were trying to reach is forbidden"),
 		@ApiResponse(code = 404, message = "The resource you were trying to reach is not found"),
 		@ApiResponse(code = 409, message = "News you are trying to save has a conflict: title already exists"),
+		@ApiResponse(code = 422, message = "Idempotency key was already used for a different request"),
 		@ApiResponse(code = 500, message = "Application failed to process the request"),
 		@ApiResponse(code = 503, message = "Api version you are trying to use is not supported")
 	})
 	@ResponseStatus(HttpStatus.CREATED)
-	public ResponseEntity<NewsResponseDto> create(@RequestBody @Valid final NewsRequestDto request) {
-		return new ResponseEntity<>(newsService.create(request), HttpStatus.CREATED);
+	public ResponseEntity<NewsResponseDto> create(
+		@RequestHeader(name = IDEMPOTENCY_KEY_HEADER, required = false) final String idempotencyKey,
+		@RequestBody @Valid final NewsRequestDto request
+	) {
+		return idempotencyStore.execute(idempotencyKey, request,
+			() -> new ResponseEntity<>(newsService.create(request), HttpStatus.CREATED));
 	}
 
 	@Override
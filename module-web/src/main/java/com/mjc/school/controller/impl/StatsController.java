@@ -0,0 +1,99 @@
+package com.mjc.school.controller.impl;
+
+import com.mjc.school.controller.admission.AdaptiveConcurrencyLimiter;
+import com.mjc.school.controller.admission.RateLimiter;
+import com.mjc.school.controller.async.BoundedServiceExecutor;
+import com.mjc.school.controller.compression.CompressionFilter;
+import com.mjc.school.controller.idempotency.IdempotencyStore;
+import com.mjc.school.controller.serialization.SerializedJsonCache;
+import com.mjc.school.controller.versioning.ApiVersion;
+import com.mjc.school.service.coalescing.SingleFlight;
+import com.mjc.school.service.commit.GroupCommitCoordinator;
+import com.mjc.school.service.ingestion.CommentIngestion;
+import com.mjc.school.service.metrics.AuthorDeletionMetrics;
+import com.mjc.school.service.outbox.OutboxDispatcher;
+import io.swagger.annotations.Api;
+import io.swagger.annotations.ApiOperation;
+import io.swagger.annotations.ApiResponse;
+import io.swagger.annotations.ApiResponses;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static com.mjc.school.controller.constants.Constants.API_MEDIA_TYPES;
+import static com.mjc.school.controller.constants.Constants.API_ROOT_PATH;
+import static com.mjc.school.controller.constants.Constants.STATS_ROOT_PATH;
+
+@RestController
+@ApiVersion(1)
+@RequestMapping(API_ROOT_PATH)
+@Api(produces = API_MEDIA_TYPES, value = "Operations for retrieving runtime statistics")
+public class StatsController {
+
+	private final BoundedServiceExecutor serviceExecutor;
+	private final AuthorDeletionMetrics authorDeletionMetrics;
+	private final OutboxDispatcher outboxDispatcher;
+	private final CommentIngestion commentIngestion;
+	private final GroupCommitCoordinator groupCommit;
+	private final IdempotencyStore idempotencyStore;
+	private final RateLimiter rateLimiter;
+	private final AdaptiveConcurrencyLimiter concurrencyLimiter;
+	private final SingleFlight singleFlight;
+	private final SerializedJsonCache serializedJsonCache;
+	private final CompressionFilter compressionFilter;
+
+	public StatsController(
+		final BoundedServiceExecutor serviceExecutor,
+		final AuthorDeletionMetrics authorDeletionMetrics,
+		final OutboxDispatcher outboxDispatcher,
+		final CommentIngestion commentIngestion,
+		final GroupCommitCoordinator groupCommit,
+		final IdempotencyStore idempotencyStore,
+		final RateLimiter rateLimiter,
+		final AdaptiveConcurrencyLimiter concurrencyLimiter,
+		final SingleFlight singleFlight,
+		final SerializedJsonCache serializedJsonCache,
+		final CompressionFilter compressionFilter
+	) {
+		this.serviceExecutor = serviceExecutor;
+		this.authorDeletionMetrics = authorDeletionMetrics;
+		this.outboxDispatcher = outboxDispatcher;
+		this.commentIngestion = commentIngestion;
+		this.groupCommit = groupCommit;
+		this.idempotencyStore = idempotencyStore;
+		this.rateLimiter = rateLimiter;
+		this.concurrencyLimiter = concurrencyLimiter;
+		this.singleFlight = singleFlight;
+		this.serializedJsonCache = serializedJsonCache;
+		this.compressionFilter = compressionFilter;
+	}
+
+	@ApiOperation(value = "Get runtime statistics", response = Map.class)
+	@ApiResponses(value = {
+		@ApiResponse(code = 200, message = "Successfully retrieved runtime statistics"),
+		@ApiResponse(code = 401, message = "You are not authorized"),
+		@ApiResponse(code = 403, message = "Accessing the resource you were trying to reach is forbidden"),
+		@ApiResponse(code = 500, message = "Application failed to process the request"),
+		@ApiResponse(code = 503, message = "Api version you are trying to use is not supported")
+	})
+	@GetMapping(STATS_ROOT_PATH)
+	public ResponseEntity<Map<String, Object>> readStats() {
+		final Map<String, Object> stats = new LinkedHashMap<>();
+		stats.put("serviceExecutor", serviceExecutor.stats());
+		stats.put("authorDeletion", authorDeletionMetrics.stats());
+		stats.put("outbox", outboxDispatcher.stats());
+		stats.put("commentIngestion", commentIngestion.stats());
+		stats.put("groupCommit", groupCommit.stats());
+		stats.put("idempotency", idempotencyStore.stats());
+		stats.put("rateLimit", rateLimiter.stats());
+		stats.put("concurrencyLimit", concurrencyLimiter.stats());
+		stats.put("coalescing", singleFlight.stats());
+		stats.put("jsonCache", serializedJsonCache.stats());
+		stats.put("compression", compressionFilter.stats());
+		return ResponseEntity.ok(stats);
+	}
+}
@@ -1,6 +1,7 @@
 package com.mjc.school.controller.impl;
 
 import com.mjc.school.controller.BaseController;
+import com.mjc.school.controller.idempotency.IdempotencyStore;
 import com.mjc.school.controller.versioning.ApiVersion;
 import com.mjc.school.service.TagService;
 import com.mjc.school.service.dto.TagRequestDto;
@@ -21,14 +22,18 @@ import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.util.List;
+import java.util.Map;
 
+import static com.mjc.school.controller.constants.Constants.API_MEDIA_TYPES;
 import static com.mjc.school.controller.constants.Constants.API_ROOT_PATH;
+import static com.mjc.school.controller.constants.Constants.IDEMPOTENCY_KEY_HEADER;
 import static com.mjc.school.controller.constants.Constants.NEWS_ROOT_PATH;
 import static com.mjc.school.controller.constants.Constants.TAG_ROOT_PATH;
 import static com.mjc.school.service.constants.Constants.ID_MIN_VALUE;
@@ -36,13 +41,15 @@ import static com.mjc.school.service.constants.Constants.ID_MIN_VALUE;
 @RestController
 @ApiVersion(1)
 @RequestMapping(API_ROOT_PATH)
-@Api(produces = "application/json", value = "Operations for creating, updating, retrieving and deleting tags")
+@Api(produces = API_MEDIA_TYPES, value = "Operations for creating, updating, retrieving and deleting tags")
 public class TagController implements BaseController<TagResponseDto, TagRequestDto, Long> {
 
 	private final TagService tagService;
+	private final IdempotencyStore idempotencyStore;
 
-	public TagController(final TagService tagService) {
+	public TagController(final TagService tagService, final IdempotencyStore idempotencyStore) {
 		this.tagService = tagService;
+		this.idempotencyStore = idempotencyStore;
 	}
 
 	@Override
@@ -82,6 +89,44 @@ public class TagController implements BaseController<TagResponseDto, TagRequestD
 		return ResponseEntity.ok(tagService.readById(id));
 	}
 
+	@ApiOperation(value = "View selected fields of all tags", response = List.class)
+	@ApiResponses(value = {
+		@ApiResponse(code = 200, message = "Successfully retrieved selected fields of all tags"),
+		@ApiResponse(code = 400, message = "Request violates any of existing constraints"),
+		@ApiResponse(code = 401, message = "You are not authorized"),
+		@ApiResponse(code = 403, message = "Accessing the resource you were trying to reach is forbidden"),
+		@ApiResponse(code = 404, message = "The resource you were trying to reach is not found"),
+		@ApiResponse(code = 500, message = "Application failed to process the request"),
+		@ApiResponse(code = 503, message = "Api version you are trying to use is not supported")
+	})
+	@GetMapping(path = TAG_ROOT_PATH, params = "fields")
+	public ResponseEntity<List<Map<String, Object>>> readAll(
+		@RequestParam(defaultValue = "10", required = false) @Min(1) final int limit,
+		@RequestParam(defaultValue = "0", required = false) @Min(0) final int offset,
+		@RequestParam(defaultValue = "id::asc", required = false) final String orderBy,
+		@RequestParam final List<String> fields
+	) {
+		return ResponseEntity.ok(tagService.readAll(limit, offset, orderBy, fields));
+	}
+
+	@ApiOperation(value = "Retrieve selected fields of specific tag with the supplied id", response = Map.class)
+	@ApiResponses(value = {
+		@ApiResponse(code = 200, message = "Successfully retrieved selected fields of the tag with the supplied id"),
+		@ApiResponse(code = 400, message = "Request violates any of existing constraints"),
+		@ApiResponse(code = 401, message = "You are not authorized"),
+		@ApiResponse(code = 403, message = "Accessing the resource you were trying to reach is forbidden"),
+		@ApiResponse(code = 404, message = "The resource you were trying to reach is not found"),
+		@ApiResponse(code = 500, message = "Application failed to process the request"),
+		@ApiResponse(code = 503, message = "Api version you are trying to use is not supported")
+	})
+	@GetMapping(path = TAG_ROOT_PATH + "/{id:\\d+}", params = "fields")
+	public ResponseEntity<Map<String, Object>> readById(
+		@PathVariable @NotNull @Min(ID_MIN_VALUE) final Long id,
+		@RequestParam final List<String> fields
+	) {
+		return ResponseEntity.ok(tagService.readById(id, fields));
+	}
+
 	@ApiOperation(value = "Retrieve tags by supplied news id", response = List.class)
 	@ApiResponses(value = {
 		@ApiResponse(code = 200, message = "Successfully retrieved tags by supplied news id"),
@@ -109,12 +154,17 @@ public class TagController implements BaseController<TagResponseDto, TagRequestD
 		@ApiResponse(code = 403, message = "Accessing the resource you were trying to reach is forbidden"),
 		@ApiResponse(code = 404, message = "The resource you were trying to reach is not found"),
 		@ApiResponse(code = 409, message = "Tag you are trying to save has a name conflict: name already exists"),
+		@ApiResponse(code = 422, message = "Idempotency key was already used for a different request"),
 		@ApiResponse(code = 500, message = "Application failed to process the request"),
 		@ApiResponse(code = 503, message = "Api version you are trying to use is not supported")
 	})
 	@ResponseStatus(HttpStatus.CREATED)
-	public ResponseEntity<TagResponseDto> create(@RequestBody @Valid final TagRequestDto request) {
-		return new ResponseEntity<>(tagService.create(request), HttpStatus.CREATED);
+	public ResponseEntity<TagResponseDto> create(
+		@RequestHeader(name = IDEMPOTENCY_KEY_HEADER, required = false) final String idempotencyKey,
+		@RequestBody @Valid final TagRequestDto request
+	) {
+		return idempotencyStore.execute(idempotencyKey, request,
+			() -> new ResponseEntity<>(tagService.create(request), HttpStatus.CREATED));
 	}
 
 	@Override
@@ -0,0 +1,208 @@
+package com.mjc.school.controller.impl.async;
+
+import com.mjc.school.controller.BaseAsyncController;
+import com.mjc.school.controller.async.BoundedServiceExecutor;
+import com.mjc.school.controller.impl.AuthorController;
+import com.mjc.school.controller.versioning.ApiVersion;
+import com.mjc.school.service.dto.AuthorRequestDto;
+import com.mjc.school.service.dto.AuthorResponseDto;
+import com.mjc.school.service.validator.annotation.Min;
+import com.mjc.school.service.validator.annotation.NotNull;
+import com.mjc.school.service.validator.annotation.Valid;
+import io.swagger.annotations.Api;
+import io.swagger.annotations.ApiOperation;
+import io.swagger.annotations.ApiResponse;
+import io.swagger.annotations.ApiResponses;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static com.mjc.school.controller.constants.Constants.API_MEDIA_TYPES;
+import static com.mjc.school.controller.constants.Constants.API_ROOT_PATH;
+import static com.mjc.school.controller.constants.Constants.ASYNC_ROOT_PATH;
+import static com.mjc.school.controller.constants.Constants.AUTHOR_ROOT_PATH;
+import static com.mjc.school.controller.constants.Constants.IDEMPOTENCY_KEY_HEADER;
+import static com.mjc.school.controller.constants.Constants.NEWS_ROOT_PATH;
+import static com.mjc.school.service.constants.Constants.ID_MIN_VALUE;
+
+@RestController
+@ApiVersion(1)
+@RequestMapping(API_ROOT_PATH + ASYNC_ROOT_PATH)
+@Api(produces = API_MEDIA_TYPES, value = "Non-blocking operations for creating, updating, retrieving and deleting authors")
+public class AuthorAsyncController implements BaseAsyncController<AuthorResponseDto, AuthorRequestDto, Long> {
+
+	private final AuthorController authorController;
+	private final BoundedServiceExecutor executor;
+
+	public AuthorAsyncController(final AuthorController authorController, final BoundedServiceExecutor executor) {
+		this.authorController = authorController;
+		this.executor = executor;
+	}
+
+	@Override
+	@ApiOperation(value = "View all authors", response = List.class)
+	@ApiResponses(value = {
+		@ApiResponse(code = 200, message = "Successfully retrieved all authors"),
+		@ApiResponse(code = 401, message = "You are not authorized"),
+		@ApiResponse(code = 403, message = "Accessing the resource you were trying to reach is forbidden"),
+		@ApiResponse(code = 404, message = "The resource you were trying to reach is not found"),
+		@ApiResponse(code = 500, message = "Application failed to process the request"),
+		@ApiResponse(code = 503, message = "Api version is not supported or the service is overloaded")
+	})
+	@GetMapping(AUTHOR_ROOT_PATH)
+	public CompletableFuture<ResponseEntity<List<AuthorResponseDto>>> readAll(
+		@RequestParam(defaultValue = "10", required = false) @Min(1) final int limit,
+		@RequestParam(defaultValue = "0", required = false) @Min(0) final int offset,
+		@RequestParam(name = "order_by", defaultValue = "id::asc", required = false) final String orderBy
+	) {
+		return executor.supply(() -> authorController.readAll(limit, offset, orderBy));
+	}
+
+	@Override
+	@ApiOperation(value = "Retrieve specific author with the supplied id", response = AuthorResponseDto.class)
+	@ApiResponses(value = {
+		@ApiResponse(code = 200, message = "Successfully retrieved the author with the supplied id"),
+		@ApiResponse(code = 400, message = "Request violates any of existing constraints"),
+		@ApiResponse(code = 401, message = "You are not authorized"),
+		@ApiResponse(code = 403, message = "Accessing the resource you were trying to reach is forbidden"),
+		@ApiResponse(code = 404, message = "The resource you were trying to reach is not found"),
+		@ApiResponse(code = 500, message = "Application failed to process the request"),
+		@ApiResponse(code = 503, message = "Api version is not supported or the service is overloaded")
+	})
+	@GetMapping(AUTHOR_ROOT_PATH + "/{id:\\d+}")
+	public CompletableFuture<ResponseEntity<AuthorResponseDto>> readById(
+		@PathVariable @NotNull @Min(ID_MIN_VALUE) final Long id
+	) {
+		return executor.supply(() -> authorController.readById(id));
+	}
+
+	@ApiOperation(value = "View selected fields of all authors", response = List.class)
+	@ApiResponses(value = {
+		@ApiResponse(code = 200, message = "Successfully retrieved selected fields of all authors"),
+		@ApiResponse(code = 400, message = "Request violates any of existing constraints"),
+		@ApiResponse(code = 401, message = "You are not authorized"),
+		@ApiResponse(code = 403, message = "Accessing the resource you were trying to reach is forbidden"),
+		@ApiResponse(code = 404, message = "The resource you were trying to reach is not found"),
+		@ApiResponse(code = 500, message = "Application failed to process the request"),
+		@ApiResponse(code = 503, message = "Api version is not supported or the service is overloaded")
+	})
+	@GetMapping(path = AUTHOR_ROOT_PATH, params = "fields")
+	public CompletableFuture<ResponseEntity<List<Map<String, Object>>>> readAll(
+		@RequestParam(defaultValue = "10", required = false) @Min(1) final int limit,
+		@RequestParam(defaultValue = "0", required = false) @Min(0) final int offset,
+		@RequestParam(defaultValue = "id::asc", required = false) final String orderBy,
+		@RequestParam final List<String> fields
+	) {
+		return executor.supply(() -> authorController.readAll(limit, offset, orderBy, fields));
+	}
+
+	@ApiOperation(value = "Retrieve selected fields of specific author with the supplied id", response = Map.class)
+	@ApiResponses(value = {
+		@ApiResponse(code = 200, message = "Successfully retrieved selected fields of the author with the supplied id"),
+		@ApiResponse(code = 400, message = "Request violates any of existing constraints"),
+		@ApiResponse(code = 401, message = "You are not authorized"),
+		@ApiResponse(code = 403, message = "Accessing the resource you were trying to reach is forbidden"),
+		@ApiResponse(code = 404, message = "The resource you were trying to reach is not found"),
+		@ApiResponse(code = 500, message = "Application failed to process the request"),
+		@ApiResponse(code = 503, message = "Api version is not supported or the service is overloaded")
+	})
+	@GetMapping(path = AUTHOR_ROOT_PATH + "/{id:\\d+}", params = "fields")
+	public CompletableFuture<ResponseEntity<Map<String, Object>>> readById(
+		@PathVariable @NotNull @Min(ID_MIN_VALUE) final Long id,
+		@RequestParam final List<String> fields
+	) {
+		return executor.supply(() -> authorController.readById(id, fields));
+	}
+
+	@ApiOperation(value = "Retrieve specific author by supplied news id", response = AuthorResponseDto.class)
+	@ApiResponses(value = {
+		@ApiResponse(code = 200, message = "Successfully retrieved author by supplied news id"),
+		@ApiResponse(code = 400, message = "Request violates any of existing constraints"),
+		@ApiResponse(code = 401, message = "You are not authorized"),
+		@ApiResponse(code = 403, message = "Accessing the resource you were trying to reach is forbidden"),
+		@ApiResponse(code = 404, message = "The resource you were trying to reach is not found"),
+		@ApiResponse(code = 500, message = "Application failed to process the request"),
+		@ApiResponse(code = 503, message = "Api version is not supported or the service is overloaded")
+	})
+	@GetMapping(NEWS_ROOT_PATH + "/{newsId:\\d+}/author")
+	public CompletableFuture<ResponseEntity<AuthorResponseDto>> readByNewsId(
+		@PathVariable("newsId") @NotNull @Min(ID_MIN_VALUE) final Long newsId
+	) {
+		return executor.supply(() -> authorController.readByNewsId(newsId));
+	}
+
+	@Override
+	@PostMapping(path = AUTHOR_ROOT_PATH, consumes = MediaType.APPLICATION_JSON_VALUE)
+	@ApiOperation(value = "Create new author", response = AuthorResponseDto.class)
+	@ApiResponses(value = {
+		@ApiResponse(code = 201, message = "Successfully created new author"),
+		@ApiResponse(code = 400, message = "Request violates any of existing constraints"),
+		@ApiResponse(code = 401, message = "You are not authorized"),
+		@ApiResponse(code = 403, message = "Accessing the resource you were trying to reach is forbidden"),
+		@ApiResponse(code = 404, message = "The resource you were trying to reach is not found"),
+		@ApiResponse(code = 409, message = "Author you are trying to save has a name conflict: name already exists"),
+		@ApiResponse(code = 422, message = "Idempotency key was already used for a different request"),
+		@ApiResponse(code = 500, message = "Application failed to process the request"),
+		@ApiResponse(code = 503, message = "Api version is not supported or the service is overloaded")
+	})
+	public CompletableFuture<ResponseEntity<AuthorResponseDto>> create(
+		@RequestHeader(name = IDEMPOTENCY_KEY_HEADER, required = false) final String idempotencyKey,
+		@RequestBody @Valid final AuthorRequestDto request
+	) {
+		return executor.supply(() -> authorController.create(idempotencyKey, request));
+	}
+
+	@Override
+	@ApiOperation(value = "Update specific author information", response = AuthorResponseDto.class)
+	@ApiResponses(value = {
+		@ApiResponse(code = 200, message = "Successfully updated author information"),
+		@ApiResponse(code = 400, message = "Request violates any of existing constraints"),
+		@ApiResponse(code = 401, message = "You are not authorized"),
+		@ApiResponse(code = 403, message = "Accessing the resource you were trying to reach is forbidden"),
+		@ApiResponse(code = 404, message = "The resource you were trying to reach is not found"),
+		@ApiResponse(code = 409, message = "Author you are trying to save has a name conflict: name already exists"),
+		@ApiResponse(code = 500, message = "Application failed to process the request"),
+		@ApiResponse(code = 503, message = "Api version is not supported or the service is overloaded")
+	})
+	@PatchMapping(path = AUTHOR_ROOT_PATH + "/{id:\\d+}", consumes = MediaType.APPLICATION_JSON_VALUE)
+	public CompletableFuture<ResponseEntity<AuthorResponseDto>> update(
+		@PathVariable @NotNull @Min(ID_MIN_VALUE) final Long id,
+		@RequestBody @Valid final AuthorRequestDto request
+	) {
+		return executor.supply(() -> authorController.update(id, request));
+	}
+
+	@Override
+	@ApiOperation(value = "Deletes specific author with the supplied id")
+	@ApiResponses(value = {
+		@ApiResponse(code = 204, message = "Successfully deletes the specific author"),
+		@ApiResponse(code = 400, message = "Request violates any of existing constraints"),
+		@ApiResponse(code = 401, message = "You are not authorized"),
+		@ApiResponse(code = 403, message = "Accessing the resource you were trying to reach is forbidden"),
+		@ApiResponse(code = 404, message = "The resource you were trying to reach is not found"),
+		@ApiResponse(code = 500, message = "Application failed to process the request"),
+		@ApiResponse(code = 503, message = "Api version is not supported or the service is overloaded")
+	})
+	@DeleteMapping(AUTHOR_ROOT_PATH + "/{id:\\d+}")
+	public CompletableFuture<ResponseEntity<Void>> deleteById(
+		@PathVariable @NotNull @Min(ID_MIN_VALUE) final Long id
+	) {
+		return executor.supply(() -> {
+			authorController.deleteById(id);
+			return ResponseEntity.noContent().build();
+		});
+	}
+}
@@ -0,0 +1,231 @@
+package com.mjc.school.controller.impl.async;
+
+import com.mjc.school.controller.BaseAsyncController;
+import com.mjc.school.controller.async.BoundedServiceExecutor;
+import com.mjc.school.controller.impl.CommentController;
+import com.mjc.school.controller.versioning.ApiVersion;
+import com.mjc.school.service.dto.CommentPageResponseDto;
+import com.mjc.school.service.dto.CommentRequestDto;
+import com.mjc.school.service.dto.CommentResponseDto;
+import com.mjc.school.service.validator.annotation.Max;
+import com.mjc.school.service.validator.annotation.Min;
+import com.mjc.school.service.validator.annotation.NotNull;
+import com.mjc.school.service.validator.annotation.Valid;
+import io.swagger.annotations.Api;
+import io.swagger.annotations.ApiOperation;
+import io.swagger.annotations.ApiResponse;
+import io.swagger.annotations.ApiResponses;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static com.mjc.school.controller.constants.Constants.API_MEDIA_TYPES;
+import static com.mjc.school.controller.constants.Constants.API_ROOT_PATH;
+import static com.mjc.school.controller.constants.Constants.ASYNC_ROOT_PATH;
+import static com.mjc.school.controller.constants.Constants.COMMENT_ROOT_PATH;
+import static com.mjc.school.controller.constants.Constants.IDEMPOTENCY_KEY_HEADER;
+import static com.mjc.school.controller.constants.Constants.NEWS_ROOT_PATH;
+import static com.mjc.school.service.constants.Constants.COMMENT_PAGE_LIMIT_MAX;
+import static com.mjc.school.service.constants.Constants.ID_MIN_VALUE;
+
+@RestController
+@ApiVersion(1)
+@RequestMapping(API_ROOT_PATH + ASYNC_ROOT_PATH)
+@Api(produces = API_MEDIA_TYPES, value = "Non-blocking operations for creating, updating, retrieving and deleting comments")
+public class CommentAsyncController implements BaseAsyncController<CommentResponseDto, CommentRequestDto, Long> {
+
+	private final CommentController commentController;
+	private final BoundedServiceExecutor executor;
+
+	public CommentAsyncController(final CommentController commentController, final BoundedServiceExecutor executor) {
+		this.commentController = commentController;
+		this.executor = executor;
+	}
+
+	@Override
+	@ApiOperation(value = "View all comments", response = List.class)
+	@ApiResponses(value = {
+		@ApiResponse(code = 200, message = "Successfully retrieved all comments"),
+		@ApiResponse(code = 401, message = "You are not authorized"),
+		@ApiResponse(code = 403, message = "Accessing the resource you were trying to reach is forbidden"),
+		@ApiResponse(code = 404, message = "The resource you were trying to reach is not found"),
+		@ApiResponse(code = 500, message = "Application failed to process the request"),
+		@ApiResponse(code = 503, message = "Api version is not supported or the service is overloaded")
+	})
+	@GetMapping(COMMENT_ROOT_PATH)
+	public CompletableFuture<ResponseEntity<List<CommentResponseDto>>> readAll(
+		@RequestParam(defaultValue = "10", required = false) @Min(1) final int limit,
+		@RequestParam(defaultValue = "0", required = false) @Min(0) final int offset,
+		@RequestParam(defaultValue = "id::asc", required = false) final String orderBy
+	) {
+		return executor.supply(() -> commentController.readAll(limit, offset, orderBy));
+	}
+
+	@Override
+	@ApiOperation(value = "Retrieve specific comment with the supplied id", response = CommentResponseDto.class)
+	@ApiResponses(value = {
+		@ApiResponse(code = 200, message = "Successfully retrieved the comment with the supplied id"),
+		@ApiResponse(code = 400, message = "Request violates any of existing constraints"),
+		@ApiResponse(code = 401, message = "You are not authorized"),
+		@ApiResponse(code = 403, message = "Accessing the resource you were trying to reach is forbidden"),
+		@ApiResponse(code = 404, message = "The resource you were trying to reach is not found"),
+		@ApiResponse(code = 500, message = "Application failed to process the request"),
+		@ApiResponse(code = 503, message = "Api version is not supported or the service is overloaded")
+	})
+	@GetMapping(COMMENT_ROOT_PATH + "/{id:\\d+}")
+	public CompletableFuture<ResponseEntity<CommentResponseDto>> readById(
+		@PathVariable @NotNull @Min(ID_MIN_VALUE) final Long id
+	) {
+		return executor.supply(() -> commentController.readById(id));
+	}
+
+	@ApiOperation(value = "View selected fields of all comments", response = List.class)
+	@ApiResponses(value = {
+		@ApiResponse(code = 200, message = "Successfully retrieved selected fields of all comments"),
+		@ApiResponse(code = 400, message = "Request violates any of existing constraints"),
+		@ApiResponse(code = 401, message = "You are not authorized"),
+		@ApiResponse(code = 403, message = "Accessing the resource you were trying to reach is forbidden"),
+		@ApiResponse(code = 404, message = "The resource you were trying to reach is not found"),
+		@ApiResponse(code = 500, message = "Application failed to process the request"),
+		@ApiResponse(code = 503, message = "Api version is not supported or the service is overloaded")
+	})
+	@GetMapping(path = COMMENT_ROOT_PATH, params = "fields")
+	public CompletableFuture<ResponseEntity<List<Map<String, Object>>>> readAll(
+		@RequestParam(defaultValue = "10", required = false) @Min(1) final int limit,
+		@RequestParam(defaultValue = "0", required = false) @Min(0) final int offset,
+		@RequestParam(defaultValue = "id::asc", required = false) final String orderBy,
+		@RequestParam final List<String> fields
+	) {
+		return executor.supply(() -> commentController.readAll(limit, offset, orderBy, fields));
+	}
+
+	@ApiOperation(value = "Retrieve selected fields of specific comment with the supplied id", response = Map.class)
+	@ApiResponses(value = {
+		@ApiResponse(code = 200, message = "Successfully retrieved selected fields of the comment with the supplied id"),
+		@ApiResponse(code = 400, message = "Request violates any of existing constraints"),
+		@ApiResponse(code = 401, message = "You are not authorized"),
+		@ApiResponse(code = 403, message = "Accessing the resource you were trying to reach is forbidden"),
+		@ApiResponse(code = 404, message = "The resource you were trying to reach is not found"),
+		@ApiResponse(code = 500, message = "Application failed to process the request"),
+		@ApiResponse(code = 503, message = "Api version is not supported or the service is overloaded")
+	})
+	@GetMapping(path = COMMENT_ROOT_PATH + "/{id:\\d+}", params = "fields")
+	public CompletableFuture<ResponseEntity<Map<String, Object>>> readById(
+		@PathVariable @NotNull @Min(ID_MIN_VALUE) final Long id,
+		@RequestParam final List<String> fields
+	) {
+		return executor.supply(() -> commentController.readById(id, fields));
+	}
+
+	@ApiOperation(value = "Retrieve a page of comments by supplied news id", response = List.class)
+	@ApiResponses(value = {
+		@ApiResponse(code = 200, message = "Successfully retrieved comments by supplied news id"),
+		@ApiResponse(code = 400, message = "Request violates any of existing constraints"),
+		@ApiResponse(code = 401, message = "You are not authorized"),
+		@ApiResponse(code = 403, message = "Accessing the resource you were trying to reach is forbidden"),
+		@ApiResponse(code = 404, message = "The resource you were trying to reach is not found"),
+		@ApiResponse(code = 500, message = "Application failed to process the request"),
+		@ApiResponse(code = 503, message = "Api version is not supported or the service is overloaded")
+	})
+	@GetMapping(NEWS_ROOT_PATH + "/{newsId:\\d+}/comments")
+	public CompletableFuture<ResponseEntity<List<CommentResponseDto>>> readCommentsByNewsId(
+		@PathVariable("newsId") @NotNull @Min(ID_MIN_VALUE) final Long newsId,
+		@RequestParam(defaultValue = "10", required = false) @Min(1) @Max(COMMENT_PAGE_LIMIT_MAX) final int limit,
+		@RequestParam(defaultValue = "0", required = false) @Min(0) final int offset
+	) {
+		return executor.supply(() -> commentController.readCommentsByNewsId(newsId, limit, offset));
+	}
+
+	@ApiOperation(value = "Retrieve comments by supplied news id following the supplied cursor",
+		response = CommentPageResponseDto.class)
+	@ApiResponses(value = {
+		@ApiResponse(code = 200, message = "Successfully retrieved comments by supplied news id"),
+		@ApiResponse(code = 400, message = "Request violates any of existing constraints"),
+		@ApiResponse(code = 401, message = "You are not authorized"),
+		@ApiResponse(code = 403, message = "Accessing the resource you were trying to reach is forbidden"),
+		@ApiResponse(code = 404, message = "The resource you were trying to reach is not found"),
+		@ApiResponse(code = 500, message = "Application failed to process the request"),
+		@ApiResponse(code = 503, message = "Api version is not supported or the service is overloaded")
+	})
+	@GetMapping(path = NEWS_ROOT_PATH + "/{newsId:\\d+}/comments", params = "after")
+	public CompletableFuture<ResponseEntity<CommentPageResponseDto>> readCommentsByNewsIdAfter(
+		@PathVariable("newsId") @NotNull @Min(ID_MIN_VALUE) final Long newsId,
+		@RequestParam @NotNull @Min(0) final Long after,
+		@RequestParam(defaultValue = "10", required = false) @Min(1) @Max(COMMENT_PAGE_LIMIT_MAX) final int limit
+	) {
+		return executor.supply(() -> commentController.readCommentsByNewsIdAfter(newsId, after, limit));
+	}
+
+	@Override
+	@PostMapping(path = COMMENT_ROOT_PATH, consumes = MediaType.APPLICATION_JSON_VALUE)
+	@ApiOperation(value = "Create new comment", response = CommentResponseDto.class)
+	@ApiResponses(value = {
+		@ApiResponse(code = 201, message = "Successfully created new comment"),
+		@ApiResponse(code = 400, message = "Request violates any of existing constraints"),
+		@ApiResponse(code = 401, message = "You are not authorized"),
+		@ApiResponse(code = 403, message = "Accessing the resource you were trying to reach is forbidden"),
+		@ApiResponse(code = 404, message = "The resource you were trying to reach is not found"),
+		@ApiResponse(code = 422, message = "Idempotency key was already used for a different request"),
+		@ApiResponse(code = 500, message = "Application failed to process the request"),
+		@ApiResponse(code = 503, message = "Api version is not supported or the service is overloaded")
+	})
+	public CompletableFuture<ResponseEntity<CommentResponseDto>> create(
+		@RequestHeader(name = IDEMPOTENCY_KEY_HEADER, required = false) final String idempotencyKey,
+		@RequestBody @Valid final CommentRequestDto request
+	) {
+		return executor.supply(() -> commentController.create(idempotencyKey, request));
+	}
+
+	@Override
+	@ApiOperation(value = "Update specific comment information", response = CommentResponseDto.class)
+	@ApiResponses(value = {
+		@ApiResponse(code = 200, message = "Successfully updated comment information"),
+		@ApiResponse(code = 400, message = "Request violates any of existing constraints"),
+		@ApiResponse(code = 401, message = "You are not authorized"),
+		@ApiResponse(code = 403, message = "Accessing the resource you were trying to reach is forbidden"),
+		@ApiResponse(code = 404, message = "The resource you were trying to reach is not found"),
+		@ApiResponse(code = 500, message = "Application failed to process the request"),
+		@ApiResponse(code = 503, message = "Api version is not supported or the service is overloaded")
+	})
+	@PatchMapping(path = COMMENT_ROOT_PATH + "/{id:\\d+}", consumes = MediaType.APPLICATION_JSON_VALUE)
+	public CompletableFuture<ResponseEntity<CommentResponseDto>> update(
+		@PathVariable @NotNull @Min(ID_MIN_VALUE) final Long id,
+		@RequestBody @Valid final CommentRequestDto request
+	) {
+		return executor.supply(() -> commentController.update(id, request));
+	}
+
+	@Override
+	@ApiOperation(value = "Deletes specific comment with the supplied id")
+	@ApiResponses(value = {
+		@ApiResponse(code = 204, message = "Successfully deletes the specific comment"),
+		@ApiResponse(code = 400, message = "Request violates any of existing constraints"),
+		@ApiResponse(code = 401, message = "You are not authorized"),
+		@ApiResponse(code = 403, message = "Accessing the resource you were trying to reach is forbidden"),
+		@ApiResponse(code = 404, message = "The resource you were trying to reach is not found"),
+		@ApiResponse(code = 500, message = "Application failed to process the request"),
+		@ApiResponse(code = 503, message = "Api version is not supported or the service is overloaded")
+	})
+	@DeleteMapping(COMMENT_ROOT_PATH + "/{id:\\d+}")
+	public CompletableFuture<ResponseEntity<Void>> deleteById(
+		@PathVariable @NotNull @Min(ID_MIN_VALUE) final Long id
+	) {
+		return executor.supply(() -> {
+			commentController.deleteById(id);
+			return ResponseEntity.noContent().build();
+		});
+	}
+}
@@ -0,0 +1,235 @@
+package com.mjc.school.controller.impl.async;
+
+import com.mjc.school.controller.BaseAsyncController;
+import com.mjc.school.controller.admission.RateLimit;
+import com.mjc.school.controller.async.BoundedServiceExecutor;
+import com.mjc.school.controller.impl.NewsController;
+import com.mjc.school.controller.versioning.ApiVersion;
+import com.mjc.school.service.dto.NewsDetailResponseDto;
+import com.mjc.school.service.dto.NewsRequestDto;
+import com.mjc.school.service.dto.NewsResponseDto;
+import com.mjc.school.service.validator.annotation.Max;
+import com.mjc.school.service.validator.annotation.Min;
+import com.mjc.school.service.validator.annotation.NotNull;
+import com.mjc.school.service.validator.annotation.Valid;
+import io.swagger.annotations.Api;
+import io.swagger.annotations.ApiOperation;
+import io.swagger.annotations.ApiResponse;
+import io.swagger.annotations.ApiResponses;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static com.mjc.school.controller.constants.Constants.API_MEDIA_TYPES;
+import static com.mjc.school.controller.constants.Constants.API_ROOT_PATH;
+import static com.mjc.school.controller.constants.Constants.ASYNC_ROOT_PATH;
+import static com.mjc.school.controller.constants.Constants.IDEMPOTENCY_KEY_HEADER;
+import static com.mjc.school.controller.constants.Constants.NEWS_ROOT_PATH;
+import static com.mjc.school.service.constants.Constants.COMMENT_PAGE_LIMIT_MAX;
+import static com.mjc.school.service.constants.Constants.ID_MIN_VALUE;
+
+@RestController
+@ApiVersion(1)
+@RequestMapping(API_ROOT_PATH + ASYNC_ROOT_PATH)
+@Api(produces = API_MEDIA_TYPES, value = "Non-blocking operations for creating, updating, retrieving and deleting news")
+public class NewsAsyncController implements BaseAsyncController<NewsResponseDto, NewsRequestDto, Long> {
+
+	private final NewsController newsController;
+	private final BoundedServiceExecutor executor;
+
+	public NewsAsyncController(final NewsController newsController, final BoundedServiceExecutor executor) {
+		this.newsController = newsController;
+		this.executor = executor;
+	}
+
+	@Override
+	@ApiOperation(value = "Get all news", response = List.class)
+	@ApiResponses(value = {
+		@ApiResponse(code = 200, message = "Successfully retrieved all news"),
+		@ApiResponse(code = 401, message = "You are not authorized"),
+		@ApiResponse(code = 403, message = "Accessing the resource you were trying to reach is forbidden"),
+		@ApiResponse(code = 404, message = "The resource you were trying to reach is not found"),
+		@ApiResponse(code = 500, message = "Application failed to process the request"),
+		@ApiResponse(code = 503, message = "Api version is not supported or the service is overloaded")
+	})
+	@GetMapping(NEWS_ROOT_PATH)
+	public CompletableFuture<ResponseEntity<List<NewsResponseDto>>> readAll(
+		@RequestParam(defaultValue = "10", required = false) @Min(1) final int limit,
+		@RequestParam(defaultValue = "0", required = false) @Min(0) final int offset,
+		@RequestParam(defaultValue = "id::asc", required = false) final String orderBy
+	) {
+		return executor.supply(() -> newsController.readAll(limit, offset, orderBy));
+	}
+
+	@Override
+	@ApiOperation(value = "Retrieve specific news with the supplied id", response = NewsResponseDto.class)
+	@ApiResponses(value = {
+		@ApiResponse(code = 200, message = "Successfully retrieved the news with the supplied id"),
+		@ApiResponse(code = 400, message = "Request violates any of existing constraints"),
+		@ApiResponse(code = 401, message = "You are not authorized"),
+		@ApiResponse(code = 403, message = "Accessing the resource you were trying to reach is forbidden"),
+		@ApiResponse(code = 404, message = "The resource you were trying to reach is not found"),
+		@ApiResponse(code = 500, message = "Application failed to process the request"),
+		@ApiResponse(code = 503, message = "Api version is not supported or the service is overloaded")
+	})
+	@GetMapping(NEWS_ROOT_PATH + "/{id:\\d+}")
+	public CompletableFuture<ResponseEntity<NewsResponseDto>> readById(
+		@PathVariable @NotNull @Min(ID_MIN_VALUE) final Long id
+	) {
+		return executor.supply(() -> newsController.readById(id));
+	}
+
+	@ApiOperation(value = "View selected fields of all news", response = List.class)
+	@ApiResponses(value = {
+		@ApiResponse(code = 200, message = "Successfully retrieved selected fields of all news"),
+		@ApiResponse(code = 400, message = "Request violates any of existing constraints"),
+		@ApiResponse(code = 401, message = "You are not authorized"),
+		@ApiResponse(code = 403, message = "Accessing the resource you were trying to reach is forbidden"),
+		@ApiResponse(code = 404, message = "The resource you were trying to reach is not found"),
+		@ApiResponse(code = 500, message = "Application failed to process the request"),
+		@ApiResponse(code = 503, message = "Api version is not supported or the service is overloaded")
+	})
+	@GetMapping(path = NEWS_ROOT_PATH, params = "fields")
+	public CompletableFuture<ResponseEntity<List<Map<String, Object>>>> readAll(
+		@RequestParam(defaultValue = "10", required = false) @Min(1) final int limit,
+		@RequestParam(defaultValue = "0", required = false) @Min(0) final int offset,
+		@RequestParam(defaultValue = "id::asc", required = false) final String orderBy,
+		@RequestParam final List<String> fields
+	) {
+		return executor.supply(() -> newsController.readAll(limit, offset, orderBy, fields));
+	}
+
+	@ApiOperation(value = "Retrieve selected fields of specific news with the supplied id", response = Map.class)
+	@ApiResponses(value = {
+		@ApiResponse(code = 200, message = "Successfully retrieved selected fields of the news with the supplied id"),
+		@ApiResponse(code = 400, message = "Request violates any of existing constraints"),
+		@ApiResponse(code = 401, message = "You are not authorized"),
+		@ApiResponse(code = 403, message = "Accessing the resource you were trying to reach is forbidden"),
+		@ApiResponse(code = 404, message = "The resource you were trying to reach is not found"),
+		@ApiResponse(code = 500, message = "Application failed to process the request"),
+		@ApiResponse(code = 503, message = "Api version is not supported or the service is overloaded")
+	})
+	@GetMapping(path = NEWS_ROOT_PATH + "/{id:\\d+}", params = "fields")
+	public CompletableFuture<ResponseEntity<Map<String, Object>>> readById(
+		@PathVariable @NotNull @Min(ID_MIN_VALUE) final Long id,
+		@RequestParam final List<String> fields
+	) {
+		return executor.supply(() -> newsController.readById(id, fields));
+	}
+
+	@ApiOperation(value = "Retrieve news with its author, tags and a page of its comments", response = NewsDetailResponseDto.class)
+	@ApiResponses(value = {
+		@ApiResponse(code = 200, message = "Successfully retrieved the news details"),
+		@ApiResponse(code = 400, message = "Request violates any of existing constraints"),
+		@ApiResponse(code = 401, message = "You are not authorized"),
+		@ApiResponse(code = 403, message = "Accessing the resource you were trying to reach is forbidden"),
+		@ApiResponse(code = 404, message = "The resource you were trying to reach is not found"),
+		@ApiResponse(code = 500, message = "Application failed to process the request"),
+		@ApiResponse(code = 503, message = "Api version is not supported or the service is overloaded")
+	})
+	@GetMapping(NEWS_ROOT_PATH + "/{id:\\d+}/detail")
+	public CompletableFuture<ResponseEntity<NewsDetailResponseDto>> readNewsDetail(
+		@PathVariable @NotNull @Min(ID_MIN_VALUE) final Long id,
+		@RequestParam(value = "comment_limit", defaultValue = "10", required = false) @Min(1) @Max(COMMENT_PAGE_LIMIT_MAX) final int commentLimit,
+		@RequestParam(value = "comment_offset", defaultValue = "0", required = false) @Min(0) final int commentOffset
+	) {
+		return executor.supply(() -> newsController.readNewsDetail(id, commentLimit, commentOffset));
+	}
+
+	@ApiOperation(value = "Search news by supplied params", response = List.class)
+	@ApiResponses(value = {
+		@ApiResponse(code = 200, message = "Successfully retrieved news"),
+		@ApiResponse(code = 400, message = "Request violates any of existing constraints"),
+		@ApiResponse(code = 401, message = "You are not authorized"),
+		@ApiResponse(code = 403, message = "Accessing the resource you were trying to reach is forbidden"),
+		@ApiResponse(code = 404, message = "The resource you were trying to reach is not found"),
+		@ApiResponse(code = 429, message = "Too many searches from this client, retry later"),
+		@ApiResponse(code = 500, message = "Application failed to process the request"),
+		@ApiResponse(code = 503, message = "Api version is not supported or the service is overloaded")
+	})
+	@RateLimit(permitsPerSecond = 20, burst = 40)
+	@GetMapping(NEWS_ROOT_PATH + "/search")
+	public CompletableFuture<ResponseEntity<List<NewsResponseDto>>> readNewsByParams(
+		@RequestParam(value = "tag_names", required = false) final List<String> tagNames,
+		@RequestParam(value = "tag_ids", required = false) final List<Long> tagIds,
+		@RequestParam(value = "author_name", required = false) final String authorName,
+		@RequestParam(required = false) final String title,
+		@RequestParam(required = false) final String content
+	) {
+		return executor.supply(() -> newsController.readNewsByParams(tagNames, tagIds, authorName, title, content));
+	}
+
+	@Override
+	@PostMapping(path = NEWS_ROOT_PATH, consumes = MediaType.APPLICATION_JSON_VALUE)
+	@ApiOperation(value = "Create new news", response = NewsResponseDto.class)
+	@ApiResponses(value = {
+		@ApiResponse(code = 201, message = "Successfully created new news"),
+		@ApiResponse(code = 400, message = "Request violates any of existing constraints"),
+		@ApiResponse(code = 401, message = "You are not authorized"),
+		@ApiResponse(code = 403, message = "Accessing the resource you were trying to reach is forbidden"),
+		@ApiResponse(code = 404, message = "The resource you were trying to reach is not found"),
+		@ApiResponse(code = 409, message = "News you are trying to save has a conflict: title already exists"),
+		@ApiResponse(code = 422, message = "Idempotency key was already used for a different request"),
+		@ApiResponse(code = 500, message = "Application failed to process the request"),
+		@ApiResponse(code = 503, message = "Api version is not supported or the service is overloaded")
+	})
+	public CompletableFuture<ResponseEntity<NewsResponseDto>> create(
+		@RequestHeader(name = IDEMPOTENCY_KEY_HEADER, required = false) final String idempotencyKey,
+		@RequestBody @Valid final NewsRequestDto request
+	) {
+		return executor.supply(() -> newsController.create(idempotencyKey, request));
+	}
+
+	@Override
+	@ApiOperation(value = "Update specific news information", response = NewsResponseDto.class)
+	@ApiResponses(value = {
+		@ApiResponse(code = 200, message = "Successfully updated news information"),
+		@ApiResponse(code = 400, message = "Request violates any of existing constraints"),
+		@ApiResponse(code = 401, message = "You are not authorized"),
+		@ApiResponse(code = 403, message = "Accessing the resource you were trying to reach is forbidden"),
+		@ApiResponse(code = 404, message = "The resource you were trying to reach is not found"),
+		@ApiResponse(code = 500, message = "Application failed to process the request"),
+		@ApiResponse(code = 503, message = "Api version is not supported or the service is overloaded")
+	})
+	@PatchMapping(path = NEWS_ROOT_PATH + "/{id:\\d+}", consumes = MediaType.APPLICATION_JSON_VALUE)
+	public CompletableFuture<ResponseEntity<NewsResponseDto>> update(
+		@PathVariable @NotNull @Min(ID_MIN_VALUE) final Long id,
+		@RequestBody @Valid final NewsRequestDto request
+	) {
+		return executor.supply(() -> newsController.update(id, request));
+	}
+
+	@Override
+	@ApiOperation(value = "Deletes specific news with the supplied id")
+	@ApiResponses(value = {
+		@ApiResponse(code = 204, message = "Successfully deletes the specific news"),
+		@ApiResponse(code = 400, message = "Request violates any of existing constraints"),
+		@ApiResponse(code = 401, message = "You are not authorized"),
+		@ApiResponse(code = 403, message = "Accessing the resource you were trying to reach is forbidden"),
+		@ApiResponse(code = 404, message = "The resource you were trying to reach is not found"),
+		@ApiResponse(code = 500, message = "Application failed to process the request"),
+		@ApiResponse(code = 503, message = "Api version is not supported or the service is overloaded")
+	})
+	@DeleteMapping(NEWS_ROOT_PATH + "/{id:\\d+}")
+	public CompletableFuture<ResponseEntity<Void>> deleteById(
+		@PathVariable @NotNull @Min(ID_MIN_VALUE) final Long id
+	) {
+		return executor.supply(() -> {
+			newsController.deleteById(id);
+			return ResponseEntity.noContent().build();
+		});
+	}
+}
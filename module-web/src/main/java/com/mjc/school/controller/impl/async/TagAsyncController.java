@@ -0,0 +1,208 @@
+package com.mjc.school.controller.impl.async;
+
+import com.mjc.school.controller.BaseAsyncController;
+import com.mjc.school.controller.async.BoundedServiceExecutor;
+import com.mjc.school.controller.impl.TagController;
+import com.mjc.school.controller.versioning.ApiVersion;
+import com.mjc.school.service.dto.TagRequestDto;
+import com.mjc.school.service.dto.TagResponseDto;
+import com.mjc.school.service.validator.annotation.Min;
+import com.mjc.school.service.validator.annotation.NotNull;
+import com.mjc.school.service.validator.annotation.Valid;
+import io.swagger.annotations.Api;
+import io.swagger.annotations.ApiOperation;
+import io.swagger.annotations.ApiResponse;
+import io.swagger.annotations.ApiResponses;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static com.mjc.school.controller.constants.Constants.API_MEDIA_TYPES;
+import static com.mjc.school.controller.constants.Constants.API_ROOT_PATH;
+import static com.mjc.school.controller.constants.Constants.ASYNC_ROOT_PATH;
+import static com.mjc.school.controller.constants.Constants.IDEMPOTENCY_KEY_HEADER;
+import static com.mjc.school.controller.constants.Constants.NEWS_ROOT_PATH;
+import static com.mjc.school.controller.constants.Constants.TAG_ROOT_PATH;
+import static com.mjc.school.service.constants.Constants.ID_MIN_VALUE;
+
+@RestController
+@ApiVersion(1)
+@RequestMapping(API_ROOT_PATH + ASYNC_ROOT_PATH)
+@Api(produces = API_MEDIA_TYPES, value = "Non-blocking operations for creating, updating, retrieving and deleting tags")
+public class TagAsyncController implements BaseAsyncController<TagResponseDto, TagRequestDto, Long> {
+
+	private final TagController tagController;
+	private final BoundedServiceExecutor executor;
+
+	public TagAsyncController(final TagController tagController, final BoundedServiceExecutor executor) {
+		this.tagController = tagController;
+		this.executor = executor;
+	}
+
+	@Override
+	@ApiOperation(value = "View all tags", response = List.class)
+	@ApiResponses(value = {
+		@ApiResponse(code = 200, message = "Successfully retrieved all tags"),
+		@ApiResponse(code = 401, message = "You are not authorized"),
+		@ApiResponse(code = 403, message = "Accessing the resource you were trying to reach is forbidden"),
+		@ApiResponse(code = 404, message = "The resource you were trying to reach is not found"),
+		@ApiResponse(code = 500, message = "Application failed to process the request"),
+		@ApiResponse(code = 503, message = "Api version is not supported or the service is overloaded")
+	})
+	@GetMapping(TAG_ROOT_PATH)
+	public CompletableFuture<ResponseEntity<List<TagResponseDto>>> readAll(
+		@RequestParam(defaultValue = "10", required = false) @Min(1) final int limit,
+		@RequestParam(defaultValue = "0", required = false) @Min(0) final int offset,
+		@RequestParam(defaultValue = "id::asc", required = false) final String orderBy
+	) {
+		return executor.supply(() -> tagController.readAll(limit, offset, orderBy));
+	}
+
+	@Override
+	@ApiOperation(value = "Retrieve specific tag with the supplied id", response = TagResponseDto.class)
+	@ApiResponses(value = {
+		@ApiResponse(code = 200, message = "Successfully retrieved the tag with the supplied id"),
+		@ApiResponse(code = 400, message = "Request violates any of existing constraints"),
+		@ApiResponse(code = 401, message = "You are not authorized"),
+		@ApiResponse(code = 403, message = "Accessing the resource you were trying to reach is forbidden"),
+		@ApiResponse(code = 404, message = "The resource you were trying to reach is not found"),
+		@ApiResponse(code = 500, message = "Application failed to process the request"),
+		@ApiResponse(code = 503, message = "Api version is not supported or the service is overloaded")
+	})
+	@GetMapping(TAG_ROOT_PATH + "/{id:\\d+}")
+	public CompletableFuture<ResponseEntity<TagResponseDto>> readById(
+		@PathVariable @NotNull @Min(ID_MIN_VALUE) final Long id
+	) {
+		return executor.supply(() -> tagController.readById(id));
+	}
+
+	@ApiOperation(value = "View selected fields of all tags", response = List.class)
+	@ApiResponses(value = {
+		@ApiResponse(code = 200, message = "Successfully retrieved selected fields of all tags"),
+		@ApiResponse(code = 400, message = "Request violates any of existing constraints"),
+		@ApiResponse(code = 401, message = "You are not authorized"),
+		@ApiResponse(code = 403, message = "Accessing the resource you were trying to reach is forbidden"),
+		@ApiResponse(code = 404, message = "The resource you were trying to reach is not found"),
+		@ApiResponse(code = 500, message = "Application failed to process the request"),
+		@ApiResponse(code = 503, message = "Api version is not supported or the service is overloaded")
+	})
+	@GetMapping(path = TAG_ROOT_PATH, params = "fields")
+	public CompletableFuture<ResponseEntity<List<Map<String, Object>>>> readAll(
+		@RequestParam(defaultValue = "10", required = false) @Min(1) final int limit,
+		@RequestParam(defaultValue = "0", required = false) @Min(0) final int offset,
+		@RequestParam(defaultValue = "id::asc", required = false) final String orderBy,
+		@RequestParam final List<String> fields
+	) {
+		return executor.supply(() -> tagController.readAll(limit, offset, orderBy, fields));
+	}
+
+	@ApiOperation(value = "Retrieve selected fields of specific tag with the supplied id", response = Map.class)
+	@ApiResponses(value = {
+		@ApiResponse(code = 200, message = "Successfully retrieved selected fields of the tag with the supplied id"),
+		@ApiResponse(code = 400, message = "Request violates any of existing constraints"),
+		@ApiResponse(code = 401, message = "You are not authorized"),
+		@ApiResponse(code = 403, message = "Accessing the resource you were trying to reach is forbidden"),
+		@ApiResponse(code = 404, message = "The resource you were trying to reach is not found"),
+		@ApiResponse(code = 500, message = "Application failed to process the request"),
+		@ApiResponse(code = 503, message = "Api version is not supported or the service is overloaded")
+	})
+	@GetMapping(path = TAG_ROOT_PATH + "/{id:\\d+}", params = "fields")
+	public CompletableFuture<ResponseEntity<Map<String, Object>>> readById(
+		@PathVariable @NotNull @Min(ID_MIN_VALUE) final Long id,
+		@RequestParam final List<String> fields
+	) {
+		return executor.supply(() -> tagController.readById(id, fields));
+	}
+
+	@ApiOperation(value = "Retrieve tags by supplied news id", response = List.class)
+	@ApiResponses(value = {
+		@ApiResponse(code = 200, message = "Successfully retrieved tags by supplied news id"),
+		@ApiResponse(code = 400, message = "Request violates any of existing constraints"),
+		@ApiResponse(code = 401, message = "You are not authorized"),
+		@ApiResponse(code = 403, message = "Accessing the resource you were trying to reach is forbidden"),
+		@ApiResponse(code = 404, message = "The resource you were trying to reach is not found"),
+		@ApiResponse(code = 500, message = "Application failed to process the request"),
+		@ApiResponse(code = 503, message = "Api version is not supported or the service is overloaded")
+	})
+	@GetMapping(NEWS_ROOT_PATH + "/{newsId:\\d+}/tags")
+	public CompletableFuture<ResponseEntity<List<TagResponseDto>>> readTagsByNewsId(
+		@PathVariable("newsId") @NotNull @Min(ID_MIN_VALUE) final Long newsId
+	) {
+		return executor.supply(() -> tagController.readTagsByNewsId(newsId));
+	}
+
+	@Override
+	@PostMapping(path = TAG_ROOT_PATH, consumes = MediaType.APPLICATION_JSON_VALUE)
+	@ApiOperation(value = "Create new tag", response = TagResponseDto.class)
+	@ApiResponses(value = {
+		@ApiResponse(code = 201, message = "Successfully created new tag"),
+		@ApiResponse(code = 400, message = "Request violates any of existing constraints"),
+		@ApiResponse(code = 401, message = "You are not authorized"),
+		@ApiResponse(code = 403, message = "Accessing the resource you were trying to reach is forbidden"),
+		@ApiResponse(code = 404, message = "The resource you were trying to reach is not found"),
+		@ApiResponse(code = 409, message = "Tag you are trying to save has a name conflict: name already exists"),
+		@ApiResponse(code = 422, message = "Idempotency key was already used for a different request"),
+		@ApiResponse(code = 500, message = "Application failed to process the request"),
+		@ApiResponse(code = 503, message = "Api version is not supported or the service is overloaded")
+	})
+	public CompletableFuture<ResponseEntity<TagResponseDto>> create(
+		@RequestHeader(name = IDEMPOTENCY_KEY_HEADER, required = false) final String idempotencyKey,
+		@RequestBody @Valid final TagRequestDto request
+	) {
+		return executor.supply(() -> tagController.create(idempotencyKey, request));
+	}
+
+	@Override
+	@ApiOperation(value = "Update specific tag information", response = TagResponseDto.class)
+	@ApiResponses(value = {
+		@ApiResponse(code = 200, message = "Successfully updated tag information"),
+		@ApiResponse(code = 400, message = "Request violates any of existing constraints"),
+		@ApiResponse(code = 401, message = "You are not authorized"),
+		@ApiResponse(code = 403, message = "Accessing the resource you were trying to reach is forbidden"),
+		@ApiResponse(code = 404, message = "The resource you were trying to reach is not found"),
+		@ApiResponse(code = 409, message = "Tag you are trying to save has a name conflict: name already exists"),
+		@ApiResponse(code = 500, message = "Application failed to process the request"),
+		@ApiResponse(code = 503, message = "Api version is not supported or the service is overloaded")
+	})
+	@PatchMapping(path = TAG_ROOT_PATH + "/{id:\\d+}", consumes = MediaType.APPLICATION_JSON_VALUE)
+	public CompletableFuture<ResponseEntity<TagResponseDto>> update(
+		@PathVariable @NotNull @Min(ID_MIN_VALUE) final Long id,
+		@RequestBody @Valid final TagRequestDto request
+	) {
+		return executor.supply(() -> tagController.update(id, request));
+	}
+
+	@Override
+	@ApiOperation(value = "Deletes specific tag with the supplied id")
+	@ApiResponses(value = {
+		@ApiResponse(code = 204, message = "Successfully deletes the specific tag"),
+		@ApiResponse(code = 400, message = "Request violates any of existing constraints"),
+		@ApiResponse(code = 401, message = "You are not authorized"),
+		@ApiResponse(code = 403, message = "Accessing the resource you were trying to reach is forbidden"),
+		@ApiResponse(code = 404, message = "The resource you were trying to reach is not found"),
+		@ApiResponse(code = 500, message = "Application failed to process the request"),
+		@ApiResponse(code = 503, message = "Api version is not supported or the service is overloaded")
+	})
+	@DeleteMapping(TAG_ROOT_PATH + "/{id:\\d+}")
+	public CompletableFuture<ResponseEntity<Void>> deleteById(
+		@PathVariable @NotNull @Min(ID_MIN_VALUE) final Long id
+	) {
+		return executor.supply(() -> {
+			tagController.deleteById(id);
+			return ResponseEntity.noContent().build();
+		});
+	}
+}
@@ -0,0 +1,81 @@
+package com.mjc.school.controller.serialization;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.json.UTF8JsonGenerator;
+import com.fasterxml.jackson.core.util.ByteArrayBuilder;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.ContextualSerializer;
+import com.fasterxml.jackson.databind.ser.ResolvableSerializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+import java.util.function.Function;
+
+/**
+ * Writes a record from {@link SerializedJsonCache}, serializing it with the bean serializer on a
+ * miss. Only a UTF-8 JSON generator takes the cached bytes as they are; any other output, such as
+ * a writer or a binary format, is served by the bean serializer directly.
+ */
+final class CachedJsonSerializer extends StdSerializer<Object> implements ContextualSerializer, ResolvableSerializer {
+
+	private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+	private final transient SerializedJsonCache cache;
+	private final transient Function<Object, Long> id;
+	private final transient JsonSerializer<Object> delegate;
+
+	CachedJsonSerializer(
+		final SerializedJsonCache cache,
+		final Function<Object, Long> id,
+		final JsonSerializer<Object> delegate
+	) {
+		super(Object.class);
+		this.cache = cache;
+		this.id = id;
+		this.delegate = delegate;
+	}
+
+	@Override
+	public void serialize(final Object value, final JsonGenerator gen, final SerializerProvider provider)
+			throws IOException {
+		final Long key = id.apply(value);
+		if (!(gen instanceof UTF8JsonGenerator) || key == null) {
+			delegate.serialize(value, gen, provider);
+			return;
+		}
+		byte[] json = cache.get(key, value);
+		if (json == null) {
+			final ByteArrayBuilder buffer = new ByteArrayBuilder();
+			try (JsonGenerator element = JSON_FACTORY.createGenerator(buffer)) {
+				delegate.serialize(value, element, provider);
+			}
+			json = buffer.toByteArray();
+			cache.put(key, value, json);
+		}
+		gen.writeRawValue(new RawJson(json));
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public JsonSerializer<?> createContextual(final SerializerProvider provider, final BeanProperty property)
+			throws JsonMappingException {
+		if (delegate instanceof ContextualSerializer contextual) {
+			final JsonSerializer<?> resolved = contextual.createContextual(provider, property);
+			if (resolved != delegate) {
+				return new CachedJsonSerializer(cache, id, (JsonSerializer<Object>) resolved);
+			}
+		}
+		return this;
+	}
+
+	@Override
+	public void resolve(final SerializerProvider provider) throws JsonMappingException {
+		if (delegate instanceof ResolvableSerializer resolvable) {
+			resolvable.resolve(provider);
+		}
+	}
+}
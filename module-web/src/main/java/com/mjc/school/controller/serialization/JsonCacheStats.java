@@ -0,0 +1,11 @@
+package com.mjc.school.controller.serialization;
+
+public record JsonCacheStats(
+	int entries,
+	int maxEntries,
+	long hits,
+	long misses,
+	long evictions
+) {
+	// Empty
+}
@@ -0,0 +1,105 @@
+package com.mjc.school.controller.serialization;
+
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Already serialized UTF-8 JSON for {@code JsonGenerator.writeRawValue}. A UTF-8 generator copies
+ * the bytes into its buffer, or writes them straight to its stream when they do not fit; only the
+ * character based methods, which that generator does not use, decode them.
+ */
+final class RawJson implements SerializableString {
+
+	private final byte[] utf8;
+	private SerializedString text;
+
+	RawJson(final byte[] utf8) {
+		this.utf8 = utf8;
+	}
+
+	@Override
+	public String getValue() {
+		return text().getValue();
+	}
+
+	@Override
+	public int charLength() {
+		return text().charLength();
+	}
+
+	@Override
+	public char[] asQuotedChars() {
+		return text().asQuotedChars();
+	}
+
+	@Override
+	public byte[] asUnquotedUTF8() {
+		return utf8;
+	}
+
+	@Override
+	public byte[] asQuotedUTF8() {
+		return text().asQuotedUTF8();
+	}
+
+	@Override
+	public int appendQuotedUTF8(final byte[] buffer, final int offset) {
+		return text().appendQuotedUTF8(buffer, offset);
+	}
+
+	@Override
+	public int appendQuoted(final char[] buffer, final int offset) {
+		return text().appendQuoted(buffer, offset);
+	}
+
+	@Override
+	public int appendUnquotedUTF8(final byte[] buffer, final int offset) {
+		if (offset + utf8.length > buffer.length) {
+			return -1;
+		}
+		System.arraycopy(utf8, 0, buffer, offset, utf8.length);
+		return utf8.length;
+	}
+
+	@Override
+	public int appendUnquoted(final char[] buffer, final int offset) {
+		return text().appendUnquoted(buffer, offset);
+	}
+
+	@Override
+	public int writeQuotedUTF8(final OutputStream out) throws IOException {
+		return text().writeQuotedUTF8(out);
+	}
+
+	@Override
+	public int writeUnquotedUTF8(final OutputStream out) throws IOException {
+		out.write(utf8);
+		return utf8.length;
+	}
+
+	@Override
+	public int putQuotedUTF8(final ByteBuffer buffer) throws IOException {
+		return text().putQuotedUTF8(buffer);
+	}
+
+	@Override
+	public int putUnquotedUTF8(final ByteBuffer buffer) throws IOException {
+		if (utf8.length > buffer.remaining()) {
+			return -1;
+		}
+		buffer.put(utf8);
+		return utf8.length;
+	}
+
+	private SerializedString text() {
+		if (text == null) {
+			text = new SerializedString(new String(utf8, StandardCharsets.UTF_8));
+		}
+		return text;
+	}
+}
@@ -0,0 +1,156 @@
+package com.mjc.school.controller.serialization;
+
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.BeanSerializerModifier;
+import com.mjc.school.service.dto.AuthorResponseDto;
+import com.mjc.school.service.dto.CommentResponseDto;
+import com.mjc.school.service.dto.NewsResponseDto;
+import com.mjc.school.service.dto.TagResponseDto;
+import com.mjc.school.service.event.AuthorDeletedEvent;
+import com.mjc.school.service.event.AuthorRenamedEvent;
+import com.mjc.school.service.event.CommentCountChangedEvent;
+import com.mjc.school.service.event.CommentEditedEvent;
+import com.mjc.school.service.event.DomainEvent;
+import com.mjc.school.service.event.NewsDeletedEvent;
+import com.mjc.school.service.event.NewsSavedEvent;
+import com.mjc.school.service.event.TagDeletedEvent;
+import com.mjc.school.service.event.TagRenamedEvent;
+import com.mjc.school.service.outbox.OutboxSubscriber;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * JSON of the response records, serialized once per entity and version and then copied into every
+ * response that contains it, so a list is written as the cached bytes of its elements. An entry
+ * is keyed by record type and id and is only used for a record equal to the one it was made
+ * from; that equality is the version check, and it also covers changes that do not touch
+ * {@code lastUpdateDate}, such as the comment count or a deleted tag. The domain events, read
+ * from the outbox, evict the entries they make obsolete, so updated and deleted entities do not
+ * hold memory. When {@code maxEntries} are cached, further records are serialized without being
+ * cached.
+ */
+public class SerializedJsonCache implements OutboxSubscriber {
+
+	private static final Map<Class<?>, Function<Object, Long>> IDS = Map.of(
+		NewsResponseDto.class, dto -> ((NewsResponseDto) dto).id(),
+		AuthorResponseDto.class, dto -> ((AuthorResponseDto) dto).id(),
+		TagResponseDto.class, dto -> ((TagResponseDto) dto).id(),
+		CommentResponseDto.class, dto -> ((CommentResponseDto) dto).id()
+	);
+
+	private final int maxEntries;
+	private final Map<Key, Entry> entries = new ConcurrentHashMap<>();
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+	private final LongAdder evictions = new LongAdder();
+
+	public SerializedJsonCache(final int maxEntries) {
+		this.maxEntries = maxEntries;
+	}
+
+	/**
+	 * Jackson module that routes the cached record types through this cache.
+	 */
+	public SimpleModule module() {
+		final SimpleModule module = new SimpleModule(SerializedJsonCache.class.getSimpleName());
+		module.setSerializerModifier(new BeanSerializerModifier() {
+			@Override
+			@SuppressWarnings("unchecked")
+			public JsonSerializer<?> modifySerializer(
+				final SerializationConfig config,
+				final BeanDescription description,
+				final JsonSerializer<?> serializer
+			) {
+				final Function<Object, Long> id = IDS.get(description.getBeanClass());
+				return id == null
+					? serializer
+					: new CachedJsonSerializer(SerializedJsonCache.this, id, (JsonSerializer<Object>) serializer);
+			}
+		});
+		return module;
+	}
+
+	public JsonCacheStats stats() {
+		return new JsonCacheStats(entries.size(), maxEntries, hits.sum(), misses.sum(), evictions.sum());
+	}
+
+	/**
+	 * Evicts the entries the event makes obsolete. Delivered through the outbox, after the write
+	 * committed and off the request thread; until then an obsolete entry only holds memory, as it
+	 * no longer equals any record it could be used for.
+	 */
+	@Override
+	public void on(final DomainEvent event) {
+		if (event instanceof NewsSavedEvent saved) {
+			evict(NewsResponseDto.class, saved.news().id());
+		} else if (event instanceof NewsDeletedEvent deleted) {
+			evict(NewsResponseDto.class, deleted.newsId());
+			evictIf(CommentResponseDto.class, comment -> deleted.newsId().equals(comment.newsId()));
+		} else if (event instanceof CommentCountChangedEvent changed) {
+			evict(NewsResponseDto.class, changed.newsId());
+		} else if (event instanceof CommentEditedEvent edited) {
+			evict(CommentResponseDto.class, edited.commentId());
+		} else if (event instanceof AuthorRenamedEvent renamed) {
+			evict(AuthorResponseDto.class, renamed.authorId());
+		} else if (event instanceof AuthorDeletedEvent deleted) {
+			evict(AuthorResponseDto.class, deleted.authorId());
+			evictIf(NewsResponseDto.class, news -> deleted.authorId().equals(news.authorId()));
+		} else if (event instanceof TagRenamedEvent renamed) {
+			evict(TagResponseDto.class, renamed.tagId());
+		} else if (event instanceof TagDeletedEvent deleted) {
+			evict(TagResponseDto.class, deleted.tagId());
+			evictIf(NewsResponseDto.class, news -> news.tags() != null && news.tags().contains(deleted.tagId()));
+		}
+	}
+
+	/**
+	 * Cached JSON of {@code value}, or {@code null} when there is none for this exact record.
+	 */
+	byte[] get(final Long id, final Object value) {
+		final Entry entry = entries.get(new Key(value.getClass(), id));
+		if (entry != null && entry.value().equals(value)) {
+			hits.increment();
+			return entry.json();
+		}
+		misses.increment();
+		return null;
+	}
+
+	void put(final Long id, final Object value, final byte[] json) {
+		final Key key = new Key(value.getClass(), id);
+		if (entries.size() < maxEntries || entries.containsKey(key)) {
+			entries.put(key, new Entry(value, json));
+		}
+	}
+
+	private void evict(final Class<?> type, final Long id) {
+		if (entries.remove(new Key(type, id)) != null) {
+			evictions.increment();
+		}
+	}
+
+	private <T> void evictIf(final Class<T> type, final Predicate<T> obsolete) {
+		entries.entrySet().removeIf(entry -> {
+			final boolean evict = entry.getKey().type() == type && obsolete.test(type.cast(entry.getValue().value()));
+			if (evict) {
+				evictions.increment();
+			}
+			return evict;
+		});
+	}
+
+	private record Key(Class<?> type, Long id) {
+		// Empty
+	}
+
+	private record Entry(Object value, byte[] json) {
+		// Empty
+	}
+}
@@ -6,9 +6,16 @@ import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
 
+/**
+ * API versions a handler serves: from {@link #value()} up to {@link #until()}, both inclusive. A
+ * request for a version without a handler of its own is served by the handler with the highest
+ * {@code value} not above it, so an endpoint only needs a new handler in the version that changes it.
+ */
 @Documented
 @Target({ElementType.METHOD, ElementType.TYPE})
 @Retention(RetentionPolicy.RUNTIME)
 public @interface ApiVersion {
 	int value() default 1;
-}
\ No newline at end of file
+
+	int until() default Integer.MAX_VALUE;
+}
@@ -1,54 +1,101 @@
 package com.mjc.school.controller.versioning;
 
-import com.mjc.school.controller.exception.ApiVersionNotSupportedException;
 import org.springframework.web.servlet.mvc.condition.RequestCondition;
 
 import javax.servlet.http.HttpServletRequest;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
-
-import static com.mjc.school.controller.exception.WebErrorCode.API_VERSION_NOT_SUPPORTED;
 
+/**
+ * Matches requests whose URI carries a version between {@code since} and {@code until} as a
+ * {@code /v<n>/} segment. The version is parsed once per request and kept in the
+ * {@link #VERSION_ATTRIBUTE} request attribute, so every further candidate handler costs two int
+ * comparisons. A mismatch is not an error here; {@link ApiVersionRequestMappingHandlerMapping}
+ * reports an unsupported version once no candidate matched.
+ */
 public class ApiVersionCondition implements RequestCondition<ApiVersionCondition> {
 
-	private static final Pattern VERSION_PREFIX_PATTERN = Pattern.compile("/v(\\d+)/");
+	public static final String VERSION_ATTRIBUTE = ApiVersionCondition.class.getName() + ".version";
+	public static final int NO_VERSION = -1;
+
+	private static final String VERSION_PREFIX = "/v";
+	private static final int MAX_VERSION_DIGITS = 9;
 
-	private final int apiVersion;
+	private final int since;
+	private final int until;
+
+	public ApiVersionCondition(final int since, final int until) {
+		this.since = since;
+		this.until = until;
+	}
 
 	public ApiVersionCondition(final int apiVersion) {
-		this.apiVersion = apiVersion;
+		this(apiVersion, Integer.MAX_VALUE);
 	}
 
+	/**
+	 * A method-level version replaces the one of its controller.
+	 */
 	@Override
 	public ApiVersionCondition combine(final ApiVersionCondition other) {
-		return new ApiVersionCondition(other.getApiVersion());
+		return new ApiVersionCondition(other.getSince(), other.getUntil());
 	}
 
 	@Override
 	public ApiVersionCondition getMatchingCondition(final HttpServletRequest request) {
-		final Matcher matcher = VERSION_PREFIX_PATTERN.matcher(request.getRequestURI());
-		if (matcher.find()) {
-			final int version = Integer.parseInt(matcher.group(1));
-			if (version == this.apiVersion) {
-				return this;
-			} else {
-				throw new ApiVersionNotSupportedException(
-					String.format("Api version '%s' is not supported.", version),
-					API_VERSION_NOT_SUPPORTED.getCode());
-			}
-		}
-		throw new ApiVersionNotSupportedException(
-			String.format("Api version in the request uri '%s' is not supported.", request.getRequestURI()),
-			API_VERSION_NOT_SUPPORTED.getCode()
-		);
+		return matches(requestedVersion(request)) ? this : null;
 	}
 
+	/**
+	 * The handler introduced in the later version is the closer match.
+	 */
 	@Override
 	public int compareTo(final ApiVersionCondition other, final HttpServletRequest request) {
-		return other.getApiVersion() - this.getApiVersion();
+		return Integer.compare(other.getSince(), this.getSince());
+	}
+
+	public boolean matches(final int version) {
+		return version >= since && version <= until;
+	}
+
+	public int getSince() {
+		return since;
+	}
+
+	public int getUntil() {
+		return until;
 	}
 
-	private int getApiVersion() {
-		return apiVersion;
+	/**
+	 * Version requested by the URI, or {@link #NO_VERSION} when it has no {@code /v<n>/} segment.
+	 */
+	public static int requestedVersion(final HttpServletRequest request) {
+		if (request.getAttribute(VERSION_ATTRIBUTE) instanceof Integer version) {
+			return version;
+		}
+		final int version = parseVersion(request.getRequestURI());
+		request.setAttribute(VERSION_ATTRIBUTE, version);
+		return version;
+	}
+
+	/**
+	 * Number in the first {@code /v<digits>/} segment of {@code uri}; longer numbers than an int
+	 * safely holds are treated as no version.
+	 */
+	static int parseVersion(final String uri) {
+		int from = uri.indexOf(VERSION_PREFIX);
+		while (from >= 0) {
+			final int digitsStart = from + VERSION_PREFIX.length();
+			int index = digitsStart;
+			int version = 0;
+			while (index < uri.length() && index - digitsStart < MAX_VERSION_DIGITS
+					&& uri.charAt(index) >= '0' && uri.charAt(index) <= '9') {
+				version = version * 10 + uri.charAt(index) - '0';
+				index++;
+			}
+			if (index > digitsStart && index < uri.length() && uri.charAt(index) == '/') {
+				return version;
+			}
+			from = uri.indexOf(VERSION_PREFIX, from + 1);
+		}
+		return NO_VERSION;
 	}
-}
\ No newline at end of file
+}
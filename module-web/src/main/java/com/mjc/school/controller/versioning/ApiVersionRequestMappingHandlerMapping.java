@@ -1,13 +1,55 @@
 package com.mjc.school.controller.versioning;
 
+import com.mjc.school.controller.exception.ApiVersionNotSupportedException;
 import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.web.method.HandlerMethod;
 import org.springframework.web.servlet.mvc.condition.RequestCondition;
+import org.springframework.web.servlet.mvc.method.RequestMappingInfo;
 import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
 
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
 import java.lang.reflect.Method;
+import java.util.Set;
 
+import static com.mjc.school.controller.exception.WebErrorCode.API_VERSION_NOT_SUPPORTED;
+
+/**
+ * Routes {@code @ApiVersion} handlers. The supported versions run from the lowest to the highest
+ * version any handler introduces; requests for other versions are answered as unsupported. Once
+ * the handlers are registered a {@link VersionedDispatchTable} is built, and requests it covers
+ * are resolved from it instead of by matching every registered pattern; anything else, including
+ * the error cases, goes through the regular lookup.
+ */
 public class ApiVersionRequestMappingHandlerMapping extends RequestMappingHandlerMapping {
 
+	private boolean dispatchTableEnabled = true;
+	private volatile VersionedDispatchTable dispatchTable;
+	private volatile int earliestVersion = ApiVersionCondition.NO_VERSION;
+	private volatile int latestVersion = ApiVersionCondition.NO_VERSION;
+
+	public void setDispatchTableEnabled(final boolean dispatchTableEnabled) {
+		this.dispatchTableEnabled = dispatchTableEnabled;
+	}
+
+	@Override
+	public void afterPropertiesSet() {
+		super.afterPropertiesSet();
+		rebuildDispatchTable();
+	}
+
+	@Override
+	public void registerMapping(final RequestMappingInfo mapping, final Object handler, final Method method) {
+		super.registerMapping(mapping, handler, method);
+		rebuildDispatchTable();
+	}
+
+	@Override
+	public void unregisterMapping(final RequestMappingInfo mapping) {
+		super.unregisterMapping(mapping);
+		rebuildDispatchTable();
+	}
+
 	@Override
 	protected RequestCondition<ApiVersionCondition> getCustomTypeCondition(final Class<?> handlerType) {
 		return createCondition(AnnotationUtils.findAnnotation(handlerType, ApiVersion.class));
@@ -18,7 +60,84 @@ public class ApiVersionRequestMappingHandlerMapping extends RequestMappingHandle
 		return createCondition(AnnotationUtils.findAnnotation(method, ApiVersion.class));
 	}
 
+	@Override
+	protected HandlerMethod lookupHandlerMethod(final String lookupPath, final HttpServletRequest request)
+			throws Exception {
+		final int version = ApiVersionCondition.requestedVersion(request);
+		if (version != ApiVersionCondition.NO_VERSION && (version < earliestVersion || version > latestVersion)) {
+			// No versioned handler may match; unversioned ones still can
+			request.setAttribute(ApiVersionCondition.VERSION_ATTRIBUTE, ApiVersionCondition.NO_VERSION);
+			return super.lookupHandlerMethod(lookupPath, request);
+		}
+		final VersionedDispatchTable table = dispatchTable;
+		final VersionedDispatchTable.Route[] routes =
+			table == null ? null : table.routes(version, request.getMethod(), lookupPath);
+		if (routes != null) {
+			for (final VersionedDispatchTable.Route route : routes) {
+				final RequestMappingInfo match = route.info().getMatchingCondition(request);
+				if (match != null) {
+					request.setAttribute(BEST_MATCHING_HANDLER_ATTRIBUTE, route.handlerMethod());
+					handleMatch(match, lookupPath, request);
+					return route.handlerMethod();
+				}
+			}
+		}
+		return super.lookupHandlerMethod(lookupPath, request);
+	}
+
+	/**
+	 * Runs only when no handler matched. If a versioned handler would have matched the path and
+	 * method, the requested version is the reason and is reported as unsupported.
+	 */
+	@Override
+	protected HandlerMethod handleNoMatch(
+		final Set<RequestMappingInfo> infos,
+		final String lookupPath,
+		final HttpServletRequest request
+	) throws ServletException {
+		for (final RequestMappingInfo info : infos) {
+			if (info.getCustomCondition() instanceof ApiVersionCondition
+					&& info.getMethodsCondition().getMatchingCondition(request) != null
+					&& info.getActivePatternsCondition().getMatchingCondition(request) != null) {
+				throw unsupported(request);
+			}
+		}
+		return super.handleNoMatch(infos, lookupPath, request);
+	}
+
+	private void rebuildDispatchTable() {
+		int earliest = Integer.MAX_VALUE;
+		int latest = ApiVersionCondition.NO_VERSION;
+		for (final RequestMappingInfo info : getHandlerMethods().keySet()) {
+			if (info.getCustomCondition() instanceof ApiVersionCondition condition) {
+				earliest = Math.min(earliest, condition.getSince());
+				latest = Math.max(latest, condition.getSince());
+			}
+		}
+		earliestVersion = earliest;
+		latestVersion = latest;
+		dispatchTable = dispatchTableEnabled && latest != ApiVersionCondition.NO_VERSION
+			? VersionedDispatchTable.build(getHandlerMethods(), earliest, latest)
+			: null;
+	}
+
 	private RequestCondition<ApiVersionCondition> createCondition(final ApiVersion apiVersion) {
-		return apiVersion == null ? null : new ApiVersionCondition(apiVersion.value());
+		return apiVersion == null ? null : new ApiVersionCondition(apiVersion.value(), apiVersion.until());
+	}
+
+	private static ApiVersionNotSupportedException unsupported(final HttpServletRequest request) {
+		final int version = ApiVersionCondition.parseVersion(request.getRequestURI());
+		if (version == ApiVersionCondition.NO_VERSION) {
+			return new ApiVersionNotSupportedException(
+				"Api version in the request uri '%s' is not supported.",
+				API_VERSION_NOT_SUPPORTED.getCode(),
+				request.getRequestURI()
+			);
+		}
+		return new ApiVersionNotSupportedException(
+			"Api version '%s' is not supported.",
+			API_VERSION_NOT_SUPPORTED.getCode(),
+			version
+		);
 	}
-}
\ No newline at end of file
+}
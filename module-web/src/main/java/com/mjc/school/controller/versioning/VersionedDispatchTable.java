@@ -0,0 +1,190 @@
+package com.mjc.school.controller.versioning;
+
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.mvc.method.RequestMappingInfo;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Handler lookup table built once from the registered mappings: for every supported version, the
+ * candidate handlers of each HTTP method and path shape, best first. A shape is a path with the
+ * version segment written as {@code {v}} and every numeric segment as {@code #}, so
+ * {@code /api/{apiVersion}/news/{id:\d+}} and {@code /api/v2/news/7} both become
+ * {@code /api/{v}/news/#} and a request is found with one hash lookup on its own path, however
+ * many handlers and versions are registered.
+ */
+final class VersionedDispatchTable {
+
+	static final String VERSION_VARIABLE = "{apiVersion}";
+
+	private static final String VERSION_SEGMENT = "{v}";
+	private static final String NUMBER_SEGMENT = "#";
+	private static final Comparator<Route> BEST_FIRST = Comparator
+		.comparingInt((Route route) -> -route.condition().getSince())
+		.thenComparingInt(route -> -route.info().getParamsCondition().getExpressions().size())
+		.thenComparingInt(route -> -route.info().getHeadersCondition().getExpressions().size())
+		.thenComparing(route -> route.info().getConsumesCondition().isEmpty())
+		.thenComparing(route -> route.info().getProducesCondition().isEmpty());
+
+	private final int earliest;
+	private final List<Map<String, Route[]>> routesByVersion;
+
+	private VersionedDispatchTable(final int earliest, final List<Map<String, Route[]>> routesByVersion) {
+		this.earliest = earliest;
+		this.routesByVersion = routesByVersion;
+	}
+
+	/**
+	 * Builds the table for versions {@code earliest..latest}, or returns {@code null} when a versioned
+	 * mapping has a pattern or method set the shapes cannot express; such mappings are left to the
+	 * regular pattern matching.
+	 */
+	static VersionedDispatchTable build(
+		final Map<RequestMappingInfo, HandlerMethod> handlerMethods,
+		final int earliest,
+		final int latest
+	) {
+		final List<Map<String, List<Route>>> collected = new ArrayList<>();
+		for (int version = earliest; version <= latest; version++) {
+			collected.add(new HashMap<>());
+		}
+		for (final Map.Entry<RequestMappingInfo, HandlerMethod> entry : handlerMethods.entrySet()) {
+			final RequestMappingInfo info = entry.getKey();
+			if (!(info.getCustomCondition() instanceof ApiVersionCondition condition)) {
+				continue;
+			}
+			final Set<RequestMethod> methods = info.getMethodsCondition().getMethods();
+			if (methods.isEmpty()) {
+				return null;
+			}
+			final Route route = new Route(info, condition, entry.getValue());
+			for (final String pattern : info.getPatternValues()) {
+				final String shape = patternShape(pattern);
+				if (shape == null) {
+					return null;
+				}
+				for (int version = Math.max(earliest, condition.getSince());
+						version <= Math.min(latest, condition.getUntil()); version++) {
+					for (final RequestMethod method : methods) {
+						collected.get(version - earliest)
+							.computeIfAbsent(key(method.name(), shape), key -> new ArrayList<>())
+							.add(route);
+					}
+				}
+			}
+		}
+		final List<Map<String, Route[]>> routesByVersion = new ArrayList<>(collected.size());
+		for (final Map<String, List<Route>> routes : collected) {
+			final Map<String, Route[]> table = new HashMap<>();
+			routes.forEach((key, candidates) -> table.put(key,
+				candidates.stream().distinct().sorted(BEST_FIRST).toArray(Route[]::new)));
+			routesByVersion.add(table);
+		}
+		return new VersionedDispatchTable(earliest, routesByVersion);
+	}
+
+	/**
+	 * Candidates for the request, best first, or {@code null} when the table has none and the
+	 * regular lookup has to decide.
+	 */
+	Route[] routes(final int version, final String method, final String lookupPath) {
+		final int index = version - earliest;
+		if (index < 0 || index >= routesByVersion.size()) {
+			return null;
+		}
+		final String shape = requestShape(lookupPath);
+		return shape == null ? null : routesByVersion.get(index).get(key(method, shape));
+	}
+
+	/**
+	 * Shape of a mapping pattern, or {@code null} for wildcards, non-numeric variables, a missing
+	 * version variable and literal segments a request shape could not tell apart.
+	 */
+	static String patternShape(final String pattern) {
+		final StringBuilder shape = new StringBuilder(pattern.length());
+		boolean versioned = false;
+		for (final String segment : segments(pattern)) {
+			shape.append('/');
+			if (segment.equals(VERSION_VARIABLE) && !versioned) {
+				shape.append(VERSION_SEGMENT);
+				versioned = true;
+			} else if (segment.startsWith("{") && segment.endsWith(":\\d+}")) {
+				shape.append(NUMBER_SEGMENT);
+			} else if (segment.indexOf('{') >= 0 || segment.indexOf('*') >= 0 || segment.indexOf('?') >= 0
+					|| isNumber(segment, 0, segment.length()) || isVersion(segment)) {
+				return null;
+			} else {
+				shape.append(segment);
+			}
+		}
+		return versioned ? shape.toString() : null;
+	}
+
+	/**
+	 * Shape of a request path, with the first {@code v<n>} segment as the version; {@code null}
+	 * when there is none. A trailing slash is ignored, as Spring's trailing slash matching does.
+	 */
+	static String requestShape(final String path) {
+		final int length = path.length() > 1 && path.endsWith("/") ? path.length() - 1 : path.length();
+		final StringBuilder shape = new StringBuilder(length + 2);
+		boolean versioned = false;
+		int start = path.startsWith("/") ? 1 : 0;
+		while (start < length) {
+			int end = path.indexOf('/', start);
+			if (end < 0 || end > length) {
+				end = length;
+			}
+			shape.append('/');
+			if (!versioned && isVersion(path, start, end)) {
+				shape.append(VERSION_SEGMENT);
+				versioned = true;
+			} else if (isNumber(path, start, end)) {
+				shape.append(NUMBER_SEGMENT);
+			} else {
+				shape.append(path, start, end);
+			}
+			start = end + 1;
+		}
+		return versioned ? shape.toString() : null;
+	}
+
+	private static String key(final String method, final String shape) {
+		return method + ' ' + shape;
+	}
+
+	private static String[] segments(final String pattern) {
+		final int start = pattern.startsWith("/") ? 1 : 0;
+		final int end = pattern.length() > start && pattern.endsWith("/") ? pattern.length() - 1 : pattern.length();
+		return start >= end ? new String[0] : pattern.substring(start, end).split("/", -1);
+	}
+
+	private static boolean isVersion(final String segment) {
+		return isVersion(segment, 0, segment.length());
+	}
+
+	private static boolean isVersion(final String path, final int start, final int end) {
+		return end - start > 1 && path.charAt(start) == 'v' && isNumber(path, start + 1, end);
+	}
+
+	private static boolean isNumber(final String path, final int start, final int end) {
+		if (start >= end) {
+			return false;
+		}
+		for (int index = start; index < end; index++) {
+			if (path.charAt(index) < '0' || path.charAt(index) > '9') {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	record Route(RequestMappingInfo info, ApiVersionCondition condition, HandlerMethod handlerMethod) {
+		// Empty
+	}
+}
@@ -0,0 +1,115 @@
+package com.mjc.school.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.mjc.school.service.TagService;
+import com.mjc.school.service.dto.TagResponseDto;
+import com.mjc.school.service.exception.EntityNotFoundException;
+import io.restassured.RestAssured;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ContextConfiguration;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static com.mjc.school.controller.constants.Constants.TAG_ROOT_PATH;
+import static com.mjc.school.service.constants.Constants.TAG_ENTITY_NAME;
+import static com.mjc.school.service.exception.ServiceErrorCode.ENTITY_NOT_FOUND_BY_ID;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.when;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ContextConfiguration(classes = {ControllerTestConfig.class})
+class RestAssuredContentNegotiationTest {
+
+	private static final String BASE_URI = "http://localhost";
+	private static final String REQUEST_MAPPING_URI = "/api/v1";
+	private static final String CONTENT_TYPE = "application/json";
+	private static final String CBOR_CONTENT_TYPE = "application/cbor";
+	private static final String SMILE_CONTENT_TYPE = "application/x-jackson-smile";
+
+	@Autowired
+	private TagService tagService;
+	@LocalServerPort
+	private int port;
+	private List<TagResponseDto> tags;
+
+	@BeforeEach
+	public void setUp() {
+		reset(tagService);
+
+		RestAssured.baseURI = BASE_URI;
+		RestAssured.port = port;
+		RestAssured.basePath = REQUEST_MAPPING_URI;
+
+		tags = Arrays.asList(
+			new TagResponseDto(1L, "Name One"),
+			new TagResponseDto(2L, "Name Two")
+		);
+	}
+
+	@Test
+	void readAll_shouldReturnCbor_whenAcceptIsCbor() throws Exception {
+		when(tagService.readAll(10, 0, "id::asc")).thenReturn(tags);
+
+		final byte[] body = RestAssured.given()
+			.accept(CBOR_CONTENT_TYPE)
+			.get(TAG_ROOT_PATH)
+			.then().assertThat().statusCode(200)
+			.contentType(CBOR_CONTENT_TYPE)
+			.extract().asByteArray();
+		assertEquals(tags, List.of(new CBORMapper().readValue(body, TagResponseDto[].class)));
+	}
+
+	@Test
+	void readAll_shouldReturnSmile_whenAcceptIsSmile() throws Exception {
+		when(tagService.readAll(10, 0, "id::asc")).thenReturn(tags);
+
+		final byte[] body = RestAssured.given()
+			.accept(SMILE_CONTENT_TYPE)
+			.get(TAG_ROOT_PATH)
+			.then().assertThat().statusCode(200)
+			.contentType(SMILE_CONTENT_TYPE)
+			.extract().asByteArray();
+		assertEquals(tags, List.of(new SmileMapper().readValue(body, TagResponseDto[].class)));
+	}
+
+	@Test
+	void readAll_shouldReturnJson_whenAcceptIsAnyType() {
+		when(tagService.readAll(10, 0, "id::asc")).thenReturn(tags);
+
+		RestAssured.given()
+			.accept("*/*")
+			.get(TAG_ROOT_PATH)
+			.then().assertThat().statusCode(200)
+			.contentType(startsWith(CONTENT_TYPE))
+			.body("[0].name", equalTo("Name One"));
+	}
+
+	@Test
+	void readById_shouldReturnCborError_whenEntityNotFoundAndAcceptIsCbor() throws Exception {
+		final long tagId = 99L;
+		when(tagService.readById(tagId)).thenThrow(new EntityNotFoundException(
+			ENTITY_NOT_FOUND_BY_ID.getMessage(),
+			ENTITY_NOT_FOUND_BY_ID.getCode(),
+			TAG_ENTITY_NAME, tagId
+		));
+
+		final byte[] body = RestAssured.given()
+			.accept(CBOR_CONTENT_TYPE)
+			.get(TAG_ROOT_PATH + "/" + tagId)
+			.then().assertThat().statusCode(404)
+			.contentType(CBOR_CONTENT_TYPE)
+			.extract().asByteArray();
+		final JsonNode error = new CBORMapper().readTree(body);
+		assertEquals(ENTITY_NOT_FOUND_BY_ID.getCode(), error.get("code").asText());
+	}
+}
@@ -0,0 +1,85 @@
+package com.mjc.school.controller.admission;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AdaptiveConcurrencyLimiterTest {
+
+	private static final long FAST = TimeUnit.MILLISECONDS.toNanos(10);
+	private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(200);
+
+	private final AtomicLong now = new AtomicLong();
+	private final AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(4, 2, 8, 100, now::get);
+
+	@Test
+	void tryAcquire_shouldReject_whenLimitIsReached() {
+		for (int i = 0; i < 4; i++) {
+			assertTrue(limiter.tryAcquire());
+		}
+
+		assertFalse(limiter.tryAcquire());
+		assertEquals(4, limiter.stats().inFlight());
+		assertEquals(1, limiter.stats().rejectedRequests());
+	}
+
+	@Test
+	void release_shouldRaiseLimit_whenFastRequestsKeepItBusy() {
+		for (int round = 0; round < 40; round++) {
+			final int limit = limiter.stats().limit();
+			for (int i = 0; i < limit; i++) {
+				limiter.tryAcquire();
+			}
+			now.addAndGet(FAST);
+			for (int i = 0; i < limit; i++) {
+				limiter.release(FAST, false);
+			}
+		}
+
+		assertEquals(8, limiter.stats().limit());
+		assertEquals(0, limiter.stats().inFlight());
+	}
+
+	@Test
+	void release_shouldKeepLimit_whenFewRequestsAreInFlight() {
+		for (int i = 0; i < 100; i++) {
+			limiter.tryAcquire();
+			now.addAndGet(FAST);
+			limiter.release(FAST, false);
+		}
+
+		assertEquals(4, limiter.stats().limit());
+	}
+
+	@Test
+	void release_shouldCutLimitDownToMinimum_whenRequestsAreSlowOrFail() {
+		for (int i = 0; i < 10; i++) {
+			final long latency = i % 2 == 0 ? SLOW : FAST;
+			limiter.tryAcquire();
+			now.addAndGet(latency);
+			limiter.release(latency, i % 2 != 0);
+		}
+
+		assertEquals(2, limiter.stats().limit());
+		assertTrue(limiter.stats().limitDecreases() > 0);
+	}
+
+	@Test
+	void release_shouldCutLimitOnce_whenRequestsSlowedByOneSpikeComplete() {
+		for (int i = 0; i < 4; i++) {
+			limiter.tryAcquire();
+		}
+		now.addAndGet(SLOW);
+		for (int i = 0; i < 4; i++) {
+			limiter.release(SLOW, false);
+		}
+
+		assertEquals(3, limiter.stats().limit());
+		assertEquals(1, limiter.stats().limitDecreases());
+	}
+}
@@ -0,0 +1,72 @@
+package com.mjc.school.controller.admission;
+
+import com.mjc.school.controller.exception.RateLimitExceededException;
+import com.mjc.school.controller.exception.ServiceOverloadedException;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+
+import javax.servlet.DispatcherType;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AdmissionInterceptorTest {
+
+	private final RateLimiter rateLimiter = new RateLimiter(100, 100, 100, 100, 100);
+	private final AdaptiveConcurrencyLimiter concurrencyLimiter = new AdaptiveConcurrencyLimiter(1, 1, 1, 100);
+	private final AdmissionInterceptor interceptor = new AdmissionInterceptor(rateLimiter, concurrencyLimiter);
+	private final MockHttpServletResponse response = new MockHttpServletResponse();
+
+	@Test
+	void preHandle_shouldThrowServiceOverloadedException_whenConcurrencyLimitIsReached() throws Exception {
+		final HandlerMethod handler = handler();
+		assertTrue(interceptor.preHandle(new MockHttpServletRequest(), response, handler));
+
+		assertThrows(ServiceOverloadedException.class,
+			() -> interceptor.preHandle(new MockHttpServletRequest(), response, handler));
+	}
+
+	@Test
+	void afterCompletion_shouldReleaseAdmittedRequest() throws Exception {
+		final HandlerMethod handler = handler();
+		final MockHttpServletRequest request = new MockHttpServletRequest();
+		interceptor.preHandle(request, response, handler);
+
+		interceptor.afterCompletion(request, response, handler, null);
+		interceptor.afterCompletion(request, response, handler, null);
+		assertEquals(0, concurrencyLimiter.stats().inFlight());
+		assertTrue(interceptor.preHandle(new MockHttpServletRequest(), response, handler));
+	}
+
+	@Test
+	void preHandle_shouldAdmitAsyncDispatch_withoutCheckingLimitsAgain() throws Exception {
+		final HandlerMethod handler = handler();
+		final MockHttpServletRequest request = new MockHttpServletRequest();
+		interceptor.preHandle(request, response, handler);
+		request.setDispatcherType(DispatcherType.ASYNC);
+
+		assertTrue(interceptor.preHandle(request, response, handler));
+		assertEquals(1, concurrencyLimiter.stats().admittedRequests());
+	}
+
+	@Test
+	void preHandle_shouldThrowRateLimitExceededException_beforeTakingConcurrencyPermit() throws Exception {
+		final RateLimiter strict = new RateLimiter(1, 1, 1, 1, 100);
+		final AdmissionInterceptor strictInterceptor = new AdmissionInterceptor(strict, concurrencyLimiter);
+		final HandlerMethod handler = handler();
+		final MockHttpServletRequest request = new MockHttpServletRequest();
+		strictInterceptor.preHandle(request, response, handler);
+		strictInterceptor.afterCompletion(request, response, handler, null);
+
+		assertThrows(RateLimitExceededException.class,
+			() -> strictInterceptor.preHandle(new MockHttpServletRequest(), response, handler));
+		assertEquals(0, concurrencyLimiter.stats().inFlight());
+	}
+
+	private HandlerMethod handler() throws NoSuchMethodException {
+		return new HandlerMethod(this, AdmissionInterceptorTest.class.getDeclaredMethod("handler"));
+	}
+}
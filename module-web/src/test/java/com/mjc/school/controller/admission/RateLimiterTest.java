@@ -0,0 +1,116 @@
+package com.mjc.school.controller.admission;
+
+import com.mjc.school.controller.exception.RateLimitExceededException;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class RateLimiterTest {
+
+	private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+	private final AtomicLong now = new AtomicLong(123_456_789L);
+	private final RateLimiter rateLimiter = new RateLimiter(10, 4, 2, 2, 100, now::get);
+
+	@Test
+	void acquire_shouldAdmitBurst_andRejectNextRequest_whenEndpointBucketIsEmpty() throws Exception {
+		final Method endpoint = endpoint("plain");
+		rateLimiter.acquire("client", endpoint);
+		rateLimiter.acquire("client", endpoint);
+
+		final RateLimitExceededException e = assertThrows(RateLimitExceededException.class,
+			() -> rateLimiter.acquire("client", endpoint));
+		assertEquals(1, e.getRetryAfterSeconds());
+		assertEquals(2, rateLimiter.stats().admittedRequests());
+		assertEquals(1, rateLimiter.stats().rejectedRequests());
+	}
+
+	@Test
+	void acquire_shouldAdmitAgain_whenTokenIsRefilled() throws Exception {
+		final Method endpoint = endpoint("plain");
+		rateLimiter.acquire("client", endpoint);
+		rateLimiter.acquire("client", endpoint);
+		now.addAndGet(SECOND / 2);
+
+		assertDoesNotThrow(() -> rateLimiter.acquire("client", endpoint));
+	}
+
+	@Test
+	void acquire_shouldKeepClientsApart() throws Exception {
+		final Method endpoint = endpoint("plain");
+		rateLimiter.acquire("first", endpoint);
+		rateLimiter.acquire("first", endpoint);
+
+		assertDoesNotThrow(() -> rateLimiter.acquire("second", endpoint));
+	}
+
+	@Test
+	void acquire_shouldApplyClientLimit_acrossEndpoints() throws Exception {
+		rateLimiter.acquire("client", endpoint("plain"));
+		rateLimiter.acquire("client", endpoint("plain"));
+		rateLimiter.acquire("client", endpoint("other"));
+		rateLimiter.acquire("client", endpoint("other"));
+
+		assertThrows(RateLimitExceededException.class, () -> rateLimiter.acquire("client", endpoint("limited")));
+	}
+
+	@Test
+	void acquire_shouldKeepEndpointToken_whenClientLimitRejectsRequest() throws Exception {
+		rateLimiter.acquire("client", endpoint("plain"));
+		rateLimiter.acquire("client", endpoint("plain"));
+		rateLimiter.acquire("client", endpoint("other"));
+		rateLimiter.acquire("client", endpoint("other"));
+		assertThrows(RateLimitExceededException.class, () -> rateLimiter.acquire("client", endpoint("limited")));
+		now.addAndGet(SECOND / 10);
+
+		assertDoesNotThrow(() -> rateLimiter.acquire("client", endpoint("limited")));
+	}
+
+	@Test
+	void acquire_shouldUseAnnotatedLimit_whenEndpointDeclaresOne() throws Exception {
+		final Method endpoint = endpoint("limited");
+		rateLimiter.acquire("client", endpoint);
+
+		final RateLimitExceededException e = assertThrows(RateLimitExceededException.class,
+			() -> rateLimiter.acquire("client", endpoint));
+		assertEquals(2, e.getRetryAfterSeconds());
+	}
+
+	@Test
+	void acquire_shouldDropFullBuckets_whenThereAreTooMany() throws Exception {
+		final RateLimiter small = new RateLimiter(10, 4, 2, 2, 2, now::get);
+		small.acquire("first", endpoint("plain"));
+		now.addAndGet(2 * SECOND);
+
+		small.acquire("second", endpoint("plain"));
+		assertEquals(1, small.stats().clientBuckets());
+		assertEquals(1, small.stats().endpointBuckets());
+	}
+
+	private static Method endpoint(final String name) throws NoSuchMethodException {
+		return Endpoints.class.getDeclaredMethod(name);
+	}
+
+	@SuppressWarnings("unused")
+	private static final class Endpoints {
+
+		void plain() {
+			// Empty
+		}
+
+		void other() {
+			// Empty
+		}
+
+		@RateLimit(permitsPerSecond = 0.5, burst = 1)
+		void limited() {
+			// Empty
+		}
+	}
+}
@@ -0,0 +1,69 @@
+package com.mjc.school.controller.async;
+
+import com.mjc.school.controller.exception.ServiceOverloadedException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class BoundedServiceExecutorTest {
+
+	private final BoundedServiceExecutor executor = new BoundedServiceExecutor(1, 1);
+
+	@AfterEach
+	void tearDown() {
+		executor.destroy();
+	}
+
+	@Test
+	void supply_shouldCompleteFutureWithTaskResult() throws Exception {
+		final CompletableFuture<String> future = executor.supply(() -> "result");
+
+		assertEquals("result", future.get(5, TimeUnit.SECONDS));
+	}
+
+	@Test
+	void supply_shouldCompleteFutureExceptionally_whenTaskThrows() {
+		final CompletableFuture<String> future = executor.supply(() -> {
+			throw new IllegalStateException("failure");
+		});
+
+		final ExecutionException e = assertThrows(ExecutionException.class, () -> future.get(5, TimeUnit.SECONDS));
+		assertInstanceOf(IllegalStateException.class, e.getCause());
+	}
+
+	@Test
+	void supply_shouldThrowServiceOverloadedException_whenThreadAndQueueAreBusy() throws Exception {
+		final CountDownLatch started = new CountDownLatch(1);
+		final CountDownLatch release = new CountDownLatch(1);
+		final CompletableFuture<Boolean> running = executor.supply(() -> {
+			started.countDown();
+			return await(release);
+		});
+		started.await(5, TimeUnit.SECONDS);
+		final CompletableFuture<Boolean> queued = executor.supply(() -> true);
+
+		assertThrows(ServiceOverloadedException.class, () -> executor.supply(() -> true));
+		release.countDown();
+		running.get(5, TimeUnit.SECONDS);
+		queued.get(5, TimeUnit.SECONDS);
+		assertEquals(1, executor.stats().rejectedTasks());
+		assertEquals(2, executor.stats().completedTasks());
+	}
+
+	private static boolean await(final CountDownLatch latch) {
+		try {
+			return latch.await(5, TimeUnit.SECONDS);
+		} catch (final InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return false;
+		}
+	}
+}
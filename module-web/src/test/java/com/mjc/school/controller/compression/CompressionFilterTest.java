@@ -0,0 +1,264 @@
+package com.mjc.school.controller.compression;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
+import javax.servlet.http.HttpServletResponse;
+import javax.servlet.http.HttpServletResponseWrapper;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+class CompressionFilterTest {
+
+	private static final int MIN_RESPONSE_SIZE = 1024;
+
+	private final CompressionFilter filter =
+		new CompressionFilter(6, MIN_RESPONSE_SIZE, List.of(MediaType.APPLICATION_JSON, MediaType.parseMediaType("text/*")));
+	private final MockHttpServletResponse response = new MockHttpServletResponse();
+
+	@Test
+	void doFilter_shouldCompressBody_whenItExceedsMinResponseSize() throws Exception {
+		final byte[] body = json(5000);
+
+		filter.doFilter(request("gzip, deflate"), response, writing("application/json", body));
+
+		assertEquals("gzip", response.getHeader("Content-Encoding"));
+		assertEquals("Accept-Encoding", response.getHeader("Vary"));
+		assertNull(response.getHeader("Content-Length"));
+		assertArrayEquals(body, gunzip(response.getContentAsByteArray()));
+		final CompressionStats stats = filter.stats();
+		assertEquals(1, stats.compressedResponses());
+		assertEquals(body.length, stats.bytesIn());
+		assertEquals(response.getContentAsByteArray().length, stats.bytesOut());
+	}
+
+	@Test
+	void doFilter_shouldSendBodyWithLength_whenItIsBelowMinResponseSize() throws Exception {
+		final byte[] body = json(MIN_RESPONSE_SIZE);
+
+		filter.doFilter(request("gzip"), response, writing("application/json", body));
+
+		assertNull(response.getHeader("Content-Encoding"));
+		assertEquals(body.length, response.getContentLength());
+		assertArrayEquals(body, response.getContentAsByteArray());
+		assertEquals(1, filter.stats().uncompressedResponses());
+	}
+
+	@Test
+	void doFilter_shouldNotCompress_whenClientDoesNotAcceptGzip() throws Exception {
+		final byte[] body = json(5000);
+
+		filter.doFilter(request("gzip;q=0, *"), response, writing("application/json", body));
+
+		assertNull(response.getHeader("Content-Encoding"));
+		assertEquals("Accept-Encoding", response.getHeader("Vary"));
+		assertArrayEquals(body, response.getContentAsByteArray());
+	}
+
+	@Test
+	void doFilter_shouldNotCompress_whenMediaTypeIsNotCompressible() throws Exception {
+		final byte[] body = json(5000);
+
+		filter.doFilter(request("gzip"), response, writing("application/cbor", body));
+
+		assertNull(response.getHeader("Content-Encoding"));
+		assertArrayEquals(body, response.getContentAsByteArray());
+	}
+
+	@Test
+	void doFilter_shouldCompressWriterOutput_whenMediaTypeIncludesCharset() throws Exception {
+		final String body = new String(json(5000), StandardCharsets.UTF_8);
+
+		filter.doFilter(request("gzip"), response, (request, servletResponse) -> {
+			servletResponse.setContentType("text/plain;charset=UTF-8");
+			servletResponse.getWriter().write(body);
+		});
+
+		assertEquals("gzip", response.getHeader("Content-Encoding"));
+		assertEquals(body, new String(gunzip(response.getContentAsByteArray()), StandardCharsets.UTF_8));
+	}
+
+	@Test
+	void doFilter_shouldPassCompressedPrefixOn_whenStreamedBodyIsFlushed() throws Exception {
+		final byte[] first = json(3000);
+
+		filter.doFilter(request("gzip"), response, (request, servletResponse) -> {
+			servletResponse.setContentType("application/json");
+			final ServletOutputStream out = servletResponse.getOutputStream();
+			out.write(first);
+			out.flush();
+			assertArrayEquals(first, inflatePrefix(response.getContentAsByteArray(), first.length));
+			out.write(json(3000));
+		});
+
+		assertEquals(6000, gunzip(response.getContentAsByteArray()).length);
+	}
+
+	@Test
+	void doFilter_shouldDiscardGzipStream_whenChainFailsAfterCompressionStarted() {
+		final IllegalStateException failure = new IllegalStateException("Handler failed");
+
+		final IllegalStateException thrown = assertThrows(IllegalStateException.class,
+			() -> filter.doFilter(request("gzip"), response, (request, servletResponse) -> {
+				writing("application/json", json(5000)).doFilter(request, servletResponse);
+				throw failure;
+			}));
+
+		assertSame(failure, thrown);
+		assertThrows(EOFException.class, () -> gunzip(response.getContentAsByteArray()));
+		assertEquals(0, filter.stats().compressedResponses());
+	}
+
+	@Test
+	void doFilter_shouldDropBufferedBody_whenChainFailsBelowMinResponseSize() {
+		assertThrows(IllegalStateException.class,
+			() -> filter.doFilter(request("gzip"), response, (request, servletResponse) -> {
+				writing("application/json", json(100)).doFilter(request, servletResponse);
+				throw new IllegalStateException("Handler failed");
+			}));
+
+		assertEquals(0, response.getContentAsByteArray().length);
+		assertEquals(0, filter.stats().uncompressedResponses());
+	}
+
+	@Test
+	void doFilter_shouldHandWriteListenerToResponseStream_whenBodyIsNotCompressed() throws Exception {
+		final ListeningResponse listening = new ListeningResponse(response);
+		final WriteListener listener = mock(WriteListener.class);
+
+		filter.doFilter(request("gzip"), listening, (request, servletResponse) -> {
+			servletResponse.setContentType("application/json");
+			servletResponse.getOutputStream().setWriteListener(listener);
+			servletResponse.getOutputStream().write(json(5000));
+		});
+
+		assertSame(listener, listening.listener);
+		assertNull(response.getHeader("Content-Encoding"));
+		assertEquals(5000, response.getContentAsByteArray().length);
+	}
+
+	@Test
+	void doFilter_shouldRejectWriteListener_whenBodyIsBeingCompressed() {
+		assertThrows(IllegalStateException.class,
+			() -> filter.doFilter(request("gzip"), response, (request, servletResponse) -> {
+				writing("application/json", json(5000)).doFilter(request, servletResponse);
+				servletResponse.getOutputStream().setWriteListener(mock(WriteListener.class));
+			}));
+	}
+
+	@Test
+	void constructor_shouldThrowIllegalArgumentException_whenLevelIsOutOfRange() {
+		assertThrows(IllegalArgumentException.class, () -> new CompressionFilter(0, 1024, List.of()));
+		assertThrows(IllegalArgumentException.class, () -> new CompressionFilter(10, 1024, List.of()));
+	}
+
+	@Test
+	void acceptsGzip_shouldFollowQualityValues() {
+		assertTrue(CompressionFilter.acceptsGzip("deflate, gzip;q=0.5"));
+		assertTrue(CompressionFilter.acceptsGzip("*"));
+		assertFalse(CompressionFilter.acceptsGzip("identity"));
+		assertFalse(CompressionFilter.acceptsGzip("*;q=1, gzip;q=0"));
+		assertFalse(CompressionFilter.acceptsGzip(null));
+	}
+
+	private static MockHttpServletRequest request(final String acceptEncoding) {
+		final MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/news");
+		request.addHeader("Accept-Encoding", acceptEncoding);
+		return request;
+	}
+
+	private static FilterChain writing(final String contentType, final byte[] body) {
+		return (request, servletResponse) -> {
+			servletResponse.setContentType(contentType);
+			servletResponse.setContentLength(body.length);
+			servletResponse.getOutputStream().write(body);
+		};
+	}
+
+	private static byte[] json(final int length) {
+		final StringBuilder json = new StringBuilder(length);
+		for (int id = 0; json.length() < length; id++) {
+			json.append("{\"id\":").append(id).append(",\"name\":\"Name ").append(id).append("\"},");
+		}
+		return json.substring(0, length).getBytes(StandardCharsets.UTF_8);
+	}
+
+	private static byte[] gunzip(final byte[] compressed) throws IOException {
+		try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+			return in.readAllBytes();
+		}
+	}
+
+	/**
+	 * First {@code length} bytes of a gzip stream that has been flushed but not finished.
+	 */
+	private static byte[] inflatePrefix(final byte[] compressed, final int length) throws IOException {
+		final ByteArrayOutputStream prefix = new ByteArrayOutputStream();
+		try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+			final byte[] chunk = new byte[512];
+			int read;
+			while (prefix.size() < length && (read = in.read(chunk, 0, Math.min(chunk.length, length - prefix.size()))) > 0) {
+				prefix.write(chunk, 0, read);
+			}
+		}
+		return prefix.toByteArray();
+	}
+
+	/**
+	 * Response whose stream accepts a write listener, which the mock response's stream does not.
+	 */
+	private static final class ListeningResponse extends HttpServletResponseWrapper {
+
+		private WriteListener listener;
+
+		ListeningResponse(final HttpServletResponse response) {
+			super(response);
+		}
+
+		@Override
+		public ServletOutputStream getOutputStream() throws IOException {
+			final ServletOutputStream out = super.getOutputStream();
+			return new ServletOutputStream() {
+				@Override
+				public void write(final int b) throws IOException {
+					out.write(b);
+				}
+
+				@Override
+				public void write(final byte[] bytes, final int offset, final int length) throws IOException {
+					out.write(bytes, offset, length);
+				}
+
+				@Override
+				public boolean isReady() {
+					return true;
+				}
+
+				@Override
+				public void setWriteListener(final WriteListener writeListener) {
+					listener = writeListener;
+				}
+			};
+		}
+	}
+}
@@ -0,0 +1,107 @@
+package com.mjc.school.controller.compression;
+
+import com.mjc.school.controller.ControllerTestConfig;
+import com.mjc.school.service.TagService;
+import com.mjc.school.service.dto.TagResponseDto;
+import io.restassured.RestAssured;
+import io.restassured.config.DecoderConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ContextConfiguration;
+
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static com.mjc.school.controller.constants.Constants.ASYNC_ROOT_PATH;
+import static com.mjc.school.controller.constants.Constants.TAG_ROOT_PATH;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.when;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ContextConfiguration(classes = {ControllerTestConfig.class})
+class RestAssuredCompressionTest {
+
+	private static final String BASE_URI = "http://localhost";
+	private static final String REQUEST_MAPPING_URI = "/api/v1";
+
+	@Autowired
+	private TagService tagService;
+	@LocalServerPort
+	private int port;
+	private List<TagResponseDto> manyTags;
+
+	@BeforeEach
+	public void setUp() {
+		reset(tagService);
+
+		RestAssured.baseURI = BASE_URI;
+		RestAssured.port = port;
+		RestAssured.basePath = REQUEST_MAPPING_URI;
+
+		manyTags = LongStream.rangeClosed(1, 200)
+			.mapToObj(id -> new TagResponseDto(id, "Tag name " + id))
+			.toList();
+	}
+
+	@Test
+	void readAll_shouldReturnGzipBody_whenListExceedsMinResponseSize() {
+		when(tagService.readAll(200, 0, "id::asc")).thenReturn(manyTags);
+
+		final TagResponseDto[] body = RestAssured.given()
+			.header("Accept-Encoding", "gzip")
+			.queryParam("limit", 200)
+			.get(TAG_ROOT_PATH)
+			.then().assertThat().statusCode(200)
+			.header("Content-Encoding", "gzip")
+			.header("Vary", containsString("Accept-Encoding"))
+			.extract().as(TagResponseDto[].class);
+		assertEquals(manyTags, List.of(body));
+	}
+
+	@Test
+	void readAll_shouldReturnGzipBody_whenHandlerIsAsynchronous() {
+		when(tagService.readAll(200, 0, "id::asc")).thenReturn(manyTags);
+
+		final TagResponseDto[] body = RestAssured.given()
+			.header("Accept-Encoding", "gzip")
+			.queryParam("limit", 200)
+			.get(ASYNC_ROOT_PATH + TAG_ROOT_PATH)
+			.then().assertThat().statusCode(200)
+			.header("Content-Encoding", "gzip")
+			.extract().as(TagResponseDto[].class);
+		assertEquals(manyTags, List.of(body));
+	}
+
+	@Test
+	void readAll_shouldReturnPlainBody_whenListIsBelowMinResponseSize() {
+		when(tagService.readAll(10, 0, "id::asc")).thenReturn(manyTags.subList(0, 2));
+
+		RestAssured.given()
+			.header("Accept-Encoding", "gzip")
+			.get(TAG_ROOT_PATH)
+			.then().assertThat().statusCode(200)
+			.header("Content-Encoding", nullValue())
+			.header("Content-Length", notNullValue());
+	}
+
+	@Test
+	void readAll_shouldReturnPlainBody_whenClientDoesNotAcceptGzip() {
+		when(tagService.readAll(200, 0, "id::asc")).thenReturn(manyTags);
+
+		RestAssured.given()
+			.config(RestAssured.config().decoderConfig(DecoderConfig.decoderConfig().noContentDecoders()))
+			.header("Accept-Encoding", "identity")
+			.queryParam("limit", 200)
+			.get(TAG_ROOT_PATH)
+			.then().assertThat().statusCode(200)
+			.header("Content-Encoding", nullValue())
+			.header("Vary", containsString("Accept-Encoding"));
+	}
+}
@@ -0,0 +1,71 @@
+package com.mjc.school.controller.config;
+
+import com.mjc.school.controller.ControllerTestConfig;
+import com.mjc.school.service.TagService;
+import com.mjc.school.service.dto.TagResponseDto;
+import io.restassured.RestAssured;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledIf;
+import org.junit.jupiter.api.condition.EnabledIf;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.embedded.tomcat.TomcatWebServer;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.core.NestedExceptionUtils;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static com.mjc.school.controller.constants.Constants.TAG_ROOT_PATH;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+class VirtualThreadConfigTest {
+
+	private static final String VIRTUAL_THREADS_SUPPORTED =
+		"com.mjc.school.controller.config.VirtualThreads#isSupported";
+
+	private static SpringApplicationBuilder application() {
+		return new SpringApplicationBuilder(ControllerTestConfig.class)
+			.properties("server.port=0", "news.threads.virtual=true");
+	}
+
+	@Test
+	@EnabledIf(VIRTUAL_THREADS_SUPPORTED)
+	void requests_shouldRunOnVirtualThreads_whenVirtualThreadsAreEnabled() {
+		final ServletWebServerApplicationContext context =
+			(ServletWebServerApplicationContext) application().run();
+		final ExecutorService executor = (ExecutorService) ((TomcatWebServer) context.getWebServer())
+			.getTomcat().getConnector().getProtocolHandler().getExecutor();
+		final AtomicReference<String> threadName = new AtomicReference<>();
+		when(context.getBean(TagService.class).readById(1L)).thenAnswer(invocation -> {
+			threadName.set(Thread.currentThread().getName());
+			return new TagResponseDto(1L, "Name One");
+		});
+		try {
+			RestAssured.given()
+				.port(context.getWebServer().getPort())
+				.basePath("/api/v1")
+				.get(TAG_ROOT_PATH + "/1")
+				.then().statusCode(200)
+				.body("name", equalTo("Name One"));
+		} finally {
+			context.close();
+		}
+
+		assertTrue(threadName.get().startsWith("http-vt-"));
+		assertTrue(executor.isShutdown());
+	}
+
+	@Test
+	@DisabledIf(VIRTUAL_THREADS_SUPPORTED)
+	void context_shouldFailToStart_whenRuntimeHasNoVirtualThreads() {
+		final Throwable thrown = assertThrows(Exception.class, () -> application().run().close());
+
+		final Throwable cause = NestedExceptionUtils.getMostSpecificCause(thrown);
+		assertInstanceOf(IllegalStateException.class, cause);
+		assertTrue(cause.getMessage().startsWith("Virtual threads require Java 21"));
+	}
+}
@@ -0,0 +1,151 @@
+package com.mjc.school.controller.idempotency;
+
+import com.mjc.school.controller.exception.IdempotencyKeyReusedException;
+import com.mjc.school.controller.exception.IdempotentRequestInProgressException;
+import com.mjc.school.controller.exception.InvalidIdempotencyKeyException;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.mjc.school.controller.idempotency.IdempotencyStore.REPLAYED_HEADER;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class IdempotencyStoreTest {
+
+	private final AtomicLong now = new AtomicLong();
+	private final AtomicInteger calls = new AtomicInteger();
+	private final IdempotencyStore store = new IdempotencyStore(2, Duration.ofNanos(100), Duration.ofSeconds(5), now::get);
+
+	@Test
+	void execute_shouldReplayRecordedResponse_whenKeyAndRequestRepeat() {
+		final ResponseEntity<Integer> first = store.execute("key", "request", this::create);
+		final ResponseEntity<Integer> replay = store.execute("key", "request", this::create);
+
+		assertEquals(1, calls.get());
+		assertEquals(HttpStatus.CREATED, replay.getStatusCode());
+		assertEquals(first.getBody(), replay.getBody());
+		assertNull(first.getHeaders().getFirst(REPLAYED_HEADER));
+		assertEquals("true", replay.getHeaders().getFirst(REPLAYED_HEADER));
+		assertEquals(1, store.stats().replayedResponses());
+	}
+
+	@Test
+	void execute_shouldAlwaysCreate_whenKeyIsMissing() {
+		store.execute(null, "request", this::create);
+		store.execute(null, "request", this::create);
+
+		assertEquals(2, calls.get());
+		assertEquals(0, store.stats().entries());
+	}
+
+	@Test
+	void execute_shouldThrowIdempotencyKeyReusedException_whenRequestDiffers() {
+		store.execute("key", "request", this::create);
+
+		assertThrows(IdempotencyKeyReusedException.class, () -> store.execute("key", "other", this::create));
+		assertEquals(1, calls.get());
+	}
+
+	@Test
+	void execute_shouldThrowInvalidIdempotencyKeyException_whenKeyIsTooLong() {
+		final String key = "k".repeat(IdempotencyStore.MAX_KEY_LENGTH + 1);
+
+		assertThrows(InvalidIdempotencyKeyException.class, () -> store.execute(key, "request", this::create));
+		assertEquals(0, calls.get());
+	}
+
+	@Test
+	void execute_shouldCreateAgain_whenFirstAttemptFailed() {
+		assertThrows(IllegalStateException.class, () -> store.execute("key", "request", () -> {
+			throw new IllegalStateException("failure");
+		}));
+
+		store.execute("key", "request", this::create);
+		assertEquals(1, calls.get());
+	}
+
+	@Test
+	void execute_shouldCreateAgain_whenEntryExpired() {
+		store.execute("key", "request", this::create);
+		now.addAndGet(100);
+
+		store.execute("key", "request", this::create);
+		assertEquals(2, calls.get());
+	}
+
+	@Test
+	void execute_shouldEvictOldestEntry_whenStoreIsFull() {
+		store.execute("first", "request", this::create);
+		store.execute("second", "request", this::create);
+		store.execute("third", "request", this::create);
+
+		store.execute("first", "request", this::create);
+		assertEquals(4, calls.get());
+		assertEquals(2, store.stats().entries());
+		assertEquals(2, store.stats().evictedBeforeExpiry());
+	}
+
+	@Test
+	void execute_shouldWaitForFirstResponse_whenRetryArrivesWhileItRuns() throws Exception {
+		final CountDownLatch started = new CountDownLatch(1);
+		final CountDownLatch release = new CountDownLatch(1);
+		final CompletableFuture<ResponseEntity<Integer>> first = CompletableFuture.supplyAsync(() ->
+			store.execute("key", "request", () -> {
+				started.countDown();
+				await(release);
+				return create();
+			}));
+		started.await(5, TimeUnit.SECONDS);
+		final CompletableFuture<ResponseEntity<Integer>> retry = CompletableFuture.supplyAsync(() ->
+			store.execute("key", "request", this::create));
+
+		release.countDown();
+		assertEquals(first.get(5, TimeUnit.SECONDS).getBody(), retry.get(5, TimeUnit.SECONDS).getBody());
+		assertEquals(1, calls.get());
+	}
+
+	@Test
+	void execute_shouldThrowIdempotentRequestInProgressException_whenFirstResponseTakesLongerThanReplayTimeout()
+			throws Exception {
+		final IdempotencyStore impatient = new IdempotencyStore(2, Duration.ofSeconds(60), Duration.ofMillis(50), now::get);
+		final CountDownLatch started = new CountDownLatch(1);
+		final CountDownLatch release = new CountDownLatch(1);
+		final CompletableFuture<ResponseEntity<Integer>> first = CompletableFuture.supplyAsync(() ->
+			impatient.execute("key", "request", () -> {
+				started.countDown();
+				await(release);
+				return create();
+			}));
+		started.await(5, TimeUnit.SECONDS);
+
+		final IdempotentRequestInProgressException e = assertThrows(IdempotentRequestInProgressException.class,
+			() -> impatient.execute("key", "request", this::create));
+		assertEquals(1, e.getRetryAfterSeconds());
+		assertEquals(1, impatient.stats().replayTimeouts());
+		release.countDown();
+		first.get(5, TimeUnit.SECONDS);
+		assertEquals(first.get().getBody(), impatient.execute("key", "request", this::create).getBody());
+		assertEquals(1, calls.get());
+	}
+
+	private ResponseEntity<Integer> create() {
+		return new ResponseEntity<>(calls.incrementAndGet(), HttpStatus.CREATED);
+	}
+
+	private static void await(final CountDownLatch latch) {
+		try {
+			latch.await(5, TimeUnit.SECONDS);
+		} catch (final InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
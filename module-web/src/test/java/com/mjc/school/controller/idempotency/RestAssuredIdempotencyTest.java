@@ -0,0 +1,171 @@
+package com.mjc.school.controller.idempotency;
+
+import com.mjc.school.controller.ControllerTestConfig;
+import com.mjc.school.service.CommentService;
+import com.mjc.school.service.TagService;
+import com.mjc.school.service.dto.CommentRequestDto;
+import com.mjc.school.service.dto.CommentResponseDto;
+import com.mjc.school.service.dto.TagRequestDto;
+import com.mjc.school.service.dto.TagResponseDto;
+import com.mjc.school.service.exception.EntityConstraintViolationServiceException;
+import io.restassured.RestAssured;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ContextConfiguration;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static com.mjc.school.controller.constants.Constants.COMMENT_ROOT_PATH;
+import static com.mjc.school.controller.constants.Constants.IDEMPOTENCY_KEY_HEADER;
+import static com.mjc.school.controller.constants.Constants.TAG_ROOT_PATH;
+import static com.mjc.school.controller.exception.WebErrorCode.IDEMPOTENCY_KEY_REUSED;
+import static com.mjc.school.controller.exception.WebErrorCode.INVALID_IDEMPOTENCY_KEY;
+import static com.mjc.school.controller.idempotency.IdempotencyStore.REPLAYED_HEADER;
+import static com.mjc.school.service.exception.ServiceErrorCode.TAG_CONSTRAINT_VIOLATION;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ContextConfiguration(classes = {ControllerTestConfig.class})
+class RestAssuredIdempotencyTest {
+
+	private static final String BASE_URI = "http://localhost";
+	private static final String REQUEST_MAPPING_URI = "/api/v1";
+	private static final String CONTENT_TYPE = "application/json";
+
+	@Autowired
+	private CommentService commentService;
+	@Autowired
+	private TagService tagService;
+	@LocalServerPort
+	private int port;
+
+	@BeforeEach
+	public void setUp() {
+		reset(commentService);
+		reset(tagService);
+
+		RestAssured.baseURI = BASE_URI;
+		RestAssured.port = port;
+		RestAssured.basePath = REQUEST_MAPPING_URI;
+	}
+
+	@Test
+	void createComment_shouldReplayFirstResponse_whenIdempotencyKeyIsRepeated() {
+		final String key = UUID.randomUUID().toString();
+		final CommentRequestDto request = new CommentRequestDto(null, "Posted twice", 1L);
+		final LocalDateTime date = LocalDateTime.now();
+		when(commentService.create(request)).thenReturn(new CommentResponseDto(7L, "Posted twice", 1L, date, date));
+		final int EXPECTED_STATUS_CODE = 201;
+
+		RestAssured.given()
+			.contentType(CONTENT_TYPE)
+			.header(IDEMPOTENCY_KEY_HEADER, key)
+			.body(request)
+			.when().post(COMMENT_ROOT_PATH)
+			.then().statusCode(EXPECTED_STATUS_CODE)
+			.header(REPLAYED_HEADER, nullValue());
+		RestAssured.given()
+			.contentType(CONTENT_TYPE)
+			.header(IDEMPOTENCY_KEY_HEADER, key)
+			.body(request)
+			.when().post(COMMENT_ROOT_PATH)
+			.then().statusCode(EXPECTED_STATUS_CODE)
+			.header(REPLAYED_HEADER, equalTo("true"))
+			.body("id", equalTo(7))
+			.body("content", equalTo("Posted twice"));
+		verify(commentService, times(1)).create(request);
+	}
+
+	@Test
+	void createComment_shouldReturn400_whenIdempotencyKeyIsTooLong() {
+		final int EXPECTED_STATUS_CODE = 400;	// HttpStatus.BAD_REQUEST
+
+		RestAssured.given()
+			.contentType(CONTENT_TYPE)
+			.header(IDEMPOTENCY_KEY_HEADER, "k".repeat(IdempotencyStore.MAX_KEY_LENGTH + 1))
+			.body(new CommentRequestDto(null, "Some content", 1L))
+			.when().post(COMMENT_ROOT_PATH)
+			.then().statusCode(EXPECTED_STATUS_CODE)
+			.body("code", equalTo(INVALID_IDEMPOTENCY_KEY.getCode()));
+		verifyNoInteractions(commentService);
+	}
+
+	@Test
+	void createTag_shouldReplayFirstResponse_whenIdempotencyKeyIsRepeated() {
+		final String key = UUID.randomUUID().toString();
+		final TagRequestDto request = new TagRequestDto(null, "Retried Name");
+		when(tagService.create(request)).thenReturn(new TagResponseDto(3L, "Retried Name"));
+		final int EXPECTED_STATUS_CODE = 201;
+
+		RestAssured.given()
+			.contentType(CONTENT_TYPE)
+			.header(IDEMPOTENCY_KEY_HEADER, key)
+			.body(request)
+			.when().post(TAG_ROOT_PATH)
+			.then().statusCode(EXPECTED_STATUS_CODE)
+			.header(REPLAYED_HEADER, nullValue());
+		RestAssured.given()
+			.contentType(CONTENT_TYPE)
+			.header(IDEMPOTENCY_KEY_HEADER, key)
+			.body(request)
+			.when().post(TAG_ROOT_PATH)
+			.then().statusCode(EXPECTED_STATUS_CODE)
+			.header(REPLAYED_HEADER, equalTo("true"))
+			.body("id", equalTo(3))
+			.body("name", equalTo("Retried Name"));
+		verify(tagService, times(1)).create(request);
+	}
+
+	@Test
+	void createTag_shouldReturn422_whenIdempotencyKeyIsReusedForDifferentRequest() {
+		final String key = UUID.randomUUID().toString();
+		final TagRequestDto request = new TagRequestDto(null, "First Name");
+		when(tagService.create(request)).thenReturn(new TagResponseDto(3L, "First Name"));
+		final int EXPECTED_STATUS_CODE = 422;	// HttpStatus.UNPROCESSABLE_ENTITY
+
+		RestAssured.given()
+			.contentType(CONTENT_TYPE)
+			.header(IDEMPOTENCY_KEY_HEADER, key)
+			.body(request)
+			.when().post(TAG_ROOT_PATH);
+		RestAssured.given()
+			.contentType(CONTENT_TYPE)
+			.header(IDEMPOTENCY_KEY_HEADER, key)
+			.body(new TagRequestDto(null, "Second Name"))
+			.when().post(TAG_ROOT_PATH)
+			.then().statusCode(EXPECTED_STATUS_CODE)
+			.body("code", equalTo(IDEMPOTENCY_KEY_REUSED.getCode()));
+		verify(tagService, times(1)).create(request);
+	}
+
+	@Test
+	void createTag_shouldCallServiceAgain_whenFirstAttemptFailed() {
+		final String key = UUID.randomUUID().toString();
+		final TagRequestDto request = new TagRequestDto(null, "Taken Name");
+		when(tagService.create(request)).thenThrow(new EntityConstraintViolationServiceException(
+			TAG_CONSTRAINT_VIOLATION.getMessage(),
+			TAG_CONSTRAINT_VIOLATION.getCode()
+		));
+		final int EXPECTED_STATUS_CODE = 409;	// HttpStatus.CONFLICT
+
+		for (int attempt = 0; attempt < 2; attempt++) {
+			RestAssured.given()
+				.contentType(CONTENT_TYPE)
+				.header(IDEMPOTENCY_KEY_HEADER, key)
+				.body(request)
+				.when().post(TAG_ROOT_PATH)
+				.then().statusCode(EXPECTED_STATUS_CODE);
+		}
+		verify(tagService, times(2)).create(request);
+	}
+}
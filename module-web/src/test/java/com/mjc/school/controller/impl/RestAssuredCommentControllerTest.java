@@ -2,6 +2,7 @@ package com.mjc.school.controller.impl;
 
 import com.mjc.school.controller.ControllerTestConfig;
 import com.mjc.school.service.CommentService;
+import com.mjc.school.service.dto.CommentPageResponseDto;
 import com.mjc.school.service.dto.CommentRequestDto;
 import com.mjc.school.service.dto.CommentResponseDto;
 import com.mjc.school.service.exception.EntityNotFoundException;
@@ -21,6 +22,7 @@ import java.util.List;
 import static com.mjc.school.controller.constants.Constants.COMMENT_ROOT_PATH;
 import static com.mjc.school.controller.constants.Constants.NEWS_ROOT_PATH;
 import static com.mjc.school.service.constants.Constants.COMMENT_ENTITY_NAME;
+import static com.mjc.school.service.constants.Constants.COMMENT_PAGE_LIMIT_MAX;
 import static com.mjc.school.service.constants.Constants.NEWS_ENTITY_NAME;
 import static com.mjc.school.service.exception.ServiceErrorCode.ENTITY_NOT_FOUND_BY_ID;
 import static org.hamcrest.Matchers.containsString;
@@ -113,7 +115,7 @@ class RestAssuredCommentControllerTest {
 		@Test
 		void readCommentsByNewsId_shouldReturn404_whenNewsNotFoundById() {
 			final long newsId = 99L;
-			when(commentService.readCommentsByNewsId(newsId)).thenThrow(new EntityNotFoundException(
+			when(commentService.readCommentsByNewsId(newsId, 10, 0)).thenThrow(new EntityNotFoundException(
 				String.format(ENTITY_NOT_FOUND_BY_ID.getMessage(), NEWS_ENTITY_NAME, newsId),
 				ENTITY_NOT_FOUND_BY_ID.getCode()
 			));
@@ -122,13 +124,13 @@ class RestAssuredCommentControllerTest {
 			RestAssured.given()
 				.get(NEWS_ROOT_PATH + "/" + newsId + "/comments")
 				.then().assertThat().statusCode(EXPECTED_STATUS_CODE);
-			verify(commentService, times(1)).readCommentsByNewsId(newsId);
+			verify(commentService, times(1)).readCommentsByNewsId(newsId, 10, 0);
 		}
 
 		@Test
 		void readCommentsByNewsId_shouldReturn200_whenRequestIsCorrectAndNewsExists() {
 			final long newsId = 1L;
-			when(commentService.readCommentsByNewsId(newsId)).thenReturn(comments);
+			when(commentService.readCommentsByNewsId(newsId, 10, 0)).thenReturn(comments);
 			final int EXPECTED_STATUS_CODE = 200;
 
 			RestAssured.given()
@@ -136,7 +138,46 @@ class RestAssuredCommentControllerTest {
 				.then().assertThat().statusCode(EXPECTED_STATUS_CODE)
 				.body(containsString(comments.get(0).content()))
 				.body(containsString(comments.get(1).content()));
-			verify(commentService, times(1)).readCommentsByNewsId(newsId);
+			verify(commentService, times(1)).readCommentsByNewsId(newsId, 10, 0);
+		}
+
+		@Test
+		void readCommentsByNewsId_shouldPassPageParams_whenLimitAndOffsetSupplied() {
+			final long newsId = 1L;
+			when(commentService.readCommentsByNewsId(newsId, 1, 1)).thenReturn(comments.subList(1, 2));
+			final int EXPECTED_STATUS_CODE = 200;
+
+			RestAssured.given()
+				.get(NEWS_ROOT_PATH + "/" + newsId + "/comments?limit=1&offset=1")
+				.then().assertThat().statusCode(EXPECTED_STATUS_CODE)
+				.body("size()", equalTo(1))
+				.body("[0].content", equalTo(comments.get(1).content()));
+			verify(commentService, times(1)).readCommentsByNewsId(newsId, 1, 1);
+		}
+
+		@Test
+		void readCommentsByNewsIdAfter_shouldReturnPageWithCursor_whenAfterParamSupplied() {
+			final long newsId = 1L;
+			when(commentService.readCommentsByNewsIdAfter(newsId, 0L, 2))
+				.thenReturn(new CommentPageResponseDto(comments, comments.get(1).id()));
+			final int EXPECTED_STATUS_CODE = 200;
+
+			RestAssured.given()
+				.get(NEWS_ROOT_PATH + "/" + newsId + "/comments?after=0&limit=2")
+				.then().assertThat().statusCode(EXPECTED_STATUS_CODE)
+				.body("comments.size()", equalTo(2))
+				.body("nextCursor", equalTo(comments.get(1).id().intValue()));
+			verify(commentService, times(1)).readCommentsByNewsIdAfter(newsId, 0L, 2);
+		}
+
+		@Test
+		void readCommentsByNewsIdAfter_shouldReturn400_whenLimitExceedsMaximum() {
+			final int EXPECTED_STATUS_CODE = 400;	// HttpStatus.BAD_REQUEST
+
+			RestAssured.given()
+				.get(NEWS_ROOT_PATH + "/1/comments?after=0&limit=" + (COMMENT_PAGE_LIMIT_MAX + 1))
+				.then().assertThat().statusCode(EXPECTED_STATUS_CODE);
+			verifyNoInteractions(commentService);
 		}
 	}
 
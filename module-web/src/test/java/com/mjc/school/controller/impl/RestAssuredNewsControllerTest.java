@@ -2,6 +2,8 @@ package com.mjc.school.controller.impl;
 
 import com.mjc.school.controller.ControllerTestConfig;
 import com.mjc.school.service.NewsService;
+import com.mjc.school.service.dto.AuthorResponseDto;
+import com.mjc.school.service.dto.NewsDetailResponseDto;
 import com.mjc.school.service.dto.NewsRequestDto;
 import com.mjc.school.service.dto.NewsResponseDto;
 import com.mjc.school.service.exception.EntityConstraintViolationServiceException;
@@ -20,14 +22,18 @@ import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 
 import static com.mjc.school.controller.constants.Constants.NEWS_ROOT_PATH;
 import static com.mjc.school.service.constants.Constants.AUTHOR_ENTITY_NAME;
+import static com.mjc.school.service.constants.Constants.COMMENT_PAGE_LIMIT_MAX;
 import static com.mjc.school.service.constants.Constants.NEWS_ENTITY_NAME;
 import static com.mjc.school.service.exception.ServiceErrorCode.ENTITY_NOT_FOUND_BY_ID;
 import static com.mjc.school.service.exception.ServiceErrorCode.NEWS_CONSTRAINT_VIOLATION;
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasKey;
+import static org.hamcrest.Matchers.not;
 import static org.mockito.Mockito.reset;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -66,7 +72,7 @@ class RestAssuredNewsControllerTest {
 			date,
 			authorId,
 			new ArrayList<>(),
-			new ArrayList<>()
+			0
 		);
 		final NewsResponseDto news2 = new NewsResponseDto(
 			2L,
@@ -76,7 +82,7 @@ class RestAssuredNewsControllerTest {
 			date,
 			authorId,
 			new ArrayList<>(),
-			new ArrayList<>()
+			0
 		);
 		news = Arrays.asList(news1, news2);
 	}
@@ -96,6 +102,37 @@ class RestAssuredNewsControllerTest {
 		verify(newsService, times(1)).readAll(10, 0, "id::asc");
 	}
 
+	@Test
+	void readAll_shouldReturnOnlySelectedFields_whenFieldsParamSupplied() {
+		final List<String> fields = List.of("id", "title");
+		when(newsService.readAll(10, 0, "id::asc", fields)).thenReturn(List.of(
+			Map.of("id", 1L, "title", news.get(0).title()),
+			Map.of("id", 2L, "title", news.get(1).title())
+		));
+		final int EXPECTED_STATUS_CODE = 200;
+
+		RestAssured.given()
+			.get(NEWS_ROOT_PATH + "?fields=id,title")
+			.then().assertThat().statusCode(EXPECTED_STATUS_CODE)
+			.body("[0].title", equalTo(news.get(0).title()))
+			.body("[0]", not(hasKey("content")));
+		verify(newsService, times(1)).readAll(10, 0, "id::asc", fields);
+	}
+
+	@Test
+	void readById_shouldReturnOnlySelectedFields_whenFieldsParamSupplied() {
+		final long newsId = 1L;
+		when(newsService.readById(newsId, List.of("title"))).thenReturn(Map.of("title", news.get(0).title()));
+		final int EXPECTED_STATUS_CODE = 200;
+
+		RestAssured.given()
+			.get(NEWS_ROOT_PATH + "/" + newsId + "?fields=title")
+			.then().assertThat().statusCode(EXPECTED_STATUS_CODE)
+			.body("title", equalTo(news.get(0).title()))
+			.body("$", not(hasKey("id")));
+		verify(newsService, times(1)).readById(newsId, List.of("title"));
+	}
+
 	@Nested
 	class TestReadById {
 
@@ -130,6 +167,73 @@ class RestAssuredNewsControllerTest {
 		}
 	}
 
+	@Nested
+	class TestReadNewsDetail {
+
+		@Test
+		void readNewsDetail_shouldReturn404_whenEntityNotFoundById() {
+			final long newsId = 99L;
+			when(newsService.readNewsDetail(newsId, 10, 0)).thenThrow(new EntityNotFoundException(
+				String.format(ENTITY_NOT_FOUND_BY_ID.getMessage(), NEWS_ENTITY_NAME, newsId),
+				ENTITY_NOT_FOUND_BY_ID.getCode()
+			));
+			final int EXPECTED_STATUS_CODE = 404;
+
+			RestAssured.given()
+				.get(NEWS_ROOT_PATH + "/" + newsId + "/detail")
+				.then().assertThat().statusCode(EXPECTED_STATUS_CODE);
+			verify(newsService, times(1)).readNewsDetail(newsId, 10, 0);
+		}
+
+		@Test
+		void readNewsDetail_shouldReturn400_whenCommentLimitIsZero() {
+			final int EXPECTED_STATUS_CODE = 400;
+
+			RestAssured.given()
+				.get(NEWS_ROOT_PATH + "/1/detail?comment_limit=0")
+				.then().assertThat().statusCode(EXPECTED_STATUS_CODE);
+			verifyNoInteractions(newsService);
+		}
+
+		@Test
+		void readNewsDetail_shouldReturn400_whenCommentLimitExceedsMaximum() {
+			final int EXPECTED_STATUS_CODE = 400;
+
+			RestAssured.given()
+				.get(NEWS_ROOT_PATH + "/1/detail?comment_limit=" + (COMMENT_PAGE_LIMIT_MAX + 1))
+				.then().assertThat().statusCode(EXPECTED_STATUS_CODE);
+			verifyNoInteractions(newsService);
+		}
+
+		@Test
+		void readNewsDetail_shouldReturn200_whenRequestIsCorrectAndEntityExists() {
+			final long newsId = 1L;
+			final NewsResponseDto source = news.get(0);
+			final NewsDetailResponseDto detail = new NewsDetailResponseDto(
+				newsId,
+				source.title(),
+				source.content(),
+				source.createDate(),
+				source.lastUpdateDate(),
+				new AuthorResponseDto(source.authorId(), "Author Name", source.createDate(), source.lastUpdateDate()),
+				new ArrayList<>(),
+				42,
+				new ArrayList<>()
+			);
+			when(newsService.readNewsDetail(newsId, 5, 10)).thenReturn(detail);
+			final int EXPECTED_STATUS_CODE = 200;
+
+			RestAssured.given()
+				.get(NEWS_ROOT_PATH + "/" + newsId + "/detail?comment_limit=5&comment_offset=10")
+				.then().assertThat().statusCode(EXPECTED_STATUS_CODE)
+				.body("id", equalTo((int) newsId))
+				.body("title", equalTo(source.title()))
+				.body("author.name", equalTo("Author Name"))
+				.body("commentCount", equalTo(42));
+			verify(newsService, times(1)).readNewsDetail(newsId, 5, 10);
+		}
+	}
+
 	@Test
 	void readNewsByParams_shouldReturn200_whenRequestIsCorrect() {
 		final String authorName = "Author Name";
@@ -263,10 +367,9 @@ class RestAssuredNewsControllerTest {
 			final NewsRequestDto request = new NewsRequestDto(null, title, content, authorId, null);
 			final LocalDateTime date = LocalDateTime.now();
 			final List<Long> tags = new ArrayList<>();
-			final List<Long> comments = new ArrayList<>();
 			final int initialSize = news.size();
 			final NewsResponseDto created =
-				new NewsResponseDto((long) (initialSize + 1), title, content, date, date, authorId, tags, comments);
+				new NewsResponseDto((long) (initialSize + 1), title, content, date, date, authorId, tags, 0);
 			when(newsService.create(request)).thenReturn(created);
 			final int EXPECTED_STATUS_CODE = 201;
 
@@ -452,9 +555,8 @@ class RestAssuredNewsControllerTest {
 				new NewsRequestDto(newsId, updatedTitle, updatedContent, authorId, null);
 			final LocalDateTime date = LocalDateTime.now();
 			final List<Long> tags = new ArrayList<>();
-			final List<Long> comments = new ArrayList<>();
 			final NewsResponseDto updated =
-				new NewsResponseDto(newsId, updatedTitle, updatedContent, date, date, authorId, tags, comments);
+				new NewsResponseDto(newsId, updatedTitle, updatedContent, date, date, authorId, tags, 0);
 			when(newsService.update(request)).thenReturn(updated);
 			final int EXPECTED_STATUS_CODE = 200;
 
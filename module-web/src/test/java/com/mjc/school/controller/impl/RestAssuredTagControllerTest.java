@@ -20,12 +20,14 @@ import java.util.List;
 
 import static com.mjc.school.controller.constants.Constants.NEWS_ROOT_PATH;
 import static com.mjc.school.controller.constants.Constants.TAG_ROOT_PATH;
+import static com.mjc.school.controller.exception.WebErrorCode.INTERNAL_ERROR;
 import static com.mjc.school.service.constants.Constants.NEWS_ENTITY_NAME;
 import static com.mjc.school.service.constants.Constants.TAG_ENTITY_NAME;
 import static com.mjc.school.service.exception.ServiceErrorCode.ENTITY_NOT_FOUND_BY_ID;
 import static com.mjc.school.service.exception.ServiceErrorCode.TAG_CONSTRAINT_VIOLATION;
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
 import static org.mockito.Mockito.reset;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -73,6 +75,27 @@ class RestAssuredTagControllerTest {
 		verify(tagService, times(1)).readAll(10, 0, "id::asc");
 	}
 
+	@Test
+	void readAll_shouldReturn503_whenApiVersionIsNotSupported() {
+		final int EXPECTED_STATUS_CODE = 503;
+
+		RestAssured.given()
+			.basePath("/api/v2")
+			.get(TAG_ROOT_PATH)
+			.then().assertThat().statusCode(EXPECTED_STATUS_CODE)
+			.body(containsString("Api version '2' is not supported."));
+		verifyNoInteractions(tagService);
+	}
+
+	@Test
+	void readAll_shouldReturn404_whenPathIsUnknownForSupportedVersion() {
+		final int EXPECTED_STATUS_CODE = 404;
+
+		RestAssured.given()
+			.get("/unknown")
+			.then().assertThat().statusCode(EXPECTED_STATUS_CODE);
+	}
+
 	@Nested
 	class TestReadById {
 
@@ -80,17 +103,33 @@ class RestAssuredTagControllerTest {
 		void readById_shouldReturn404_whenEntityNotFoundById() {
 			final long tagId = 99L;
 			when(tagService.readById(tagId)).thenThrow(new EntityNotFoundException(
-				String.format(ENTITY_NOT_FOUND_BY_ID.getMessage(), TAG_ENTITY_NAME, tagId),
-				ENTITY_NOT_FOUND_BY_ID.getCode()
+				ENTITY_NOT_FOUND_BY_ID.getMessage(),
+				ENTITY_NOT_FOUND_BY_ID.getCode(),
+				TAG_ENTITY_NAME, tagId
 			));
 			final int EXPECTED_STATUS_CODE = 404;
 
 			RestAssured.given()
 				.get(TAG_ROOT_PATH + "/" + tagId)
-				.then().assertThat().statusCode(EXPECTED_STATUS_CODE);
+				.then().assertThat().statusCode(EXPECTED_STATUS_CODE)
+				.body("code", equalTo(ENTITY_NOT_FOUND_BY_ID.getCode()))
+				.body("errorDetails", equalTo(String.format(ENTITY_NOT_FOUND_BY_ID.getMessage(), TAG_ENTITY_NAME, tagId)));
 			verify(tagService, times(1)).readById(tagId);
 		}
 
+		@Test
+		void readById_shouldReturn500WithoutDetails_whenServiceFailsUnexpectedly() {
+			final long tagId = 3L;
+			when(tagService.readById(tagId)).thenThrow(new IllegalStateException("Connection pool exhausted"));
+			final int EXPECTED_STATUS_CODE = 500;
+
+			RestAssured.given()
+				.get(TAG_ROOT_PATH + "/" + tagId)
+				.then().assertThat().statusCode(EXPECTED_STATUS_CODE)
+				.body("code", equalTo(INTERNAL_ERROR.getCode()))
+				.body(not(containsString("Connection pool")));
+		}
+
 		@Test
 		void readById_shouldReturn200_whenRequestIsCorrectAndEntityExists() {
 			final int tagId = 2;
@@ -0,0 +1,158 @@
+package com.mjc.school.controller.impl.async;
+
+import com.mjc.school.controller.ControllerTestConfig;
+import com.mjc.school.service.AuthorService;
+import com.mjc.school.service.dto.AuthorRequestDto;
+import com.mjc.school.service.dto.AuthorResponseDto;
+import com.mjc.school.service.exception.EntityNotFoundException;
+import io.restassured.RestAssured;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ContextConfiguration;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static com.mjc.school.controller.constants.Constants.AUTHOR_ROOT_PATH;
+import static com.mjc.school.controller.constants.Constants.NEWS_ROOT_PATH;
+import static com.mjc.school.service.constants.Constants.AUTHOR_ENTITY_NAME;
+import static com.mjc.school.service.exception.ServiceErrorCode.ENTITY_NOT_FOUND_BY_ID;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasKey;
+import static org.hamcrest.Matchers.not;
+import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ContextConfiguration(classes = {ControllerTestConfig.class})
+class RestAssuredAuthorAsyncControllerTest {
+
+	private static final String BASE_URI = "http://localhost";
+	private static final String REQUEST_MAPPING_URI = "/api/v1/async";
+	private static final String CONTENT_TYPE = "application/json";
+
+	@Autowired
+	private AuthorService authorService;
+	@LocalServerPort
+	private int port;
+	private List<AuthorResponseDto> authors;
+
+	@BeforeEach
+	public void setUp() {
+		reset(authorService);
+
+		RestAssured.baseURI = BASE_URI;
+		RestAssured.port = port;
+		RestAssured.basePath = REQUEST_MAPPING_URI;
+
+		final LocalDateTime date = LocalDateTime.now();
+		authors = Arrays.asList(
+			new AuthorResponseDto(1L, "Name One", date, date),
+			new AuthorResponseDto(2L, "Name Two", date, date)
+		);
+	}
+
+	@Test
+	void readAll_shouldReturn200_whenRequestIsCorrect() {
+		when(authorService.readAll(10, 0, "name::desc")).thenReturn(authors);
+		final int EXPECTED_STATUS_CODE = 200;
+
+		RestAssured.given()
+			.get(AUTHOR_ROOT_PATH + "?order_by=name::desc")
+			.then().assertThat().statusCode(EXPECTED_STATUS_CODE)
+			.body(containsString(authors.get(0).name()))
+			.body(containsString(authors.get(1).name()));
+		verify(authorService, times(1)).readAll(10, 0, "name::desc");
+	}
+
+	@Test
+	void readById_shouldReturnOnlySelectedFields_whenFieldsParamSupplied() {
+		final long authorId = 1L;
+		when(authorService.readById(authorId, List.of("name"))).thenReturn(Map.of("name", authors.get(0).name()));
+		final int EXPECTED_STATUS_CODE = 200;
+
+		RestAssured.given()
+			.get(AUTHOR_ROOT_PATH + "/" + authorId + "?fields=name")
+			.then().assertThat().statusCode(EXPECTED_STATUS_CODE)
+			.body("name", equalTo(authors.get(0).name()))
+			.body("$", not(hasKey("id")));
+		verify(authorService, times(1)).readById(authorId, List.of("name"));
+	}
+
+	@Test
+	void readById_shouldReturn404_whenServiceThrowsEntityNotFoundException() {
+		final long authorId = 99L;
+		when(authorService.readById(authorId)).thenThrow(new EntityNotFoundException(
+			String.format(ENTITY_NOT_FOUND_BY_ID.getMessage(), AUTHOR_ENTITY_NAME, authorId),
+			ENTITY_NOT_FOUND_BY_ID.getCode()
+		));
+		final int EXPECTED_STATUS_CODE = 404;
+
+		RestAssured.given()
+			.get(AUTHOR_ROOT_PATH + "/" + authorId)
+			.then().assertThat().statusCode(EXPECTED_STATUS_CODE)
+			.body("code", equalTo(ENTITY_NOT_FOUND_BY_ID.getCode()));
+		verify(authorService, times(1)).readById(authorId);
+	}
+
+	@Test
+	void readByNewsId_shouldReturn200_whenRequestIsCorrectAndNewsExists() {
+		final long newsId = 1L;
+		when(authorService.readAuthorByNewsId(newsId)).thenReturn(authors.get(0));
+		final int EXPECTED_STATUS_CODE = 200;
+
+		RestAssured.given()
+			.get(NEWS_ROOT_PATH + "/" + newsId + "/author")
+			.then().assertThat().statusCode(EXPECTED_STATUS_CODE)
+			.body("id", equalTo(1))
+			.body("name", equalTo(authors.get(0).name()));
+		verify(authorService, times(1)).readAuthorByNewsId(newsId);
+	}
+
+	@Test
+	void create_shouldReturn400_whenNameIsTooShort() {
+		final AuthorRequestDto request = new AuthorRequestDto(null, "N");
+		final int EXPECTED_STATUS_CODE = 400;	// HttpStatus.BAD_REQUEST
+
+		RestAssured.given()
+			.contentType(CONTENT_TYPE)
+			.body(request)
+			.when().post(AUTHOR_ROOT_PATH)
+			.then().statusCode(EXPECTED_STATUS_CODE);
+		verifyNoInteractions(authorService);
+	}
+
+	@Test
+	void update_shouldReturn409_whenPathIdAndRequestIdDoNotMatch() {
+		final AuthorRequestDto request = new AuthorRequestDto(2L, "Updated Name");
+		final int EXPECTED_STATUS_CODE = 409;	// HttpStatus.CONFLICT
+
+		RestAssured.given()
+			.contentType(CONTENT_TYPE)
+			.body(request)
+			.when().patch(AUTHOR_ROOT_PATH + "/1")
+			.then().statusCode(EXPECTED_STATUS_CODE);
+		verifyNoInteractions(authorService);
+	}
+
+	@Test
+	void deleteById_shouldReturn204_whenEntityExists() {
+		final long authorId = 1L;
+		when(authorService.deleteById(authorId)).thenReturn(true);
+		final int EXPECTED_STATUS_CODE = 204;
+
+		RestAssured.given()
+			.when().delete(AUTHOR_ROOT_PATH + "/" + authorId)
+			.then().statusCode(EXPECTED_STATUS_CODE);
+		verify(authorService, times(1)).deleteById(authorId);
+	}
+}
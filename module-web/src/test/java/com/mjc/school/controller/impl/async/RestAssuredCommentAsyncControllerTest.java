@@ -0,0 +1,167 @@
+package com.mjc.school.controller.impl.async;
+
+import com.mjc.school.controller.ControllerTestConfig;
+import com.mjc.school.service.CommentService;
+import com.mjc.school.service.dto.CommentRequestDto;
+import com.mjc.school.service.dto.CommentResponseDto;
+import com.mjc.school.service.exception.EntityNotFoundException;
+import io.restassured.RestAssured;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ContextConfiguration;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static com.mjc.school.controller.constants.Constants.COMMENT_ROOT_PATH;
+import static com.mjc.school.controller.constants.Constants.NEWS_ROOT_PATH;
+import static com.mjc.school.service.constants.Constants.COMMENT_ENTITY_NAME;
+import static com.mjc.school.service.exception.ServiceErrorCode.ENTITY_NOT_FOUND_BY_ID;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasKey;
+import static org.hamcrest.Matchers.not;
+import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ContextConfiguration(classes = {ControllerTestConfig.class})
+class RestAssuredCommentAsyncControllerTest {
+
+	private static final String BASE_URI = "http://localhost";
+	private static final String REQUEST_MAPPING_URI = "/api/v1/async";
+	private static final String CONTENT_TYPE = "application/json";
+
+	@Autowired
+	private CommentService commentService;
+	@LocalServerPort
+	private int port;
+	private List<CommentResponseDto> comments;
+
+	@BeforeEach
+	public void setUp() {
+		reset(commentService);
+
+		RestAssured.baseURI = BASE_URI;
+		RestAssured.port = port;
+		RestAssured.basePath = REQUEST_MAPPING_URI;
+
+		final LocalDateTime date = LocalDateTime.now();
+		final long newsId = 1L;
+		comments = Arrays.asList(
+			new CommentResponseDto(1L, "Content One", newsId, date, date),
+			new CommentResponseDto(2L, "Content Two", newsId, date, date)
+		);
+	}
+
+	@Test
+	void readAll_shouldReturn200_whenRequestIsCorrect() {
+		when(commentService.readAll(10, 0, "id::asc")).thenReturn(comments);
+		final int EXPECTED_STATUS_CODE = 200;
+
+		RestAssured.given()
+			.get(COMMENT_ROOT_PATH)
+			.then().assertThat().statusCode(EXPECTED_STATUS_CODE)
+			.body(containsString(comments.get(0).content()))
+			.body(containsString(comments.get(1).content()));
+		verify(commentService, times(1)).readAll(10, 0, "id::asc");
+	}
+
+	@Test
+	void readAll_shouldReturnOnlySelectedFields_whenFieldsParamSupplied() {
+		final List<String> fields = List.of("id", "content");
+		when(commentService.readAll(10, 0, "id::asc", fields)).thenReturn(List.of(
+			Map.of("id", 1L, "content", comments.get(0).content()),
+			Map.of("id", 2L, "content", comments.get(1).content())
+		));
+		final int EXPECTED_STATUS_CODE = 200;
+
+		RestAssured.given()
+			.get(COMMENT_ROOT_PATH + "?fields=id,content")
+			.then().assertThat().statusCode(EXPECTED_STATUS_CODE)
+			.body("[0].content", equalTo(comments.get(0).content()))
+			.body("[0]", not(hasKey("newsId")));
+		verify(commentService, times(1)).readAll(10, 0, "id::asc", fields);
+	}
+
+	@Test
+	void readById_shouldReturn404_whenServiceThrowsEntityNotFoundException() {
+		final long commentId = 99L;
+		when(commentService.readById(commentId)).thenThrow(new EntityNotFoundException(
+			String.format(ENTITY_NOT_FOUND_BY_ID.getMessage(), COMMENT_ENTITY_NAME, commentId),
+			ENTITY_NOT_FOUND_BY_ID.getCode()
+		));
+		final int EXPECTED_STATUS_CODE = 404;
+
+		RestAssured.given()
+			.get(COMMENT_ROOT_PATH + "/" + commentId)
+			.then().assertThat().statusCode(EXPECTED_STATUS_CODE)
+			.body("code", equalTo(ENTITY_NOT_FOUND_BY_ID.getCode()));
+		verify(commentService, times(1)).readById(commentId);
+	}
+
+	@Test
+	void readCommentsByNewsId_shouldReturn200_whenRequestIsCorrectAndNewsExists() {
+		final long newsId = 1L;
+		when(commentService.readCommentsByNewsId(newsId, 10, 0)).thenReturn(comments);
+		final int EXPECTED_STATUS_CODE = 200;
+
+		RestAssured.given()
+			.get(NEWS_ROOT_PATH + "/" + newsId + "/comments")
+			.then().assertThat().statusCode(EXPECTED_STATUS_CODE)
+			.body(containsString(comments.get(0).content()))
+			.body(containsString(comments.get(1).content()));
+		verify(commentService, times(1)).readCommentsByNewsId(newsId, 10, 0);
+	}
+
+	@Test
+	void create_shouldReturn201_whenRequestIsCorrect() {
+		final CommentRequestDto request = new CommentRequestDto(null, "New Content", 1L);
+		final LocalDateTime date = LocalDateTime.now();
+		when(commentService.create(request))
+			.thenReturn(new CommentResponseDto(3L, request.content(), request.newsId(), date, date));
+		final int EXPECTED_STATUS_CODE = 201;
+
+		RestAssured.given()
+			.contentType(CONTENT_TYPE)
+			.body(request)
+			.when().post(COMMENT_ROOT_PATH)
+			.then().statusCode(EXPECTED_STATUS_CODE)
+			.body("id", equalTo(3))
+			.body("content", equalTo(request.content()));
+		verify(commentService, times(1)).create(request);
+	}
+
+	@Test
+	void update_shouldReturn409_whenPathIdAndRequestIdDoNotMatch() {
+		final CommentRequestDto request = new CommentRequestDto(2L, "Updated Content", 1L);
+		final int EXPECTED_STATUS_CODE = 409;	// HttpStatus.CONFLICT
+
+		RestAssured.given()
+			.contentType(CONTENT_TYPE)
+			.body(request)
+			.when().patch(COMMENT_ROOT_PATH + "/1")
+			.then().statusCode(EXPECTED_STATUS_CODE);
+		verifyNoInteractions(commentService);
+	}
+
+	@Test
+	void deleteById_shouldReturn204_whenEntityExists() {
+		final long commentId = 1L;
+		when(commentService.deleteById(commentId)).thenReturn(true);
+		final int EXPECTED_STATUS_CODE = 204;
+
+		RestAssured.given()
+			.when().delete(COMMENT_ROOT_PATH + "/" + commentId)
+			.then().statusCode(EXPECTED_STATUS_CODE);
+		verify(commentService, times(1)).deleteById(commentId);
+	}
+}
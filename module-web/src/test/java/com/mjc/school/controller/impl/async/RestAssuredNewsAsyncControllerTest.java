@@ -0,0 +1,136 @@
+package com.mjc.school.controller.impl.async;
+
+import com.mjc.school.controller.ControllerTestConfig;
+import com.mjc.school.service.NewsService;
+import com.mjc.school.service.dto.NewsRequestDto;
+import com.mjc.school.service.dto.NewsResponseDto;
+import com.mjc.school.service.exception.EntityNotFoundException;
+import io.restassured.RestAssured;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ContextConfiguration;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static com.mjc.school.controller.constants.Constants.NEWS_ROOT_PATH;
+import static com.mjc.school.service.constants.Constants.NEWS_ENTITY_NAME;
+import static com.mjc.school.service.exception.ServiceErrorCode.ENTITY_NOT_FOUND_BY_ID;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ContextConfiguration(classes = {ControllerTestConfig.class})
+class RestAssuredNewsAsyncControllerTest {
+
+	private static final String BASE_URI = "http://localhost";
+	private static final String REQUEST_MAPPING_URI = "/api/v1/async";
+	private static final String CONTENT_TYPE = "application/json";
+
+	@Autowired
+	private NewsService newsService;
+	@LocalServerPort
+	private int port;
+	private List<NewsResponseDto> news;
+
+	@BeforeEach
+	public void setUp() {
+		reset(newsService);
+
+		RestAssured.baseURI = BASE_URI;
+		RestAssured.port = port;
+		RestAssured.basePath = REQUEST_MAPPING_URI;
+
+		final LocalDateTime date = LocalDateTime.now();
+		final long authorId = 1L;
+		news = Arrays.asList(
+			new NewsResponseDto(1L, "Title One", "Content One", date, date, authorId,
+				new ArrayList<>(), 0),
+			new NewsResponseDto(2L, "Title Two", "Content Two", date, date, authorId,
+				new ArrayList<>(), 0)
+		);
+	}
+
+	@Test
+	void readAll_shouldReturn200_whenRequestIsCorrect() {
+		when(newsService.readAll(10, 0, "id::asc")).thenReturn(news);
+		final int EXPECTED_STATUS_CODE = 200;
+
+		RestAssured.given()
+			.get(NEWS_ROOT_PATH)
+			.then().assertThat().statusCode(EXPECTED_STATUS_CODE)
+			.body(containsString(news.get(0).title()))
+			.body(containsString(news.get(1).title()));
+		verify(newsService, times(1)).readAll(10, 0, "id::asc");
+	}
+
+	@Test
+	void readById_shouldReturn404_whenServiceThrowsEntityNotFoundException() {
+		final long newsId = 99L;
+		when(newsService.readById(newsId)).thenThrow(new EntityNotFoundException(
+			String.format(ENTITY_NOT_FOUND_BY_ID.getMessage(), NEWS_ENTITY_NAME, newsId),
+			ENTITY_NOT_FOUND_BY_ID.getCode()
+		));
+		final int EXPECTED_STATUS_CODE = 404;
+
+		RestAssured.given()
+			.get(NEWS_ROOT_PATH + "/" + newsId)
+			.then().assertThat().statusCode(EXPECTED_STATUS_CODE)
+			.body("code", equalTo(ENTITY_NOT_FOUND_BY_ID.getCode()));
+		verify(newsService, times(1)).readById(newsId);
+	}
+
+	@Test
+	void create_shouldReturn400_whenTitleIsEmpty() {
+		final NewsRequestDto request = new NewsRequestDto(null, "", "New Content", 1L, null);
+		final int EXPECTED_STATUS_CODE = 400;	// HttpStatus.BAD_REQUEST
+
+		RestAssured.given()
+			.contentType(CONTENT_TYPE)
+			.body(request)
+			.when().post(NEWS_ROOT_PATH)
+			.then().statusCode(EXPECTED_STATUS_CODE);
+		verifyNoInteractions(newsService);
+	}
+
+	@Test
+	void create_shouldReturn201_whenRequestIsCorrect() {
+		final NewsRequestDto request = new NewsRequestDto(null, "New Title", "New Content", 1L, null);
+		final LocalDateTime date = LocalDateTime.now();
+		final NewsResponseDto created = new NewsResponseDto(3L, request.title(), request.content(), date, date,
+			request.authorId(), new ArrayList<>(), 0);
+		when(newsService.create(request)).thenReturn(created);
+		final int EXPECTED_STATUS_CODE = 201;
+
+		RestAssured.given()
+			.contentType(CONTENT_TYPE)
+			.body(request)
+			.when().post(NEWS_ROOT_PATH)
+			.then().statusCode(EXPECTED_STATUS_CODE)
+			.body("id", equalTo(3))
+			.body("title", equalTo(request.title()));
+		verify(newsService, times(1)).create(request);
+	}
+
+	@Test
+	void deleteById_shouldReturn204_whenEntityExists() {
+		final long newsId = 1L;
+		when(newsService.deleteById(newsId)).thenReturn(true);
+		final int EXPECTED_STATUS_CODE = 204;
+
+		RestAssured.given()
+			.when().delete(NEWS_ROOT_PATH + "/" + newsId)
+			.then().statusCode(EXPECTED_STATUS_CODE);
+		verify(newsService, times(1)).deleteById(newsId);
+	}
+}
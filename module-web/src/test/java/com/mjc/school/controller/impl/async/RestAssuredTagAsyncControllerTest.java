@@ -0,0 +1,147 @@
+package com.mjc.school.controller.impl.async;
+
+import com.mjc.school.controller.ControllerTestConfig;
+import com.mjc.school.service.TagService;
+import com.mjc.school.service.dto.TagRequestDto;
+import com.mjc.school.service.dto.TagResponseDto;
+import com.mjc.school.service.exception.EntityNotFoundException;
+import io.restassured.RestAssured;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ContextConfiguration;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static com.mjc.school.controller.constants.Constants.TAG_ROOT_PATH;
+import static com.mjc.school.service.constants.Constants.TAG_ENTITY_NAME;
+import static com.mjc.school.service.exception.ServiceErrorCode.ENTITY_NOT_FOUND_BY_ID;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasKey;
+import static org.hamcrest.Matchers.not;
+import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ContextConfiguration(classes = {ControllerTestConfig.class})
+class RestAssuredTagAsyncControllerTest {
+
+	private static final String BASE_URI = "http://localhost";
+	private static final String REQUEST_MAPPING_URI = "/api/v1/async";
+	private static final String CONTENT_TYPE = "application/json";
+
+	@Autowired
+	private TagService tagService;
+	@LocalServerPort
+	private int port;
+	private List<TagResponseDto> tags;
+
+	@BeforeEach
+	public void setUp() {
+		reset(tagService);
+
+		RestAssured.baseURI = BASE_URI;
+		RestAssured.port = port;
+		RestAssured.basePath = REQUEST_MAPPING_URI;
+
+		tags = Arrays.asList(
+			new TagResponseDto(1L, "Name One"),
+			new TagResponseDto(2L, "Name Two")
+		);
+	}
+
+	@Test
+	void readAll_shouldReturn200_whenRequestIsCorrect() {
+		when(tagService.readAll(10, 0, "id::asc")).thenReturn(tags);
+		final int EXPECTED_STATUS_CODE = 200;
+
+		RestAssured.given()
+			.get(TAG_ROOT_PATH)
+			.then().assertThat().statusCode(EXPECTED_STATUS_CODE)
+			.body(containsString(tags.get(0).name()))
+			.body(containsString(tags.get(1).name()));
+		verify(tagService, times(1)).readAll(10, 0, "id::asc");
+	}
+
+	@Test
+	void readAll_shouldReturnOnlySelectedFields_whenFieldsParamSupplied() {
+		final List<String> fields = List.of("name");
+		when(tagService.readAll(10, 0, "id::asc", fields)).thenReturn(List.of(
+			Map.of("name", tags.get(0).name()),
+			Map.of("name", tags.get(1).name())
+		));
+		final int EXPECTED_STATUS_CODE = 200;
+
+		RestAssured.given()
+			.get(TAG_ROOT_PATH + "?fields=name")
+			.then().assertThat().statusCode(EXPECTED_STATUS_CODE)
+			.body("[0].name", equalTo(tags.get(0).name()))
+			.body("[0]", not(hasKey("id")));
+		verify(tagService, times(1)).readAll(10, 0, "id::asc", fields);
+	}
+
+	@Test
+	void readById_shouldReturn404_whenServiceThrowsEntityNotFoundException() {
+		final long tagId = 99L;
+		when(tagService.readById(tagId)).thenThrow(new EntityNotFoundException(
+			String.format(ENTITY_NOT_FOUND_BY_ID.getMessage(), TAG_ENTITY_NAME, tagId),
+			ENTITY_NOT_FOUND_BY_ID.getCode()
+		));
+		final int EXPECTED_STATUS_CODE = 404;
+
+		RestAssured.given()
+			.get(TAG_ROOT_PATH + "/" + tagId)
+			.then().assertThat().statusCode(EXPECTED_STATUS_CODE)
+			.body("code", equalTo(ENTITY_NOT_FOUND_BY_ID.getCode()));
+		verify(tagService, times(1)).readById(tagId);
+	}
+
+	@Test
+	void create_shouldReturn201_whenRequestIsCorrect() {
+		final TagRequestDto request = new TagRequestDto(null, "New Name");
+		when(tagService.create(request)).thenReturn(new TagResponseDto(3L, request.name()));
+		final int EXPECTED_STATUS_CODE = 201;
+
+		RestAssured.given()
+			.contentType(CONTENT_TYPE)
+			.body(request)
+			.when().post(TAG_ROOT_PATH)
+			.then().statusCode(EXPECTED_STATUS_CODE)
+			.body("id", equalTo(3))
+			.body("name", equalTo(request.name()));
+		verify(tagService, times(1)).create(request);
+	}
+
+	@Test
+	void update_shouldReturn409_whenPathIdAndRequestIdDoNotMatch() {
+		final TagRequestDto request = new TagRequestDto(2L, "Updated Name");
+		final int EXPECTED_STATUS_CODE = 409;	// HttpStatus.CONFLICT
+
+		RestAssured.given()
+			.contentType(CONTENT_TYPE)
+			.body(request)
+			.when().patch(TAG_ROOT_PATH + "/1")
+			.then().statusCode(EXPECTED_STATUS_CODE);
+		verifyNoInteractions(tagService);
+	}
+
+	@Test
+	void deleteById_shouldReturn204_whenEntityExists() {
+		final long tagId = 1L;
+		when(tagService.deleteById(tagId)).thenReturn(true);
+		final int EXPECTED_STATUS_CODE = 204;
+
+		RestAssured.given()
+			.when().delete(TAG_ROOT_PATH + "/" + tagId)
+			.then().statusCode(EXPECTED_STATUS_CODE);
+		verify(tagService, times(1)).deleteById(tagId);
+	}
+}
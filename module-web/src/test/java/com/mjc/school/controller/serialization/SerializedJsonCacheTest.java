@@ -0,0 +1,93 @@
+package com.mjc.school.controller.serialization;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.mjc.school.service.dto.NewsResponseDto;
+import com.mjc.school.service.dto.TagResponseDto;
+import com.mjc.school.service.event.CommentCountChangedEvent;
+import com.mjc.school.service.event.TagDeletedEvent;
+import com.mjc.school.service.event.TagRenamedEvent;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringWriter;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class SerializedJsonCacheTest {
+
+	private static final LocalDateTime DATE = LocalDateTime.of(2024, 5, 1, 12, 30);
+
+	private final SerializedJsonCache cache = new SerializedJsonCache(100);
+	private final ObjectMapper plain = JsonMapper.builder().findAndAddModules().build();
+	private final ObjectMapper cached = JsonMapper.builder().findAndAddModules().addModule(cache.module()).build();
+
+	@Test
+	void write_shouldMatchPlainSerialization_andReuseCachedElements() throws Exception {
+		final List<NewsResponseDto> news = List.of(news(1L, 0), news(2L, 3));
+
+		assertArrayEquals(plain.writeValueAsBytes(news), cached.writeValueAsBytes(news));
+		assertArrayEquals(plain.writeValueAsBytes(news), cached.writeValueAsBytes(news));
+		assertEquals(2, cache.stats().hits());
+		assertEquals(2, cache.stats().misses());
+		assertEquals(2, cache.stats().entries());
+	}
+
+	@Test
+	void write_shouldSerializeAgain_whenRecordChangedWithoutNewVersion() throws Exception {
+		cached.writeValueAsBytes(news(1L, 0));
+
+		assertArrayEquals(plain.writeValueAsBytes(news(1L, 1)), cached.writeValueAsBytes(news(1L, 1)));
+		assertEquals(0, cache.stats().hits());
+		assertEquals(1, cache.stats().entries());
+	}
+
+	@Test
+	void write_shouldMatchPlainSerialization_whenRecordIsNested() throws Exception {
+		final Map<String, Object> body = Map.of("tag", new TagResponseDto(5L, "Name \"quoted\" \u00fc"));
+		cached.writeValueAsBytes(body);
+
+		assertArrayEquals(plain.writeValueAsBytes(body), cached.writeValueAsBytes(body));
+		assertEquals(1, cache.stats().hits());
+	}
+
+	@Test
+	void write_shouldBypassCache_whenGeneratorIsNotUtf8() throws Exception {
+		final StringWriter writer = new StringWriter();
+		cached.writeValue(writer, news(1L, 0));
+
+		assertEquals(plain.writeValueAsString(news(1L, 0)), writer.toString());
+		assertEquals(0, cache.stats().entries());
+	}
+
+	@Test
+	void on_shouldEvictObsoleteEntries() throws Exception {
+		cached.writeValueAsBytes(List.of(news(1L, 0), news(2L, 0), new TagResponseDto(7L, "Tag"),
+			new TagResponseDto(8L, "Other")));
+
+		cache.on(new CommentCountChangedEvent(1L, 1));
+		assertEquals(3, cache.stats().entries());
+		cache.on(new TagRenamedEvent(8L, "Renamed"));
+		assertEquals(2, cache.stats().entries());
+		cache.on(new TagDeletedEvent(7L));
+		assertEquals(0, cache.stats().entries());
+		assertEquals(4, cache.stats().evictions());
+	}
+
+	@Test
+	void put_shouldStopCaching_whenCacheIsFull() throws Exception {
+		final SerializedJsonCache small = new SerializedJsonCache(1);
+		final ObjectMapper mapper = JsonMapper.builder().findAndAddModules().addModule(small.module()).build();
+
+		assertArrayEquals(plain.writeValueAsBytes(List.of(news(1L, 0), news(2L, 0))),
+			mapper.writeValueAsBytes(List.of(news(1L, 0), news(2L, 0))));
+		assertEquals(1, small.stats().entries());
+	}
+
+	private static NewsResponseDto news(final Long id, final long commentCount) {
+		return new NewsResponseDto(id, "Title " + id, "Content", DATE, DATE, 3L, List.of(7L), commentCount);
+	}
+}
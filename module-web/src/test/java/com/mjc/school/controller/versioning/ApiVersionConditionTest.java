@@ -0,0 +1,46 @@
+package com.mjc.school.controller.versioning;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ApiVersionConditionTest {
+
+	@Test
+	void parseVersion_shouldReturnFirstVersionSegment_whenUriHasOne() {
+		assertEquals(1, ApiVersionCondition.parseVersion("/api/v1/news"));
+		assertEquals(12, ApiVersionCondition.parseVersion("/api/v12/news/v3/"));
+		assertEquals(2, ApiVersionCondition.parseVersion("/api/vx/v/v2/tags"));
+	}
+
+	@Test
+	void parseVersion_shouldReturnNoVersion_whenUriHasNoVersionSegment() {
+		assertEquals(ApiVersionCondition.NO_VERSION, ApiVersionCondition.parseVersion("/api/abc/news"));
+		assertEquals(ApiVersionCondition.NO_VERSION, ApiVersionCondition.parseVersion("/api/v1"));
+		assertEquals(ApiVersionCondition.NO_VERSION, ApiVersionCondition.parseVersion("/api/v99999999999/news"));
+	}
+
+	@Test
+	void getMatchingCondition_shouldCompareCachedVersionWithRange_whenCalledForSeveralHandlers() {
+		final MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v2/news");
+		final ApiVersionCondition onlyV1 = new ApiVersionCondition(1, 1);
+		final ApiVersionCondition sinceV2 = new ApiVersionCondition(2);
+
+		assertNull(onlyV1.getMatchingCondition(request));
+		assertEquals(2, request.getAttribute(ApiVersionCondition.VERSION_ATTRIBUTE));
+		request.setRequestURI("/api/v1/news");
+		assertSame(sinceV2, sinceV2.getMatchingCondition(request));
+	}
+
+	@Test
+	void compareTo_shouldPreferLaterVersion_whenBothMatch() {
+		final MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v3/news");
+
+		assertTrue(new ApiVersionCondition(3).compareTo(new ApiVersionCondition(1), request) < 0);
+		assertTrue(new ApiVersionCondition(1).compareTo(new ApiVersionCondition(Integer.MAX_VALUE), request) > 0);
+	}
+}
@@ -0,0 +1,131 @@
+package com.mjc.school.controller.versioning;
+
+import com.mjc.school.controller.exception.ApiVersionNotSupportedException;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockServletContext;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.context.support.StaticWebApplicationContext;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerExecutionChain;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ApiVersionRequestMappingHandlerMappingTest {
+
+	private ApiVersionRequestMappingHandlerMapping mapping(final boolean dispatchTableEnabled) {
+		final StaticWebApplicationContext context = new StaticWebApplicationContext();
+		context.setServletContext(new MockServletContext());
+		context.registerSingleton("itemsV1", ItemsV1.class);
+		context.registerSingleton("itemsV3", ItemsV3.class);
+		context.refresh();
+		final ApiVersionRequestMappingHandlerMapping mapping = new ApiVersionRequestMappingHandlerMapping();
+		mapping.setDispatchTableEnabled(dispatchTableEnabled);
+		mapping.setApplicationContext(context);
+		mapping.afterPropertiesSet();
+		return mapping;
+	}
+
+	private String resolve(final HandlerMapping mapping, final MockHttpServletRequest request) throws Exception {
+		final HandlerExecutionChain chain = mapping.getHandler(request);
+		if (chain == null) {
+			return null;
+		}
+		final HandlerMethod handlerMethod = (HandlerMethod) chain.getHandler();
+		return handlerMethod.getBeanType().getSimpleName() + "." + handlerMethod.getMethod().getName();
+	}
+
+	private String resolve(final HandlerMapping mapping, final String method, final String uri) throws Exception {
+		return resolve(mapping, new MockHttpServletRequest(method, uri));
+	}
+
+	@ParameterizedTest
+	@ValueSource(booleans = {true, false})
+	void getHandler_shouldFallBackToLatestCompatibleVersion_whenVersionHasNoHandlerOfItsOwn(
+		final boolean dispatchTableEnabled
+	) throws Exception {
+		final ApiVersionRequestMappingHandlerMapping mapping = mapping(dispatchTableEnabled);
+
+		assertEquals("ItemsV1.read", resolve(mapping, "GET", "/api/v1/items/5"));
+		assertEquals("ItemsV1.read", resolve(mapping, "GET", "/api/v2/items/5/"));
+		assertEquals("ItemsV3.read", resolve(mapping, "GET", "/api/v3/items/5"));
+		assertEquals("ItemsV1.list", resolve(mapping, "GET", "/api/v3/items"));
+	}
+
+	@ParameterizedTest
+	@ValueSource(booleans = {true, false})
+	void getHandler_shouldPreferMoreSpecificHandlerAndExposeVariables_whenSeveralShareThePath(
+		final boolean dispatchTableEnabled
+	) throws Exception {
+		final ApiVersionRequestMappingHandlerMapping mapping = mapping(dispatchTableEnabled);
+		final MockHttpServletRequest withFields = new MockHttpServletRequest("GET", "/api/v2/items");
+		withFields.addParameter("fields", "name");
+		final MockHttpServletRequest byId = new MockHttpServletRequest("GET", "/api/v3/items/42");
+
+		assertEquals("ItemsV1.listFields", resolve(mapping, withFields));
+		assertEquals("ItemsV3.read", resolve(mapping, byId));
+		assertEquals(Map.of("apiVersion", "v3", "id", "42"),
+			byId.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE));
+	}
+
+	@ParameterizedTest
+	@ValueSource(booleans = {true, false})
+	void getHandler_shouldReportUnsupportedVersion_whenVersionIsOutOfRangeOrHandlerIsRetired(
+		final boolean dispatchTableEnabled
+	) throws Exception {
+		final ApiVersionRequestMappingHandlerMapping mapping = mapping(dispatchTableEnabled);
+
+		assertEquals("ItemsV1.delete", resolve(mapping, "DELETE", "/api/v2/items/5"));
+		assertThrows(ApiVersionNotSupportedException.class, () -> resolve(mapping, "DELETE", "/api/v3/items/5"));
+		assertThrows(ApiVersionNotSupportedException.class, () -> resolve(mapping, "GET", "/api/v4/items/5"));
+		assertThrows(ApiVersionNotSupportedException.class, () -> resolve(mapping, "GET", "/api/v0/items"));
+		assertNull(resolve(mapping, "GET", "/api/v1/unknown"));
+	}
+
+	@Controller
+	@ApiVersion(1)
+	@RequestMapping("/api/{apiVersion}")
+	static class ItemsV1 {
+
+		@GetMapping("/items")
+		public void list() {
+			// Empty
+		}
+
+		@GetMapping(path = "/items", params = "fields")
+		public void listFields() {
+			// Empty
+		}
+
+		@GetMapping("/items/{id:\\d+}")
+		public void read() {
+			// Empty
+		}
+
+		@ApiVersion(value = 1, until = 2)
+		@DeleteMapping("/items/{id:\\d+}")
+		public void delete() {
+			// Empty
+		}
+	}
+
+	@Controller
+	@ApiVersion(3)
+	@RequestMapping("/api/{apiVersion}")
+	static class ItemsV3 {
+
+		@GetMapping("/items/{id:\\d+}")
+		public void read() {
+			// Empty
+		}
+	}
+}
@@ -0,0 +1,31 @@
+package com.mjc.school.controller.versioning;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class VersionedDispatchTableTest {
+
+	@Test
+	void patternShape_shouldMatchRequestShape_whenRequestMatchesPattern() {
+		assertEquals("/api/{v}/news/#/comments", VersionedDispatchTable.patternShape("/api/{apiVersion}/news/{newsId:\\d+}/comments"));
+		assertEquals("/api/{v}/news/#/comments", VersionedDispatchTable.requestShape("/api/v2/news/17/comments"));
+		assertEquals("/api/{v}/async/tags", VersionedDispatchTable.patternShape("/api/{apiVersion}/async/tags"));
+		assertEquals("/api/{v}/async/tags", VersionedDispatchTable.requestShape("/api/v1/async/tags/"));
+	}
+
+	@Test
+	void patternShape_shouldReturnNull_whenPatternCannotBeTabled() {
+		assertNull(VersionedDispatchTable.patternShape("/api/news"));
+		assertNull(VersionedDispatchTable.patternShape("/api/{apiVersion}/news/{title}"));
+		assertNull(VersionedDispatchTable.patternShape("/api/{apiVersion}/news/**"));
+		assertNull(VersionedDispatchTable.patternShape("/api/{apiVersion}/2023/news"));
+	}
+
+	@Test
+	void requestShape_shouldReturnNull_whenPathHasNoVersionSegment() {
+		assertNull(VersionedDispatchTable.requestShape("/api/news/1"));
+		assertNull(VersionedDispatchTable.requestShape("/"));
+	}
+}